@@ -0,0 +1,99 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/src/com/google/gxp/base/dynamic/Chrome.gxp
+*/
+
+package com.google.gxp.base.dynamic;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L20, C67
+import com.google.gxp.html.*;                                                   // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L20, C67
+import com.google.gxp.js.*;                                                     // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L20, C67
+import com.google.gxp.text.*;                                                   // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L20, C67
+
+public class Chrome extends com.google.gxp.base.GxpTemplate {                   // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L20, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.base.dynamic.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.html.HtmlClosure title, final com.google.gxp.html.HtmlClosure body)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<html><head><title>");                                      // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L25, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (title));   // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L27, C12
+    gxp$out.append("</title>\n<style type=\"text/css\">\n      pre, .code {\n        background-color: #e0eaf4;\n        border: 1px solid #a9cef1;\n        padding-left: 1em;\n        padding-right: 1em;\n        padding-top: 0.5em;\n        padding-bottom: 0.5em;\n        overflow: auto;\n        font-family: courier;\n        font-size: 12;\n      }\n      div.file {\n        padding-left: 1em;\n        padding-right: 1em;\n        font-family: courier;\n        font-size: 12;\n        white-space:pre;\n      }\n      span.error {\n        color: red;\n        font-weight: bold;\n      }\n    </style></head>\n<body>");   // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L27, C5
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (body));   // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L54, C5
+    gxp$out.append("</body></html>");                                           // java/src/com/google/gxp/base/dynamic/Chrome.gxp: L53, C3
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("title", "body"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.html.HtmlClosure title, final com.google.gxp.html.HtmlClosure body) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.base.dynamic.Chrome.write(gxp$out, gxp_context, title, body);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.html.HtmlClosure title, final com.google.gxp.html.HtmlClosure body)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.html.HtmlClosure title, final com.google.gxp.html.HtmlClosure body);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.html.HtmlClosure title, final com.google.gxp.html.HtmlClosure body)
+        throws java.io.IOException {
+      com.google.gxp.base.dynamic.Chrome.write(gxp$out, gxp_context, title, body);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.html.HtmlClosure title, final com.google.gxp.html.HtmlClosure body) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, title, body);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,144 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp
+*/
+
+package com.google.gxp.base.dynamic;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L20, C54
+import com.google.gxp.html.*;                                                   // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L20, C54
+import com.google.gxp.js.*;                                                     // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L20, C54
+import com.google.gxp.text.*;                                                   // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L20, C54
+import com.google.common.base.Charsets;                                         // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L22, C1
+import com.google.gxp.compiler.alerts.Alert;                                    // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L23, C1
+import com.google.gxp.compiler.alerts.Alert.Severity;                           // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L24, C1
+import com.google.gxp.compiler.alerts.AlertPolicy;                              // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L25, C1
+import com.google.gxp.compiler.alerts.AlertSet;                                 // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L26, C1
+
+public class GxpCompilationError extends com.google.gxp.base.GxpTemplate {      // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L20, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.base.dynamic.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final AlertPolicy alertPolicy, final AlertSet alerts)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.base.dynamic.Chrome.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L33, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L33, C5
+            throws java.io.IOException {                                              // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L33, C5
+          // MSG 5250975154723782620=GXP compilation error
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 5250975154723782620L);   // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L33, C5
+        }
+      }, new AnonymousHtmlClosure() {                                                    // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L35, C3
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L35, C3
+            throws java.io.IOException {                                              // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L35, C3
+          gxp$out.append("<h2>");                                                     // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L35, C3
+          // MSG 5374322812543022609=The following errors were encountered during gxp compilation:
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 5374322812543022609L);   // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L36, C5
+          gxp$out.append("</h2>\n");                                                  // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L35, C3
+          {
+            boolean gxp$bool$0 = false;
+            for (final Alert alert : alerts) {                                        // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L40, C3
+              if (gxp$bool$0) {
+                gxp$out.append(" ");                                                  // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L40, C3
+              } else {
+                gxp$bool$0 = true;
+              }
+              if (alertPolicy.getSeverity(alert) != Severity.INFO) {                  // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L41, C5
+                gxp$out.append("<div class=\"code\">");                               // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L42, C7
+                com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (alert.toString()));   // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L43, C9
+                gxp$out.append("</div>\n<div class=\"file\">");                       // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L42, C7
+                com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (new FilePrinter(alert.getSource().openReader(Charsets.US_ASCII),                                         alert.getSourcePosition().getLine())));   // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L46, C9
+                gxp$out.append("</div>");                                             // java/src/com/google/gxp/base/dynamic/GxpCompilationError.gxp: L45, C7
+              }
+            }
+          }
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("alertPolicy", "alerts"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final AlertPolicy alertPolicy, final AlertSet alerts) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.base.dynamic.GxpCompilationError.write(gxp$out, gxp_context, alertPolicy, alerts);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final AlertPolicy alertPolicy, final AlertSet alerts)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final AlertPolicy alertPolicy, final AlertSet alerts);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final AlertPolicy alertPolicy, final AlertSet alerts)
+        throws java.io.IOException {
+      com.google.gxp.base.dynamic.GxpCompilationError.write(gxp$out, gxp_context, alertPolicy, alerts);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final AlertPolicy alertPolicy, final AlertSet alerts) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, alertPolicy, alerts);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
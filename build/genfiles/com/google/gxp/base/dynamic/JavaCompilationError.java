@@ -0,0 +1,140 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp
+*/
+
+package com.google.gxp.base.dynamic;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L20, C54
+import com.google.gxp.html.*;                                                   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L20, C54
+import com.google.gxp.js.*;                                                     // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L20, C54
+import com.google.gxp.text.*;                                                   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L20, C54
+import java.util.List;                                                          // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L22, C1
+import javax.tools.Diagnostic;                                                  // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L23, C1
+import javax.tools.JavaFileObject;                                              // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L24, C1
+
+public class JavaCompilationError extends com.google.gxp.base.GxpTemplate {     // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L20, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.base.dynamic.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<Diagnostic<? extends JavaFileObject>> diagnostics)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.base.dynamic.Chrome.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L30, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L30, C5
+            throws java.io.IOException {                                              // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L30, C5
+          // MSG 8690708865151646278=Java compilation error
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 8690708865151646278L);   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L30, C5
+        }
+      }, new AnonymousHtmlClosure() {                                                    // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L32, C3
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L32, C3
+            throws java.io.IOException {                                              // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L32, C3
+          gxp$out.append("<h2>");                                                     // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L32, C3
+          // MSG 6307715664896545416=The following errors were encountered during java compilation:
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 6307715664896545416L);   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L33, C5
+          gxp$out.append("</h2>\n");                                                  // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L32, C3
+          {
+            boolean gxp$bool$0 = false;
+            for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L37, C3
+              if (gxp$bool$0) {
+                gxp$out.append(" ");                                                  // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L37, C3
+              } else {
+                gxp$bool$0 = true;
+              }
+              gxp$out.append("<div class=\"code\">");                                 // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L38, C5
+              com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (diagnostic.getMessage(gxp_locale)));   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L39, C7
+              gxp$out.append("</div>\n<div class=\"file\">");                         // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L38, C5
+              com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (new FilePrinter(diagnostic.getSource().openReader(true),                                       diagnostic.getLineNumber())));   // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L42, C7
+              gxp$out.append("</div>");                                               // java/src/com/google/gxp/base/dynamic/JavaCompilationError.gxp: L41, C5
+            }
+          }
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("diagnostics"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.base.dynamic.JavaCompilationError.write(gxp$out, gxp_context, diagnostics);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<Diagnostic<? extends JavaFileObject>> diagnostics)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final List<Diagnostic<? extends JavaFileObject>> diagnostics);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<Diagnostic<? extends JavaFileObject>> diagnostics)
+        throws java.io.IOException {
+      com.google.gxp.base.dynamic.JavaCompilationError.write(gxp$out, gxp_context, diagnostics);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, diagnostics);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,124 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/src/com/google/gxp/base/dynamic/ThrowableError.gxp
+*/
+
+package com.google.gxp.base.dynamic;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L20, C54
+import com.google.gxp.html.*;                                                   // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L20, C54
+import com.google.gxp.js.*;                                                     // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L20, C54
+import com.google.gxp.text.*;                                                   // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L20, C54
+
+public class ThrowableError extends com.google.gxp.base.GxpTemplate {           // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L20, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.base.dynamic.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Throwable t)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.base.dynamic.Chrome.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L26, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L26, C5
+            throws java.io.IOException {                                              // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L26, C5
+          // MSG 256468939818224404=Throwable
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 256468939818224404L);   // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L26, C5
+        }
+      }, new AnonymousHtmlClosure() {                                                    // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L28, C3
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L28, C3
+            throws java.io.IOException {                                              // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L28, C3
+          gxp$out.append("<h2>");                                                     // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L28, C3
+          // MSG 2801264714925079611=Unexpected error encountered during runtime GXP compilation.
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2801264714925079611L);   // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L29, C5
+          gxp$out.append("</h2>\n<pre>\n    ");                                       // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L28, C3
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (new ThrowableClosure(t)));   // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L34, C5
+          gxp$out.append("\n  </pre>");                                               // java/src/com/google/gxp/base/dynamic/ThrowableError.gxp: L34, C48
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("t"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final Throwable t) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.base.dynamic.ThrowableError.write(gxp$out, gxp_context, t);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Throwable t)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final Throwable t);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Throwable t)
+        throws java.io.IOException {
+      com.google.gxp.base.dynamic.ThrowableError.write(gxp$out, gxp_context, t);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final Throwable t) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, t);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,194 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.dynamictests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+import com.google.gxp.html.*;                                                   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+import com.google.gxp.js.*;                                                     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+import com.google.gxp.text.*;                                                   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+public class BasicCallerGxp extends com.google.gxp.base.dynamic.StubGxpTemplate {   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  private static long COMPILATION$CHECKSUM = 527980963L;                        // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  private static long COMPILATION$VERSION = 0;                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  private static final com.google.gxp.compiler.alerts.AlertPolicy ALERT$POLICY =   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    createAlertPolicy(new byte[] {-84,-19,0,5,115,114,0,54,99,111,109,46,103,111,111,103,108,101,46,103,120,112,46,99,111,109,112,105,108,101,114,46,97,108,101,114,116,115,46,67,111,110,102,105,103,117,114,97,98,108,101,65,108,101,114,116,80,111,108,105,99,121,0,0,0,0,0,0,0,1,2,0,2,90,0,21,116,114,101,97,116,87,97,114,110,105,110,103,115,65,115,69,114,114,111,114,115,76,0,3,109,97,112,116,0,39,76,99,111,109,47,103,111,111,103,108,101,47,103,120,112,47,99,111,109,112,105,108,101,114,47,117,116,105,108,47,67,108,97,115,115,77,97,112,59,120,112,1,115,114,0,37,99,111,109,46,103,111,111,103,108,101,46,103,120,112,46,99,111,109,112,105,108,101,114,46,117,116,105,108,46,67,108,97,115,115,77,97,112,0,0,0,0,0,0,0,1,2,0,1,76,0,3,109,97,112,116,0,15,76,106,97,118,97,47,117,116,105,108,47,77,97,112,59,120,112,115,114,0,25,106,97,118,97,46,117,116,105,108,46,73,100,101,110,116,105,116,121,72,97,115,104,77,97,112,113,-94,101,1,51,-14,-23,-128,3,0,1,73,0,4,115,105,122,101,120,112,0,0,0,0,119,4,0,0,0,0,120});   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  private static final com.google.gxp.compiler.fs.FileRef SRC$GXP =             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    parseFilename("java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp");
+  private static final String JAVA$BASE =                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    "/com/google/gxp/compiler/dynamictests/BasicCallerGxp$Impl";                // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  private static final String CLASS$BASE =                                      // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    "com.google.gxp.compiler.dynamictests.BasicCallerGxp$Impl";                 // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static final java.util.Set<com.google.gxp.compiler.fs.FileRef> SRC$GXPS = parseFilenames(   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/StringParamImplGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/HelloGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/MsgInScriptGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/OneMsgGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/ConstructorGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/BasicCalleeGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/MsgInPlaintextGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/NestedMsgsGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceCallerGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/AccessGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/SimplePlaceholderGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/ThrowsGxp.gxp");
+
+  private static final java.util.Set<com.google.gxp.compiler.fs.FileRef> SRC$SCHEMAS = parseFilenames(   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  );                                                                            // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static final java.util.Set<com.google.gxp.compiler.fs.FileRef> SRC$PATHS = parseFilenames(   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      "/root/project/java/test");                                               // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static com.google.gxp.compiler.fs.FileRef JAVA$FILE = null;           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static java.util.Map<String, java.lang.reflect.Method> METHODS$ =     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    getMethodMap(BasicCallerGxp$Impl0.class);                                   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static final void recompile() {                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    long LAST$CHECKSUM = SRC$GXP.getChecksum();                                 // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    if ((LAST$CHECKSUM != 0 && LAST$CHECKSUM != COMPILATION$CHECKSUM)           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        || METHODS$ == null) {                                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      COMPILATION$VERSION++;                                                    // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      com.google.gxp.compiler.fs.InMemoryFileSystem MEM$FS =                    // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          new com.google.gxp.compiler.fs.InMemoryFileSystem();                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      JAVA$FILE = compileGxp(MEM$FS, SRC$GXPS, SRC$SCHEMAS, SRC$PATHS,          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+                             JAVA$BASE, COMPILATION$VERSION, ALERT$POLICY);     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      METHODS$ = compileJava(MEM$FS, CLASS$BASE, COMPILATION$VERSION);          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      COMPILATION$CHECKSUM = LAST$CHECKSUM;                                     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      throws java.io.IOException {                                              // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    if (gxp_context.isTopLevelCall()) {                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      try {                                                                     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        if (gxp_context.getFlushPolicy().isNever()) {                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          java.io.StringWriter temp$out = new java.io.StringWriter();           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          writeImpl(temp$out, gxp_context, x);                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          gxp$out.append(temp$out.toString());                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        } else {                                                                // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          writeImpl(gxp$out, gxp_context, x);                                   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        }                                                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      } catch (com.google.gxp.base.dynamic.GxpCompilationException gxp$e) {     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        gxp$e.write(gxp$out, gxp_context);                                      // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      } finally {                                                               // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        gxp_context.endTopLevelCall();                                          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    } else {                                                                    // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      writeImpl(gxp$out, gxp_context, x);                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      throws java.io.IOException {                                              // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    recompile();                                                                // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    try {                                                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      exec(METHODS$, "write", new Object[] {gxp$out, gxp_context, x});          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    } catch (Throwable gxp$t) {                                                 // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      rewriteStackTraceElements(gxp$t, JAVA$FILE);                              // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      if (gxp$t instanceof java.io.IOException) {                               // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        throw (java.io.IOException)gxp$t;                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      if (gxp$t instanceof java.lang.RuntimeException) {                        // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        throw (java.lang.RuntimeException)gxp$t;                                // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      throw new com.google.gxp.base.dynamic.GxpCompilationException.Throw(gxp$t);   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x"));   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  /**                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * @return the names of the user defined arguments to this template.          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * This is sort of like a mapping between the positional and named            // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * parameters. The first two parameters (common to all templates) are         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * not included in this list. (BTW: No, Java reflection does not              // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * provide this information)                                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   */                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  public static java.util.List<String> getArgList() {                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    return GXP$ARGLIST;                                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  private abstract static class TunnelingHtmlClosure                            // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      extends GxpTemplate.TunnelingGxpClosure                                   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      implements com.google.gxp.html.HtmlClosure {                              // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int x) {    // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    return new TunnelingHtmlClosure() {                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          throws java.io.IOException {                                          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        com.google.gxp.compiler.dynamictests.BasicCallerGxp.write(gxp$out, gxp_context, x);   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    };                                                                          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  /**                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * Interface that defines a strategy for writing this GXP                     // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   */                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  public interface Interface {                                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        throws java.io.IOException;                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int x);          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  /**                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   * Instantiable instance of this GXP                                          // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+   */                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  public static class Instance implements Interface {                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+    public Instance() {                                                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        throws java.io.IOException {                                            // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      com.google.gxp.compiler.dynamictests.BasicCallerGxp.write(gxp$out, gxp_context, x);   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int x) {         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      return new TunnelingHtmlClosure() {                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+            throws java.io.IOException {                                        // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+          Instance.this.write(gxp$out, gxp_context, x);                         // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+        }                                                                       // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+      };                                                                        // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+  public static class BasicCallerGxp$Impl0 extends com.google.gxp.base.dynamic.ImplGxpTemplate {   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+    public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)
+        throws java.io.IOException {
+      final java.util.Locale gxp_locale = gxp_context.getLocale();
+      gxp_context.enterTemplate();
+      try {
+        gxp$out.append("<i>");                                                  // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L25, C1
+        com.google.gxp.compiler.dynamictests.BasicCalleeGxp.write(gxp$out, gxp_context, x, com.google.gxp.compiler.dynamictests.BasicCalleeGxp.getDefaultY());   // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L26, C3
+        gxp_context.afterCall(gxp$out);
+        gxp$out.append("</i>");                                                 // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L25, C1
+      } finally {
+        gxp_context.exitTemplate();
+      }
+    }
+  }
+}                                                                               // java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp: L21, C60
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,197 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp
+*/
+
+package com.google.gxp.compiler.dynamictests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+import com.google.gxp.html.*;                                                   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+import com.google.gxp.js.*;                                                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+import com.google.gxp.text.*;                                                   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+public class JsMsgEscapeGxp extends com.google.gxp.base.dynamic.StubGxpTemplate {   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  private static long COMPILATION$CHECKSUM = 3149165375L;                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  private static long COMPILATION$VERSION = 0;                                  // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  private static final com.google.gxp.compiler.alerts.AlertPolicy ALERT$POLICY =   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    createAlertPolicy(new byte[] {-84,-19,0,5,115,114,0,54,99,111,109,46,103,111,111,103,108,101,46,103,120,112,46,99,111,109,112,105,108,101,114,46,97,108,101,114,116,115,46,67,111,110,102,105,103,117,114,97,98,108,101,65,108,101,114,116,80,111,108,105,99,121,0,0,0,0,0,0,0,1,2,0,2,90,0,21,116,114,101,97,116,87,97,114,110,105,110,103,115,65,115,69,114,114,111,114,115,76,0,3,109,97,112,116,0,39,76,99,111,109,47,103,111,111,103,108,101,47,103,120,112,47,99,111,109,112,105,108,101,114,47,117,116,105,108,47,67,108,97,115,115,77,97,112,59,120,112,1,115,114,0,37,99,111,109,46,103,111,111,103,108,101,46,103,120,112,46,99,111,109,112,105,108,101,114,46,117,116,105,108,46,67,108,97,115,115,77,97,112,0,0,0,0,0,0,0,1,2,0,1,76,0,3,109,97,112,116,0,15,76,106,97,118,97,47,117,116,105,108,47,77,97,112,59,120,112,115,114,0,25,106,97,118,97,46,117,116,105,108,46,73,100,101,110,116,105,116,121,72,97,115,104,77,97,112,113,-94,101,1,51,-14,-23,-128,3,0,1,73,0,4,115,105,122,101,120,112,0,0,0,0,119,4,0,0,0,0,120});   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  private static final com.google.gxp.compiler.fs.FileRef SRC$GXP =             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    parseFilename("java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp");
+  private static final String JAVA$BASE =                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    "/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp$Impl";                // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  private static final String CLASS$BASE =                                      // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    "com.google.gxp.compiler.dynamictests.JsMsgEscapeGxp$Impl";                 // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static final java.util.Set<com.google.gxp.compiler.fs.FileRef> SRC$GXPS = parseFilenames(   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/StringParamImplGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/HelloGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/MsgInScriptGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/OneMsgGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/ConstructorGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/BasicCalleeGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/MsgInPlaintextGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/NestedMsgsGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceCallerGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/AccessGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/SimplePlaceholderGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/BasicCallerGxp.gxp",
+      "/root/project/java/test/com/google/gxp/compiler/dynamictests/ThrowsGxp.gxp");
+
+  private static final java.util.Set<com.google.gxp.compiler.fs.FileRef> SRC$SCHEMAS = parseFilenames(   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  );                                                                            // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static final java.util.Set<com.google.gxp.compiler.fs.FileRef> SRC$PATHS = parseFilenames(   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      "/root/project/java/test");                                               // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static com.google.gxp.compiler.fs.FileRef JAVA$FILE = null;           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static java.util.Map<String, java.lang.reflect.Method> METHODS$ =     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    getMethodMap(JsMsgEscapeGxp$Impl0.class);                                   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static final void recompile() {                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    long LAST$CHECKSUM = SRC$GXP.getChecksum();                                 // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    if ((LAST$CHECKSUM != 0 && LAST$CHECKSUM != COMPILATION$CHECKSUM)           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        || METHODS$ == null) {                                                  // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      COMPILATION$VERSION++;                                                    // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      com.google.gxp.compiler.fs.InMemoryFileSystem MEM$FS =                    // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          new com.google.gxp.compiler.fs.InMemoryFileSystem();                  // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      JAVA$FILE = compileGxp(MEM$FS, SRC$GXPS, SRC$SCHEMAS, SRC$PATHS,          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+                             JAVA$BASE, COMPILATION$VERSION, ALERT$POLICY);     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      METHODS$ = compileJava(MEM$FS, CLASS$BASE, COMPILATION$VERSION);          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      COMPILATION$CHECKSUM = LAST$CHECKSUM;                                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      throws java.io.IOException {                                              // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    if (gxp_context.isTopLevelCall()) {                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      try {                                                                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        if (gxp_context.getFlushPolicy().isNever()) {                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          java.io.StringWriter temp$out = new java.io.StringWriter();           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          writeImpl(temp$out, gxp_context);                                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          gxp$out.append(temp$out.toString());                                  // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        } else {                                                                // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          writeImpl(gxp$out, gxp_context);                                      // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        }                                                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      } catch (com.google.gxp.base.dynamic.GxpCompilationException gxp$e) {     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        gxp$e.write(gxp$out, gxp_context);                                      // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      } finally {                                                               // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        gxp_context.endTopLevelCall();                                          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    } else {                                                                    // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      writeImpl(gxp$out, gxp_context);                                          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      throws java.io.IOException {                                              // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    recompile();                                                                // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    try {                                                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      exec(METHODS$, "write", new Object[] {gxp$out, gxp_context});             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    } catch (Throwable gxp$t) {                                                 // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      rewriteStackTraceElements(gxp$t, JAVA$FILE);                              // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      if (gxp$t instanceof java.io.IOException) {                               // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        throw (java.io.IOException)gxp$t;                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      if (gxp$t instanceof java.lang.RuntimeException) {                        // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        throw (java.lang.RuntimeException)gxp$t;                                // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      throw new com.google.gxp.base.dynamic.GxpCompilationException.Throw(gxp$t);   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  /**                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * @return the names of the user defined arguments to this template.          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * This is sort of like a mapping between the positional and named            // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * parameters. The first two parameters (common to all templates) are         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * not included in this list. (BTW: No, Java reflection does not              // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * provide this information)                                                  // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   */                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  public static java.util.List<String> getArgList() {                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    return GXP$ARGLIST;                                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private abstract static class TunnelingHtmlClosure                            // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      extends GxpTemplate.TunnelingGxpClosure                                   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      implements com.google.gxp.html.HtmlClosure {                              // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {               // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    return new TunnelingHtmlClosure() {                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          throws java.io.IOException {                                          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        com.google.gxp.compiler.dynamictests.JsMsgEscapeGxp.write(gxp$out, gxp_context);   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      }                                                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    };                                                                          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  /**                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * Interface that defines a strategy for writing this GXP                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   */                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  public interface Interface {                                                  // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        throws java.io.IOException;                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  /**                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   * Instantiable instance of this GXP                                          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+   */                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  public static class Instance implements Interface {                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+    public Instance() {                                                         // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        throws java.io.IOException {                                            // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      com.google.gxp.compiler.dynamictests.JsMsgEscapeGxp.write(gxp$out, gxp_context);   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {                    // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      return new TunnelingHtmlClosure() {                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+            throws java.io.IOException {                                        // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+          Instance.this.write(gxp$out, gxp_context);                            // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+        }                                                                       // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+      };                                                                        // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+    }                                                                           // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+  }                                                                             // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+  public static class JsMsgEscapeGxp$Impl0 extends com.google.gxp.base.dynamic.ImplGxpTemplate {   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+    public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      final java.util.Locale gxp_locale = gxp_context.getLocale();
+      gxp$out.append("<script type=\"text/javascript\">\n  var foo = ");        // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L22, C1
+      com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, formatGxpMessage("foo"));   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L23, C13
+      gxp$out.append(";\n  var bar = ");                                        // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L23, C35
+      com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, formatGxpMessage("bar"));   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L24, C13
+      gxp$out.append(";\n</script>\n<div onclick=\"");                          // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L24, C35
+      gxp$out.append("alert(");                                                 // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L28, C28
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$0.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$0.newStringBuilder(), gxp_context, formatGxpMessage("foo \" '"))));   // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L29, C11
+      gxp$out.append(");");                                                     // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L29, C37
+      gxp$out.append("\"></div>");                                              // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L28, C3
+    }
+
+    private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$0 =
+        com.google.gxp.base.OutputSizeEstimator.forCallSite(JsMsgEscapeGxp$Impl0.class, 0);
+  }
+}                                                                               // java/test/com/google/gxp/compiler/dynamictests/JsMsgEscapeGxp.gxp: L20, C67
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
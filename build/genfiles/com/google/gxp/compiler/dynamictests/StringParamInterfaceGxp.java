@@ -0,0 +1,30 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.dynamictests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+import com.google.gxp.html.*;                                                   // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+import com.google.gxp.js.*;                                                     // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+import com.google.gxp.text.*;                                                   // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+
+public interface StringParamInterfaceGxp {                                      // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+  void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String param1, final int param2)   // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+      throws java.io.IOException;                                               // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+  com.google.gxp.html.HtmlClosure getGxpClosure(final String param1, final int param2);   // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+}                                                                               // java/test/com/google/gxp/compiler/dynamictests/StringParamInterfaceGxp.gxp: L18, C55
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,123 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L19, C54
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L19, C54
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L19, C54
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L19, C54
+
+public class AbbrGxp extends com.google.gxp.base.GxpTemplate {                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, x: int) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    {
+      final int x2 = x * x;                                                     // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L23, C1
+      {
+        final com.google.gxp.html.HtmlClosure xs = new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L25, C27
+          @Override
+          protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L25, C27
+            gxp$out.append("\x26lt;");                                                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L25, C27
+            {
+              boolean gxp$bool$0 = false;
+              for (final int i : new IntIterable(x)) {                                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L26, C11
+                if (gxp$bool$0) {
+                  gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L26, C11
+                } else {
+                  gxp$bool$0 = true;
+                }
+                gxp$out.append("*");                                                    // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L26, C70
+              }
+            }
+            gxp$out.append("\x26gt;");                                                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L28, C18
+          }
+        };
+        gxp$out.append("a");                                                    // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L24, C48
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (x));   // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L30, C6
+        gxp$out.append("\nb");                                                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L30, C26
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (x2));   // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L31, C6
+        gxp$out.append("\nc");                                                  // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L31, C27
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (xs));   // gxp/test/com/google/gxp/compiler/functests/AbbrGxp.gxp: L32, C6
+      }
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(x: int) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.AbbrGxp.write(gxp$out, gxp_context, x);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, x: int);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(x: int);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, x: int) {
+      com.google.gxp.compiler.functests.AbbrGxp.write(gxp$out, gxp_context, x);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(x: int) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, x);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
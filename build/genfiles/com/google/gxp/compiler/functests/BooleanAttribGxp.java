@@ -0,0 +1,132 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L20, C54
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L20, C54
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L20, C54
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L20, C54
+
+public class BooleanAttribGxp extends com.google.gxp.base.GxpTemplate {         // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L20, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<input type=\"radio\" name=\"key1\" value=\"value1\"");     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+    if (true) {                                                                 // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+      gxp$out.append(" checked");                                               // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+      if (gxp_context.isForcingXmlSyntax()) {                                   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+        gxp$out.append("=\"checked\"");                                         // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+      }
+    }
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+      gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+    }
+    gxp$out.append(">\n<input type=\"radio\" name=\"key1\" value=\"value2\"");   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L22, C1
+    if (false) {                                                                // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+      gxp$out.append(" checked");                                               // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+      if (gxp_context.isForcingXmlSyntax()) {                                   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+        gxp$out.append("=\"checked\"");                                         // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+      }
+    }
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+      gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+    }
+    gxp$out.append(">\n<input type=\"checkbox\" name=\"key2\" value=\"value\" checked");   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L23, C1
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L24, C1
+      gxp$out.append("=\"checked\"");                                           // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L24, C1
+    }
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L24, C1
+      gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L24, C1
+    }
+    gxp$out.append(">\n<input type=\"checkbox\" name=\"key2\" value=\"value\"");   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L24, C1
+    if (true) {                                                                 // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L27, C5
+      gxp$out.append(" checked");                                               // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L26, C3
+      if (gxp_context.isForcingXmlSyntax()) {                                   // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L26, C3
+        gxp$out.append("=\"checked\"");                                         // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L26, C3
+      }
+    }
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L25, C1
+      gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L25, C1
+    }
+    gxp$out.append(">");                                                        // gxp/test/com/google/gxp/compiler/functests/BooleanAttribGxp.gxp: L25, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.BooleanAttribGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.BooleanAttribGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,107 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L19, C54
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L19, C54
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L19, C54
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L19, C54
+
+public class CacheGxp extends com.google.gxp.base.GxpTemplate {                 // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, key: String, renders: java.util.concurrent.atomic.AtomicInteger) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("\x3cp\x3e");                                                // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L24, C1
+    com.google.gxp.base.FragmentCache.forRegion("functests").write(gxp$out, gxp_context, key, 60L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C5
+      @Override
+      protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C5
+        gxp$out.append("\x3cbr");                                                   // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C5
+        if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C5
+          gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C5
+        }
+        gxp$out.append("\x3e");                                                     // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C5
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (renders.incrementAndGet()));   // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L26, C10
+      }
+    });
+    gxp$out.append("\x3c/p\x3e");                                               // gxp/test/com/google/gxp/compiler/functests/CacheGxp.gxp: L24, C1
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("key", "renders"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(key: String, renders: java.util.concurrent.atomic.AtomicInteger) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.CacheGxp.write(gxp$out, gxp_context, key, renders);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, key: String, renders: java.util.concurrent.atomic.AtomicInteger);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(key: String, renders: java.util.concurrent.atomic.AtomicInteger);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, key: String, renders: java.util.concurrent.atomic.AtomicInteger) {
+      com.google.gxp.compiler.functests.CacheGxp.write(gxp$out, gxp_context, key, renders);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(key: String, renders: java.util.concurrent.atomic.AtomicInteger) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, key, renders);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,99 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L20, C54
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L20, C54
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L20, C54
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L20, C54
+
+public class CondAttrGxp extends com.google.gxp.base.GxpTemplate {              // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L20, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, lifeCount: int) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("\x3cdiv");                                                  // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L24, C1
+    if (lifeCount >= 0) {                                                       // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L25, C3
+      gxp$out.append(" class\x3d\x22");                                         // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L25, C3
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (lifeCount));   // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L26, C5
+      gxp$out.append("-lives");                                                 // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L26, C33
+      gxp$out.append("\x22");                                                   // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L25, C3
+    }
+    gxp$out.append("\x3eYou have ");                                            // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L24, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (lifeCount));   // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L28, C12
+    gxp$out.append(" lives left.\x3c/div\x3e");                                 // gxp/test/com/google/gxp/compiler/functests/CondAttrGxp.gxp: L28, C41
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("lifeCount"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(lifeCount: int) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.CondAttrGxp.write(gxp$out, gxp_context, lifeCount);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, lifeCount: int);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(lifeCount: int);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, lifeCount: int) {
+      com.google.gxp.compiler.functests.CondAttrGxp.write(gxp$out, gxp_context, lifeCount);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(lifeCount: int) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, lifeCount);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,103 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L21, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L21, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L21, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L21, C67
+
+public class CondGxp extends com.google.gxp.base.GxpTemplate {                  // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("That number is\n");                                         // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L21, C67
+    if (x < 5) {                                                                // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L27, C3
+      gxp$out.append("less than");                                              // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L27, C31
+    } else if (x == 5) {                                                        // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L30, C3
+      gxp$out.append("equal to");                                               // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L30, C29
+    } else {
+      gxp$out.append("greater than or equal to");                               // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L33, C15
+    }
+    gxp$out.append("\n5.");                                                     // gxp/test/com/google/gxp/compiler/functests/CondGxp.gxp: L36, C12
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int x) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.CondGxp.write(gxp$out, gxp_context, x);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int x);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int x)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.CondGxp.write(gxp$out, gxp_context, x);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int x) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, x);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,123 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L19, C54
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L19, C54
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L19, C54
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L19, C54
+
+public class ConditionalFutureGxp extends com.google.gxp.base.GxpTemplate {     // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int show, final java.util.List<String> items, final java.util.concurrent.Future<String> value)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    final com.google.gxp.base.FuturePrefetch gxp$prefetch$0 = gxp_context.prefetch(value);   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L19, C54
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("value"));   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L25, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L25, C27
+    if (show == 0) {                                                            // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L26, C1
+      gxp$out.append("none");                                                   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L26, C26
+    } else if (show == 1) {                                                     // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L28, C1
+      gxp$out.append("<b>");                                                    // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L29, C3
+      gxp$prefetch$0.await(value);                                              // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L29, C6
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.getIfDone(value)));   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L29, C6
+      gxp$out.append("</b>");                                                   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L29, C3
+    } else {
+      gxp$prefetch$0.await(value);                                              // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L30, C1
+      if (JavaCodeTest.getIfDone(value).length() > 0) {                         // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L30, C1
+        gxp$out.append("<i>non-empty</i>");                                     // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L31, C3
+      }
+    }
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L32, C10
+    {
+      boolean gxp$bool$1 = false;
+      for (final String item : items) {                                         // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L33, C1
+        if (gxp$bool$1) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L33, C1
+        } else {
+          gxp$bool$1 = true;
+        }
+        gxp$prefetch$0.await(value);                                            // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L34, C3
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (item + JavaCodeTest.getIfDone(value)));   // gxp/test/com/google/gxp/compiler/functests/ConditionalFutureGxp.gxp: L34, C3
+      }
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("show", "items", "value"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int show, final java.util.List<String> items, final java.util.concurrent.Future<String> value) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.ConditionalFutureGxp.write(gxp$out, gxp_context, show, items, value);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int show, final java.util.List<String> items, final java.util.concurrent.Future<String> value)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int show, final java.util.List<String> items, final java.util.concurrent.Future<String> value);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int show, final java.util.List<String> items, final java.util.concurrent.Future<String> value)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.ConditionalFutureGxp.write(gxp$out, gxp_context, show, items, value);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int show, final java.util.List<String> items, final java.util.concurrent.Future<String> value) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, show, items, value);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
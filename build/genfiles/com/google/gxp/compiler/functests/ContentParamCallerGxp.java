@@ -0,0 +1,123 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L25, C92
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L25, C92
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L25, C92
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L25, C92
+
+public class ContentParamCallerGxp extends com.google.gxp.base.GxpTemplate {    // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L25, C92
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int y, final String s)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("<div id=\"html\">");                                      // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L30, C1
+      com.google.gxp.compiler.functests.HtmlContentCalleeGxp.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L33, C7
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L33, C7
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L33, C7
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (s));   // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L33, C7
+        }
+      }, y);
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("</div>\n<div id=\"html-oc\">");                           // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L30, C1
+      com.google.gxp.compiler.functests.HtmlContentCalleeGxp.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L39, C3
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L39, C3
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L39, C3
+          gxp$out.append("1 &lt; 2 &amp; &quot;O&#39;Foozle&quot;");                  // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L39, C3
+        }
+      }, y);
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("</div>");                                                 // gxp/test/com/google/gxp/compiler/functests/ContentParamCallerGxp.gxp: L38, C1
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("y", "s"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int y, final String s) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.ContentParamCallerGxp.write(gxp$out, gxp_context, y, s);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int y, final String s)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int y, final String s);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int y, final String s)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.ContentParamCallerGxp.write(gxp$out, gxp_context, y, s);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int y, final String s) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, y, s);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
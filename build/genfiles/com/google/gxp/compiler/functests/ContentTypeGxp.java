@@ -0,0 +1,129 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L21, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L21, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L21, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L21, C67
+
+public class ContentTypeGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.text.PlaintextClosure p)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (p));   // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L29, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L29, C22
+    {
+      final com.google.gxp.text.PlaintextClosure a = new AnonymousPlaintextClosure() {                                               // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L32, C25
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L32, C25
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L32, C25
+          gxp$out.append("abbr");                                                     // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L32, C25
+        }
+      };
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (a));   // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L35, C3
+    }
+  }
+
+  private static final com.google.gxp.text.PlaintextClosure GXP_DEFAULT$p = new AnonymousPlaintextClosure() {                                               // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L24, C28
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L24, C28
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L24, C28
+      gxp$out.append("param");                                                    // gxp/test/com/google/gxp/compiler/functests/ContentTypeGxp.gxp: L24, C28
+    }
+  };
+
+  public static com.google.gxp.text.PlaintextClosure getDefaultP() {
+    return GXP_DEFAULT$p;
+  }
+
+  private abstract static class AnonymousPlaintextClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.text.PlaintextClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("p"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.text.PlaintextClosure p) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.ContentTypeGxp.write(gxp$out, gxp_context, p);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.text.PlaintextClosure p)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.text.PlaintextClosure p);
+
+    com.google.gxp.text.PlaintextClosure getDefaultP();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.text.PlaintextClosure p)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.ContentTypeGxp.write(gxp$out, gxp_context, p);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.text.PlaintextClosure p) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, p);
+        }
+      };
+    }
+
+    public com.google.gxp.text.PlaintextClosure getDefaultP() {
+      return com.google.gxp.compiler.functests.ContentTypeGxp.getDefaultP();
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,92 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp: L20, C39
+
+public class CssContentParamGxp extends com.google.gxp.base.GxpTemplate {       // gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp: L20, C39
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.css.CssClosure body)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    com.google.gxp.css.CssAppender.INSTANCE.append(gxp$out, gxp_context, (body));   // gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp: L24, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("body"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingCssClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.css.CssClosure {
+  }
+
+  public static com.google.gxp.css.CssClosure getGxpClosure(final com.google.gxp.css.CssClosure body) {
+    return new TunnelingCssClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.CssContentParamGxp.write(gxp$out, gxp_context, body);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.css.CssClosure body)
+        throws java.io.IOException;
+
+    public com.google.gxp.css.CssClosure getGxpClosure(final com.google.gxp.css.CssClosure body);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.css.CssClosure body)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.CssContentParamGxp.write(gxp$out, gxp_context, body);
+    }
+
+    public com.google.gxp.css.CssClosure getGxpClosure(final com.google.gxp.css.CssClosure body) {
+      return new TunnelingCssClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, body);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
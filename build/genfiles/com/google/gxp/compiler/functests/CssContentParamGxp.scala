@@ -0,0 +1,87 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp: L20, C39
+
+public class CssContentParamGxp extends com.google.gxp.base.GxpTemplate {       // gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp: L20, C39
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, body: com.google.gxp.js.JavascriptClosure) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, (body));   // gxp/test/com/google/gxp/compiler/functests/CssContentParamGxp.gxp: L24, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("body"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingJavascriptClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.js.JavascriptClosure {
+  }
+
+  public static com.google.gxp.js.JavascriptClosure getGxpClosure(body: com.google.gxp.js.JavascriptClosure) {
+    return new TunnelingJavascriptClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.CssContentParamGxp.write(gxp$out, gxp_context, body);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, body: com.google.gxp.js.JavascriptClosure);
+
+    public com.google.gxp.js.JavascriptClosure getGxpClosure(body: com.google.gxp.js.JavascriptClosure);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, body: com.google.gxp.js.JavascriptClosure) {
+      com.google.gxp.compiler.functests.CssContentParamGxp.write(gxp$out, gxp_context, body);
+    }
+
+    public com.google.gxp.js.JavascriptClosure getGxpClosure(body: com.google.gxp.js.JavascriptClosure) {
+      return new TunnelingJavascriptClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, body);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
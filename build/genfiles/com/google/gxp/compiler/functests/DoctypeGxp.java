@@ -0,0 +1,104 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L19, C54
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L19, C54
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L19, C54
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L19, C54
+
+public class DoctypeGxp extends com.google.gxp.base.GxpTemplate {               // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+      gxp$out.append("<?xml version=\"1.0\" ?>\n<!DOCTYPE html PUBLIC \"-//W3C//DTD XHTML 1.0 Strict//EN\" \"http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\">");   // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+    } else {
+      gxp$out.append("<!DOCTYPE HTML PUBLIC \"-//W3C//DTD HTML 4.01//EN\" \"http://www.w3.org/TR/html4/strict.dtd\">");   // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+    }
+    gxp$out.append("<html");                                                    // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+      gxp$out.append(" xmlns=\"http://www.w3.org/1999/xhtml\"");                // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+    }
+    gxp$out.append("></html>");                                                 // gxp/test/com/google/gxp/compiler/functests/DoctypeGxp.gxp: L21, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.DoctypeGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.DoctypeGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,110 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L21, C54
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L21, C54
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L21, C54
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L21, C54
+
+public class EvalInAbbr extends com.google.gxp.base.GxpTemplate {               // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L21, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, x: int, title: com.google.gxp.html.HtmlClosure) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      if (x > 0) {                                                              // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L26, C1
+        gxp$out.append("(");                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L26, C25
+        com.google.gxp.compiler.functests.EvalInAbbr.write(gxp$out, gxp_context, x - 1, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L29, C5
+          @Override
+          protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L29, C5
+            com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (title));   // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L29, C5
+          }
+        });
+        gxp_context.afterCall(gxp$out);
+        gxp$out.append(")");                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInAbbr.gxp: L31, C19
+      }
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x", "title"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(x: int, title: com.google.gxp.html.HtmlClosure) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.EvalInAbbr.write(gxp$out, gxp_context, x, title);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, x: int, title: com.google.gxp.html.HtmlClosure);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(x: int, title: com.google.gxp.html.HtmlClosure);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, x: int, title: com.google.gxp.html.HtmlClosure) {
+      com.google.gxp.compiler.functests.EvalInAbbr.write(gxp$out, gxp_context, x, title);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(x: int, title: com.google.gxp.html.HtmlClosure) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, x, title);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,123 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L24, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L24, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L24, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L24, C67
+
+public class EvalInContainerCallerGxp extends com.google.gxp.base.GxpTemplate {   // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L24, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("<i>");                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L28, C1
+      com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 42, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L30, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L30, C5
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L30, C5
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (s));   // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L30, C5
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("</i>\n<i>");                                              // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L28, C1
+      com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 42, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L38, C7
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L38, C7
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L38, C7
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (s));   // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L38, C7
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("</i>");                                                   // gxp/test/com/google/gxp/compiler/functests/EvalInContainerCallerGxp.gxp: L35, C1
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String s) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.EvalInContainerCallerGxp.write(gxp$out, gxp_context, s);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String s);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.EvalInContainerCallerGxp.write(gxp$out, gxp_context, s);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String s) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, s);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
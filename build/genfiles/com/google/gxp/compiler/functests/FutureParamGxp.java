@@ -0,0 +1,102 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+
+public class FutureParamGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.concurrent.Future<String> first, final java.util.concurrent.Future<String> second)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    final com.google.gxp.base.FuturePrefetch gxp$prefetch$0 = gxp_context.prefetch(first, second);   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+    gxp$out.append("<b>");                                                      // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C1
+    gxp$prefetch$0.await(first);                                                // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C4
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.getIfDone(first)));   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C4
+    gxp$out.append("</b>\n<i>");                                                // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C1
+    gxp$prefetch$0.await(second);                                               // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L25, C4
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.getIfDone(second)));   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L25, C4
+    gxp$out.append("</i>");                                                     // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L25, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("first", "second"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.concurrent.Future<String> first, final java.util.concurrent.Future<String> second) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.FutureParamGxp.write(gxp$out, gxp_context, first, second);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.concurrent.Future<String> first, final java.util.concurrent.Future<String> second)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.concurrent.Future<String> first, final java.util.concurrent.Future<String> second);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.concurrent.Future<String> first, final java.util.concurrent.Future<String> second)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.FutureParamGxp.write(gxp$out, gxp_context, first, second);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.concurrent.Future<String> first, final java.util.concurrent.Future<String> second) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, first, second);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
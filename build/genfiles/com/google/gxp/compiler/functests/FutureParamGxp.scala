@@ -0,0 +1,94 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+
+public class FutureParamGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, first: java.util.concurrent.Future[String], second: java.util.concurrent.Future[String]) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("\x3cb\x3e");                                                // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.getIfDone(first)));   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C4
+    gxp$out.append("\x3c/b\x3e\n\x3ci\x3e");                                    // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L24, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.getIfDone(second)));   // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L25, C4
+    gxp$out.append("\x3c/i\x3e");                                               // gxp/test/com/google/gxp/compiler/functests/FutureParamGxp.gxp: L25, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("first", "second"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(first: java.util.concurrent.Future[String], second: java.util.concurrent.Future[String]) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.FutureParamGxp.write(gxp$out, gxp_context, first, second);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, first: java.util.concurrent.Future[String], second: java.util.concurrent.Future[String]);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(first: java.util.concurrent.Future[String], second: java.util.concurrent.Future[String]);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, first: java.util.concurrent.Future[String], second: java.util.concurrent.Future[String]) {
+      com.google.gxp.compiler.functests.FutureParamGxp.write(gxp$out, gxp_context, first, second);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(first: java.util.concurrent.Future[String], second: java.util.concurrent.Future[String]) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, first, second);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,109 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L24, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L24, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L24, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L24, C67
+
+public class IterableLoopGxp extends com.google.gxp.base.GxpTemplate {          // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L24, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Iterable<String> items)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<ul>");                                                     // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L30, C1
+    {
+      boolean gxp$bool$0 = false;
+      for (final String item : items) {                                         // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L31, C3
+        if (gxp$bool$0) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L31, C3
+        } else {
+          gxp$bool$0 = true;
+        }
+        gxp$out.append("<li>");                                                 // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L32, C5
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (item));   // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L32, C9
+        gxp$out.append("</li>");                                                // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L32, C5
+      }
+    }
+    gxp$out.append("</ul>");                                                    // gxp/test/com/google/gxp/compiler/functests/IterableLoopGxp.gxp: L30, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("items"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final Iterable<String> items) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.IterableLoopGxp.write(gxp$out, gxp_context, items);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Iterable<String> items)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final Iterable<String> items);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Iterable<String> items)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.IterableLoopGxp.write(gxp$out, gxp_context, items);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final Iterable<String> items) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, items);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
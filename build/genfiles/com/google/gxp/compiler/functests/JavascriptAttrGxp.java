@@ -0,0 +1,127 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+
+public class JavascriptAttrGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("<div onclick=\"");                                        // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L28, C1
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$0.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$0.newStringBuilder(), gxp_context, ("alert('" + s + "');"))));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L28, C1
+      gxp$out.append("\">1</div>\n<div onclick=\"");                            // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L28, C1
+      gxp$out.append("alert(");                                                 // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L33, C28
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$1.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$1.newStringBuilder(), gxp_context, (s))));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L34, C11
+      gxp$out.append(");");                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L34, C31
+      gxp$out.append("\">2</div>\n<div onclick=\"");                            // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L33, C3
+      if (true) {                                                               // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L41, C5
+        gxp$out.append("alert(");                                               // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L41, C25
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$2.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$2.newStringBuilder(), gxp_context, (s))));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L42, C13
+        gxp$out.append(");");                                                   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L42, C33
+      }
+      gxp$out.append("\">3</div>\n<div onclick=\"");                            // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L40, C3
+      gxp$out.append("alert(");                                                 // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L49, C28
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$3.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$3.newStringBuilder(), gxp_context, GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, gxp_context.getLocale(), /* "foo < > ' "" */ 5388116451798527193L))));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L50, C11
+      gxp$out.append(");");                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L50, C47
+      gxp$out.append("\">4</div>\n<div onclick=\"");                            // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L49, C3
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, gxp_context.getString(com.google.gxp.compiler.functests.JavascriptGxp.getGxpClosure(s)));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L57, C5
+      gxp$out.append("\">5</div>");                                             // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L56, C3
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String s) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.JavascriptAttrGxp.write(gxp$out, gxp_context, s);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String s);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.JavascriptAttrGxp.write(gxp$out, gxp_context, s);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String s) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, s);
+        }
+      };
+    }
+  }
+
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$0 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(JavascriptAttrGxp.class, 0);
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$1 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(JavascriptAttrGxp.class, 1);
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$2 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(JavascriptAttrGxp.class, 2);
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$3 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(JavascriptAttrGxp.class, 3);
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
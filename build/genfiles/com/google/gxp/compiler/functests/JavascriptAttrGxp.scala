@@ -0,0 +1,113 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+
+public class JavascriptAttrGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L24, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("\x3cdiv onclick\x3d\x22");                                // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L28, C1
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, ("alert('" + s + "');")));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L28, C1
+      gxp$out.append("\x22\x3e1\x3c/div\x3e\n\x3cdiv onclick\x3d\x22");         // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L28, C1
+      gxp$out.append("alert(");                                                 // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L33, C28
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, (s)));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L34, C11
+      gxp$out.append(");");                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L34, C31
+      gxp$out.append("\x22\x3e2\x3c/div\x3e\n\x3cdiv onclick\x3d\x22");         // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L33, C3
+      if (true) {                                                               // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L41, C5
+        gxp$out.append("alert(");                                               // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L41, C25
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, (s)));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L42, C13
+        gxp$out.append(");");                                                   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L42, C33
+      }
+      gxp$out.append("\x22\x3e3\x3c/div\x3e\n\x3cdiv onclick\x3d\x22");         // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L40, C3
+      gxp$out.append("alert(");                                                 // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L49, C28
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, gxp_context.getLocale(), /* "foo < > ' "" */ 5388116451798527193L)));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L50, C11
+      gxp$out.append(");");                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L50, C47
+      gxp$out.append("\x22\x3e4\x3c/div\x3e\n\x3cdiv onclick\x3d\x22");         // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L49, C3
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, gxp_context.getString(com.google.gxp.compiler.functests.JavascriptGxp.getGxpClosure(s)));   // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L57, C5
+      gxp$out.append("\x22\x3e5\x3c/div\x3e");                                  // gxp/test/com/google/gxp/compiler/functests/JavascriptAttrGxp.gxp: L56, C3
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(s: String) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.JavascriptAttrGxp.write(gxp$out, gxp_context, s);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(s: String);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String) {
+      com.google.gxp.compiler.functests.JavascriptAttrGxp.write(gxp$out, gxp_context, s);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(s: String) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, s);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,94 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L24, C46
+
+public class JavascriptGxp extends com.google.gxp.base.GxpTemplate {            // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L24, C46
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L24, C46
+    com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, (s));   // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L28, C7
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L28, C27
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingJavascriptClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.js.JavascriptClosure {
+  }
+
+  public static com.google.gxp.js.JavascriptClosure getGxpClosure(final String s) {
+    return new TunnelingJavascriptClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.JavascriptGxp.write(gxp$out, gxp_context, s);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+        throws java.io.IOException;
+
+    public com.google.gxp.js.JavascriptClosure getGxpClosure(final String s);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.JavascriptGxp.write(gxp$out, gxp_context, s);
+    }
+
+    public com.google.gxp.js.JavascriptClosure getGxpClosure(final String s) {
+      return new TunnelingJavascriptClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, s);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,89 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L24, C46
+
+public class JavascriptGxp extends com.google.gxp.base.GxpTemplate {            // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L24, C46
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L24, C46
+    com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, (s));   // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L28, C7
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/JavascriptGxp.gxp: L28, C27
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingJavascriptClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.js.JavascriptClosure {
+  }
+
+  public static com.google.gxp.js.JavascriptClosure getGxpClosure(s: String) {
+    return new TunnelingJavascriptClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.JavascriptGxp.write(gxp$out, gxp_context, s);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String);
+
+    public com.google.gxp.js.JavascriptClosure getGxpClosure(s: String);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String) {
+      com.google.gxp.compiler.functests.JavascriptGxp.write(gxp$out, gxp_context, s);
+    }
+
+    public com.google.gxp.js.JavascriptClosure getGxpClosure(s: String) {
+      return new TunnelingJavascriptClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, s);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
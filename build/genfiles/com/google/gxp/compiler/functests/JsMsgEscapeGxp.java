@@ -0,0 +1,106 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L20, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L20, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L20, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L20, C67
+
+public class JsMsgEscapeGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L20, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<script type=\"text/javascript\">\n  var foo = ");          // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L22, C1
+    com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, gxp_context.getLocale(), /* "foo" */ 494504683967647217L));   // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L23, C13
+    gxp$out.append(";\n  var bar = ");                                          // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L23, C35
+    com.google.gxp.js.JavascriptAppender.INSTANCE.append(gxp$out, gxp_context, GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, gxp_context.getLocale(), /* "bar" */ 7432450040475610794L));   // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L24, C13
+    gxp$out.append(";\n</script>\n<div onclick=\"");                            // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L24, C35
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L28, C28
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$0.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$0.newStringBuilder(), gxp_context, GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, gxp_context.getLocale(), /* "foo " '" */ 7061130379779640006L))));   // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L29, C11
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L29, C37
+    gxp$out.append("\"></div>");                                                // gxp/test/com/google/gxp/compiler/functests/JsMsgEscapeGxp.gxp: L28, C3
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.JsMsgEscapeGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.JsMsgEscapeGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$0 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(JsMsgEscapeGxp.class, 0);
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
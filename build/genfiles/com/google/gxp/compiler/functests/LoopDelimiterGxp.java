@@ -0,0 +1,163 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L22, C62
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L22, C62
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L22, C62
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L22, C62
+
+public class LoopDelimiterGxp extends com.google.gxp.base.GxpTemplate {         // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L22, C62
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int count)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<b>");                                                      // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L26, C1
+    {
+      for (final int i : new IntIterable(count)) {                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L27, C3
+        gxp$out.append("!");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L27, C79
+      }
+    }
+    gxp$out.append("</b>\n<b>");                                                // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L26, C1
+    {
+      boolean gxp$bool$1 = false;
+      for (final int i : new IntIterable(count)) {                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L33, C3
+        if (gxp$bool$1) {
+          gxp$out.append("&amp;");                                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L33, C3
+        } else {
+          gxp$bool$1 = true;
+        }
+        gxp$out.append("!");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L33, C84
+      }
+    }
+    gxp$out.append("</b>\n<b>");                                                // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L32, C1
+    {
+      boolean gxp$bool$2 = false;
+      for (final int i : new IntIterable(count)) {                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L39, C3
+        if (gxp$bool$2) {
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (","));   // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L39, C3
+        } else {
+          gxp$bool$2 = true;
+        }
+        gxp$out.append("!");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L39, C87
+      }
+    }
+    gxp$out.append("</b>\n<b>");                                                // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L38, C1
+    {
+      boolean gxp$bool$3 = false;
+      for (final int i : new IntIterable(count)) {                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L45, C3
+        if (gxp$bool$3) {
+          // MSG 2541851353273525429=,
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2541851353273525429L);   // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L47, C7
+        } else {
+          gxp$bool$3 = true;
+        }
+        gxp$out.append("!");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L45, C66
+      }
+    }
+    gxp$out.append("</b>\n<b>");                                                // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L44, C1
+    {
+      boolean gxp$bool$4 = false;
+      for (final int i : new IntIterable(count)) {                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L54, C3
+        if (gxp$bool$4) {
+          // MSG 2541851353273525429=,
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2541851353273525429L);   // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L54, C3
+        } else {
+          gxp$bool$4 = true;
+        }
+        gxp$out.append("!");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L54, C84
+      }
+    }
+    gxp$out.append("</b>\n<b>");                                                // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L53, C1
+    {
+      boolean gxp$bool$5 = false;
+      for (final int i : new IntIterable(count)) {                              // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L60, C3
+        if (gxp$bool$5) {
+          gxp$out.append(",");                                                  // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L60, C3
+        } else {
+          gxp$bool$5 = true;
+        }
+        gxp$out.append("!");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L60, C86
+      }
+    }
+    gxp$out.append("</b>");                                                     // gxp/test/com/google/gxp/compiler/functests/LoopDelimiterGxp.gxp: L59, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("count"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int count) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.LoopDelimiterGxp.write(gxp$out, gxp_context, count);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int count)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int count);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int count)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.LoopDelimiterGxp.write(gxp$out, gxp_context, count);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int count) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, count);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
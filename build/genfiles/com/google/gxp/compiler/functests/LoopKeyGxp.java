@@ -0,0 +1,110 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L22, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L22, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L22, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L22, C67
+import java.util.List;                                                          // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L24, C1
+
+public class LoopKeyGxp extends com.google.gxp.base.GxpTemplate {               // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<String> names)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    {
+      boolean gxp$bool$0 = false;
+      int gxp$key$1 = 0;
+      for (final String name : names) {                                         // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L29, C1
+        if (gxp$bool$0) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L29, C1
+        } else {
+          gxp$bool$0 = true;
+        }
+        final int key = gxp$key$1++;
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (key));   // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L30, C3
+        gxp$out.append(":");                                                    // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L30, C26
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (name));   // gxp/test/com/google/gxp/compiler/functests/LoopKeyGxp.gxp: L30, C27
+      }
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("names"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final List<String> names) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.LoopKeyGxp.write(gxp$out, gxp_context, names);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<String> names)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final List<String> names);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<String> names)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.LoopKeyGxp.write(gxp$out, gxp_context, names);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final List<String> names) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, names);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,136 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L21, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L21, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L21, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L21, C67
+
+public class ParallelGxp extends com.google.gxp.base.GxpTemplate {              // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.concurrent.CountDownLatch latch, final long failA, final long failC)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("<ul>");                                                   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L27, C1
+      {
+        final com.google.gxp.base.ParallelRendering gxp$par$0 = gxp_context.newParallelRendering(gxp$out);   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L28, C3
+        gxp$par$0.fork(new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L28, C3
+          @Override
+          protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L28, C3
+              throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L28, C3
+            com.google.gxp.compiler.functests.ParallelPartGxp.write(gxp$out, gxp_context, String.valueOf("a"), latch, failA);   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L28, C3
+            gxp_context.afterCall(gxp$out);
+          }
+        });
+        gxp$par$0.append("\n");                                                 // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L28, C93
+        gxp$par$0.fork(new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L29, C3
+          @Override
+          protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L29, C3
+              throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L29, C3
+            com.google.gxp.compiler.functests.ParallelPartGxp.write(gxp$out, gxp_context, String.valueOf("b"), latch, -1L);   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L29, C3
+            gxp_context.afterCall(gxp$out);
+          }
+        });
+        gxp$par$0.append("\n");                                                 // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L29, C91
+        gxp$par$0.fork(new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L30, C3
+          @Override
+          protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L30, C3
+              throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L30, C3
+            com.google.gxp.compiler.functests.ParallelPartGxp.write(gxp$out, gxp_context, String.valueOf("c"), latch, failC);   // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L30, C3
+            gxp_context.afterCall(gxp$out);
+          }
+        });
+        gxp$par$0.join();
+      }
+      gxp$out.append("</ul>");                                                  // gxp/test/com/google/gxp/compiler/functests/ParallelGxp.gxp: L27, C1
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("latch", "failA", "failC"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.concurrent.CountDownLatch latch, final long failA, final long failC) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.ParallelGxp.write(gxp$out, gxp_context, latch, failA, failC);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.concurrent.CountDownLatch latch, final long failA, final long failC)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.concurrent.CountDownLatch latch, final long failA, final long failC);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.concurrent.CountDownLatch latch, final long failA, final long failC)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.ParallelGxp.write(gxp$out, gxp_context, latch, failA, failC);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.concurrent.CountDownLatch latch, final long failA, final long failC) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, latch, failA, failC);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
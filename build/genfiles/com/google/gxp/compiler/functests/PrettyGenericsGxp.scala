@@ -0,0 +1,114 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L22, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L22, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L22, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L22, C67
+import java.util.List                                                           // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L24, C1
+
+public class PrettyGenericsGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, list1: List[List[Integer]]) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    {
+      final List[List[Integer]] list2 = list1;                                  // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L29, C1
+      {
+        boolean gxp$bool$0 = false;
+        for (final List[Integer] sublist : list2) {                             // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L30, C3
+          if (gxp$bool$0) {
+            gxp$out.append(" ");                                                // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L30, C3
+          } else {
+            gxp$bool$0 = true;
+          }
+          {
+            boolean gxp$bool$1 = false;
+            for (final Integer i : sublist) {                                   // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L31, C5
+              if (gxp$bool$1) {
+                gxp$out.append(" ");                                            // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L31, C5
+              } else {
+                gxp$bool$1 = true;
+              }
+              com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (i));   // gxp/test/com/google/gxp/compiler/functests/PrettyGenericsGxp.gxp: L32, C7
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("list1"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(list1: List[List[Integer]]) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.PrettyGenericsGxp.write(gxp$out, gxp_context, list1);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, list1: List[List[Integer]]);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(list1: List[List[Integer]]);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, list1: List[List[Integer]]) {
+      com.google.gxp.compiler.functests.PrettyGenericsGxp.write(gxp$out, gxp_context, list1);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(list1: List[List[Integer]]) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, list1);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
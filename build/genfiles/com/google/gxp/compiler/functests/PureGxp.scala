@@ -0,0 +1,105 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L20, C27
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L20, C27
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L20, C27
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L20, C27
+
+public class PureGxp extends com.google.gxp.base.GxpTemplate {                  // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L20, C27
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, label: String, count: int) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    com.google.gxp.base.FragmentCache.forRegion("com.google.gxp.compiler.functests.PureGxp").write(gxp$out, gxp_context, java.util.Arrays.<Object>asList(label, count), 0L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C1
+      @Override
+      protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C1
+        gxp$out.append("\x3cb\x3e");                                                // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C1
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (label));   // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C4
+        gxp$out.append(" ");                                                        // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C28
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (count));   // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C29
+        gxp$out.append("\x3c/b\x3e\n");                                             // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L25, C1
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.PURE_RENDERS.incrementAndGet()));   // gxp/test/com/google/gxp/compiler/functests/PureGxp.gxp: L26, C1
+      }
+    });
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("label", "count"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(label: String, count: int) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.PureGxp.write(gxp$out, gxp_context, label, count);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, label: String, count: int);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(label: String, count: int);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, label: String, count: int) {
+      com.google.gxp.compiler.functests.PureGxp.write(gxp$out, gxp_context, label, count);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(label: String, count: int) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, label, count);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
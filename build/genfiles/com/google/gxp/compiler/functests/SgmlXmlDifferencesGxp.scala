@@ -0,0 +1,125 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L21, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L21, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L21, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L21, C67
+
+public class SgmlXmlDifferencesGxp extends com.google.gxp.base.GxpTemplate {    // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+      gxp$out.append("\x3c?xml version\x3d\x221.0\x22 ?\x3e\n\x3c!DOCTYPE html PUBLIC \x22-//W3C//DTD XHTML 1.0 Strict//EN\x22 \x22http://www.w3.org/TR/xhtml1/DTD/xhtml1-strict.dtd\x22\x3e");   // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+    } else {
+      gxp$out.append("\x3c!DOCTYPE HTML PUBLIC \x22-//W3C//DTD HTML 4.01//EN\x22 \x22http://www.w3.org/TR/html4/strict.dtd\x22\x3e");   // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+    }
+    gxp$out.append("\x3chtml");                                                 // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+      gxp$out.append(" xmlns\x3d\x22http://www.w3.org/1999/xhtml\x22");         // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+    }
+    gxp$out.append("\x3e\x3cdiv id\x3d\x22snarf\x22\x3e\x3cimg alt\x3d\x22hello, world!\x22 ismap");   // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L25, C5
+      gxp$out.append("\x3d\x22ismap\x22");                                      // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L25, C5
+    }
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L25, C5
+      gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L25, C5
+    }
+    gxp$out.append("\x3e\n\x3cbr");                                             // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L25, C5
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L26, C5
+      gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L26, C5
+    }
+    gxp$out.append("\x3e\x3c/div\x3e\n");                                       // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L26, C5
+    // MSG 1506063345044566461=foo <br%1> bar <br%1> baz
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 1506063345044566461L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L30, C24
+      @Override
+      protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L30, C24
+        if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L30, C24
+          gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L30, C24
+        }
+      }
+    });
+    gxp$out.append("\x3c/html\x3e");                                            // gxp/test/com/google/gxp/compiler/functests/SgmlXmlDifferencesGxp.gxp: L23, C1
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.SgmlXmlDifferencesGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.SgmlXmlDifferencesGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,108 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+
+public class SizeEstimatorsGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String small, final String large)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<div onclick=\"");                                          // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L25, C1
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L26, C28
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$0.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$0.newStringBuilder(), gxp_context, (small))));   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L27, C11
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L27, C36
+    gxp$out.append("\"></div>\n<div onclick=\"");                               // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L26, C3
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L31, C28
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$1.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$1.newStringBuilder(), gxp_context, (large))));   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L32, C11
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L32, C36
+    gxp$out.append("\"></div>");                                                // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L31, C3
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("small", "large"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String small, final String large) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.SizeEstimatorsGxp.write(gxp$out, gxp_context, small, large);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String small, final String large)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String small, final String large);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String small, final String large)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.SizeEstimatorsGxp.write(gxp$out, gxp_context, small, large);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String small, final String large) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, small, large);
+        }
+      };
+    }
+  }
+
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$0 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(SizeEstimatorsGxp.class, 0);
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$1 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(SizeEstimatorsGxp.class, 1);
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,98 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+
+public class SizeEstimatorsGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L20, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, small: String, large: String) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("\x3cdiv onclick\x3d\x22");                                  // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L25, C1
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L26, C28
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, (small)));   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L27, C11
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L27, C36
+    gxp$out.append("\x22\x3e\x3c/div\x3e\n\x3cdiv onclick\x3d\x22");            // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L26, C3
+    gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L31, C28
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, (large)));   // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L32, C11
+    gxp$out.append(");");                                                       // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L32, C36
+    gxp$out.append("\x22\x3e\x3c/div\x3e");                                     // gxp/test/com/google/gxp/compiler/functests/SizeEstimatorsGxp.gxp: L31, C3
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("small", "large"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(small: String, large: String) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.SizeEstimatorsGxp.write(gxp$out, gxp_context, small, large);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, small: String, large: String);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(small: String, large: String);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, small: String, large: String) {
+      com.google.gxp.compiler.functests.SizeEstimatorsGxp.write(gxp$out, gxp_context, small, large);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(small: String, large: String) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, small, large);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
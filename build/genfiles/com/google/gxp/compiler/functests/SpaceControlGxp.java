@@ -0,0 +1,144 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+
+public class SpaceControlGxp extends com.google.gxp.base.GxpTemplate {          // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("<b>1inherit1inherit</b><b>\n  2inherit2preserve\n</b><b>3inherit3remove</b><b>\n4inherit4collapse\n</b><b> 5inherit5normalize </b><b>6preserve\n  6inherit</b><b>\n  7preserve\n  7preserve\n</b><b>8preserve\n  8remove</b><b>\n9preserve\n  9collapse\n</b><b> 10preserve\n  10normalize </b><b>11remove11inherit</b><b>\n  12remove12preserve\n</b><b>13remove13remove</b><b>\n14remove14collapse\n</b><b> 15remove15normalize </b><b>16collapse\n16inherit</b><b>\n  17collapse\n17preserve\n</b><b>18collapse\n18remove</b><b>\n19collapse\n19collapse\n</b><b> 20collapse\n20normalize </b><b>21normalize 21inherit</b><b>\n  22normalize 22preserve\n</b><b>23normalize 23remove</b><b>\n24normalize 24collapse\n</b><b> 25normalize 25normalize </b><b>\n26collapse\n26collapse\n</b><b><i> 27normalize 27normalize </i></b><b><i> 28collapse\n28normalize </i></b>");   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L23, C1
+      com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 0, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+          gxp$out.append("29remove29remove");                                         // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 0, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+          gxp$out.append(" 30normalize 30normalize ");                                // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      com.google.gxp.compiler.functests.BoldPreGxp.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+          gxp$out.append(" 31preserve\n  31normalize ");                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      com.google.gxp.compiler.functests.BoldPreGxp.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+          gxp$out.append(" 32preserve\n  32normalize ");                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      // MSG 8583927277120076251=33normalize 33remove
+      GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 8583927277120076251L);   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L217, C1
+      gxp$out.append("<script type=\"text/javascript\">\n  34preserve\n  34preserve\n</script><style type=\"text/css\">\n  35preserve\n  35preserve\n</style><pre>\n  36preserve\n  36preserve\n</pre><textarea rows=\"10\" cols=\"10\">\n  37preserve\n  37preserve\n</textarea>38normalize 38remove<div class=\"");   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L223, C1
+      gxp$out.append("39normalize 39remove");                                   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L254, C26
+      gxp$out.append("\"></div><div class=\"");                                 // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L254, C3
+      gxp$out.append(" 40remove40normalize ");                                  // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L261, C69
+      gxp$out.append("\"></div>");                                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L261, C3
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.SpaceControlGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.SpaceControlGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,135 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+
+public class SpaceControlGxp extends com.google.gxp.base.GxpTemplate {          // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L21, C55
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("\x3cb\x3e1inherit1inherit\x3c/b\x3e\x3cb\x3e\n  2inherit2preserve\n\x3c/b\x3e\x3cb\x3e3inherit3remove\x3c/b\x3e\x3cb\x3e\n4inherit4collapse\n\x3c/b\x3e\x3cb\x3e 5inherit5normalize \x3c/b\x3e\x3cb\x3e6preserve\n  6inherit\x3c/b\x3e\x3cb\x3e\n  7preserve\n  7preserve\n\x3c/b\x3e\x3cb\x3e8preserve\n  8remove\x3c/b\x3e\x3cb\x3e\n9preserve\n  9collapse\n\x3c/b\x3e\x3cb\x3e 10preserve\n  10normalize \x3c/b\x3e\x3cb\x3e11remove11inherit\x3c/b\x3e\x3cb\x3e\n  12remove12preserve\n\x3c/b\x3e\x3cb\x3e13remove13remove\x3c/b\x3e\x3cb\x3e\n14remove14collapse\n\x3c/b\x3e\x3cb\x3e 15remove15normalize \x3c/b\x3e\x3cb\x3e16collapse\n16inherit\x3c/b\x3e\x3cb\x3e\n  17collapse\n17preserve\n\x3c/b\x3e\x3cb\x3e18collapse\n18remove\x3c/b\x3e\x3cb\x3e\n19collapse\n19collapse\n\x3c/b\x3e\x3cb\x3e 20collapse\n20normalize \x3c/b\x3e\x3cb\x3e21normalize 21inherit\x3c/b\x3e\x3cb\x3e\n  22normalize 22preserve\n\x3c/b\x3e\x3cb\x3e23normalize 23remove\x3c/b\x3e\x3cb\x3e\n24normalize 24collapse\n\x3c/b\x3e\x3cb\x3e 25normalize 25normalize \x3c/b\x3e\x3cb\x3e\n26collapse\n26collapse\n\x3c/b\x3e\x3cb\x3e\x3ci\x3e 27normalize 27normalize \x3c/i\x3e\x3c/b\x3e\x3cb\x3e\x3ci\x3e 28collapse\n28normalize \x3c/i\x3e\x3c/b\x3e");   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L23, C1
+      com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 0, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+          gxp$out.append("29remove29remove");                                         // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L194, C32
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 0, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+          gxp$out.append(" 30normalize 30normalize ");                                // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L199, C78
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      com.google.gxp.compiler.functests.BoldPreGxp.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+          gxp$out.append(" 31preserve\n  31normalize ");                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L204, C18
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      com.google.gxp.compiler.functests.BoldPreGxp.write(gxp$out, gxp_context, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+          gxp$out.append(" 32preserve\n  32normalize ");                              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L210, C23
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      // MSG 8583927277120076251=33normalize 33remove
+      GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 8583927277120076251L);   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L217, C1
+      gxp$out.append("\x3cscript type\x3d\x22text/javascript\x22\x3e\n  34preserve\n  34preserve\n\x3c/script\x3e\x3cstyle type\x3d\x22text/css\x22\x3e\n  35preserve\n  35preserve\n\x3c/style\x3e\x3cpre\x3e\n  36preserve\n  36preserve\n\x3c/pre\x3e\x3ctextarea rows\x3d\x2210\x22 cols\x3d\x2210\x22\x3e\n  37preserve\n  37preserve\n\x3c/textarea\x3e38normalize 38remove\x3cdiv class\x3d\x22");   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L223, C1
+      gxp$out.append("39normalize 39remove");                                   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L254, C26
+      gxp$out.append("\x22\x3e\x3c/div\x3e\x3cdiv class\x3d\x22");              // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L254, C3
+      gxp$out.append(" 40remove40normalize ");                                  // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L261, C69
+      gxp$out.append("\x22\x3e\x3c/div\x3e");                                   // gxp/test/com/google/gxp/compiler/functests/SpaceControlGxp.gxp: L261, C3
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.SpaceControlGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.SpaceControlGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,100 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L25, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L25, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L25, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L25, C67
+
+public class ThrowsGxp extends com.google.gxp.base.GxpTemplate {                // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L25, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, fail: boolean) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    try {
+      if (fail) {                                                               // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L31, C1
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (ScalaCodeTest.throwException("A problem!")));   // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L33, C3
+      } else {
+        gxp$out.append("No problem.");                                          // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L36, C12
+      }
+    } catch (com.google.gxp.base.GxpRuntimeException gxp$runtimeException$0) {
+      final java.lang.Throwable gxp$cause$1 = gxp$runtimeException$0.getCause();
+      if (gxp$cause$1 instanceof JavaCodeTest.ArbitraryCheckedException) throw (JavaCodeTest.ArbitraryCheckedException) gxp$cause$1;   // gxp/test/com/google/gxp/compiler/functests/ThrowsGxp.gxp: L27, C1
+      throw gxp$runtimeException$0;
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("fail"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(fail: boolean) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.ThrowsGxp.write(gxp$out, gxp_context, fail);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, fail: boolean);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(fail: boolean);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, fail: boolean) {
+      com.google.gxp.compiler.functests.ThrowsGxp.write(gxp$out, gxp_context, fail);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(fail: boolean) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, fail);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,126 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L25, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L25, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L25, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L25, C67
+
+public class ThrowsInAnonymousClosureGxp extends com.google.gxp.base.GxpTemplate {   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L25, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final boolean fail)
+      throws java.io.IOException, JavaCodeTest.ArbitraryCheckedException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      try {
+        gxp$out.append("<div id=\"outer\">");                                   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L31, C1
+        com.google.gxp.compiler.functests.ContainerCalleeGxp.write(gxp$out, gxp_context, 5, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L33, C5
+          @Override
+          protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L33, C5
+              throws java.io.IOException, JavaCodeTest.ArbitraryCheckedException {      // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L33, C5
+            gxp$out.append("<div id=\"inner\">");                                       // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L33, C5
+            if (fail) {                                                                 // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L34, C7
+              com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (JavaCodeTest.throwException("A problem!")));   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L36, C9
+            } else {
+              gxp$out.append("No problem.");                                            // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L39, C18
+            }
+            gxp$out.append("</div>");                                                   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L33, C5
+          }
+        });
+        gxp_context.afterCall(gxp$out);
+        gxp$out.append("</div>");                                               // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L31, C1
+      } catch (com.google.gxp.base.GxpRuntimeException gxp$runtimeException$0) {
+        final java.lang.Throwable gxp$cause$1 = gxp$runtimeException$0.getCause();
+        if (gxp$cause$1 instanceof JavaCodeTest.ArbitraryCheckedException) throw (JavaCodeTest.ArbitraryCheckedException) gxp$cause$1;   // gxp/test/com/google/gxp/compiler/functests/ThrowsInAnonymousClosureGxp.gxp: L27, C1
+        throw gxp$runtimeException$0;
+      }
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("fail"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final boolean fail) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException, JavaCodeTest.ArbitraryCheckedException {
+        com.google.gxp.compiler.functests.ThrowsInAnonymousClosureGxp.write(gxp$out, gxp_context, fail);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final boolean fail)
+        throws java.io.IOException, JavaCodeTest.ArbitraryCheckedException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final boolean fail);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final boolean fail)
+        throws java.io.IOException, JavaCodeTest.ArbitraryCheckedException {
+      com.google.gxp.compiler.functests.ThrowsInAnonymousClosureGxp.write(gxp$out, gxp_context, fail);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final boolean fail) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException, JavaCodeTest.ArbitraryCheckedException {
+          Instance.this.write(gxp$out, gxp_context, fail);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
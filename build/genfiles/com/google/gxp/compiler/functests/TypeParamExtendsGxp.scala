@@ -0,0 +1,108 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L23, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L23, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L23, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L23, C67
+import java.io.Serializable                                                     // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L25, C1
+import java.util.List                                                           // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L26, C1
+
+public class TypeParamExtendsGxp extends com.google.gxp.base.GxpTemplate {      // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L23, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static [E <: Comparable[E] & Serializable] void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, specialItem: E, items: List[E]) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    {
+      boolean gxp$bool$0 = false;
+      for (final E i : items) {                                                 // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L34, C1
+        if (gxp$bool$0) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L34, C1
+        } else {
+          gxp$bool$0 = true;
+        }
+        if (i.equals(specialItem)) {                                            // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L35, C3
+          gxp$out.append("\x3cb\x3e");                                          // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L36, C5
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (i.toString()));   // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L36, C8
+          gxp$out.append("\x3c/b\x3e");                                         // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L36, C5
+        } else {
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (i.toString()));   // gxp/test/com/google/gxp/compiler/functests/TypeParamExtendsGxp.gxp: L38, C5
+        }
+      }
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("specialItem", "items"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static [E <: Comparable[E] & Serializable] com.google.gxp.html.HtmlClosure getGxpClosure(specialItem: E, items: List[E]) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.TypeParamExtendsGxp.write(gxp$out, gxp_context, specialItem, items);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface[E <: Comparable[E] & Serializable] {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, specialItem: E, items: List[E]);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(specialItem: E, items: List[E]);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance[E <: Comparable[E] & Serializable] implements Interface[E] {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, specialItem: E, items: List[E]) {
+      com.google.gxp.compiler.functests.TypeParamExtendsGxp.write(gxp$out, gxp_context, specialItem, items);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(specialItem: E, items: List[E]) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, specialItem, items);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,99 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L21, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L21, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L21, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L21, C67
+
+public class XmlOnlyDoctypeGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+      gxp$out.append("\x3c?xml version\x3d\x221.0\x22 ?\x3e\n\x3c!DOCTYPE html PUBLIC \x22-//WAPFORUM//DTD XHTML Mobile 1.0//EN\x22 \x22http://www.wapforum.org/DTD/xhtml-mobile10.dtd\x22\x3e");   // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+    } else {
+      throw new java.lang.IllegalStateException("Doctype \x27mobile\x27 incompatible with non-XML syntax");   // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+    }
+    gxp$out.append("\x3chtml");                                                 // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+    if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+      gxp$out.append(" xmlns\x3d\x22http://www.w3.org/1999/xhtml\x22");         // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+    }
+    gxp$out.append("\x3e\x3c/html\x3e");                                        // gxp/test/com/google/gxp/compiler/functests/XmlOnlyDoctypeGxp.gxp: L23, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.XmlOnlyDoctypeGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.XmlOnlyDoctypeGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,97 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.annotate
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L23, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L23, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L23, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L23, C67
+
+@BuzAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L25, C1
+@QuxAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L26, C1
+@BazAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L23, C67
+public class AnnotatedGxp extends com.google.gxp.base.GxpTemplate {             // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L23, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s1: String) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s1"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(s1: String) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.annotate.AnnotatedGxp.write(gxp$out, gxp_context, s1);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  @QuuxAnnotation                                                               // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L27, C1
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  @QuuuxAnnotation                                                              // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L28, C1
+  public static class Instance implements Interface {
+    private final String s1;
+
+    @FooAnnotation                                                              // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedGxp.gxp: L30, C1
+    public Instance(final @BarAnnotation String s1) {
+      this.s1 = s1;
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.annotate.AnnotatedGxp.write(gxp$out, gxp_context, s1);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
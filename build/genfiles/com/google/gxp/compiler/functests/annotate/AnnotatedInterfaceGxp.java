@@ -0,0 +1,33 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.annotate;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+
+@BuzAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L22, C1
+@QuxAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L23, C1
+@BazAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+public interface AnnotatedInterfaceGxp {                                        // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+  void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)   // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+      throws java.io.IOException;                                               // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+  com.google.gxp.html.HtmlClosure getGxpClosure();                              // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
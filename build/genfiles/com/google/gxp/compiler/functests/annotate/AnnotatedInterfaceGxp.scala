@@ -0,0 +1,32 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.annotate
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+
+@BuzAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L22, C1
+@QuxAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L23, C1
+@BazAnnotation                                                                  // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+trait AnnotatedInterfaceGxp {                                                   // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+  def write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext): Unit   // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+  def getGxpClosure(): com.google.gxp.html.HtmlClosure                          // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/annotate/AnnotatedInterfaceGxp.gxp: L20, C66
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
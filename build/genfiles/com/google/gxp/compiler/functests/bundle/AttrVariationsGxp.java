@@ -0,0 +1,253 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+
+public class AttrVariationsGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, GXP$BUNDLE$0, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L30, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("theclass"));   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L34, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+          // MSG 7969814030483724359=theclass
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 7969814030483724359L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L41, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+          gxp$out.append("the");                                                      // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+          // MSG 7256081649777052684=class
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 7256081649777052684L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L45, C8
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L48, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, GXP$BUNDLE$1, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L52, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("<>"));   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L56, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, GXP$BUNDLE$2, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L63, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+          // MSG 1688594078088357505=&lt;&gt;
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 1688594078088357505L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L70, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+          gxp$out.append("&lt;");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+          // MSG 3218593642290277375=&gt;
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 3218593642290277375L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L74, C9
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.bundle.AttrVariationsGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.bundle.AttrVariationsGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$0 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+      gxp$out.append("theclass");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+    }
+  }, " class=\"theclass\"").build();
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$1 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+      gxp$out.append("&lt;&gt;");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+    }
+  }, " class=\"&lt;&gt;\"").build();
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$2 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+      gxp$out.append("&lt;&gt;");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+    }
+  }, " class=\"&lt;&gt;\"").build();
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,221 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+
+public class AttrVariationsGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+          gxp$out.append("theclass");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L28, C39
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L30, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("theclass"));   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L32, C46
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L34, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+          // MSG 7969814030483724359=theclass
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 7969814030483724359L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L38, C5
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L36, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L41, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+          gxp$out.append("the");                                                      // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L44, C26
+          // MSG 7256081649777052684=class
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 7256081649777052684L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L45, C8
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L43, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L48, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+          gxp$out.append("\x26lt;\x26gt;");                                           // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L50, C39
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L52, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("<>"));   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L54, C46
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L56, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+          gxp$out.append("\x26lt;\x26gt;");                                           // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L59, C26
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L58, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L63, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+          // MSG 1688594078088357505=&lt;&gt;
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 1688594078088357505L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L67, C5
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L65, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L70, C23
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+          gxp$out.append("\x26lt;");                                                  // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L73, C26
+          // MSG 3218593642290277375=&gt;
+          GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 3218593642290277375L);   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L74, C9
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/AttrVariationsGxp.gxp: L72, C22
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.bundle.AttrVariationsGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.bundle.AttrVariationsGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,112 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+
+public class CallCalleeAGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int id, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle1, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle2, final com.google.gxp.html.HtmlClosure body)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.bundle.CallCalleeBGxp.write(gxp$out, gxp_context, id, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>("oncontextmenu", "onclick", "onkeyup", "unselectable", "title", "onkeypress", "ondblclick", "onmousedown", "style", "onkeydown").addBundle(bundle1).addBundle(bundle2).build(), new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>("onmousemove", "contenteditable", "role", "onmouseup", "tabindex", "align", "dir", "onmouseover", "onmouseout", "onscroll", "lang", "class").addBundle(bundle1).addBundle(bundle2).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("id", "bundle1", "bundle2", "body"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int id, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle1, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle2, final com.google.gxp.html.HtmlClosure body) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.bundle.CallCalleeAGxp.write(gxp$out, gxp_context, id, bundle1, bundle2, body);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int id, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle1, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle2, final com.google.gxp.html.HtmlClosure body)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int id, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle1, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle2, final com.google.gxp.html.HtmlClosure body);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int id, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle1, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle2, final com.google.gxp.html.HtmlClosure body)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.bundle.CallCalleeAGxp.write(gxp$out, gxp_context, id, bundle1, bundle2, body);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int id, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle1, final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> bundle2, final com.google.gxp.html.HtmlClosure body) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, id, bundle1, bundle2, body);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,106 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+
+public class CallCalleeAGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L21, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int, bundle1: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], bundle2: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.bundle.CallCalleeBGxp.write(gxp$out, gxp_context, id, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>("oncontextmenu", "onclick", "onkeyup", "unselectable", "title", "onkeypress", "ondblclick", "onmousedown", "style", "onkeydown").addBundle(bundle1).addBundle(bundle2).build(), new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>("onmousemove", "contenteditable", "role", "onmouseup", "tabindex", "align", "dir", "onmouseover", "onmouseout", "onscroll", "lang", "class").addBundle(bundle1).addBundle(bundle2).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallCalleeAGxp.gxp: L38, C62
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("id", "bundle1", "bundle2", "body"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(id: int, bundle1: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], bundle2: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.bundle.CallCalleeAGxp.write(gxp$out, gxp_context, id, bundle1, bundle2, body);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int, bundle1: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], bundle2: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(id: int, bundle1: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], bundle2: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int, bundle1: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], bundle2: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+      com.google.gxp.compiler.functests.bundle.CallCalleeAGxp.write(gxp$out, gxp_context, id, bundle1, bundle2, body);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(id: int, bundle1: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], bundle2: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, id, bundle1, bundle2, body);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,96 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L20, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L20, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L20, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L20, C67
+
+public class CalleeGxp extends com.google.gxp.base.GxpTemplate {                // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L20, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int, bundle: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("\x3cdiv id\x3d\x22");                                       // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L26, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (id));   // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L26, C1
+    gxp$out.append("\x22");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L26, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, bundle);   // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L26, C1
+    gxp$out.append("\x3e");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L26, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (body));   // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L27, C3
+    gxp$out.append("\x3c/div\x3e");                                             // gxp/test/com/google/gxp/compiler/functests/bundle/CalleeGxp.gxp: L26, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("id", "bundle", "body"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(id: int, bundle: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id, bundle, body);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int, bundle: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(id: int, bundle: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int, bundle: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id, bundle, body);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(id: int, bundle: com.google.gxp.base.GxpAttrBundle[com.google.gxp.html.HtmlClosure], body: com.google.gxp.html.HtmlClosure) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, id, bundle, body);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,228 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+
+public class CallerGxp extends com.google.gxp.base.GxpTemplate {                // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int id)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id, GXP$BUNDLE$0, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L28, C15
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id+1, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("theclass"));   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L32, C18
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id+2, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("onclick", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+          gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, GXP$SIZE_ESTIMATOR$0.record(com.google.gxp.js.JavascriptAppender.INSTANCE.append(GXP$SIZE_ESTIMATOR$0.newStringBuilder(), gxp_context, ("foo"))));   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L36, C11
+          gxp$out.append("); foo();");                                                // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L36, C35
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L40, C18
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("selected", true).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L44, C22
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("selected", true).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L48, C22
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("selected", false).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L52, C22
+      com.google.gxp.compiler.functests.bundle.CallCalleeAGxp.write(gxp$out, gxp_context, id, GXP$BUNDLE$1, GXP$BUNDLE$2, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L56, C20
+      com.google.gxp.compiler.functests.bundle.CalleeWithRequiredAttrGxp.write(gxp$out, gxp_context, GXP$BUNDLE$3);   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("id"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int id) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.bundle.CallerGxp.write(gxp$out, gxp_context, id);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int id)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int id);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int id)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.bundle.CallerGxp.write(gxp$out, gxp_context, id);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int id) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, id);
+        }
+      };
+    }
+  }
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$0 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+      gxp$out.append("theclass");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+    }
+  }, " class=\"theclass\"").build();
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$1 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("onclick", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+      gxp$out.append("foo()");                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+    }
+  }, " onclick=\"foo()\"").build();
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$2 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+      gxp$out.append("theclass");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+    }
+  }, " class=\"theclass\"").build();
+
+  private static final com.google.gxp.base.GxpAttrBundle<com.google.gxp.html.HtmlClosure> GXP$BUNDLE$3 =
+      new com.google.gxp.base.GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().staticAttr("src", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+      gxp$out.append("fluffy.gif");                                               // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+    }
+  }, " src=\"fluffy.gif\"").staticAttr("alt", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+      gxp$out.append("fluffy the cat");                                           // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+    }
+  }, " alt=\"fluffy the cat\"").build();
+
+  private static final com.google.gxp.base.OutputSizeEstimator GXP$SIZE_ESTIMATOR$0 =
+      com.google.gxp.base.OutputSizeEstimator.forCallSite(CallerGxp.class, 0);
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,194 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bundle
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+
+public class CallerGxp extends com.google.gxp.base.GxpTemplate {                // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+          gxp$out.append("theclass");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L26, C44
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L28, C15
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id+1, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("theclass"));   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L30, C56
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L32, C18
+      com.google.gxp.compiler.functests.bundle.CalleeGxp.write(gxp$out, gxp_context, id+2, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("onclick", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+          gxp$out.append("alert(");                                                   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L35, C28
+          com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, com.google.gxp.js.JavascriptAppender.INSTANCE.append(new StringBuilder(), gxp_context, ("foo")));   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L36, C11
+          gxp$out.append("); foo();");                                                // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L36, C35
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L34, C32
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L40, C18
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("selected", true).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L42, C41
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L44, C22
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("selected", true).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L46, C42
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L48, C22
+      com.google.gxp.compiler.functests.bundle.BooleanCalleeGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("selected", false).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L50, C43
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L52, C22
+      com.google.gxp.compiler.functests.bundle.CallCalleeAGxp.write(gxp$out, gxp_context, id, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>("onmousemove", "oncontextmenu", "onmouseup", "onclick", "onkeyup", "onmouseover", "onkeypress", "ondblclick", "onmouseout", "onscroll", "onmousedown", "onkeydown").attr("onclick", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+          gxp$out.append("foo()");                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+        }
+      }).build(), new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>("contenteditable", "role", "tabindex", "unselectable", "align", "dir", "title", "style", "lang", "class").attr("class", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+          gxp$out.append("theclass");                                                 // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C1
+        }
+      }).build(), new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+          gxp$out.append("body");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L54, C65
+        }
+      });
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L56, C20
+      com.google.gxp.compiler.functests.bundle.CalleeWithRequiredAttrGxp.write(gxp$out, gxp_context, new GxpAttrBundle.Builder<com.google.gxp.html.HtmlClosure>().attr("src", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+          gxp$out.append("fluffy.gif");                                               // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+        }
+      }).attr("alt", new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+        @Override
+        protected void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext)  {   // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+          gxp$out.append("fluffy the cat");                                           // gxp/test/com/google/gxp/compiler/functests/bundle/CallerGxp.gxp: L58, C1
+        }
+      }).build());
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("id"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(id: int) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.bundle.CallerGxp.write(gxp$out, gxp_context, id);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(id: int);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, id: int) {
+      com.google.gxp.compiler.functests.bundle.CallerGxp.write(gxp$out, gxp_context, id);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(id: int) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, id);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,120 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.bytes;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L20, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L20, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L20, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L20, C67
+
+public class ByteOutputGxp extends com.google.gxp.base.GxpTemplate {            // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L20, C67
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.List<String> names)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    GXP$CHUNK$0.write(gxp$out);                                                 // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L24, C1
+    {
+      boolean gxp$bool$0 = false;
+      for (final String name : names) {                                         // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L25, C3
+        if (gxp$bool$0) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L25, C3
+        } else {
+          gxp$bool$0 = true;
+        }
+        GXP$CHUNK$1.write(gxp$out);                                             // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L26, C5
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (name));   // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L26, C34
+        gxp$out.append("\">");                                                  // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L26, C34
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (name));   // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L27, C7
+        GXP$CHUNK$2.write(gxp$out);                                             // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L26, C34
+      }
+    }
+    GXP$CHUNK$3.write(gxp$out);                                                 // gxp/test/com/google/gxp/compiler/functests/bytes/ByteOutputGxp.gxp: L24, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("names"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.List<String> names) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.bytes.ByteOutputGxp.write(gxp$out, gxp_context, names);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.List<String> names)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.List<String> names);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final java.util.List<String> names)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.bytes.ByteOutputGxp.write(gxp$out, gxp_context, names);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final java.util.List<String> names) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, names);
+        }
+      };
+    }
+  }
+
+  private static final java.nio.charset.Charset GXP$CHUNK_CHARSET =
+      java.nio.charset.Charset.forName("US-ASCII");
+  private static final com.google.gxp.base.StaticChunk GXP$CHUNK$0 =
+      new com.google.gxp.base.StaticChunk("<div class=\"greetings\">", GXP$CHUNK_CHARSET);
+  private static final com.google.gxp.base.StaticChunk GXP$CHUNK$1 =
+      new com.google.gxp.base.StaticChunk("<p class=\"greeting\">Bonjour, <b title=\"", GXP$CHUNK_CHARSET);
+  private static final com.google.gxp.base.StaticChunk GXP$CHUNK$2 =
+      new com.google.gxp.base.StaticChunk("</b>! Un caf&eacute; cr&egrave;me ?</p>", GXP$CHUNK_CHARSET);
+  private static final com.google.gxp.base.StaticChunk GXP$CHUNK$3 =
+      new com.google.gxp.base.StaticChunk("</div>\n<p class=\"greeting\">Bonjour!</p>", GXP$CHUNK_CHARSET);
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
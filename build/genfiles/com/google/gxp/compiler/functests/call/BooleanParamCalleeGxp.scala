@@ -0,0 +1,94 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L19, C54
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L19, C54
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L19, C54
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L19, C54
+
+public class BooleanParamCalleeGxp extends com.google.gxp.base.GxpTemplate {    // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L19, C54
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, b: boolean) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    if (b) {                                                                    // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L23, C1
+      gxp$out.append("yes");                                                    // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L23, C18
+    } else {
+      gxp$out.append("no");                                                     // gxp/test/com/google/gxp/compiler/functests/call/BooleanParamCalleeGxp.gxp: L25, C12
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("b"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(b: boolean) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.call.BooleanParamCalleeGxp.write(gxp$out, gxp_context, b);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, b: boolean);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(b: boolean);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, b: boolean) {
+      com.google.gxp.compiler.functests.call.BooleanParamCalleeGxp.write(gxp$out, gxp_context, b);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(b: boolean) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, b);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
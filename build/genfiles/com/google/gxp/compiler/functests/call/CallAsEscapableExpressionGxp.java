@@ -0,0 +1,119 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L25, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L25, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L25, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L25, C67
+
+public class CallAsEscapableExpressionGxp extends com.google.gxp.base.GxpTemplate {   // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L25, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String x)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("<div onclick=\"");                                        // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L33, C1
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, gxp_context.getString(com.google.gxp.compiler.functests.call.DoubleParamJavascriptCalleeGxp.getGxpClosure(x, com.google.gxp.compiler.functests.call.DoubleParamJavascriptCalleeGxp.getDefaultY())));   // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L35, C5
+      gxp$out.append("\"></div>\n<div onclick=\"");                             // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L34, C3
+      com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, gxp_context.getString(new AnonymousJavascriptClosure() {                                              // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L42, C5
+        @Override
+        protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L42, C5
+            throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L42, C5
+          {
+            com.google.gxp.compiler.functests.call.DoubleParamJavascriptCalleeGxp.Interface gxp$inst$0 = new DoubleParamJavascriptCalleeGxp.Instance();   // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L42, C5
+            gxp$inst$0.write(gxp$out, gxp_context, x, gxp$inst$0.getDefaultY());      // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L42, C5
+            gxp_context.afterCall(gxp$out);
+          }
+        }
+      }));
+      gxp$out.append("\"></div>");                                              // gxp/test/com/google/gxp/compiler/functests/call/CallAsEscapableExpressionGxp.gxp: L41, C3
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private abstract static class AnonymousJavascriptClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.js.JavascriptClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String x) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.call.CallAsEscapableExpressionGxp.write(gxp$out, gxp_context, x);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String x)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String x);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String x)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.call.CallAsEscapableExpressionGxp.write(gxp$out, gxp_context, x);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String x) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, x);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
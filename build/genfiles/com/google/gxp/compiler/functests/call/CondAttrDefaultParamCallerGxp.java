@@ -0,0 +1,101 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp: L21, C60
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp: L21, C60
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp: L21, C60
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp: L21, C60
+
+public class CondAttrDefaultParamCallerGxp extends com.google.gxp.base.GxpTemplate {   // gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp: L21, C60
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int some_value)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.write(gxp$out, gxp_context, (some_value > 7 ? some_value : com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.getDefaultI()));   // gxp/test/com/google/gxp/compiler/functests/call/CondAttrDefaultParamCallerGxp.gxp: L25, C1
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("some_value"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final int some_value) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.call.CondAttrDefaultParamCallerGxp.write(gxp$out, gxp_context, some_value);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int some_value)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int some_value);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final int some_value)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.call.CondAttrDefaultParamCallerGxp.write(gxp$out, gxp_context, some_value);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final int some_value) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, some_value);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
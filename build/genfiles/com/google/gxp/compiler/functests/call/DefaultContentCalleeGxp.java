@@ -0,0 +1,123 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L20, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L20, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L20, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L20, C67
+
+public class DefaultContentCalleeGxp extends com.google.gxp.base.GxpTemplate {   // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L20, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.html.HtmlClosure x)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<h1>");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L28, C1
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (x));   // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L28, C5
+    gxp$out.append("</h1>");                                                    // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L28, C1
+  }
+
+  private static final com.google.gxp.html.HtmlClosure GXP_DEFAULT$x = new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L24, C5
+    @Override
+    protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L24, C5
+        throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L24, C5
+      gxp$out.append("<i>");                                                      // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L24, C5
+      // MSG 2452784850319794420=Untitled
+      GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2452784850319794420L);   // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L24, C8
+      gxp$out.append("</i>");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultContentCalleeGxp.gxp: L24, C5
+    }
+  };
+
+  public static com.google.gxp.html.HtmlClosure getDefaultX() {
+    return GXP_DEFAULT$x;
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.html.HtmlClosure x) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.call.DefaultContentCalleeGxp.write(gxp$out, gxp_context, x);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.html.HtmlClosure x)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.html.HtmlClosure x);
+
+    com.google.gxp.html.HtmlClosure getDefaultX();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final com.google.gxp.html.HtmlClosure x)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.call.DefaultContentCalleeGxp.write(gxp$out, gxp_context, x);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final com.google.gxp.html.HtmlClosure x) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, x);
+        }
+      };
+    }
+
+    public com.google.gxp.html.HtmlClosure getDefaultX() {
+      return com.google.gxp.compiler.functests.call.DefaultContentCalleeGxp.getDefaultX();
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,122 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L25, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L25, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L25, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L25, C67
+
+public class DefaultParamCallerGxp extends com.google.gxp.base.GxpTemplate {    // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L25, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.write(gxp$out, gxp_context, com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.getDefaultI());   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L28, C1
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L28, C31
+      com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.write(gxp$out, gxp_context, 8);   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L29, C1
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L29, C41
+      {
+        com.google.gxp.compiler.functests.call.IDefaultParamCalleeGxp gxp$inst$0 = new DefaultParamCalleeGxp.Instance();   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L30, C1
+        gxp$inst$0.write(gxp$out, gxp_context, gxp$inst$0.getDefaultI());       // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L30, C1
+        gxp_context.afterCall(gxp$out);
+      }
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L33, C57
+      com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.write(gxp$out, gxp_context, com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.getDefaultI());   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L35, C1
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L35, C29
+      com.google.gxp.compiler.functests.call.DefaultParamCalleeGxp.write(gxp$out, gxp_context, 8);   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L36, C1
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\n");                                                     // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L36, C39
+      {
+        com.google.gxp.compiler.functests.call.IDefaultParamCalleeGxp gxp$inst$1 = new DefaultParamCalleeGxp.Instance();   // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L37, C1
+        gxp$inst$1.write(gxp$out, gxp_context, gxp$inst$1.getDefaultI());       // gxp/test/com/google/gxp/compiler/functests/call/DefaultParamCallerGxp.gxp: L37, C1
+        gxp_context.afterCall(gxp$out);
+      }
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.call.DefaultParamCallerGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.call.DefaultParamCallerGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
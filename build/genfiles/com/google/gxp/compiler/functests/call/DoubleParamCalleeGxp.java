@@ -0,0 +1,122 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L22, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L22, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L22, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L22, C67
+
+public class DoubleParamCalleeGxp extends com.google.gxp.base.GxpTemplate {     // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String x, final String y)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("X: ");                                                      // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L22, C67
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (x));   // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L27, C4
+    gxp$out.append("\nY: ");                                                    // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L27, C25
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (y));   // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L28, C4
+  }
+
+  private static final String GXP_DEFAULT$x = "default x";                      // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L24, C1
+
+  public static String getDefaultX() {
+    return GXP_DEFAULT$x;
+  }
+
+  private static final String GXP_DEFAULT$y = "default y";                      // gxp/test/com/google/gxp/compiler/functests/call/DoubleParamCalleeGxp.gxp: L25, C1
+
+  public static String getDefaultY() {
+    return GXP_DEFAULT$y;
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("x", "y"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String x, final String y) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.call.DoubleParamCalleeGxp.write(gxp$out, gxp_context, x, y);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String x, final String y)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String x, final String y);
+
+    String getDefaultX();
+
+    String getDefaultY();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String x, final String y)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.call.DoubleParamCalleeGxp.write(gxp$out, gxp_context, x, y);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String x, final String y) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, x, y);
+        }
+      };
+    }
+
+    public String getDefaultX() {
+      return com.google.gxp.compiler.functests.call.DoubleParamCalleeGxp.getDefaultX();
+    }
+
+    public String getDefaultY() {
+      return com.google.gxp.compiler.functests.call.DoubleParamCalleeGxp.getDefaultY();
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,31 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+
+public interface ICtorParamCalleeGxp {                                          // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+  void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String s)   // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+      throws java.io.IOException;                                               // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+  com.google.gxp.html.HtmlClosure getGxpClosure(final String s);                // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+  public String constructS(String s);                                           // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L24, C1
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,30 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+
+trait ICtorParamCalleeGxp {                                                     // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+  def write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: String): Unit   // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+  def getGxpClosure(s: String): com.google.gxp.html.HtmlClosure                 // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+  public String constructS(String s);                                           // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L24, C1
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/call/ICtorParamCalleeGxp.gxp: L22, C68
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
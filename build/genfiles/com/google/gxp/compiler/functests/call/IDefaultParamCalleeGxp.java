@@ -0,0 +1,31 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+
+public interface IDefaultParamCalleeGxp {                                       // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+  void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final Integer i)   // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+      throws java.io.IOException;                                               // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+  com.google.gxp.html.HtmlClosure getGxpClosure(final Integer i);               // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+  Integer getDefaultI();                                                        // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L21, C1
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,30 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.call
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+
+trait IDefaultParamCalleeGxp {                                                  // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+  def write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, i: Integer): Unit   // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+  def getGxpClosure(i: Integer): com.google.gxp.html.HtmlClosure                // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+  def getDefaultI(): Integer                                                    // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L21, C1
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/call/IDefaultParamCalleeGxp.gxp: L19, C55
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,110 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.closures
+
+import com.google.gxp.base._
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L22, C41
+import com.google.gxp.testing.TestLocalizable                                   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L24, C1
+
+public class EvalInPlaintextGxp extends com.google.gxp.base.GxpTemplate {       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L22, C41
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("text\n");                                                   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L22, C41
+    // MSG 2222416180565721570=\u00bb
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2222416180565721570L);   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L27, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L27, C27
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, ("string"));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L28, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L28, C29
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (1));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L29, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L29, C42
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (2));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L30, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L30, C43
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (3));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L31, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L31, C22
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (4));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L32, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L32, C42
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (5.5));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L33, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L33, C41
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (6.5));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L34, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L34, C41
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, ('c'));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L35, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L35, C24
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (new TestLocalizable()));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L37, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L37, C55
+    com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, (new MyPlaintextClosure()));   // gxp/test/com/google/gxp/compiler/functests/closures/EvalInPlaintextGxp.gxp: L38, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingPlaintextClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.text.PlaintextClosure {
+  }
+
+  public static com.google.gxp.text.PlaintextClosure getGxpClosure() {
+    return new TunnelingPlaintextClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.closures.EvalInPlaintextGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.text.PlaintextClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.closures.EvalInPlaintextGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.text.PlaintextClosure getGxpClosure() {
+      return new TunnelingPlaintextClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
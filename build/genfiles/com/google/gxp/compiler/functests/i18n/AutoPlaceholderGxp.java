@@ -0,0 +1,125 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.i18n;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L23, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L23, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L23, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L23, C67
+
+public class AutoPlaceholderGxp extends com.google.gxp.base.GxpTemplate {       // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L23, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String the_name)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    // MSG 3658232836259839877=hello %1
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 3658232836259839877L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L28, C9
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L28, C9
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L28, C9
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (the_name));   // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L28, C9
+      }
+    });
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L29, C11
+    // MSG 7142506042502521903=goodbye %1
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 7142506042502521903L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L32, C11
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L32, C11
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L32, C11
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (the_name));   // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L32, C11
+      }
+    });
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L33, C11
+    // MSG 2435423054742820389=%1 is my name, my name is %1.
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2435423054742820389L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L36, C3
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L36, C3
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L36, C3
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (the_name));   // gxp/test/com/google/gxp/compiler/functests/i18n/AutoPlaceholderGxp.gxp: L36, C3
+      }
+    });
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("the_name"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String the_name) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.i18n.AutoPlaceholderGxp.write(gxp$out, gxp_context, the_name);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String the_name)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String the_name);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String the_name)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.i18n.AutoPlaceholderGxp.write(gxp$out, gxp_context, the_name);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String the_name) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, the_name);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,118 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.i18n;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L25, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L25, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L25, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L25, C67
+
+public class LanguageNamedMsgGxp extends com.google.gxp.base.GxpTemplate {      // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L25, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+  public static final com.google.gxp.base.MessageReference JAVA                 // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L33, C1
+      = new com.google.gxp.base.MessageReference(GXP$MESSAGE_SOURCE, 3653705019508435143L);
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String name)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    // MSG 2201301404702559248=<b>hello, world!</b>
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2201301404702559248L);   // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L29, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L31, C11
+    // MSG 3653705019508435143=<b>hello, %1</b>
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 3653705019508435143L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L34, C51
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L34, C51
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L34, C51
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (name));   // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L34, C51
+      }
+    });
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L35, C11
+    // MSG 1972490869540746499=<b>cool</b>
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 1972490869540746499L);   // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L37, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L39, C11
+    // MSG 2590126245040773408=<b>cold</b>
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2590126245040773408L);   // gxp/test/com/google/gxp/compiler/functests/i18n/LanguageNamedMsgGxp.gxp: L41, C1
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("name"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String name) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.i18n.LanguageNamedMsgGxp.write(gxp$out, gxp_context, name);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String name)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String name);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String name)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.i18n.LanguageNamedMsgGxp.write(gxp$out, gxp_context, name);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String name) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, name);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,110 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.i18n;
+
+import com.google.gxp.base.*;
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L21, C41
+
+public class MsgInPlaintextGxp extends com.google.gxp.base.GxpTemplate {        // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L21, C41
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    // MSG 4371624306695046749=hello world
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 4371624306695046749L);   // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L23, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L23, C31
+    // MSG 4158596514695600727=funny chars: < > ' "
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 4158596514695600727L);   // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L25, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L28, C11
+    // MSG 2919472633448177394=funny chars in eval: %1
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 2919472633448177394L, new AnonymousPlaintextClosure() {                                               // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L32, C43
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L32, C43
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L32, C43
+        com.google.gxp.text.PlaintextAppender.INSTANCE.append(gxp$out, gxp_context, ("< > ' \""));   // gxp/test/com/google/gxp/compiler/functests/i18n/MsgInPlaintextGxp.gxp: L32, C43
+      }
+    });
+  }
+
+  private abstract static class AnonymousPlaintextClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.text.PlaintextClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingPlaintextClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.text.PlaintextClosure {
+  }
+
+  public static com.google.gxp.text.PlaintextClosure getGxpClosure() {
+    return new TunnelingPlaintextClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.i18n.MsgInPlaintextGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.text.PlaintextClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.i18n.MsgInPlaintextGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.text.PlaintextClosure getGxpClosure() {
+      return new TunnelingPlaintextClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,136 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.i18n;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L23, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L23, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L23, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L23, C67
+
+public class PhAttributeGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L23, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String link)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    // MSG 8880977970869339708=click <a href="%1" class="foo" name="%2">here</a>
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 8880977970869339708L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (link));   // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+      }
+    }, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("bar"));   // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L28, C9
+      }
+    });
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L29, C11
+    // MSG 8271698387117069127=foo <br%1> bar
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 8271698387117069127L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L32, C7
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L32, C7
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L32, C7
+        if (gxp_context.isForcingXmlSyntax()) {                                     // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L32, C7
+          gxp$out.append(" /");                                                     // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L32, C7
+        }
+      }
+    });
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L33, C11
+    // MSG 3838056793681050459=<a name="foo"></a>
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 3838056793681050459L);   // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L35, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L37, C11
+    // MSG 7532086103518006732=%1
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 7532086103518006732L, new AnonymousHtmlClosure() {                                                    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L40, C3
+      @Override
+      protected void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)    // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L40, C3
+          throws java.io.IOException {                                              // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L40, C3
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, ("bob"));   // gxp/test/com/google/gxp/compiler/functests/i18n/PhAttributeGxp.gxp: L40, C3
+      }
+    });
+  }
+
+  private abstract static class AnonymousHtmlClosure
+      extends GxpTemplate.AnonymousGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("link"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(final String link) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.i18n.PhAttributeGxp.write(gxp$out, gxp_context, link);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String link)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String link);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String link)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.i18n.PhAttributeGxp.write(gxp$out, gxp_context, link);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final String link) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, link);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
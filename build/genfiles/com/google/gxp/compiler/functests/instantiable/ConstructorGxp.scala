@@ -0,0 +1,100 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.instantiable
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L22, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L22, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L22, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L22, C67
+
+public class ConstructorGxp extends com.google.gxp.base.GxpTemplate {           // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s1: String, s2: String) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (s1));   // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L33, C1
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L33, C23
+    com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (s2));   // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L34, C1
+  }
+
+  private static final String GXP_DEFAULT$s1 = "default";                       // gxp/test/com/google/gxp/compiler/functests/instantiable/ConstructorGxp.gxp: L28, C3
+
+  public static String getDefaultS1() {
+    return GXP_DEFAULT$s1;
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("s1", "s2"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(s1: String, s2: String) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.instantiable.ConstructorGxp.write(gxp$out, gxp_context, s1, s2);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface extends GetGxpClosureInterface, WriteInterface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s2: String);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(s2: String);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+    private final String s1;
+
+    public Instance(final String s1) {
+      this.s1 = s1;
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s2: String) {
+      com.google.gxp.compiler.functests.instantiable.ConstructorGxp.write(gxp$out, gxp_context, s1, s2);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(s2: String) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, s2);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
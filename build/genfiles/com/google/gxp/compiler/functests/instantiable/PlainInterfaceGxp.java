@@ -0,0 +1,32 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.instantiable;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import java.util.List;                                                          // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L21, C1
+
+public interface PlainInterfaceGxp<T extends Object> {                          // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+  void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<T> s, final Long x, final boolean b)   // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+      throws java.io.IOException, java.lang.NullPointerException;               // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+  com.google.gxp.html.HtmlClosure getGxpClosure(final List<T> s, final Long x, final boolean b);   // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+  Long getDefaultX();                                                           // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L28, C1
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,31 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.instantiable
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+import java.util.List                                                           // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L21, C1
+
+trait PlainInterfaceGxp[T <: Object] {                                          // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+  def write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, s: List[T], x: Long, b: boolean): Unit   // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+  def getGxpClosure(s: List[T], x: Long, b: boolean): com.google.gxp.html.HtmlClosure   // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+  def getDefaultX(): Long                                                       // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L28, C1
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/instantiable/PlainInterfaceGxp.gxp: L19, C66
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,30 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.instantiable;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+
+public interface StringParamInterfaceGxp {                                      // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+  void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final String param1, final int param2)   // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+      throws java.io.IOException;                                               // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+  com.google.gxp.html.HtmlClosure getGxpClosure(final String param1, final int param2);   // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,29 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.instantiable
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+
+trait StringParamInterfaceGxp {                                                 // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+  def write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, param1: String, param2: int): Unit   // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+  def getGxpClosure(param1: String, param2: int): com.google.gxp.html.HtmlClosure   // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+}                                                                               // gxp/test/com/google/gxp/compiler/functests/instantiable/StringParamInterfaceGxp.gxp: L21, C68
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,120 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.instantiable;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L22, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L22, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L22, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L22, C67
+import java.util.List;                                                          // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L24, C1
+
+public class TypeParamGxp extends com.google.gxp.base.GxpTemplate {             // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L22, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static <E extends Object> void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<E> l1, final List<E> l2)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    {
+      boolean gxp$bool$0 = false;
+      for (final E v1 : l1) {                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L37, C1
+        if (gxp$bool$0) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L37, C1
+        } else {
+          gxp$bool$0 = true;
+        }
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (v1));   // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L38, C3
+      }
+    }
+    gxp$out.append("\n");                                                       // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L39, C12
+    {
+      boolean gxp$bool$1 = false;
+      for (final E v2 : l2) {                                                   // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L41, C1
+        if (gxp$bool$1) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L41, C1
+        } else {
+          gxp$bool$1 = true;
+        }
+        com.google.gxp.html.HtmlAppender.INSTANCE.append(gxp$out, gxp_context, (v2));   // gxp/test/com/google/gxp/compiler/functests/instantiable/TypeParamGxp.gxp: L42, C3
+      }
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("l1", "l2"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static <E extends Object> com.google.gxp.html.HtmlClosure getGxpClosure(final List<E> l1, final List<E> l2) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.instantiable.TypeParamGxp.write(gxp$out, gxp_context, l1, l2);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface<E extends Object> extends TypeParamInterface<E> {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<E> l2)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final List<E> l2);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance<E extends Object> implements Interface<E> {
+    private final List<E> l1;
+
+    public Instance(final List<E> l1) {
+      this.l1 = l1;
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context, final List<E> l2)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.instantiable.TypeParamGxp.write(gxp$out, gxp_context, l1, l2);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(final List<E> l2) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context, l2);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
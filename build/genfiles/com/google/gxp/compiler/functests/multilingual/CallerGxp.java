@@ -0,0 +1,117 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.multilingual;
+
+import com.google.gxp.base.*;
+import com.google.gxp.css.*;                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L25, C67
+import com.google.gxp.html.*;                                                   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L25, C67
+import com.google.gxp.js.*;                                                     // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L25, C67
+import com.google.gxp.text.*;                                                   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L25, C67
+
+public class CallerGxp extends com.google.gxp.base.GxpTemplate {                // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L25, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp_context.enterTemplate();
+    try {
+      gxp$out.append("You are running: ");                                      // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L25, C67
+      com.google.gxp.compiler.functests.multilingual.BasicCalleeGxp.write(gxp$out, gxp_context, "Java");   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L27, C18
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\nIs this C++? ");                                        // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L30, C59
+      com.google.gxp.compiler.functests.multilingual.BasicCalleeGxp.write(gxp$out, gxp_context, "No");   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L32, C14
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\nIs this Java? ");                                       // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L32, C65
+      com.google.gxp.compiler.functests.multilingual.BasicCalleeGxp.write(gxp$out, gxp_context, "Yes");   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L33, C15
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\nIs this JavaScript? ");                                 // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L33, C67
+      com.google.gxp.compiler.functests.multilingual.BasicCalleeGxp.write(gxp$out, gxp_context, "No");   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L34, C21
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\nIs this Scala? ");                                      // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L34, C71
+      com.google.gxp.compiler.functests.multilingual.BasicCalleeGxp.write(gxp$out, gxp_context, "No");   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L35, C16
+      gxp_context.afterCall(gxp$out);
+      gxp$out.append("\nYou are running: ");                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L35, C69
+      com.google.gxp.compiler.functests.multilingual.CalleeWithDefaultGxp.write(gxp$out, gxp_context, com.google.gxp.compiler.functests.multilingual.CalleeWithDefaultGxp.getDefaultS());   // gxp/test/com/google/gxp/compiler/functests/multilingual/CallerGxp.gxp: L37, C18
+      gxp_context.afterCall(gxp$out);
+    } finally {
+      gxp_context.exitTemplate();
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.compiler.functests.multilingual.CallerGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.compiler.functests.multilingual.CallerGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,97 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.multilingual
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L22, C69
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L22, C69
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L22, C69
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L22, C69
+
+public class IfElseGxp extends com.google.gxp.base.GxpTemplate {                // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L22, C69
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("You are running:\n");                                       // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L22, C69
+    if (false) {                                                                // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L25, C1
+      gxp$out.append("C++");                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L25, C38
+    } else if (false) {                                                         // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L27, C1
+      gxp$out.append("Java");                                                   // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L27, C42
+    } else if (false) {                                                         // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L29, C1
+      gxp$out.append("JavaScript");                                             // gxp/test/com/google/gxp/compiler/functests/multilingual/IfElseGxp.gxp: L29, C40
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure() {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.multilingual.IfElseGxp.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+      com.google.gxp.compiler.functests.multilingual.IfElseGxp.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure() {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,114 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp
+*/
+
+package com.google.gxp.compiler.functests.multilingual
+
+import com.google.gxp.base._
+import com.google.gxp.css._                                                     // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L23, C67
+import com.google.gxp.html._                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L23, C67
+import com.google.gxp.js._                                                      // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L23, C67
+import com.google.gxp.text._                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L23, C67
+import com.google.gxp.compiler.functests.IntIterator                            // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L25, C1
+import com.google.gxp.compiler.functests.IntIterable                            // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L26, C1
+
+public class LoopGxp extends com.google.gxp.base.GxpTemplate {                  // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L23, C67
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.compiler.functests.messages";
+
+  public static void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, count: int) {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    {
+      boolean gxp$bool$0 = false;
+      for (final int i : new IntIterable(count+3)) {                            // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L30, C1
+        if (gxp$bool$0) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L30, C1
+        } else {
+          gxp$bool$0 = true;
+        }
+        gxp$out.append("*");                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L32, C72
+      }
+    }
+    gxp$out.append(" | ");                                                      // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L34, C12
+    {
+      boolean gxp$bool$1 = false;
+      for (final int i : new IntIterable(count+3)) {                            // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L34, C15
+        if (gxp$bool$1) {
+          gxp$out.append(" ");                                                  // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L34, C15
+        } else {
+          gxp$bool$1 = true;
+        }
+        gxp$out.append("*");                                                    // gxp/test/com/google/gxp/compiler/functests/multilingual/LoopGxp.gxp: L36, C86
+      }
+    }
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.unmodifiableList(java.util.Arrays.asList("count"));
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingHtmlClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.html.HtmlClosure {
+  }
+
+  public static com.google.gxp.html.HtmlClosure getGxpClosure(count: int) {
+    return new TunnelingHtmlClosure() {
+      public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+        com.google.gxp.compiler.functests.multilingual.LoopGxp.write(gxp$out, gxp_context, count);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, count: int);
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(count: int);
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext, count: int) {
+      com.google.gxp.compiler.functests.multilingual.LoopGxp.write(gxp$out, gxp_context, count);
+    }
+
+    public com.google.gxp.html.HtmlClosure getGxpClosure(count: int) {
+      return new TunnelingHtmlClosure() {
+        public void writeImpl(gxp$out: java.lang.Appendable, gxp_context: com.google.gxp.base.GxpContext) {
+          Instance.this.write(gxp$out, gxp_context, count);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,97 @@
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
+/*
+ This file generated from:
+
+ java/test/com/google/gxp/rss/HelloWorld.gxp
+*/
+
+package com.google.gxp.rss;
+
+import com.google.gxp.base.*;
+import com.google.gxp.rss.*;                                                    // java/test/com/google/gxp/rss/HelloWorld.gxp: L20, C50
+
+public class HelloWorld extends com.google.gxp.base.GxpTemplate {               // java/test/com/google/gxp/rss/HelloWorld.gxp: L20, C50
+
+  private static final String GXP$MESSAGE_SOURCE = "com.google.gxp.rss.messages";
+
+  public static void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+      throws java.io.IOException {
+    final java.util.Locale gxp_locale = gxp_context.getLocale();
+    gxp$out.append("<rss>");                                                    // java/test/com/google/gxp/rss/HelloWorld.gxp: L21, C1
+    // MSG 1535593947772868645=Hello
+    GxpTemplate.writeMessage(gxp$out, gxp_context, GXP$MESSAGE_SOURCE, 1535593947772868645L);   // java/test/com/google/gxp/rss/HelloWorld.gxp: L22, C3
+    gxp$out.append(" ");                                                        // java/test/com/google/gxp/rss/HelloWorld.gxp: L22, C27
+    com.google.gxp.rss.RssAppender.INSTANCE.append(gxp$out, gxp_context, ("World"));   // java/test/com/google/gxp/rss/HelloWorld.gxp: L22, C28
+    gxp$out.append("</rss>");                                                   // java/test/com/google/gxp/rss/HelloWorld.gxp: L21, C1
+  }
+
+  private static final java.util.List<String> GXP$ARGLIST = java.util.Collections.emptyList();
+
+  /**
+   * @return the names of the user defined arguments to this template.
+   * This is sort of like a mapping between the positional and named
+   * parameters. The first two parameters (common to all templates) are
+   * not included in this list. (BTW: No, Java reflection does not
+   * provide this information)
+   */
+  public static java.util.List<String> getArgList() {
+    return GXP$ARGLIST;
+  }
+
+  private abstract static class TunnelingRssClosure
+      extends GxpTemplate.TunnelingGxpClosure
+      implements com.google.gxp.rss.RssClosure {
+  }
+
+  public static com.google.gxp.rss.RssClosure getGxpClosure() {
+    return new TunnelingRssClosure() {
+      public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+          throws java.io.IOException {
+        com.google.gxp.rss.HelloWorld.write(gxp$out, gxp_context);
+      }
+    };
+  }
+
+  /**
+   * Interface that defines a strategy for writing this GXP
+   */
+  public interface Interface {
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException;
+
+    public com.google.gxp.rss.RssClosure getGxpClosure();
+  }
+
+  /**
+   * Instantiable instance of this GXP
+   */
+  public static class Instance implements Interface {
+
+    public Instance() {
+    }
+
+    public void write(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+        throws java.io.IOException {
+      com.google.gxp.rss.HelloWorld.write(gxp$out, gxp_context);
+    }
+
+    public com.google.gxp.rss.RssClosure getGxpClosure() {
+      return new TunnelingRssClosure() {
+        public void writeImpl(final java.lang.Appendable gxp$out, final com.google.gxp.base.GxpContext gxp_context)
+            throws java.io.IOException {
+          Instance.this.write(gxp$out, gxp_context);
+        }
+      };
+    }
+  }
+}
+
+// ===================================================================
+//
+//   WARNING: GENERATED CODE! DO NOT EDIT!
+//
+// ===================================================================
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.zip.Deflater;
+
+/**
+ * An {@code Appendable} that encodes its output into bytes. Characters
+ * appended to a {@code ByteSink} are encoded in its {@code Charset} (much like
+ * an {@link java.io.OutputStreamWriter}), while {@link StaticChunk}s are
+ * copied through without being encoded again.
+ *
+ * <p>Typical usage pattern is:
+ * <pre>
+ * ByteSink out = ByteSink.forOutputStream(stream, charset);
+ * MyGxp.write(out, GxpContext.builder(locale).setCharset(charset).build());
+ * out.flush();
+ * </pre>
+ *
+ * The {@code Charset} of the sink should match the {@code Charset} of the
+ * {@link GxpContext} used for rendering; the standard appenders then escape
+ * any character the {@code Charset} can't encode, so nothing is lost in
+ * encoding. Output is buffered, so {@link #flush()} must be called once
+ * rendering is complete.
+ *
+ * <p>For US-ASCII and ISO-8859-1 characters are written straight into the
+ * byte buffer as they are appended, without going through a
+ * {@code CharsetEncoder}.
+ *
+ * <p>A sink created by {@link #forChannel} never copies static chunks: it
+ * writes them from shared, read-only direct buffers using gathering writes.
+ */
+public abstract class ByteSink implements Appendable, Flushable {
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Charset charset;
+  private final CharsetEncoder encoder;
+  private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+  private final ByteBuffer byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+  // For single byte charsets whose characters map directly to bytes: the
+  // first unencodable character (otherwise 0), and the byte written for
+  // unencodable characters.
+  private final int directLimit;
+  private final byte replacement;
+  private boolean replacedHighSurrogate = false;
+
+  ByteSink(Charset charset) {
+    this.charset = Preconditions.checkNotNull(charset);
+    this.encoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    String name = charset.name();
+    this.directLimit = name.equals("US-ASCII") ? 0x80 : name.equals("ISO-8859-1") ? 0x100 : 0;
+    this.replacement = encoder.replacement()[0];
+  }
+
+  /**
+   * Creates a {@code ByteSink} that writes to an {@code OutputStream}.
+   */
+  public static ByteSink forOutputStream(final OutputStream out, Charset charset) {
+    Preconditions.checkNotNull(out);
+    return new ByteSink(charset) {
+      @Override
+      void writeBytes(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      void flushBytes() throws IOException {
+        out.flush();
+      }
+    };
+  }
+
+  /**
+   * Creates a {@code ByteSink} that writes to a {@code WritableByteChannel},
+   * which must be in blocking mode. Static chunks are written straight from
+   * shared direct buffers, while everything else is encoded into a pooled
+   * scratch buffer. The buffers are handed to the channel in batches, with a
+   * single gathering write if it is a {@code GatheringByteChannel}. The
+   * scratch buffer goes back to the pool whenever the sink is flushed.
+   */
+  public static ByteSink forChannel(WritableByteChannel channel, Charset charset) {
+    return new ChannelByteSink(channel, charset);
+  }
+
+  /**
+   * Creates a {@code ByteSink} that writes a gzip stream to an
+   * {@code OutputStream}. Large static chunks are compressed once and then
+   * copied into every stream they are written to. {@link GzipByteSink#finish}
+   * must be called once rendering is complete.
+   */
+  public static GzipByteSink forGzip(OutputStream out, Charset charset) {
+    return new GzipByteSink(out, charset, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Creates a {@code ByteSink} that writes into a {@code ByteBuffer}. Writes
+   * that would overflow the buffer fail with an {@code IOException}.
+   */
+  public static ByteSink forByteBuffer(final ByteBuffer buffer, Charset charset) {
+    Preconditions.checkNotNull(buffer);
+    return new ByteSink(charset) {
+      @Override
+      void writeBytes(byte[] b, int off, int len) throws IOException {
+        if (buffer.remaining() < len) {
+          throw new IOException("ByteBuffer overflow: need " + len
+                                + " bytes, " + buffer.remaining() + " remaining");
+        }
+        buffer.put(b, off, len);
+      }
+
+      @Override
+      void flushBytes() {
+      }
+    };
+  }
+
+  /**
+   * @return the {@code Charset} this sink encodes characters in.
+   */
+  public Charset getCharset() {
+    return charset;
+  }
+
+  public ByteSink append(char c) throws IOException {
+    if (directLimit > 0) {
+      if (!byteBuffer.hasRemaining()) {
+        drainBytes();
+      }
+      putDirect(c);
+    } else {
+      if (!charBuffer.hasRemaining()) {
+        encodeChars(false);
+      }
+      charBuffer.put(c);
+    }
+    return this;
+  }
+
+  public ByteSink append(CharSequence csq) throws IOException {
+    if (csq == null) {
+      csq = "null";
+    }
+    return append(csq, 0, csq.length());
+  }
+
+  public ByteSink append(CharSequence csq, int start, int end) throws IOException {
+    if (csq == null) {
+      csq = "null";
+    }
+    if (directLimit > 0) {
+      while (start < end) {
+        if (!byteBuffer.hasRemaining()) {
+          drainBytes();
+        }
+        int n = Math.min(end - start, byteBuffer.remaining());
+        for (int i = start; i < start + n; i++) {
+          putDirect(csq.charAt(i));
+        }
+        start += n;
+      }
+      return this;
+    }
+    while (start < end) {
+      if (!charBuffer.hasRemaining()) {
+        encodeChars(false);
+      }
+      int n = Math.min(end - start, charBuffer.remaining());
+      if (csq instanceof String) {
+        charBuffer.put((String) csq, start, start + n);
+      } else {
+        for (int i = start; i < start + n; i++) {
+          charBuffer.put(csq.charAt(i));
+        }
+      }
+      start += n;
+    }
+    return this;
+  }
+
+  /**
+   * Puts {@code c} into the byte buffer, which must have room for it, in a
+   * single byte charset. Unencodable characters are replaced as a
+   * {@code CharsetEncoder} would replace them: one replacement byte per
+   * character, with surrogate pairs counting as a single character.
+   */
+  private void putDirect(char c) {
+    if (c < directLimit) {
+      byteBuffer.put((byte) c);
+      replacedHighSurrogate = false;
+    } else if (replacedHighSurrogate && Character.isLowSurrogate(c)) {
+      // already replaced along with its high surrogate
+      replacedHighSurrogate = false;
+    } else {
+      byteBuffer.put(replacement);
+      replacedHighSurrogate = Character.isHighSurrogate(c);
+    }
+  }
+
+  /**
+   * Writes the pre-encoded bytes of a {@code StaticChunk}. Any characters
+   * appended before the chunk are encoded first so that ordering is
+   * preserved. The bytes are buffered along with everything else, so
+   * writing a chunk doesn't by itself write to the underlying output.
+   */
+  public void write(StaticChunk chunk) throws IOException {
+    encodeChars(true);
+    replacedHighSurrogate = false;
+    writeChunk(chunk);
+  }
+
+  /**
+   * Encodes any buffered characters and flushes the underlying output.
+   */
+  public void flush() throws IOException {
+    encodeChars(false);
+    drainBytes();
+    flushBytes();
+  }
+
+  /**
+   * Encodes the contents of {@code charBuffer} into the byte buffer, draining
+   * it whenever it fills up. When {@code endOfInput} is false a trailing high
+   * surrogate is kept back in case its low surrogate is appended next.
+   */
+  private void encodeChars(boolean endOfInput) throws IOException {
+    charBuffer.flip();
+    while (encoder.encode(charBuffer, byteBuffer, endOfInput).isOverflow()) {
+      drainBytes();
+    }
+    if (endOfInput) {
+      while (encoder.flush(byteBuffer) == CoderResult.OVERFLOW) {
+        drainBytes();
+      }
+      encoder.reset();
+    }
+    charBuffer.compact();
+  }
+
+  /**
+   * Passes the contents of the byte buffer on to {@link #writeBytes}.
+   * Subclasses that write chunks without going through the byte buffer call
+   * this first so that ordering is preserved.
+   */
+  final void drainBytes() throws IOException {
+    byteBuffer.flip();
+    if (byteBuffer.hasRemaining()) {
+      writeBytes(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                 byteBuffer.remaining());
+    }
+    byteBuffer.clear();
+  }
+
+  /**
+   * Writes already encoded bytes to the underlying output.
+   */
+  abstract void writeBytes(byte[] b, int off, int len) throws IOException;
+
+  /**
+   * Writes the bytes of {@code chunk} into the byte buffer, draining it as it
+   * fills up. Chunks too large to be worth copying are written straight to
+   * the underlying output once the buffer has been drained. Subclasses that
+   * can write the chunk's shared buffer without copying override this.
+   */
+  void writeChunk(StaticChunk chunk) throws IOException {
+    byte[] bytes = chunk.getBytes(charset);
+    if (bytes.length > byteBuffer.remaining()) {
+      drainBytes();
+      if (bytes.length > byteBuffer.capacity()) {
+        writeBytes(bytes, 0, bytes.length);
+        return;
+      }
+    }
+    byteBuffer.put(bytes);
+  }
+
+  /**
+   * Flushes the underlying output.
+   */
+  abstract void flushBytes() throws IOException;
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link ByteSink} that writes to a {@code WritableByteChannel}. Output is
+ * collected as a list of buffers: static chunks are added as views of their
+ * shared direct buffers, and everything else is copied into a scratch buffer
+ * borrowed from a pool. The list is written with one gathering write when it
+ * fills up, when the scratch buffer fills up, or when the sink is flushed.
+ */
+final class ChannelByteSink extends ByteSink {
+  static final int SCRATCH_SIZE = 64 * 1024;
+  static final int MAX_PENDING_BUFFERS = 64;
+
+  // Direct scratch buffers not currently in use by any sink.
+  private static final Queue<ByteBuffer> SCRATCH_POOL = new ConcurrentLinkedQueue<ByteBuffer>();
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer[] pending = new ByteBuffer[MAX_PENDING_BUFFERS];
+  private int pendingCount = 0;
+
+  // null while nothing is buffered, in which case it belongs to the pool.
+  private ByteBuffer scratch = null;
+  // start, in scratch, of the bytes not yet added to pending
+  private int segmentStart = 0;
+
+  ChannelByteSink(WritableByteChannel channel, Charset charset) {
+    super(charset);
+    this.channel = Preconditions.checkNotNull(channel);
+  }
+
+  @Override
+  void writeBytes(byte[] b, int off, int len) throws IOException {
+    if (scratch == null) {
+      scratch = borrowScratch();
+    }
+    if (scratch.remaining() < len) {
+      writePending();
+      if (len > scratch.capacity()) {
+        // b may be reused as soon as we return, so write it right away
+        addPending(ByteBuffer.wrap(b, off, len));
+        writePendingBuffers();
+        return;
+      }
+    }
+    scratch.put(b, off, len);
+  }
+
+  @Override
+  void writeChunk(StaticChunk chunk) throws IOException {
+    drainBytes();
+    addPending(chunk.getBuffer(getCharset()));
+  }
+
+  @Override
+  void flushBytes() throws IOException {
+    writePending();
+    if (scratch != null) {
+      SCRATCH_POOL.offer(scratch);
+      scratch = null;
+    }
+  }
+
+  private static ByteBuffer borrowScratch() {
+    ByteBuffer buffer = SCRATCH_POOL.poll();
+    return (buffer != null) ? buffer : ByteBuffer.allocateDirect(SCRATCH_SIZE);
+  }
+
+  /**
+   * Adds any bytes in the scratch buffer that haven't been added yet to the
+   * pending buffers.
+   */
+  private void closeSegment() throws IOException {
+    if (scratch != null && scratch.position() > segmentStart) {
+      ByteBuffer segment = scratch.duplicate();
+      segment.position(segmentStart);
+      segment.limit(scratch.position());
+      segmentStart = scratch.position();
+      addBuffer(segment);
+    }
+  }
+
+  private void addPending(ByteBuffer buffer) throws IOException {
+    closeSegment();
+    addBuffer(buffer);
+  }
+
+  private void addBuffer(ByteBuffer buffer) throws IOException {
+    if (pendingCount == pending.length) {
+      writePendingBuffers();
+    }
+    pending[pendingCount++] = buffer;
+  }
+
+  /**
+   * Writes everything buffered so far to the channel.
+   */
+  private void writePending() throws IOException {
+    closeSegment();
+    writePendingBuffers();
+    // nothing refers to the scratch buffer any more
+    if (scratch != null) {
+      scratch.clear();
+      segmentStart = 0;
+    }
+  }
+
+  private void writePendingBuffers() throws IOException {
+    if (pendingCount == 0) {
+      return;
+    }
+    if (channel instanceof GatheringByteChannel) {
+      GatheringByteChannel gathering = (GatheringByteChannel) channel;
+      int first = 0;
+      while (first < pendingCount) {
+        gathering.write(pending, first, pendingCount - first);
+        while (first < pendingCount && !pending[first].hasRemaining()) {
+          first++;
+        }
+      }
+    } else {
+      for (int i = 0; i < pendingCount; i++) {
+        while (pending[i].hasRemaining()) {
+          channel.write(pending[i]);
+        }
+      }
+    }
+    for (int i = 0; i < pendingCount; i++) {
+      pending[i] = null;
+    }
+    pendingCount = 0;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Utility functions for writing numbers to an {@code Appendable} without
+ * creating a {@code String} for each one. The output is identical to
+ * {@code out.append(String.valueOf(value))}.
+ *
+ * <p>{@code StringBuilder}s and {@link GxpWriter}s are written to directly;
+ * other {@code Appendable}s are written to from a per-thread scratch buffer.
+ */
+public final class DigitWriter {
+  private DigitWriter() {}
+
+  /**
+   * Long enough for any {@code long}, {@code float} or {@code double}.
+   */
+  static final int MAX_LENGTH = 32;
+
+  private static final class Scratch {
+    final char[] chars = new char[MAX_LENGTH];
+    final StringBuilder sb = new StringBuilder(MAX_LENGTH);
+  }
+
+  private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<Scratch>() {
+    @Override
+    protected Scratch initialValue() {
+      return new Scratch();
+    }
+  };
+
+  /**
+   * Appends {@code value} to {@code out}, formatted as by
+   * {@link String#valueOf(int)}.
+   */
+  public static void writeInt(Appendable out, int value) throws IOException {
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(value);
+    } else {
+      writeLong(out, value);
+    }
+  }
+
+  /**
+   * Appends {@code value} to {@code out}, formatted as by
+   * {@link String#valueOf(long)}.
+   */
+  public static void writeLong(Appendable out, long value) throws IOException {
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(value);
+    } else if (out instanceof GxpWriter) {
+      ((GxpWriter) out).appendDigits(value);
+    } else {
+      char[] chars = SCRATCH.get().chars;
+      writeChars(out, chars, getChars(value, chars, 0));
+    }
+  }
+
+  /**
+   * Appends {@code value} to {@code out}, formatted as by
+   * {@link String#valueOf(float)}.
+   */
+  public static void writeFloat(Appendable out, float value) throws IOException {
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(value);
+    } else {
+      Scratch scratch = SCRATCH.get();
+      scratch.sb.setLength(0);
+      scratch.sb.append(value);
+      writeFormatted(out, scratch);
+    }
+  }
+
+  /**
+   * Appends {@code value} to {@code out}, formatted as by
+   * {@link String#valueOf(double)}.
+   */
+  public static void writeDouble(Appendable out, double value) throws IOException {
+    if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(value);
+    } else {
+      Scratch scratch = SCRATCH.get();
+      scratch.sb.setLength(0);
+      scratch.sb.append(value);
+      writeFormatted(out, scratch);
+    }
+  }
+
+  /**
+   * Writes the contents of the scratch {@code StringBuilder} to {@code out}.
+   * The {@code StringBuilder} itself is never handed to {@code out} since it
+   * will be reused.
+   */
+  private static void writeFormatted(Appendable out, Scratch scratch) throws IOException {
+    StringBuilder sb = scratch.sb;
+    int len = sb.length();
+    if (out instanceof GxpWriter) {
+      ((GxpWriter) out).append(sb, 0, len);
+    } else {
+      sb.getChars(0, len, scratch.chars, 0);
+      writeChars(out, scratch.chars, len);
+    }
+  }
+
+  private static void writeChars(Appendable out, char[] chars, int len) throws IOException {
+    if (out instanceof Writer) {
+      ((Writer) out).write(chars, 0, len);
+    } else {
+      for (int i = 0; i < len; i++) {
+        out.append(chars[i]);
+      }
+    }
+  }
+
+  /**
+   * Writes the decimal representation of {@code value} into {@code dest},
+   * which must have room for {@link #MAX_LENGTH} characters starting at
+   * {@code pos}.
+   *
+   * @return the position in {@code dest} following the last digit.
+   */
+  static int getChars(long value, char[] dest, int pos) {
+    if (value == Long.MIN_VALUE) {
+      // can't be negated
+      String s = "-9223372036854775808";
+      s.getChars(0, s.length(), dest, pos);
+      return pos + s.length();
+    }
+    if (value < 0) {
+      dest[pos++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long n = value; n >= 10; n /= 10) {
+      digits++;
+    }
+    int end = pos + digits;
+    for (int i = end - 1; i >= pos; i--) {
+      dest[i] = (char) ('0' + (int) (value % 10));
+      value /= 10;
+    }
+    return end;
+  }
+}
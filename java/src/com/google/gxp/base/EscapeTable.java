@@ -0,0 +1,466 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.CharEscaper;
+import com.google.common.base.CharEscapers;
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A precomputed, per-character replacement table equivalent to a
+ * {@code CharEscaper}. Characters below the table size are looked up
+ * directly; characters at or above it are either left alone or escaped
+ * using a fixed numeric format.
+ *
+ * <p>Unlike {@code CharEscaper}, escaping with an {@code EscapeTable} scans
+ * for runs of characters that don't need escaping and appends each run with
+ * a single call. Nothing is allocated, and input that needs no escaping at all
+ * is passed to the {@code Appendable} unchanged.
+ *
+ * <p>Tables for the standard escapers are derived from the corresponding
+ * {@link CharEscapers} when this class is initialized, so their output is
+ * identical.
+ *
+ * <p>{@link #forCharset} returns a table that additionally escapes characters
+ * the output {@code Charset} can't encode, using numeric character
+ * references (or <code>&#92;uxxxx</code> escapes for JavaScript). The escaped
+ * output can then be encoded without any characters being lost, in the same
+ * pass as the markup escaping.
+ */
+public final class EscapeTable {
+  /**
+   * The longest replacement produced by any table.
+   */
+  static final int MAX_REPLACEMENT_LENGTH = 16;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /**
+   * How characters beyond the end of the table are escaped.
+   */
+  private enum Overflow {
+    NONE,
+    DECIMAL_ENTITY,
+    JS_UNICODE;
+  }
+
+  public static final EscapeTable XML =
+      new EscapeTable(CharEscapers.xmlEscaper(), 0x80, Overflow.NONE);
+
+  public static final EscapeTable HTML =
+      new EscapeTable(CharEscapers.htmlEscaper(), 0x2667, Overflow.DECIMAL_ENTITY);
+
+  public static final EscapeTable ASCII_HTML =
+      new EscapeTable(CharEscapers.asciiHtmlEscaper(), 0x80, Overflow.NONE);
+
+  public static final EscapeTable JAVASCRIPT =
+      new EscapeTable(CharEscapers.javascriptEscaper(), 0x100, Overflow.JS_UNICODE);
+
+  private static final int CHAR_COUNT = Character.MAX_VALUE + 1;
+  private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+
+  private final String[] replacements;
+  private final Overflow overflow;
+
+  // escaped[c] is true iff c needs escaping. Kept separately from
+  // replacements so the scanning loop touches as little memory as possible.
+  private final boolean[] escaped;
+  private final boolean escapesOverflow;
+
+  // For tables returned by forCharset: the table they were derived from, the
+  // Charset, and whether surrogate pairs are escaped as a single code point.
+  private final EscapeTable base;
+  private final Charset charset;
+  private final boolean combinesSurrogates;
+
+  private final ConcurrentMap<Charset, EscapeTable> charsetTables =
+      new ConcurrentHashMap<Charset, EscapeTable>();
+  private volatile EscapeTable lastCharsetTable;
+
+  private EscapeTable(CharEscaper escaper, int size, Overflow overflow) {
+    this.replacements = new String[size];
+    this.escaped = new boolean[size];
+    this.overflow = overflow;
+    this.escapesOverflow = (overflow != Overflow.NONE);
+    this.base = this;
+    this.charset = null;
+    this.combinesSurrogates = false;
+    for (int i = 0; i < size; i++) {
+      String c = String.valueOf((char) i);
+      String replacement = escaper.escape(c);
+      if (!replacement.equals(c)) {
+        Preconditions.checkArgument(replacement.length() <= MAX_REPLACEMENT_LENGTH);
+        replacements[i] = replacement;
+        escaped[i] = true;
+      }
+    }
+  }
+
+  /**
+   * Creates a table that escapes everything {@code base} does, plus the
+   * characters marked in {@code unencodable}.
+   */
+  private EscapeTable(EscapeTable base, Charset charset, boolean[] unencodable) {
+    this.replacements = base.replacements;
+    this.overflow = (base.overflow == Overflow.NONE) ? Overflow.DECIMAL_ENTITY : base.overflow;
+    this.escaped = new boolean[CHAR_COUNT];
+    this.escapesOverflow = base.escapesOverflow;
+    this.base = base;
+    this.charset = charset;
+    this.combinesSurrogates = (overflow == Overflow.DECIMAL_ENTITY)
+        && unencodable[Character.MIN_HIGH_SURROGATE];
+    for (int c = 0; c < CHAR_COUNT; c++) {
+      escaped[c] = base.needsEscaping((char) c) || unencodable[c];
+    }
+  }
+
+  /**
+   * Creates an {@code EscapeTable} equivalent to a {@code CharEscaper} that
+   * only escapes characters below {@code size}.
+   */
+  public static EscapeTable of(CharEscaper escaper, int size) {
+    return new EscapeTable(Preconditions.checkNotNull(escaper), size, Overflow.NONE);
+  }
+
+  /**
+   * @return the {@code EscapeTable} equivalent to the specified
+   * {@code CharEscaper}, or null if there isn't one.
+   */
+  public static EscapeTable forEscaper(CharEscaper escaper) {
+    if (escaper == CharEscapers.htmlEscaper()) {
+      return HTML;
+    } else if (escaper == CharEscapers.xmlEscaper()) {
+      return XML;
+    } else if (escaper == CharEscapers.asciiHtmlEscaper()) {
+      return ASCII_HTML;
+    } else if (escaper == CharEscapers.javascriptEscaper()) {
+      return JAVASCRIPT;
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Returns a table that escapes everything this table does, and also
+   * escapes characters that {@code charset} can't encode. Those are written
+   * as decimal numeric character references (for example {@code &#233;}),
+   * or as <code>&#92;uxxxx</code> escapes by tables that already use that
+   * format.
+   * Surrogate pairs are escaped as a single character reference, and lone
+   * surrogates as a reference to U+FFFD.
+   *
+   * <p>If {@code charset} can encode every character (as is the case for the
+   * UTF encodings) this table is returned unchanged. Tables are cached, so
+   * calling this for every render is cheap.
+   */
+  public EscapeTable forCharset(Charset charset) {
+    Preconditions.checkNotNull(charset);
+    if (charset == this.charset) {
+      return this;
+    }
+    if (base != this) {
+      return base.forCharset(charset);
+    }
+    EscapeTable last = lastCharsetTable;
+    if (last != null && last.charset.equals(charset)) {
+      return last;
+    }
+    EscapeTable table = charsetTables.get(charset);
+    if (table == null) {
+      boolean[] unencodable = getUnencodable(charset);
+      table = (unencodable == null) ? this : new EscapeTable(this, charset, unencodable);
+      EscapeTable existing = charsetTables.putIfAbsent(charset, table);
+      if (existing != null) {
+        table = existing;
+      }
+    }
+    if (table != this) {
+      lastCharsetTable = table;
+    }
+    return table;
+  }
+
+  private static final ConcurrentMap<Charset, boolean[]> UNENCODABLE =
+      new ConcurrentHashMap<Charset, boolean[]>();
+  private static final boolean[] ALL_ENCODABLE = new boolean[0];
+
+  /**
+   * @return an array indexed by {@code char} that is true for the characters
+   * {@code charset} can't encode, or null if it can encode everything.
+   * Surrogates are marked unencodable if supplementary characters are.
+   */
+  private static boolean[] getUnencodable(Charset charset) {
+    boolean[] unencodable = UNENCODABLE.get(charset);
+    if (unencodable == null) {
+      unencodable = computeUnencodable(charset);
+      UNENCODABLE.putIfAbsent(charset, unencodable);
+    }
+    return (unencodable == ALL_ENCODABLE) ? null : unencodable;
+  }
+
+  private static boolean[] computeUnencodable(Charset charset) {
+    Preconditions.checkArgument(charset.canEncode(), "Can't encode %s", charset);
+    String name = charset.name();
+    if (name.startsWith("UTF-")) {
+      return ALL_ENCODABLE;
+    }
+    boolean[] unencodable = new boolean[CHAR_COUNT];
+    int limit = name.equals("US-ASCII") ? 0x80 : name.equals("ISO-8859-1") ? 0x100 : 0;
+    if (limit > 0) {
+      for (int c = limit; c < CHAR_COUNT; c++) {
+        unencodable[c] = true;
+      }
+      return unencodable;
+    }
+    CharsetEncoder encoder = charset.newEncoder();
+    boolean surrogatesUnencodable = !encoder.canEncode("\ud800\udc00");
+    boolean any = false;
+    for (int c = 0; c < CHAR_COUNT; c++) {
+      boolean b = Character.isSurrogate((char) c)
+          ? surrogatesUnencodable
+          : !encoder.canEncode((char) c);
+      unencodable[c] = b;
+      any |= b;
+    }
+    return any ? unencodable : ALL_ENCODABLE;
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Escaping
+  //////////////////////////////////////////////////////////////////////
+
+  /**
+   * Appends {@code csq} to {@code out}, escaped.
+   */
+  public <A extends Appendable> A escape(A out, CharSequence csq) throws IOException {
+    return escape(out, csq, 0, csq.length());
+  }
+
+  /**
+   * Appends the subsequence of {@code csq} from {@code start} (inclusive) to
+   * {@code end} (exclusive) to {@code out}, escaped.
+   */
+  public <A extends Appendable> A escape(A out, CharSequence csq, int start, int end)
+      throws IOException {
+    if (out instanceof GxpWriter) {
+      ((GxpWriter) out).appendEscaped(csq, start, end, this);
+      return out;
+    }
+    int i = indexOfEscape(csq, start, end);
+    if (i == end) {
+      // the common case: nothing to escape
+      if (start == 0 && end == csq.length()) {
+        out.append(csq);
+      } else {
+        out.append(csq, start, end);
+      }
+      return out;
+    }
+    int runStart = start;
+    while (i < end) {
+      if (runStart < i) {
+        out.append(csq, runStart, i);
+      }
+      int codePoint = codePointAt(csq, i, end);
+      appendReplacement(out, codePoint);
+      runStart = i + Character.charCount(codePoint);
+      i = indexOfEscape(csq, runStart, end);
+    }
+    if (runStart < end) {
+      out.append(csq, runStart, end);
+    }
+    return out;
+  }
+
+  /**
+   * Appends {@code c} to {@code out}, escaped.
+   */
+  public <A extends Appendable> A escape(A out, char c) throws IOException {
+    if (out instanceof GxpWriter) {
+      ((GxpWriter) out).appendEscaped(c, this);
+    } else if (needsEscaping(c)) {
+      appendReplacement(out, codePointOf(c));
+    } else {
+      out.append(c);
+    }
+    return out;
+  }
+
+  /**
+   * @return an {@code Appendable} that escapes everything appended to it
+   * before passing it on to {@code out}.
+   */
+  public Appendable escape(final Appendable out) {
+    Preconditions.checkNotNull(out);
+    return new Appendable() {
+      public Appendable append(char c) throws IOException {
+        escape(out, c);
+        return this;
+      }
+
+      public Appendable append(CharSequence csq) throws IOException {
+        if (csq == null) {
+          csq = "null";
+        }
+        escape(out, csq, 0, csq.length());
+        return this;
+      }
+
+      public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) {
+          csq = "null";
+        }
+        escape(out, csq, start, end);
+        return this;
+      }
+    };
+  }
+
+  private void appendReplacement(Appendable out, int c) throws IOException {
+    if (c < replacements.length && replacements[c] != null) {
+      out.append(replacements[c]);
+      return;
+    }
+    switch (overflow) {
+      case DECIMAL_ENTITY:
+        out.append('&').append('#');
+        for (int divisor = decimalDivisor(c); divisor > 0; divisor /= 10) {
+          out.append((char) ('0' + (c / divisor) % 10));
+        }
+        out.append(';');
+        break;
+      case JS_UNICODE:
+        out.append('\\').append('u');
+        for (int shift = 12; shift >= 0; shift -= 4) {
+          out.append(HEX_DIGITS[(c >> shift) & 0xf]);
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("No replacement for " + c);
+    }
+  }
+
+  /**
+   * @return the largest power of ten that is no greater than {@code n}
+   * (or 1 if {@code n} is 0).
+   */
+  private static int decimalDivisor(int n) {
+    int divisor = 1;
+    while (divisor <= n / 10) {
+      divisor *= 10;
+    }
+    return divisor;
+  }
+
+  /**
+   * @return the code point to escape for the character at {@code csq[i]},
+   * which must need escaping. This is just that character unless this table
+   * combines surrogate pairs.
+   */
+  int codePointAt(CharSequence csq, int i, int end) {
+    char c = csq.charAt(i);
+    if (combinesSurrogates && Character.isHighSurrogate(c) && i + 1 < end) {
+      char next = csq.charAt(i + 1);
+      if (Character.isLowSurrogate(next)) {
+        return Character.toCodePoint(c, next);
+      }
+    }
+    return codePointOf(c);
+  }
+
+  /**
+   * @return the code point to escape for {@code c} on its own.
+   */
+  int codePointOf(char c) {
+    return (combinesSurrogates && Character.isSurrogate(c)) ? REPLACEMENT_CHARACTER : c;
+  }
+
+  /**
+   * @return true if {@code c} needs to be escaped.
+   */
+  boolean needsEscaping(char c) {
+    return (c < escaped.length) ? escaped[c] : escapesOverflow;
+  }
+
+  /**
+   * @return the index of the first character in {@code csq} between
+   * {@code start} (inclusive) and {@code end} (exclusive) that needs to be
+   * escaped, or {@code end} if there isn't one.
+   */
+  int indexOfEscape(CharSequence csq, int start, int end) {
+    boolean[] escaped = this.escaped;
+    int size = escaped.length;
+    if (csq instanceof String) {
+      String s = (String) csq;
+      for (int i = start; i < end; i++) {
+        char c = s.charAt(i);
+        if ((c < size) ? escaped[c] : escapesOverflow) {
+          return i;
+        }
+      }
+    } else {
+      for (int i = start; i < end; i++) {
+        char c = csq.charAt(i);
+        if ((c < size) ? escaped[c] : escapesOverflow) {
+          return i;
+        }
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Writes the replacement for {@code c}, a code point returned by {@link
+   * #codePointAt} or {@link #codePointOf}, into {@code dest}, which must have
+   * room for {@link #MAX_REPLACEMENT_LENGTH} characters starting at
+   * {@code pos}.
+   *
+   * @return the position in {@code dest} following the replacement.
+   */
+  int writeReplacement(int c, char[] dest, int pos) {
+    if (c < replacements.length && replacements[c] != null) {
+      String r = replacements[c];
+      r.getChars(0, r.length(), dest, pos);
+      return pos + r.length();
+    }
+    switch (overflow) {
+      case DECIMAL_ENTITY:
+        dest[pos++] = '&';
+        dest[pos++] = '#';
+        for (int divisor = decimalDivisor(c); divisor > 0; divisor /= 10) {
+          dest[pos++] = (char) ('0' + (c / divisor) % 10);
+        }
+        dest[pos++] = ';';
+        return pos;
+      case JS_UNICODE:
+        dest[pos++] = '\\';
+        dest[pos++] = 'u';
+        for (int shift = 12; shift >= 0; shift -= 4) {
+          dest[pos++] = HEX_DIGITS[(c >> shift) & 0xf];
+        }
+        return pos;
+      default:
+        throw new IllegalArgumentException("No replacement for " + c);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A process-wide cache of decoded file contents. This is what backs
+ * {@link GxpClosures#fromFile}: a file is memory-mapped and decoded once,
+ * and later writes copy the decoded text. Each write checks the file's
+ * modification time and length, and reloads it if either has changed.
+ *
+ * <p>The cache is bounded by the total size of the decoded text it holds
+ * (two bytes per char), and evicts the least recently used files first.
+ * Files that would take up more than the whole cache are decoded on every
+ * write instead of being cached.
+ *
+ * <p>This class is safe to use from multiple threads. Files are decoded
+ * outside the lock, so two threads that miss on the same file at the same
+ * time will both read it.
+ */
+public final class FileContentCache {
+  /**
+   * The size, in bytes, of the cache returned by {@link #getInstance} unless
+   * {@link #setInstance} is called.
+   */
+  public static final long DEFAULT_MAX_BYTES = 32L << 20;
+
+  private static volatile FileContentCache instance = new FileContentCache(DEFAULT_MAX_BYTES);
+
+  /**
+   * Returns the cache used by {@link GxpClosures#fromFile}.
+   */
+  public static FileContentCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets the cache used by {@link GxpClosures#fromFile}.
+   */
+  public static void setInstance(FileContentCache cache) {
+    instance = Preconditions.checkNotNull(cache);
+  }
+
+  private final long maxBytes;
+
+  // guarded by this
+  private final Map<List<Object>, Entry> entries =
+      new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true);
+  private long size = 0;
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long evictionCount = 0;
+
+  public FileContentCache(long maxBytes) {
+    Preconditions.checkArgument(maxBytes >= 0, "maxBytes must not be negative: %s", maxBytes);
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Writes the contents of {@code file}, decoded with {@code charset}, to
+   * {@code out}. Malformed and unmappable input is replaced, just as an
+   * {@code InputStreamReader} would.
+   */
+  public void write(Appendable out, File file, Charset charset) throws IOException {
+    out.append(get(file, charset));
+  }
+
+  /**
+   * Returns the contents of {@code file}, decoded with {@code charset}.
+   */
+  String get(File file, Charset charset) throws IOException {
+    List<Object> key = Arrays.<Object>asList(file.getAbsoluteFile(), charset);
+    // Stat before reading, so that a change made while we read is noticed
+    // next time.
+    long lastModified = file.lastModified();
+    long length = file.length();
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+        hitCount++;
+        return entry.text;
+      }
+      missCount++;
+    }
+
+    String text = read(file, charset);
+    long weight = 2L * text.length();
+    if (weight <= maxBytes) {
+      synchronized (this) {
+        Entry old = entries.put(key, new Entry(text, lastModified, length));
+        if (old != null) {
+          size -= old.weight();
+        }
+        size += weight;
+        Iterator<Entry> it = entries.values().iterator();
+        while (size > maxBytes) {
+          Entry eldest = it.next();
+          size -= eldest.weight();
+          it.remove();
+          evictionCount++;
+        }
+      }
+    }
+    return text;
+  }
+
+  private static String read(File file, Charset charset) throws IOException {
+    FileInputStream in = new FileInputStream(file);
+    try {
+      FileChannel channel = in.getChannel();
+      MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      CharBuffer chars = charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE)
+          .decode(bytes);
+      return chars.toString();
+    } finally {
+      in.close();
+    }
+  }
+
+  /**
+   * @return the number of writes that used cached contents.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of writes that had to read the file, because it was
+   * not cached or had changed.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the number of files dropped to make room for others.
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * @return the total size, in bytes, of the cached contents.
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /**
+   * Removes all entries from this cache.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    size = 0;
+  }
+
+  private static final class Entry {
+    final String text;
+    final long lastModified;
+    final long length;
+
+    Entry(String text, long lastModified, long length) {
+      this.text = text;
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+
+    long weight() {
+      return 2L * text.length();
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Says when partially rendered output should be flushed to the client, so
+ * that the top of a long page can be sent while the rest is still being
+ * rendered. Output can be flushed:
+ * <ul>
+ * <li>every time a given number of characters has been written. A {@link
+ * GxpWriter} created with the policy checks this as it writes. A {@code
+ * GxpContext} with the policy checks it after each template call and at
+ * {@code <gxp:flush/>} points, as long as the output is a {@code
+ * GxpWriter}; other {@code Appendable}s can't say how much has been written
+ * to them.
+ * <li>whenever a template call made by the top level template returns.
+ * <li>at explicit {@code <gxp:flush/>} points in templates.
+ * </ul>
+ * Flushing only ever happens if the {@code Appendable} being written to is
+ * {@code Flushable}. Typical usage pattern is:
+ * <pre>
+ * FlushPolicy policy = FlushPolicy.builder().flushAtTopLevelCalls().build();
+ * GxpContext gc = GxpContext.builder(myLocale).setFlushPolicy(policy).build();
+ * GxpWriter out = new GxpWriter(response.getWriter(), policy);
+ * MyGxp.write(out, gc);
+ * out.flush();
+ * </pre>
+ *
+ * <p>{@code FlushPolicy} objects are immutable.
+ */
+public final class FlushPolicy {
+  /**
+   * The default policy: output is never flushed during a render.
+   */
+  public static final FlushPolicy NEVER = new Builder().build();
+
+  private final int threshold;
+  private final boolean flushingAtTopLevelCalls;
+  private final boolean flushingAtExplicitPoints;
+
+  /**
+   * Builder for {@code FlushPolicy}.
+   */
+  public static final class Builder {
+    private int threshold = 0;
+    private boolean flushingAtTopLevelCalls = false;
+    private boolean flushingAtExplicitPoints = false;
+
+    private Builder() {}
+
+    /**
+     * Builds a {@code FlushPolicy} based on the state of this builder.
+     */
+    public FlushPolicy build() {
+      return new FlushPolicy(this);
+    }
+
+    /**
+     * Flush each time at least {@code chars} characters have been written
+     * since the last flush.
+     */
+    public Builder flushEvery(int chars) {
+      Preconditions.checkArgument(chars > 0, "chars must be positive: %s", chars);
+      this.threshold = chars;
+      return this;
+    }
+
+    /**
+     * Flush whenever a call made by the top level template returns.
+     */
+    public Builder flushAtTopLevelCalls() {
+      this.flushingAtTopLevelCalls = true;
+      return this;
+    }
+
+    /**
+     * Flush at {@code <gxp:flush/>} elements.
+     */
+    public Builder flushAtExplicitPoints() {
+      this.flushingAtExplicitPoints = true;
+      return this;
+    }
+  }
+
+  /**
+   * Creates a {@code FlushPolicy.Builder}.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private FlushPolicy(Builder builder) {
+    this.threshold = builder.threshold;
+    this.flushingAtTopLevelCalls = builder.flushingAtTopLevelCalls;
+    this.flushingAtExplicitPoints = builder.flushingAtExplicitPoints;
+  }
+
+  /**
+   * @return the number of characters after which output is flushed, or 0 if
+   * output is not flushed based on its size.
+   */
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * @return true if output is flushed whenever a call made by the top level
+   * template returns.
+   */
+  public boolean isFlushingAtTopLevelCalls() {
+    return flushingAtTopLevelCalls;
+  }
+
+  /**
+   * @return true if output is flushed at {@code <gxp:flush/>} elements.
+   */
+  public boolean isFlushingAtExplicitPoints() {
+    return flushingAtExplicitPoints;
+  }
+
+  /**
+   * @return true if this policy never flushes output.
+   */
+  public boolean isNever() {
+    return threshold == 0 && !flushingAtTopLevelCalls && !flushingAtExplicitPoints;
+  }
+
+  /**
+   * Flushes {@code out} if it is {@code Flushable}.
+   */
+  static void flush(Appendable out) throws IOException {
+    if (out instanceof Flushable) {
+      ((Flushable) out).flush();
+    }
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    return (that instanceof FlushPolicy) && sameSettings((FlushPolicy) that);
+  }
+
+  private boolean sameSettings(FlushPolicy that) {
+    return threshold == that.threshold
+        && flushingAtTopLevelCalls == that.flushingAtTopLevelCalls
+        && flushingAtExplicitPoints == that.flushingAtExplicitPoints;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(threshold, flushingAtTopLevelCalls, flushingAtExplicitPoints);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+        .add("threshold", threshold)
+        .add("flushingAtTopLevelCalls", flushingAtTopLevelCalls)
+        .add("flushingAtExplicitPoints", flushingAtExplicitPoints)
+        .toString();
+  }
+}
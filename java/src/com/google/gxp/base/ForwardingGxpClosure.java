@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+
+/**
+ * A {@code GxpClosure} that renders another closure unchanged. Subclasses
+ * are how a plain {@code GxpClosure} is given a content type (such as
+ * {@code HtmlClosure}) without changing what it writes, which lets
+ * {@link GxpClosures#concat} look through them when it flattens its
+ * arguments.
+ */
+public abstract class ForwardingGxpClosure implements GxpClosure {
+  private final GxpClosure delegate;
+
+  protected ForwardingGxpClosure(GxpClosure delegate) {
+    this.delegate = Preconditions.checkNotNull(delegate);
+  }
+
+  /**
+   * @return the closure this one renders, with any other
+   * {@code ForwardingGxpClosure}s around it removed.
+   */
+  final GxpClosure unwrap() {
+    GxpClosure closure = delegate;
+    while (closure instanceof ForwardingGxpClosure) {
+      closure = ((ForwardingGxpClosure) closure).delegate;
+    }
+    return closure;
+  }
+
+  public final void write(Appendable out, GxpContext gxpContext) throws IOException {
+    delegate.write(out, gxpContext);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of rendered template fragments. This is the runtime support for
+ * {@code <gxp:cache>}: the first time a fragment is rendered for a given key
+ * its output is stored, and later renders with an equal key write the stored
+ * output instead of running the fragment again.
+ *
+ * <p>Caches are grouped into named regions. {@link #forRegion} returns the
+ * cache for a region, creating a size-bounded LRU cache of
+ * {@value #DEFAULT_MAX_ENTRIES} entries the first time a region is used. A
+ * different implementation can be plugged in with {@link #setRegion} before
+ * any template using the region is rendered. Subclasses only provide storage;
+ * hit, miss and eviction counting is done here. Templates declared
+ * {@code pure} memoize their output in the region named after the template's
+ * fully qualified name.
+ *
+ * <p>The key used for storage always includes the fragment (each
+ * {@code <gxp:cache>} element is distinct), the user supplied key (which
+ * should have value based {@code equals} and {@code hashCode}), and the
+ * parts of the {@link GxpContext} that can change the output: the locale,
+ * {@link GxpContext#isForcingXmlSyntax} and the charset.
+ *
+ * <p>Implementations must be safe to use from multiple threads. Two threads
+ * that miss on the same key at the same time will both render the fragment.
+ */
+public abstract class FragmentCache {
+  /**
+   * The number of entries in the caches created by {@link #forRegion}.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  private static final ConcurrentMap<String, FragmentCache> REGIONS =
+      new ConcurrentHashMap<String, FragmentCache>();
+
+  /**
+   * Returns the cache for the named region, creating a default cache if no
+   * cache has been set for it.
+   */
+  public static FragmentCache forRegion(String region) {
+    FragmentCache cache = REGIONS.get(region);
+    if (cache == null) {
+      cache = newLruCache(DEFAULT_MAX_ENTRIES);
+      FragmentCache existing = REGIONS.putIfAbsent(region, cache);
+      if (existing != null) {
+        cache = existing;
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Sets the cache used for the named region.
+   */
+  public static void setRegion(String region, FragmentCache cache) {
+    REGIONS.put(Preconditions.checkNotNull(region), Preconditions.checkNotNull(cache));
+  }
+
+  /**
+   * Creates a size-bounded cache that evicts the least recently used
+   * entries first.
+   */
+  public static FragmentCache newLruCache(int maxEntries) {
+    return new LruFragmentCache(maxEntries);
+  }
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  /**
+   * Writes {@code content} to {@code out}, using the cached output for
+   * {@code key} if there is any. Called by generated code.
+   *
+   * @param ttlSeconds how long the output may be cached for, or 0 to cache
+   * it until it is evicted.
+   */
+  public final void write(Appendable out, GxpContext gxpContext, Object key,
+                          long ttlSeconds, GxpClosure content) throws IOException {
+    List<Object> fullKey = Arrays.<Object>asList(content.getClass(), key,
+                                                 gxpContext.getLocale(),
+                                                 gxpContext.isForcingXmlSyntax(),
+                                                 gxpContext.getCharset());
+    String fragment = get(fullKey);
+    if (fragment != null) {
+      hitCount.incrementAndGet();
+    } else {
+      missCount.incrementAndGet();
+      OutputSizeEstimator estimator = OutputSizeEstimator.forClass(content.getClass());
+      StringBuilder sb = estimator.newStringBuilder();
+      content.write(sb, gxpContext);
+      fragment = estimator.record(sb).toString();
+      put(fullKey, fragment, (ttlSeconds > 0) ? ttlSeconds * 1000000000L : 0);
+    }
+    out.append(fragment);
+  }
+
+  /**
+   * @return the number of renders that used cached output.
+   */
+  public final long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the number of renders that had to render the fragment.
+   */
+  public final long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return the number of entries removed because the cache was full or
+   * because they expired.
+   */
+  public final long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * Subclasses call this whenever they drop an entry that has not been
+   * removed by {@link #clear}.
+   */
+  protected final void recordEviction() {
+    evictionCount.incrementAndGet();
+  }
+
+  /**
+   * Returns the fragment stored for {@code key}, or null if there is none
+   * or it has expired.
+   */
+  protected abstract String get(Object key);
+
+  /**
+   * Stores {@code fragment} for {@code key}.
+   *
+   * @param ttlNanos how long the entry may be used for, or 0 if it does not
+   * expire.
+   */
+  protected abstract void put(Object key, String fragment, long ttlNanos);
+
+  /**
+   * Removes all entries from this cache.
+   */
+  public abstract void clear();
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Waits for the {@code Future} parameters of a template. Generated code
+ * creates one with {@link GxpContext#prefetch} on entry to a template's
+ * {@code write} method, and calls {@link #await} with a future just before
+ * each statement that evaluates it, so futures the template doesn't end up
+ * using are never waited for. The time spent waiting for N futures is then
+ * that of the slowest one rather than the sum of them all.
+ *
+ * <p>{@code FutureTask}s that have not been started are started on the
+ * context's parallel executor (if it has one) when the prefetch is created,
+ * and are run inline by {@code await} otherwise. A {@code FutureTask} runs at
+ * most once, so this is harmless for tasks that some other thread has already
+ * started.
+ *
+ * <p>If the context has a future timeout all of the waiting must be done
+ * within that time of the call to {@code write}.
+ */
+public final class FuturePrefetch {
+  private final boolean hasDeadline;
+  private final long deadlineNanos;
+
+  FuturePrefetch(GxpContext gxpContext, Future<?>... futures) {
+    long timeoutNanos = gxpContext.getFutureTimeoutNanos();
+    this.hasDeadline = (timeoutNanos >= 0);
+    this.deadlineNanos = hasDeadline ? System.nanoTime() + timeoutNanos : 0;
+
+    Executor executor = gxpContext.getParallelExecutor();
+    if (executor != null) {
+      for (Future<?> future : futures) {
+        if (future instanceof FutureTask && !future.isDone()) {
+          try {
+            executor.execute((FutureTask<?>) future);
+          } catch (RejectedExecutionException e) {
+            // await will run it
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Waits for {@code future} to complete. A future that fails or is
+   * cancelled counts as complete: the template sees the failure when it gets
+   * the future's value.
+   *
+   * @throws InterruptedIOException if the deadline passes first, or the
+   * thread is interrupted.
+   */
+  public void await(Future<?> future) throws IOException {
+    if (future == null || future.isDone()) {
+      return;
+    }
+    if (future instanceof FutureTask) {
+      ((FutureTask<?>) future).run();
+    }
+    try {
+      if (hasDeadline) {
+        future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } else {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      // left for the template to deal with
+    } catch (CancellationException e) {
+      // left for the template to deal with
+    } catch (TimeoutException e) {
+      InterruptedIOException ioe = new InterruptedIOException(
+          "deadline passed while waiting for a template parameter");
+      ioe.initCause(e);
+      throw ioe;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException ioe = new InterruptedIOException(
+          "interrupted while waiting for a template parameter");
+      ioe.initCause(e);
+      throw ioe;
+    }
+  }
+}
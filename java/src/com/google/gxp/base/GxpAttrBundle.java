@@ -16,41 +16,65 @@
 
 package com.google.gxp.base;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
+import com.google.common.base.Preconditions;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * An attribute bundle.  Used by the GXP compiler for bundling up a bunch
  * of attributes into a single item.  Currently supports regular and boolean
  * attributes.
+ *
+ * <p>Attributes are kept in insertion order in parallel arrays. Bundles are
+ * small, so names are looked up with a linear scan. The names passed in by
+ * generated code are string literals, and so interned, which means most
+ * comparisons succeed or fail on identity alone.
+ *
+ * <p>The compiler precomputes the complete {@code  name="value"} markup of
+ * attributes whose values are constant, and puts them in bundles that are
+ * built once and kept in static fields. Such a bundle is either passed as
+ * is, or used as the starting point of a {@link Builder} when some of the
+ * attributes are dynamic.
  */
 public class GxpAttrBundle<T extends MarkupClosure> {
-  private final ImmutableMap<String, T> attrs;
-  private final ImmutableSet<String> booleanAttrs;
-
-  GxpAttrBundle(Map<String, T> attrs, Set<String> booleanAttrs) {
-    this.attrs = ImmutableMap.copyOf(attrs);
-    this.booleanAttrs = ImmutableSet.copyOf(booleanAttrs);
+  private static final String[] NO_NAMES = new String[0];
+  private static final MarkupClosure[] NO_VALUES = new MarkupClosure[0];
+
+  private final String[] names;
+  private final MarkupClosure[] values;
+  // precomputed markup for each attribute, or null if there is none
+  private final String[] markup;
+  private final String[] booleanAttrs;
+
+  private GxpAttrBundle(String[] names, MarkupClosure[] values, String[] markup,
+                        String[] booleanAttrs) {
+    this.names = names;
+    this.values = values;
+    this.markup = markup;
+    this.booleanAttrs = booleanAttrs;
   }
 
   public void write(Appendable out, GxpContext gxpContext) throws IOException {
-    for (Map.Entry<String, T> attr : attrs.entrySet()) {
+    String[] names = this.names;
+    MarkupClosure[] values = this.values;
+    String[] markup = this.markup;
+    for (int i = 0; i < names.length; i++) {
+      if (markup[i] != null) {
+        out.append(markup[i]);
+        continue;
+      }
       out.append(' ');
-      out.append(attr.getKey());
+      out.append(names[i]);
       out.append("=\"");
-      attr.getValue().write(out, gxpContext);
+      values[i].write(out, gxpContext);
       out.append('"');
     }
+    boolean forcingXmlSyntax = gxpContext.isForcingXmlSyntax();
     for (String booleanAttr : booleanAttrs) {
       out.append(' ');
       out.append(booleanAttr);
-      if (gxpContext.isForcingXmlSyntax()) {
+      if (forcingXmlSyntax) {
         out.append("=\"");
         out.append(booleanAttr);
         out.append('"');
@@ -58,21 +82,40 @@ public class GxpAttrBundle<T extends MarkupClosure> {
     }
   }
 
-  private Map<String, T> getAttrs() {
-    return attrs;
-  }
-
-  private Set<String> getBooleanAttrs() {
-    return booleanAttrs;
+  /**
+   * @return the index of {@code name} in the first {@code size} elements
+   * of {@code names}, or -1 if it isn't there.
+   */
+  private static int indexOf(String[] names, int size, String name) {
+    for (int i = 0; i < size; i++) {
+      if (names[i] == name) {
+        return i;
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   /**
-   * An attribute bundle builder.
+   * An attribute bundle builder. Setting an attribute that is already in the
+   * builder replaces its value but keeps its original position.
    */
   public static class Builder<T extends MarkupClosure> {
-    private final ImmutableSet<String> includeAttrs;
-    private final Map<String, T> attrs = Maps.newLinkedHashMap();
-    private final Set<String> booleanAttrs = Sets.newLinkedHashSet();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String[] includeAttrs;
+
+    private String[] names = NO_NAMES;
+    private MarkupClosure[] values = NO_VALUES;
+    private String[] markup = NO_NAMES;
+    private int size = 0;
+
+    private String[] booleanAttrs = NO_NAMES;
+    private int booleanSize = 0;
 
     // in this case all attributes from added bundles will be accepted
     public Builder() {
@@ -81,7 +124,35 @@ public class GxpAttrBundle<T extends MarkupClosure> {
 
     // in this case only specified attributes will be accepted from bundles
     public Builder(String... includeAttrs) {
-      this.includeAttrs = ImmutableSet.copyOf(includeAttrs);
+      this.includeAttrs = includeAttrs.clone();
+      for (String includeAttr : this.includeAttrs) {
+        Preconditions.checkNotNull(includeAttr);
+      }
+    }
+
+    /**
+     * Creates a builder that starts out with all of the attributes of
+     * {@code base}. As with the other constructors, {@code includeAttrs}
+     * restricts the attributes accepted from bundles added with
+     * {@link #addBundle}; if it is empty all of them are accepted.
+     */
+    public Builder(GxpAttrBundle<T> base, String... includeAttrs) {
+      this.includeAttrs = (includeAttrs.length == 0) ? null : includeAttrs.clone();
+      for (String includeAttr : includeAttrs) {
+        Preconditions.checkNotNull(includeAttr);
+      }
+      size = base.names.length;
+      if (size > 0) {
+        int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+        names = Arrays.copyOf(base.names, capacity);
+        values = Arrays.copyOf(base.values, capacity);
+        markup = Arrays.copyOf(base.markup, capacity);
+      }
+      booleanSize = base.booleanAttrs.length;
+      if (booleanSize > 0) {
+        booleanAttrs = Arrays.copyOf(base.booleanAttrs,
+                                     Math.max(INITIAL_CAPACITY, booleanSize * 2));
+      }
     }
 
     public Builder<T> attr(String name, T value, boolean cond) {
@@ -89,7 +160,16 @@ public class GxpAttrBundle<T extends MarkupClosure> {
     }
 
     public Builder<T> attr(String name, T value) {
-      attrs.put(name, value);
+      putAttr(name, value, null);
+      return this;
+    }
+
+    /**
+     * Adds an attribute whose value is constant. {@code markup} is exactly
+     * what the attribute renders as, including the leading space.
+     */
+    public Builder<T> staticAttr(String name, T value, String markup) {
+      putAttr(name, value, Preconditions.checkNotNull(markup));
       return this;
     }
 
@@ -99,32 +179,69 @@ public class GxpAttrBundle<T extends MarkupClosure> {
 
     public Builder<T> attr(String name, boolean include) {
       if (include) {
-        booleanAttrs.add(name);
+        addBooleanAttr(name);
       }
       return this;
     }
 
     public Builder<T> addBundle(GxpAttrBundle<T> bundle) {
-      if (includeAttrs == null) {
-        attrs.putAll(bundle.getAttrs());
-        booleanAttrs.addAll(bundle.getBooleanAttrs());
-      } else {
-        for (Map.Entry<String, T> attr : bundle.getAttrs().entrySet()) {
-          if (includeAttrs.contains(attr.getKey())) {
-            attrs.put(attr.getKey(), attr.getValue());
-          }
+      String[] bundleNames = bundle.names;
+      MarkupClosure[] bundleValues = bundle.values;
+      for (int i = 0; i < bundleNames.length; i++) {
+        if (isIncluded(bundleNames[i])) {
+          putAttr(bundleNames[i], bundleValues[i], bundle.markup[i]);
         }
-        for (String attr : bundle.getBooleanAttrs()) {
-          if (includeAttrs.contains(attr)) {
-            booleanAttrs.add(attr);
-          }
+      }
+      for (String attr : bundle.booleanAttrs) {
+        if (isIncluded(attr)) {
+          addBooleanAttr(attr);
         }
       }
       return this;
     }
 
     public GxpAttrBundle<T> build() {
-      return new GxpAttrBundle<T>(attrs, booleanAttrs);
+      return new GxpAttrBundle<T>(
+          (size == 0) ? NO_NAMES : Arrays.copyOf(names, size),
+          (size == 0) ? NO_VALUES : Arrays.copyOf(values, size),
+          (size == 0) ? NO_NAMES : Arrays.copyOf(markup, size),
+          (booleanSize == 0) ? NO_NAMES : Arrays.copyOf(booleanAttrs, booleanSize));
+    }
+
+    private boolean isIncluded(String name) {
+      return includeAttrs == null || indexOf(includeAttrs, includeAttrs.length, name) >= 0;
+    }
+
+    private void putAttr(String name, MarkupClosure value, String attrMarkup) {
+      Preconditions.checkNotNull(name);
+      Preconditions.checkNotNull(value);
+      int i = indexOf(names, size, name);
+      if (i >= 0) {
+        values[i] = value;
+        markup[i] = attrMarkup;
+        return;
+      }
+      if (size == names.length) {
+        int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+        names = Arrays.copyOf(names, capacity);
+        values = Arrays.copyOf(values, capacity);
+        markup = Arrays.copyOf(markup, capacity);
+      }
+      names[size] = name;
+      values[size] = value;
+      markup[size] = attrMarkup;
+      size++;
+    }
+
+    private void addBooleanAttr(String name) {
+      Preconditions.checkNotNull(name);
+      if (indexOf(booleanAttrs, booleanSize, name) >= 0) {
+        return;
+      }
+      if (booleanSize == booleanAttrs.length) {
+        booleanAttrs = Arrays.copyOf(booleanAttrs, Math.max(INITIAL_CAPACITY, booleanSize * 2));
+      }
+      booleanAttrs[booleanSize++] = name;
     }
   }
 }
@@ -19,12 +19,13 @@ package com.google.gxp.base;
 import com.google.common.base.CharEscaper;
 import com.google.common.base.CharEscapers;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.io.CharStreams;
 import com.google.i18n.Localizable;
 
 import java.io.*;
 import java.nio.charset.Charset;
+import java.util.List;
 
 /**
  * Utility {@code GxpClosure}s
@@ -50,11 +51,23 @@ public final class GxpClosures {
   public static GxpClosure fromString(final String value, final CharEscaper escaper) {
     Preconditions.checkNotNull(value);
     Preconditions.checkNotNull(escaper);
-    return new GxpClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          escaper.escape(out).append(value);
-        }
-      };
+    return new StringClosure(escaper.escape(value));
+  }
+
+  /**
+   * A closure that writes a fixed (already escaped) {@code String}. These are
+   * merged when they are concatenated.
+   */
+  private static final class StringClosure implements GxpClosure {
+    final String text;
+
+    StringClosure(String text) {
+      this.text = text;
+    }
+
+    public void write(Appendable out, GxpContext gxpContext) throws IOException {
+      out.append(text);
+    }
   }
 
   /**
@@ -73,18 +86,16 @@ public final class GxpClosures {
 
   /**
    * Create a {@code GxpClosure} that will emit all the data avaliable from the
-   * {@code File} at the time the closure is evaluated.
+   * {@code File} at the time the closure is evaluated. The decoded contents
+   * are shared through {@link FileContentCache#getInstance}, which rereads the
+   * file when its modification time or length changes.
    */
   public static GxpClosure fromFile(final File file, final Charset charset) {
     Preconditions.checkNotNull(file);
     Preconditions.checkNotNull(charset);
     return new GxpClosure() {
         public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          FileInputStream fis = new FileInputStream(file);
-          InputStreamReader isr = new InputStreamReader(fis, charset);
-          CharStreams.copy(isr, out);
-          isr.close();
-          fis.close();
+          FileContentCache.getInstance().write(out, file, charset);
         }
       };
   }
@@ -113,18 +124,22 @@ public final class GxpClosures {
    * Renders a sequence of {@link GxpClosure} instances by calling their
    * write methods in order.
    *
+   * <p>The returned closure holds a single flat array: closures that were
+   * themselves returned by {@code concat} (possibly wrapped in a
+   * {@link ForwardingGxpClosure}) are replaced by their parts, adjacent
+   * closures returned by {@link #fromString} are merged, and empty ones are
+   * dropped. Building a long concatenation one closure at a time therefore
+   * copies it each time; pass all the parts to one call where possible.
+   *
    * @param closures A list of {@code GxpClosure} objects to be rendered
    * @return A new {@code GxpClosure} that renders the list
    */
   public static GxpClosure concat(final Iterable<? extends GxpClosure> closures) {
-    final Iterable<GxpClosure> closuresCopy = ImmutableList.copyOf(closures);
-    return new GxpClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          for (GxpClosure closure : closuresCopy) {
-            closure.write(out, gxpContext);
-          }
-        }
-      };
+    Flattener flattener = new Flattener();
+    for (GxpClosure closure : closures) {
+      flattener.add(closure);
+    }
+    return flattener.build();
   }
 
   /**
@@ -135,6 +150,94 @@ public final class GxpClosures {
    * @return A new {@code GxpClosure} that renders the closures in order
    */
   public static GxpClosure concat(final GxpClosure... closures) {
-    return concat(ImmutableList.copyOf(closures));
+    Flattener flattener = new Flattener();
+    for (GxpClosure closure : closures) {
+      flattener.add(closure);
+    }
+    return flattener.build();
+  }
+
+  /**
+   * The closure returned by {@link #concat} when it has more than one part.
+   */
+  private static final class Concatenation implements GxpClosure {
+    final GxpClosure[] parts;
+
+    Concatenation(GxpClosure[] parts) {
+      this.parts = parts;
+    }
+
+    public void write(Appendable out, GxpContext gxpContext) throws IOException {
+      GxpClosure[] parts = this.parts;
+      for (int i = 0; i < parts.length; i++) {
+        parts[i].write(out, gxpContext);
+      }
+    }
+  }
+
+  /**
+   * Collects the parts of a {@link Concatenation}.
+   */
+  private static final class Flattener {
+    private final List<GxpClosure> parts = Lists.newArrayList();
+
+    // Text of a run of StringClosures that has not been added to parts yet.
+    // The run's only closure is kept too, so that it isn't copied.
+    private StringClosure pendingClosure = null;
+    private StringBuilder pendingText = null;
+
+    void add(GxpClosure closure) {
+      Preconditions.checkNotNull(closure);
+      if (closure instanceof ForwardingGxpClosure) {
+        closure = ((ForwardingGxpClosure) closure).unwrap();
+      }
+      if (closure instanceof Concatenation) {
+        for (GxpClosure part : ((Concatenation) closure).parts) {
+          add(part);
+        }
+      } else if (closure instanceof StringClosure) {
+        addString((StringClosure) closure);
+      } else if (closure != EMPTY) {
+        flushPending();
+        parts.add(closure);
+      }
+    }
+
+    private void addString(StringClosure closure) {
+      if (closure.text.length() == 0) {
+        return;
+      }
+      if (pendingClosure == null && pendingText == null) {
+        pendingClosure = closure;
+      } else {
+        if (pendingText == null) {
+          pendingText = new StringBuilder(pendingClosure.text);
+          pendingClosure = null;
+        }
+        pendingText.append(closure.text);
+      }
+    }
+
+    private void flushPending() {
+      if (pendingClosure != null) {
+        parts.add(pendingClosure);
+        pendingClosure = null;
+      } else if (pendingText != null) {
+        parts.add(new StringClosure(pendingText.toString()));
+        pendingText = null;
+      }
+    }
+
+    GxpClosure build() {
+      flushPending();
+      switch (parts.size()) {
+        case 0:
+          return EMPTY;
+        case 1:
+          return parts.get(0);
+        default:
+          return new Concatenation(parts.toArray(new GxpClosure[parts.size()]));
+      }
+    }
   }
 }
@@ -21,18 +21,45 @@ import com.google.common.base.Preconditions;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is a context used for expanding GXP templates.  The context is
  * effectively a collection of parameters that are implicitly passed to all
  * sub-templates. Future additions to this should preferably be made in an
  * application-neutral way.
+ *
+ * <p>The configuration held by a {@code GxpContext} is immutable. The little
+ * state that changes during a render is kept in a separate {@link
+ * RenderScope}: each context created by {@link Builder#build} has its own,
+ * while contexts from {@link Builder#buildShared} use one per thread, which
+ * lets them be cached and shared freely between threads and requests.
  */
 public final class GxpContext {
   private final Locale locale;
   private final boolean forcingXmlSyntax;
   private final Charset charset;
+  private final FlushPolicy flushPolicy;
+  private final Executor parallelExecutor;
+  private final long futureTimeoutNanos;
+
+  // derived from flushPolicy so that the call hooks only read one field
+  // when there is nothing to do
+  private final boolean trackingCalls;
+  private final boolean checkingAfterCalls;
+
+  // null for shared contexts, which use RenderScope.forCurrentThread()
+  private final RenderScope renderScope;
+
+  private static final ConcurrentMap<List<Object>, GxpContext> SHARED =
+      new ConcurrentHashMap<List<Object>, GxpContext>();
 
   /**
    * Builder for {@code GxpContext}. Typical usage pattern is:
@@ -44,6 +71,9 @@ public final class GxpContext {
     private final Locale locale;
     private boolean forcingXmlSyntax = false;
     private Charset charset = Charsets.US_ASCII;
+    private FlushPolicy flushPolicy = FlushPolicy.NEVER;
+    private Executor parallelExecutor = null;
+    private long futureTimeoutNanos = -1;
 
     private Builder(Locale locale) {
       this.locale = Preconditions.checkNotNull(locale);
@@ -53,7 +83,33 @@ public final class GxpContext {
      * Builds a {@code GxpContext} based on the state of this builder.
      */
     public GxpContext build() {
-      return new GxpContext(this);
+      return new GxpContext(this, new RenderScope());
+    }
+
+    /**
+     * Returns a {@code GxpContext} based on the state of this builder that
+     * can be shared between threads and reused for any number of renders.
+     * Shared contexts are cached, so every call with the same locale,
+     * charset, syntax, flush policy and future timeout returns the same
+     * instance. Contexts with a parallel executor are not cached, as the
+     * cache would keep the executor (and its threads) reachable forever;
+     * callers that set one should hold on to the context themselves.
+     */
+    public GxpContext buildShared() {
+      if (parallelExecutor != null) {
+        return new GxpContext(this, null);
+      }
+      List<Object> key = Arrays.<Object>asList(locale, charset, forcingXmlSyntax, flushPolicy,
+                                               futureTimeoutNanos);
+      GxpContext context = SHARED.get(key);
+      if (context == null) {
+        context = new GxpContext(this, null);
+        GxpContext existing = SHARED.putIfAbsent(key, context);
+        if (existing != null) {
+          context = existing;
+        }
+      }
+      return context;
     }
 
     private Builder forceXmlSyntax(boolean forcingXmlSyntax) {
@@ -69,6 +125,32 @@ public final class GxpContext {
       this.charset = Preconditions.checkNotNull(charset);
       return this;
     }
+
+    public Builder setFlushPolicy(FlushPolicy flushPolicy) {
+      this.flushPolicy = Preconditions.checkNotNull(flushPolicy);
+      return this;
+    }
+
+    /**
+     * Sets the {@code Executor} used to render runs of sibling calls marked
+     * with {@code gxp:parallel} concurrently. With {@code null}, the default,
+     * they are rendered one after another like any other call.
+     */
+    public Builder setParallelExecutor(Executor parallelExecutor) {
+      this.parallelExecutor = parallelExecutor;
+      return this;
+    }
+
+    /**
+     * Sets how long a template may spend waiting for its {@code Future}
+     * parameters, measured from the start of its {@code write} method. By
+     * default there is no limit.
+     */
+    public Builder setFutureTimeout(long timeout, TimeUnit unit) {
+      Preconditions.checkArgument(timeout >= 0, "negative timeout: %s", timeout);
+      this.futureTimeoutNanos = unit.toNanos(timeout);
+      return this;
+    }
   }
 
   /**
@@ -83,17 +165,23 @@ public final class GxpContext {
   /**
    * Creates a {@code GxpContext} from a {@code Builder}.
    */
-  private GxpContext(Builder builder) {
+  private GxpContext(Builder builder, RenderScope renderScope) {
     this.locale = Preconditions.checkNotNull(builder.locale);
     this.forcingXmlSyntax = builder.forcingXmlSyntax;
     this.charset = Preconditions.checkNotNull(builder.charset);
+    this.flushPolicy = Preconditions.checkNotNull(builder.flushPolicy);
+    this.parallelExecutor = builder.parallelExecutor;
+    this.futureTimeoutNanos = builder.futureTimeoutNanos;
+    this.trackingCalls = flushPolicy.isFlushingAtTopLevelCalls();
+    this.checkingAfterCalls = trackingCalls || flushPolicy.getThreshold() > 0;
+    this.renderScope = renderScope;
   }
 
   /**
    * @param locale the Locale to use when writing a {@code GxpTemplate}
    */
   public GxpContext(Locale locale) {
-    this(builder(locale));
+    this(builder(locale), new RenderScope());
   }
 
   /**
@@ -118,59 +206,264 @@ public final class GxpContext {
     return charset;
   }
 
+  /**
+   * @return the {@code FlushPolicy} that says when output rendered in this
+   * context is flushed
+   */
+  public FlushPolicy getFlushPolicy() {
+    return flushPolicy;
+  }
+
+  /**
+   * @return the {@code Executor} that parallel calls are rendered on, or
+   * {@code null} if they are rendered sequentially
+   */
+  public Executor getParallelExecutor() {
+    return parallelExecutor;
+  }
+
+  /**
+   * @return how long, in nanoseconds, a template may spend waiting for its
+   * {@code Future} parameters, or -1 if there is no limit
+   */
+  public long getFutureTimeoutNanos() {
+    return futureTimeoutNanos;
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   // Utility Functions
   ////////////////////////////////////////////////////////////////////////////
 
   /**
-   * Convert a closure to a string in the given context
+   * Convert a closure to a string in the given context. The buffer is sized
+   * using the {@link OutputSizeEstimator} for the closure's class.
    *
    * @param closure the closure to turn into a string
    * @return a string representation of the closure in the current context
    */
   public String getString(GxpClosure closure) {
-    StringBuilder sb = new StringBuilder();
+    OutputSizeEstimator estimator = OutputSizeEstimator.forClass(closure.getClass());
+    StringBuilder sb = estimator.newStringBuilder();
     try {
       closure.write(sb, this);
     } catch (IOException e) {
       // this shouldn't be possible
       throw new AssertionError(e);
     }
-    return sb.toString();
+    return estimator.record(sb).toString();
   }
 
   /**
    * Helper function for null, empty, and whitespace closure testing.
+   * Rendering stops at the first non-whitespace character, and the output
+   * is never buffered.
    *
    * @return true if closure == null or contains only whitespace
    * characters.
    */
   public boolean isEmptyOrWhitespace(GxpClosure closure) {
     if (closure != null) {
-      for (char c : getString(closure).toCharArray()) {
-        if (!Character.isWhitespace(c)) {
-          return false;
-        }
+      WhitespaceProbe probe = new WhitespaceProbe();
+      try {
+        closure.write(probe, this);
+      } catch (NonWhitespaceFound e) {
+        return false;
+      } catch (IOException e) {
+        // this shouldn't be possible
+        throw new AssertionError(e);
       }
+      // in case the closure caught the signal and carried on
+      return !probe.foundNonWhitespace;
     }
     return true;
   }
 
+  /**
+   * Thrown by {@link WhitespaceProbe} to abort rendering. It carries no
+   * information, so a single instance without a stack trace is reused.
+   */
+  private static final class NonWhitespaceFound extends IOException {
+    static final NonWhitespaceFound INSTANCE = new NonWhitespaceFound();
+
+    private NonWhitespaceFound() {
+      super("non-whitespace output");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /**
+   * An {@code Appendable} that discards whitespace and aborts rendering
+   * (by throwing {@link NonWhitespaceFound}) on anything else.
+   */
+  private static final class WhitespaceProbe implements Appendable {
+    boolean foundNonWhitespace = false;
+
+    public Appendable append(char c) throws IOException {
+      check(c);
+      return this;
+    }
+
+    public Appendable append(CharSequence csq) throws IOException {
+      if (csq == null) {
+        csq = "null";
+      }
+      return append(csq, 0, csq.length());
+    }
+
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+      if (csq == null) {
+        csq = "null";
+      }
+      for (int i = start; i < end; i++) {
+        check(csq.charAt(i));
+      }
+      return this;
+    }
+
+    private void check(char c) throws NonWhitespaceFound {
+      if (!Character.isWhitespace(c)) {
+        foundNonWhitespace = true;
+        throw NonWhitespaceFound.INSTANCE;
+      }
+    }
+  }
+
   ////////////////////////////////////////////////////////////////////////////
   // The following are for gxpc internal use only
   ////////////////////////////////////////////////////////////////////////////
 
-  private boolean is_top_level_call = true;
+  private RenderScope getRenderScope() {
+    return (renderScope != null) ? renderScope : RenderScope.forCurrentThread();
+  }
 
   /**
-   * Will return true once and only once.
+   * Will return true for the first call, and false for every call after it
+   * until {@link #endTopLevelCall()} is called.
    *
    * While this method is "public", it is only intended for use by the GXP
    * compiler.
    */
   public boolean isTopLevelCall() {
-    boolean result = is_top_level_call;
-    is_top_level_call = false;
-    return result;
+    return getRenderScope().enterTopLevelCall();
+  }
+
+  /**
+   * Ends the top level call started by a call to {@link #isTopLevelCall()}
+   * that returned true.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public void endTopLevelCall() {
+    getRenderScope().exitTopLevelCall();
+  }
+
+  /**
+   * Marks the start of a template that calls other templates. Every call to
+   * this method must be matched by a call to {@link #exitTemplate()}. The
+   * compiler only generates these calls in templates that call others, and
+   * they do nothing but read a field unless the flush policy needs them.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public void enterTemplate() {
+    if (trackingCalls) {
+      getRenderScope().enterCaller();
+    }
+  }
+
+  /**
+   * Marks the end of a template started by {@link #enterTemplate()}.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public void exitTemplate() {
+    if (trackingCalls) {
+      getRenderScope().exitCaller();
+    }
+  }
+
+  /**
+   * Called after a template call has returned normally. Flushes {@code out}
+   * if the call was made by the top level template and the flush policy
+   * flushes at top level calls, or if the policy has a threshold and more
+   * than that has been written to {@code out} since it was last flushed.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public void afterCall(Appendable out) throws IOException {
+    if (checkingAfterCalls) {
+      if (trackingCalls && getRenderScope().getCallerDepth() <= 1) {
+        FlushPolicy.flush(out);
+      } else {
+        flushIfOverThreshold(out);
+      }
+    }
+  }
+
+  /**
+   * Starts rendering a run of sibling calls marked with {@code gxp:parallel}.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public ParallelRendering newParallelRendering(Appendable out) {
+    return new ParallelRendering(out, this, parallelExecutor);
+  }
+
+  /**
+   * Starts waiting for the {@code Future} parameters of a template.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public FuturePrefetch prefetch(Future<?>... futures) {
+    return new FuturePrefetch(this, futures);
+  }
+
+  /**
+   * @return a context for rendering a parallel call on another thread. It has
+   * the same locale, charset and syntax as this one, but never flushes (its
+   * output goes to a private buffer) and renders any parallel calls nested in
+   * the call sequentially, so that they can't starve the executor.
+   */
+  GxpContext forkForParallelCall() {
+    Builder builder = builder(locale).forceXmlSyntax(forcingXmlSyntax).setCharset(charset);
+    builder.futureTimeoutNanos = futureTimeoutNanos;
+    return new GxpContext(builder, getRenderScope().fork());
+  }
+
+  /**
+   * Called at {@code <gxp:flush/>} elements. Flushes {@code out} if the
+   * flush policy flushes at explicit points.
+   *
+   * While this method is "public", it is only intended for use by the GXP
+   * compiler.
+   */
+  public void flushPoint(Appendable out) throws IOException {
+    if (flushPolicy.isFlushingAtExplicitPoints()) {
+      FlushPolicy.flush(out);
+    } else {
+      flushIfOverThreshold(out);
+    }
+  }
+
+  /**
+   * Flushes {@code out} if the flush policy has a threshold and {@code out}
+   * is a {@code GxpWriter} that has had at least that many characters
+   * written to it since it was last flushed.
+   */
+  private void flushIfOverThreshold(Appendable out) throws IOException {
+    int threshold = flushPolicy.getThreshold();
+    if (threshold > 0 && out instanceof GxpWriter) {
+      ((GxpWriter) out).flushIfOver(threshold);
+    }
   }
 }
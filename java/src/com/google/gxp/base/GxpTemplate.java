@@ -18,7 +18,6 @@ package com.google.gxp.base;
 
 import java.io.IOException;
 import java.util.Locale;
-import java.util.ResourceBundle;
 
 /**
  * This is the superclass of all GXP templates. Contains helper classes and
@@ -45,9 +44,25 @@ public class GxpTemplate {
     return getRawMessage(source, locale, id).toString(parameters);
   }
 
+  /**
+   * Writes a message to {@code out}, rendering its parameters directly into
+   * {@code out} as well. See {@link Message#write}.
+   *
+   * @param source message source to use
+   * @param id numeric ID of message to write
+   * @param parameters the parameters necessary for the specified message
+   */
+  protected static void writeMessage(Appendable out, GxpContext gxpContext, String source,
+                                     long id, GxpClosure... parameters) throws IOException {
+    getRawMessage(source, gxpContext.getLocale(), id).write(out, gxpContext, parameters);
+  }
+
+  /**
+   * @return the specified message, looked up in the {@link MessageTable} for
+   * the given source and locale.
+   */
   protected static Message getRawMessage(String source, Locale locale, long id) {
-    ResourceBundle bundle = ResourceBundle.getBundle(source, locale);
-    return Message.getInstance(bundle.getString(String.valueOf(id)));
+    return MessageTable.getMessage(source, locale, id);
   }
 
   /**
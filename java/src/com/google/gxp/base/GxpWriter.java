@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A buffered {@code Appendable} for GXP output. Output is collected in a
+ * {@code char[]} and passed on to the underlying {@code Appendable} in large
+ * blocks. {@code GxpWriter} also knows how to escape text itself, and the
+ * standard appenders detect it and escape straight into its buffer instead of
+ * going through a {@code CharEscaper}.
+ *
+ * <p>Typical usage pattern is:
+ * <pre>
+ * GxpWriter out = new GxpWriter(response.getWriter());
+ * MyGxp.write(out, gxpContext);
+ * out.flush();
+ * </pre>
+ *
+ * Output is buffered, so {@link #flush()} (or {@link #flushBuffer()}) must
+ * be called once rendering is complete. A {@code GxpWriter} created with a
+ * {@link FlushPolicy} that has a threshold also flushes the underlying
+ * {@code Appendable} each time that many characters have been passed on to
+ * it since the last flush. A {@link GxpContext} with such a policy applies
+ * the threshold to any {@code GxpWriter} it renders to, but only after
+ * template calls and at {@code <gxp:flush/>} points.
+ */
+public final class GxpWriter implements Appendable, Flushable {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final int MIN_BUFFER_SIZE =
+      Math.max(EscapeTable.MAX_REPLACEMENT_LENGTH, DigitWriter.MAX_LENGTH);
+
+  private final Appendable out;
+  private final char[] buf;
+  private int pos = 0;
+
+  // 0 if the underlying Appendable is only flushed by flush()
+  private final int flushThreshold;
+  private long unflushed = 0;
+
+  /**
+   * Creates a {@code GxpWriter} with the default buffer size.
+   */
+  public GxpWriter(Appendable out) {
+    this(out, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a {@code GxpWriter} that buffers up to {@code bufferSize}
+   * characters.
+   */
+  public GxpWriter(Appendable out, int bufferSize) {
+    this(out, bufferSize, FlushPolicy.NEVER);
+  }
+
+  /**
+   * Creates a {@code GxpWriter} with the default buffer size that flushes
+   * {@code out} as often as {@code flushPolicy}'s threshold says.
+   */
+  public GxpWriter(Appendable out, FlushPolicy flushPolicy) {
+    this(out, DEFAULT_BUFFER_SIZE, flushPolicy);
+  }
+
+  /**
+   * Creates a {@code GxpWriter} that buffers up to {@code bufferSize}
+   * characters and flushes {@code out} as often as {@code flushPolicy}'s
+   * threshold says. Thresholds smaller than the buffer are effectively
+   * rounded up to its size.
+   */
+  public GxpWriter(Appendable out, int bufferSize, FlushPolicy flushPolicy) {
+    Preconditions.checkArgument(bufferSize >= MIN_BUFFER_SIZE,
+                                "bufferSize too small: %s", bufferSize);
+    this.out = Preconditions.checkNotNull(out);
+    this.buf = new char[bufferSize];
+    this.flushThreshold = flushPolicy.getThreshold();
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Unescaped output
+  //////////////////////////////////////////////////////////////////////
+
+  public GxpWriter append(char c) throws IOException {
+    if (pos == buf.length) {
+      flushBuffer();
+    }
+    buf[pos++] = c;
+    return this;
+  }
+
+  public GxpWriter append(String s) throws IOException {
+    if (s == null) {
+      s = "null";
+    }
+    int len = s.length();
+    if (len > buf.length - pos) {
+      flushBuffer();
+      if (len > buf.length) {
+        out.append(s);
+        passedOn(len);
+        return this;
+      }
+    }
+    s.getChars(0, len, buf, pos);
+    pos += len;
+    return this;
+  }
+
+  public GxpWriter append(CharSequence csq) throws IOException {
+    if (csq == null) {
+      return append("null");
+    }
+    return append(csq, 0, csq.length());
+  }
+
+  public GxpWriter append(CharSequence csq, int start, int end) throws IOException {
+    if (csq == null) {
+      csq = "null";
+    }
+    while (start < end) {
+      if (pos == buf.length) {
+        flushBuffer();
+      }
+      int n = Math.min(end - start, buf.length - pos);
+      if (csq instanceof String) {
+        ((String) csq).getChars(start, start + n, buf, pos);
+      } else if (csq instanceof StringBuilder) {
+        ((StringBuilder) csq).getChars(start, start + n, buf, pos);
+      } else {
+        for (int i = 0; i < n; i++) {
+          buf[pos + i] = csq.charAt(start + i);
+        }
+      }
+      pos += n;
+      start += n;
+    }
+    return this;
+  }
+
+  public GxpWriter append(char[] cbuf, int off, int len) throws IOException {
+    if (len > buf.length - pos) {
+      flushBuffer();
+      if (len > buf.length) {
+        writeThrough(cbuf, off, len);
+        passedOn(len);
+        return this;
+      }
+    }
+    System.arraycopy(cbuf, off, buf, pos, len);
+    pos += len;
+    return this;
+  }
+
+  /**
+   * Appends the decimal representation of {@code value}. Used by
+   * {@link DigitWriter}.
+   */
+  void appendDigits(long value) throws IOException {
+    if (buf.length - pos < DigitWriter.MAX_LENGTH) {
+      flushBuffer();
+    }
+    pos = DigitWriter.getChars(value, buf, pos);
+  }
+
+  /**
+   * Writes a {@code StaticChunk}. If this {@code GxpWriter} is writing to a
+   * {@link ByteSink} the chunk's pre-encoded bytes are passed through.
+   */
+  public GxpWriter write(StaticChunk chunk) throws IOException {
+    if (out instanceof ByteSink) {
+      flushBuffer();
+      ((ByteSink) out).write(chunk);
+      passedOn(chunk.toString().length());
+    } else {
+      append(chunk.toString());
+    }
+    return this;
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Escaped output
+  //////////////////////////////////////////////////////////////////////
+
+  /**
+   * Appends {@code csq}, escaped using the specified {@code EscapeTable}.
+   * Runs of characters that need no escaping are copied in bulk.
+   */
+  public GxpWriter appendEscaped(CharSequence csq, EscapeTable table) throws IOException {
+    return appendEscaped(csq, 0, csq.length(), table);
+  }
+
+  /**
+   * Appends the subsequence of {@code csq} from {@code start} (inclusive) to
+   * {@code end} (exclusive), escaped using the specified {@code EscapeTable}.
+   */
+  public GxpWriter appendEscaped(CharSequence csq, int start, int end, EscapeTable table)
+      throws IOException {
+    int runStart = start;
+    int i = table.indexOfEscape(csq, start, end);
+    while (i < end) {
+      if (runStart < i) {
+        append(csq, runStart, i);
+      }
+      if (buf.length - pos < EscapeTable.MAX_REPLACEMENT_LENGTH) {
+        flushBuffer();
+      }
+      int codePoint = table.codePointAt(csq, i, end);
+      pos = table.writeReplacement(codePoint, buf, pos);
+      runStart = i + Character.charCount(codePoint);
+      i = table.indexOfEscape(csq, runStart, end);
+    }
+    if (runStart < end) {
+      append(csq, runStart, end);
+    }
+    return this;
+  }
+
+  /**
+   * Appends {@code c}, escaped using the specified {@code EscapeTable}.
+   */
+  public GxpWriter appendEscaped(char c, EscapeTable table) throws IOException {
+    if (buf.length - pos < EscapeTable.MAX_REPLACEMENT_LENGTH) {
+      flushBuffer();
+    }
+    if (table.needsEscaping(c)) {
+      pos = table.writeReplacement(table.codePointOf(c), buf, pos);
+    } else {
+      buf[pos++] = c;
+    }
+    return this;
+  }
+
+  /**
+   * Appends {@code csq}, escaped for XML.
+   */
+  public GxpWriter appendXmlEscaped(CharSequence csq) throws IOException {
+    return appendEscaped(csq, EscapeTable.XML);
+  }
+
+  /**
+   * Appends {@code csq}, escaped for HTML.
+   */
+  public GxpWriter appendHtmlEscaped(CharSequence csq) throws IOException {
+    return appendEscaped(csq, EscapeTable.HTML);
+  }
+
+  /**
+   * Appends {@code csq}, escaped for use inside a JavaScript string literal.
+   * The surrounding quotes are not included.
+   */
+  public GxpWriter appendJsEscaped(CharSequence csq) throws IOException {
+    return appendEscaped(csq, EscapeTable.JAVASCRIPT);
+  }
+
+  //////////////////////////////////////////////////////////////////////
+  // Flushing
+  //////////////////////////////////////////////////////////////////////
+
+  /**
+   * Passes any buffered output on to the underlying {@code Appendable}
+   * without flushing it.
+   */
+  public void flushBuffer() throws IOException {
+    if (pos > 0) {
+      int len = pos;
+      writeThrough(buf, 0, pos);
+      pos = 0;
+      passedOn(len);
+    }
+  }
+
+  /**
+   * Passes any buffered output on to the underlying {@code Appendable} and
+   * flushes it if it is {@code Flushable}.
+   */
+  public void flush() throws IOException {
+    if (pos > 0) {
+      writeThrough(buf, 0, pos);
+      pos = 0;
+    }
+    unflushed = 0;
+    FlushPolicy.flush(out);
+  }
+
+  /**
+   * Called after {@code len} characters have been passed on to the
+   * underlying {@code Appendable}. Flushes it if that takes it past the
+   * flush threshold.
+   */
+  private void passedOn(int len) throws IOException {
+    unflushed += len;
+    if (flushThreshold > 0 && unflushed >= flushThreshold) {
+      unflushed = 0;
+      FlushPolicy.flush(out);
+    }
+  }
+
+  /**
+   * Calls {@link #flush()} if at least {@code threshold} characters have
+   * been written since the last flush. Used by {@link GxpContext} to apply
+   * the threshold of its {@code FlushPolicy}.
+   */
+  void flushIfOver(int threshold) throws IOException {
+    if (unflushed + pos >= threshold) {
+      flush();
+    }
+  }
+
+  private void writeThrough(char[] cbuf, int off, int len) throws IOException {
+    if (out instanceof Writer) {
+      ((Writer) out).write(cbuf, off, len);
+    } else if (out instanceof StringBuilder) {
+      ((StringBuilder) out).append(cbuf, off, len);
+    } else {
+      out.append(CharBuffer.wrap(cbuf, off, len));
+    }
+  }
+}
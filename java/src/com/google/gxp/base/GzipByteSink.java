@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A {@link ByteSink} that writes a gzip stream to an {@code OutputStream}.
+ *
+ * <p>Dynamic output is compressed as it is written. Large {@link StaticChunk}s
+ * are compressed only once, the first time they are written to any
+ * {@code GzipByteSink}, and their compressed form is copied into the stream
+ * as is: the sink full-flushes its {@code Deflater} (which ends the current
+ * block on a byte boundary and stops later output from referring back past
+ * it), and then splices in the chunk's pre-deflated blocks. The CRC is
+ * still updated with the chunk's uncompressed bytes, which costs far less
+ * than compressing them.
+ *
+ * <p>Decompressing the stream gives exactly the bytes the same calls would
+ * have written to {@link ByteSink#forOutputStream}. {@link #finish()} must be
+ * called once rendering is complete to write the end of the stream.
+ */
+public final class GzipByteSink extends ByteSink {
+  /**
+   * Chunks shorter than this are compressed along with the dynamic output:
+   * the flush needed to splice in a pre-deflated chunk costs a few bytes, and
+   * loses the compression context.
+   */
+  static final int MIN_PREDEFLATED_LENGTH = 256;
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte[] HEADER = {
+    0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+
+  private final OutputStream out;
+  private final Deflater deflater;
+  private final int minPredeflatedLength;
+  private final CRC32 crc = new CRC32();
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+
+  private long size = 0;
+
+  private boolean headerWritten = false;
+  private boolean finished = false;
+
+  GzipByteSink(OutputStream out, Charset charset, int level) {
+    this(out, charset, level, MIN_PREDEFLATED_LENGTH);
+  }
+
+  /**
+   * @param minPredeflatedLength the length below which chunks are compressed
+   * along with the dynamic output. {@code Integer.MAX_VALUE} turns splicing
+   * off.
+   */
+  GzipByteSink(OutputStream out, Charset charset, int level, int minPredeflatedLength) {
+    super(charset);
+    this.out = Preconditions.checkNotNull(out);
+    this.deflater = new Deflater(level, true);
+    this.minPredeflatedLength = minPredeflatedLength;
+  }
+
+  @Override
+  void writeBytes(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkState(!finished, "finish() has already been called");
+    writeHeader();
+    crc.update(b, off, len);
+    size += len;
+    deflater.setInput(b, off, len);
+    // the caller may reuse b, so consume all of it now
+    while (!deflater.needsInput()) {
+      deflate(Deflater.NO_FLUSH);
+    }
+  }
+
+  @Override
+  void writeChunk(StaticChunk chunk) throws IOException {
+    StaticChunk.Deflated deflated = chunk.getDeflated(getCharset());
+    if (deflated == null || deflated.length < minPredeflatedLength) {
+      super.writeChunk(chunk);
+      return;
+    }
+    Preconditions.checkState(!finished, "finish() has already been called");
+    drainBytes();
+    writeHeader();
+    fullFlush();
+    out.write(deflated.bytes);
+    byte[] bytes = chunk.getBytes(getCharset());
+    crc.update(bytes, 0, bytes.length);
+    size += bytes.length;
+  }
+
+  @Override
+  void flushBytes() throws IOException {
+    if (!finished) {
+      writeHeader();
+      int n;
+      do {
+        n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+        out.write(buffer, 0, n);
+      } while (n == buffer.length);
+    }
+    out.flush();
+  }
+
+  /**
+   * Writes the rest of the gzip stream, and flushes the underlying
+   * {@code OutputStream}. Nothing may be written to the sink afterwards.
+   */
+  public void finish() throws IOException {
+    if (finished) {
+      return;
+    }
+    flush();
+    deflater.finish();
+    while (!deflater.finished()) {
+      deflate(Deflater.NO_FLUSH);
+    }
+    deflater.end();
+    finished = true;
+    writeIntLe(crc.getValue());
+    writeIntLe(size);
+    out.flush();
+  }
+
+  private void writeHeader() throws IOException {
+    if (!headerWritten) {
+      out.write(HEADER);
+      headerWritten = true;
+    }
+  }
+
+  /**
+   * Compresses everything written so far and ends the output on a byte
+   * boundary, with no references to earlier output from what follows.
+   */
+  private void fullFlush() throws IOException {
+    int n;
+    do {
+      n = deflater.deflate(buffer, 0, buffer.length, Deflater.FULL_FLUSH);
+      out.write(buffer, 0, n);
+    } while (n == buffer.length);
+  }
+
+  private void deflate(int flush) throws IOException {
+    int n = deflater.deflate(buffer, 0, buffer.length, flush);
+    if (n > 0) {
+      out.write(buffer, 0, n);
+    }
+  }
+
+  private void writeIntLe(long value) throws IOException {
+    out.write((int) value & 0xff);
+    out.write((int) (value >> 8) & 0xff);
+    out.write((int) (value >> 16) & 0xff);
+    out.write((int) (value >> 24) & 0xff);
+  }
+}
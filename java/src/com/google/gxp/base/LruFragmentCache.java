@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The default {@link FragmentCache}. Entries are spread over a number of
+ * independently locked segments, each of which evicts its least recently
+ * used entry when it is full, so for large caches the eviction order is only
+ * approximately LRU. Expired entries are dropped when they are looked up.
+ */
+final class LruFragmentCache extends FragmentCache {
+  private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+  // Small caches are not split up, so that an entry is only evicted once
+  // there really is no room left.
+  private static final int MIN_SEGMENT_CAPACITY = 64;
+
+  private final Segment[] segments;
+  private final Ticker ticker;
+
+  LruFragmentCache(int maxEntries) {
+    this(maxEntries, DEFAULT_CONCURRENCY_LEVEL, Ticker.systemTicker());
+  }
+
+  LruFragmentCache(int maxEntries, int concurrencyLevel, Ticker ticker) {
+    Preconditions.checkArgument(maxEntries > 0, "maxEntries must be positive: %s", maxEntries);
+    Preconditions.checkArgument(concurrencyLevel > 0,
+                                "concurrencyLevel must be positive: %s", concurrencyLevel);
+    this.ticker = Preconditions.checkNotNull(ticker);
+    int segmentCount =
+        Math.max(1, Math.min(concurrencyLevel, maxEntries / MIN_SEGMENT_CAPACITY));
+    segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      int capacity = maxEntries / segmentCount + ((i < maxEntries % segmentCount) ? 1 : 0);
+      segments[i] = new Segment(capacity);
+    }
+  }
+
+  private Segment segmentFor(Object key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);
+    return segments[(h & Integer.MAX_VALUE) % segments.length];
+  }
+
+  @Override
+  protected String get(Object key) {
+    return segmentFor(key).get(key, ticker.read());
+  }
+
+  @Override
+  protected void put(Object key, String fragment, long ttlNanos) {
+    long expiresAt = (ttlNanos > 0) ? ticker.read() + ttlNanos : 0;
+    segmentFor(key).put(key, new Entry(fragment, ttlNanos > 0, expiresAt));
+  }
+
+  @Override
+  public void clear() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /**
+   * @return the number of entries currently stored, including any that have
+   * expired but not yet been dropped.
+   */
+  int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  private static final class Entry {
+    final String fragment;
+    final boolean expires;
+    final long expiresAt;
+
+    Entry(String fragment, boolean expires, long expiresAt) {
+      this.fragment = fragment;
+      this.expires = expires;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private final class Segment {
+    private final Map<Object, Entry> entries;
+
+    Segment(final int capacity) {
+      entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+          if (size() > capacity) {
+            recordEviction();
+            return true;
+          }
+          return false;
+        }
+      };
+    }
+
+    synchronized String get(Object key, long now) {
+      Entry entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (entry.expires && now - entry.expiresAt >= 0) {
+        entries.remove(key);
+        recordEviction();
+        return null;
+      }
+      return entry.fragment;
+    }
+
+    synchronized void put(Object key, Entry entry) {
+      entries.put(key, entry);
+    }
+
+    synchronized void clear() {
+      entries.clear();
+    }
+
+    synchronized int size() {
+      return entries.size();
+    }
+  }
+}
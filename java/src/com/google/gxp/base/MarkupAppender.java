@@ -53,6 +53,28 @@ public class MarkupAppender<T extends MarkupClosure> {
     return CharEscapers.xmlEscaper();
   }
 
+  /**
+   * @return an {@code Appendable} that escapes everything appended to it
+   * (using the {@code CharEscaper} returned by {@link #getCharEscaper})
+   * before passing it on to {@code out}.
+   */
+  protected Appendable getEscapingAppendable(Appendable out, GxpContext gxpContext) {
+    CharEscaper escaper = getCharEscaper(gxpContext);
+    EscapeTable table = getEscapeTable(escaper, gxpContext);
+    return (table != null) ? table.escape(out) : escaper.escape(out);
+  }
+
+  /**
+   * @return the {@code EscapeTable} equivalent to {@code escaper} that also
+   * escapes characters the context's {@code Charset} can't encode, or null if
+   * {@code escaper} isn't one of the standard escapers. Non-standard
+   * escapers are used as-is.
+   */
+  private static EscapeTable getEscapeTable(CharEscaper escaper, GxpContext gxpContext) {
+    EscapeTable table = EscapeTable.forEscaper(escaper);
+    return (table != null) ? table.forCharset(gxpContext.getCharset()) : null;
+  }
+
   //////////////////////////////////////////////////////////////////////
   // Primitives
   //////////////////////////////////////////////////////////////////////
@@ -62,7 +84,7 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, byte value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -71,7 +93,7 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, short value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -80,7 +102,7 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, int value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -89,7 +111,7 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, long value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeLong(out, value);
     return out;
   }
 
@@ -98,7 +120,7 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, float value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeFloat(out, value);
     return out;
   }
 
@@ -107,7 +129,7 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, double value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeDouble(out, value);
     return out;
   }
 
@@ -116,7 +138,13 @@ public class MarkupAppender<T extends MarkupClosure> {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, char value)
       throws IOException {
-    getCharEscaper(gxpContext).escape(out).append(value);
+    CharEscaper escaper = getCharEscaper(gxpContext);
+    EscapeTable table = getEscapeTable(escaper, gxpContext);
+    if (table != null) {
+      table.escape(out, value);
+    } else {
+      escaper.escape(out).append(value);
+    }
     return out;
   }
 
@@ -164,7 +192,13 @@ public class MarkupAppender<T extends MarkupClosure> {
   public <A extends Appendable> A append(A out, GxpContext gxpContext, CharSequence value)
       throws IOException {
     Preconditions.checkNotNull(value);
-    getCharEscaper(gxpContext).escape(out).append(value);
+    CharEscaper escaper = getCharEscaper(gxpContext);
+    EscapeTable table = getEscapeTable(escaper, gxpContext);
+    if (table != null) {
+      table.escape(out, value);
+    } else {
+      escaper.escape(out).append(value);
+    }
     return out;
   }
 }
@@ -16,62 +16,196 @@
 
 package com.google.gxp.base;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.base.Preconditions;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.List;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Message class manages a parameterized text string.  It can be used
  * to represent a message translation containing placeholder original
  * texts.
+ *
+ * <p>Instances are shared through a cache of at most {@link #getCacheSize}
+ * messages. Lookups never lock. When the cache grows past its bound a
+ * quarter of it is evicted with the CLOCK algorithm: messages that have been
+ * looked up since the eviction sweep last passed them are kept, the rest
+ * go. Evicted messages are simply parsed again the next time they are asked
+ * for.
  */
 public final class Message {
   private static final String[] NO_PARAMS = new String[]{};
 
-  private static final Map<String, Message> messageCache = Maps.newHashMap();
+  /**
+   * The default maximum number of messages kept by {@link #getInstance}.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 10000;
+
+  private static final ConcurrentMap<String, Message> messageCache =
+      new ConcurrentHashMap<String, Message>();
+  // Approximate number of entries in messageCache. Unlike
+  // ConcurrentHashMap.size() this is cheap to read on every insert.
+  private static final AtomicInteger cacheCount = new AtomicInteger();
+  private static final AtomicBoolean evicting = new AtomicBoolean();
+  private static volatile int maxCacheSize = DEFAULT_CACHE_SIZE;
+
+  // The clock hand: where the last eviction sweep stopped. Only used by the
+  // thread that won "evicting".
+  private static Iterator<Map.Entry<String, Message>> hand = null;
+
   /**
    * Get an instance of Message.
    *
    * @param msg parameterized text string
    */
   public static Message getInstance(String msg) {
-    if (!messageCache.containsKey(msg)) {
-      messageCache.put(msg, new Message(msg));
+    Message message = messageCache.get(msg);
+    if (message != null) {
+      // only write when it changes, to keep the cache line shared
+      if (!message.referenced) {
+        message.referenced = true;
+      }
+    } else {
+      message = new Message(msg);
+      Message existing = messageCache.putIfAbsent(msg, message);
+      if (existing != null) {
+        return existing;
+      }
+      if (cacheCount.incrementAndGet() > maxCacheSize) {
+        evict();
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Removes entries until the cache is down to three quarters of its
+   * maximum size. The sweep carries on from where the last one stopped,
+   * clearing the referenced flag of messages that have it and removing those
+   * that don't. Only one thread evicts at a time; any others carry on without
+   * waiting.
+   */
+  private static void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int target = maxCacheSize - maxCacheSize / 4;
+      // Two full turns clear every flag. If other threads keep setting them
+      // faster than that, stop giving second chances so the bound holds.
+      int chances = 2 * (cacheCount.get() + 1);
+      while (cacheCount.get() > target) {
+        if (hand == null || !hand.hasNext()) {
+          hand = messageCache.entrySet().iterator();
+          if (!hand.hasNext()) {
+            break;
+          }
+        }
+        Map.Entry<String, Message> entry = hand.next();
+        Message message = entry.getValue();
+        if (message.referenced && chances-- > 0) {
+          message.referenced = false;
+        } else if (messageCache.remove(entry.getKey(), message)) {
+          cacheCount.decrementAndGet();
+        }
+      }
+    } finally {
+      evicting.set(false);
     }
-    return messageCache.get(msg);
+  }
+
+  /**
+   * Sets the maximum number of messages kept by {@link #getInstance}. If the
+   * cache is already larger it is trimmed the next time a message is added.
+   */
+  public static void setCacheSize(int maxSize) {
+    Preconditions.checkArgument(maxSize > 0, "maxSize must be positive: %s", maxSize);
+    maxCacheSize = maxSize;
+  }
+
+  /**
+   * @return the maximum number of messages kept by {@link #getInstance}.
+   */
+  public static int getCacheSize() {
+    return maxCacheSize;
+  }
+
+  /**
+   * @return the (approximate) number of messages currently cached.
+   */
+  static int getCachedCount() {
+    return cacheCount.get();
   }
 
   private final String msg;
   private final int[] paramLocations;
 
-  private Message(String msg) {
+  // bit n is set if placeholder %(n + 1) appears more than once
+  private final int repeatedParams;
+
+  // set by getInstance when the message is found in the cache, and cleared
+  // by evict
+  private volatile boolean referenced = false;
+
+  /**
+   * Creates a message that isn't shared through the cache. Use
+   * {@link #getInstance} unless the caller keeps the message anyway.
+   */
+  Message(String msg) {
     this.msg = msg;
     this.paramLocations = calculateParamLocations(msg);
+    int seen = 0;
+    int repeated = 0;
+    for (int pos : paramLocations) {
+      char ch = msg.charAt(pos + 1);
+      if (ch != '%') {
+        int bit = 1 << (ch - '1');
+        repeated |= seen & bit;
+        seen |= bit;
+      }
+    }
+    this.repeatedParams = repeated;
   }
 
-  private static final Pattern PARAM_PATTERN = Pattern.compile("%[1-9%]");
-
-  private static int[] calculateParamLocations(String msg) {
-    // find the %[1-9%] locations in a list...
-    List<Integer> locs = Lists.newArrayList();
-    Matcher m = PARAM_PATTERN.matcher(msg);
-    int start = 0;
-    while (m.find(start)) {
-      locs.add(m.start());
-      start = m.end();
+  /**
+   * @return whether there is a placeholder ({@code "%[1-9%]"}) at
+   * {@code msg[i]}.
+   */
+  private static boolean isParamAt(String msg, int i) {
+    if (msg.charAt(i) != '%' || i + 1 >= msg.length()) {
+      return false;
     }
+    char next = msg.charAt(i + 1);
+    return next == '%' || (next >= '1' && next <= '9');
+  }
 
-    // but save them in an array so we only unbox once
-    int counter = 0;
-    int[] array = new int[locs.size()];
-    for (Integer loc : locs) {
-      array[counter++] = loc;
+  /**
+   * @return the positions of the (non-overlapping) placeholders in
+   * {@code msg}, from left to right.
+   */
+  static int[] calculateParamLocations(String msg) {
+    int count = 0;
+    int length = msg.length();
+    for (int i = 0; i < length; i++) {
+      if (isParamAt(msg, i)) {
+        count++;
+        i++;
+      }
+    }
+    int[] locations = new int[count];
+    count = 0;
+    for (int i = 0; i < length && count < locations.length; i++) {
+      if (isParamAt(msg, i)) {
+        locations[count++] = i;
+        i++;
+      }
     }
-    return array;
+    return locations;
   }
 
   /**
@@ -121,4 +255,65 @@ public final class Message {
     sb.append(msg, cur, msg.length());
     return sb.toString();
   }
+
+  /**
+   * Writes the message to {@code out}, rendering each parameter placeholder
+   * by writing the corresponding closure straight to {@code out}. Unlike
+   * {@link #toString(String...)}, which is given its parameters already
+   * evaluated, this evaluates them lazily, as the message is written:
+   * <ul>
+   * <li>Closures are rendered in the order their placeholders appear in this
+   * message (the translation), which may differ from the order of
+   * {@code parameters}.
+   * <li>A closure whose placeholder this message leaves out is not rendered
+   * at all.
+   * <li>A closure whose placeholder appears more than once is rendered only
+   * once, into a buffer, and the buffered output is written at each of its
+   * placeholders.
+   * <li>If a closure throws, the part of the message before its placeholder
+   * has already been written.
+   * </ul>
+   *
+   * @param parameters the parameters necessary to expand the message
+   * @throws IllegalArgumentException if not enough parameters are supplied,
+   * in which case nothing is written.
+   */
+  public void write(Appendable out, GxpContext gxpContext, GxpClosure... parameters)
+      throws IOException {
+    if (paramLocations.length == 0) {
+      out.append(msg);
+      return;
+    }
+
+    for (int pos : paramLocations) {
+      char ch = msg.charAt(pos + 1);
+      if (ch != '%' && ch - '1' >= parameters.length) {
+        throw new IllegalArgumentException(
+            "Parameter %" + ch + " not supplied for translation \"" + msg + "\"");
+      }
+    }
+
+    // output of the repeated parameters rendered so far
+    String[] rendered = (repeatedParams == 0) ? null : new String[9];
+    int cur = 0;
+    for (int pos : paramLocations) {
+      out.append(msg, cur, pos);
+      char ch = msg.charAt(pos + 1);
+      int i = ch - '1';
+      if (ch == '%') {
+        out.append('%');
+      } else if ((repeatedParams & (1 << i)) == 0) {
+        parameters[i].write(out, gxpContext);
+      } else {
+        if (rendered[i] == null) {
+          StringBuilder sb = new StringBuilder();
+          parameters[i].write(sb, gxpContext);
+          rendered[i] = sb.toString();
+        }
+        out.append(rendered[i]);
+      }
+      cur = pos + 2;
+    }
+    out.append(msg, cur, msg.length());
+  }
 }
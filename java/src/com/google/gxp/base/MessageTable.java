@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.collect.Lists;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The translated {@link Message}s of one {@code ResourceBundle}, indexed by
+ * message id. This is what {@link GxpTemplate#getMessage} looks messages up
+ * in.
+ *
+ * <p>The first lookup for a message source and locale loads the bundle and
+ * parses every key that is a message id (a {@code long} in canonical form)
+ * into an open addressing hash table from ids to {@code Message}s. Later
+ * lookups for that source and locale go straight to the table, without
+ * asking the (synchronized) {@code ResourceBundle} cache for the bundle,
+ * hashing a {@code String} key or parsing the message again.
+ *
+ * <p>Bundles are found with the class loader of this class, as
+ * {@code ResourceBundle.getBundle(String, Locale)} would, so that loader is
+ * implicitly part of the key. Tables don't refer to their bundles, so the
+ * cache doesn't keep bundles alive. It also doesn't notice when the
+ * {@code ResourceBundle} cache reloads a bundle: code that calls
+ * {@code ResourceBundle.clearCache()} to pick up new translations should
+ * call {@link #clearCache()} too.
+ */
+public final class MessageTable {
+  // source -> locale -> table
+  private static final ConcurrentMap<String, ConcurrentMap<Locale, MessageTable>> TABLES =
+      new ConcurrentHashMap<String, ConcurrentMap<Locale, MessageTable>>();
+
+  /**
+   * Returns the message with the given id from the bundle for the given
+   * message source and locale.
+   *
+   * @throws java.util.MissingResourceException if there is no bundle for
+   * {@code source}, or no such message.
+   */
+  static Message getMessage(String source, Locale locale, long id) {
+    Message message = forSource(source, locale).get(id);
+    if (message == null) {
+      // Not one of the keys we know about. Let the bundle have a go; this
+      // also gets us its usual exception if the message doesn't exist.
+      ResourceBundle bundle = ResourceBundle.getBundle(source, locale);
+      message = Message.getInstance(bundle.getString(String.valueOf(id)));
+    }
+    return message;
+  }
+
+  /**
+   * Returns the table for the given message source and locale, building it
+   * if necessary.
+   *
+   * @throws java.util.MissingResourceException if there is no bundle for
+   * {@code source}.
+   */
+  static MessageTable forSource(String source, Locale locale) {
+    ConcurrentMap<Locale, MessageTable> tables = TABLES.get(source);
+    if (tables == null) {
+      tables = new ConcurrentHashMap<Locale, MessageTable>();
+      ConcurrentMap<Locale, MessageTable> existing = TABLES.putIfAbsent(source, tables);
+      if (existing != null) {
+        tables = existing;
+      }
+    }
+    MessageTable table = tables.get(locale);
+    if (table == null) {
+      // Racing threads at worst both build the table.
+      table = new MessageTable(ResourceBundle.getBundle(source, locale));
+      tables.put(locale, table);
+    }
+    return table;
+  }
+
+  /**
+   * Forgets all built tables, so that messages are loaded again from
+   * whatever bundles {@code ResourceBundle.getBundle} returns next. The
+   * counterpart of {@code ResourceBundle.clearCache()}.
+   */
+  public static void clearCache() {
+    TABLES.clear();
+  }
+
+  private final long[] ids;
+  private final Message[] messages;
+  private final int mask;
+
+  MessageTable(ResourceBundle bundle) {
+    List<Long> keys = Lists.newArrayList();
+    List<Message> values = Lists.newArrayList();
+    for (String key : bundle.keySet()) {
+      long id;
+      try {
+        id = Long.parseLong(key);
+      } catch (NumberFormatException e) {
+        // not a message id; only reachable through the bundle
+        continue;
+      }
+      // Ids are always looked up in canonical form, so a key like "007"
+      // could never be asked for.
+      if (String.valueOf(id).equals(key)) {
+        keys.add(id);
+        // Not through Message.getInstance: the table holds on to its
+        // messages anyway, and a big bundle would churn the shared cache.
+        values.add(new Message(bundle.getString(key)));
+      }
+    }
+
+    // keep the load factor at or below 1/2
+    int capacity = 2;
+    while (capacity < keys.size() * 2) {
+      capacity <<= 1;
+    }
+    ids = new long[capacity];
+    messages = new Message[capacity];
+    mask = capacity - 1;
+    for (int k = 0; k < keys.size(); k++) {
+      long id = keys.get(k);
+      int i = indexFor(id);
+      while (messages[i] != null) {
+        i = (i + 1) & mask;
+      }
+      ids[i] = id;
+      messages[i] = values.get(k);
+    }
+  }
+
+  private int indexFor(long id) {
+    // Message ids are fingerprints, but mix them anyway in case they're not.
+    long h = id * 0x9E3779B97F4A7C15L;
+    return (int) (h >>> 32) & mask;
+  }
+
+  /**
+   * @return the message with the given id, or null if the table has no
+   * such message.
+   */
+  Message get(long id) {
+    for (int i = indexFor(id); messages[i] != null; i = (i + 1) & mask) {
+      if (ids[i] == id) {
+        return messages[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the number of messages in the table.
+   */
+  int size() {
+    int size = 0;
+    for (Message message : messages) {
+      if (message != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Learns how much output instances of a class (or one call site in a class)
+ * typically produce, so that buffers for that output can be created at the
+ * right size instead of being regrown repeatedly.
+ *
+ * <p>The estimate is an exponentially decayed running average of the
+ * recorded sizes. Updates are lock-free, so a single estimator can be shared
+ * by every thread rendering a class. Typical usage pattern is:
+ * <pre>
+ * OutputSizeEstimator estimator = OutputSizeEstimator.forClass(closure.getClass());
+ * StringBuilder sb = estimator.newStringBuilder();
+ * closure.write(sb, gxpContext);
+ * return estimator.record(sb).toString();
+ * </pre>
+ */
+public final class OutputSizeEstimator {
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 20;
+
+  // Each recorded size moves the estimate 1/8th of the way towards it.
+  private static final int DECAY_SHIFT = 3;
+
+  private static final ClassValue<OutputSizeEstimator> ESTIMATORS =
+      new ClassValue<OutputSizeEstimator>() {
+        @Override
+        protected OutputSizeEstimator computeValue(Class<?> type) {
+          return register(type, new OutputSizeEstimator(type.getName()));
+        }
+      };
+
+  // For getEstimates() only. Weak so that estimators don't keep dynamically
+  // loaded classes alive; estimators only hold on to their names.
+  private static final Map<Class<?>, List<OutputSizeEstimator>> REGISTRY =
+      new WeakHashMap<Class<?>, List<OutputSizeEstimator>>();
+
+  private final String name;
+  private final AtomicInteger estimate = new AtomicInteger();
+
+  private OutputSizeEstimator(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the estimator for output produced by instances of {@code type}.
+   */
+  public static OutputSizeEstimator forClass(Class<?> type) {
+    return ESTIMATORS.get(Preconditions.checkNotNull(type));
+  }
+
+  /**
+   * Creates a new estimator for one call site in {@code type}. Generated
+   * code uses these for the buffers it escapes values into, so that buffers
+   * for, say, short attribute values and large placeholders aren't sized by
+   * a single average. Each call creates a separate estimator, so the result
+   * should be kept in a static field.
+   *
+   * @param site a number identifying the call site within {@code type}.
+   */
+  public static OutputSizeEstimator forCallSite(Class<?> type, int site) {
+    return register(Preconditions.checkNotNull(type),
+                    new OutputSizeEstimator(type.getName() + "#" + site));
+  }
+
+  private static OutputSizeEstimator register(Class<?> type, OutputSizeEstimator estimator) {
+    synchronized (REGISTRY) {
+      List<OutputSizeEstimator> estimators = REGISTRY.get(type);
+      if (estimators == null) {
+        estimators = Lists.newArrayListWithCapacity(1);
+        REGISTRY.put(type, estimators);
+      }
+      estimators.add(estimator);
+    }
+    return estimator;
+  }
+
+  /**
+   * @return the current estimate of every estimator that has been created,
+   * keyed by class name (followed by {@code #} and the site number for
+   * call site estimators).
+   */
+  public static SortedMap<String, Integer> getEstimates() {
+    SortedMap<String, Integer> result = Maps.newTreeMap();
+    synchronized (REGISTRY) {
+      for (List<OutputSizeEstimator> estimators : REGISTRY.values()) {
+        for (OutputSizeEstimator estimator : estimators) {
+          result.put(estimator.name, estimator.getEstimate());
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the current estimate, in characters. 0 until a size is recorded.
+   */
+  public int getEstimate() {
+    return estimate.get();
+  }
+
+  /**
+   * @return a capacity that should be big enough for the next output, with
+   * some headroom.
+   */
+  public int getCapacity() {
+    int e = estimate.get();
+    return Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, e + (e >> 2)));
+  }
+
+  /**
+   * @return a new {@code StringBuilder} with a capacity of
+   * {@link #getCapacity()}.
+   */
+  public StringBuilder newStringBuilder() {
+    return new StringBuilder(getCapacity());
+  }
+
+  /**
+   * Records the size of a piece of output.
+   */
+  public void record(int size) {
+    Preconditions.checkArgument(size >= 0);
+    size = Math.min(size, MAX_CAPACITY);
+    while (true) {
+      int old = estimate.get();
+      int updated = (old == 0) ? size : old + ((size - old) >> DECAY_SHIFT);
+      if (updated == old || estimate.compareAndSet(old, updated)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Records the length of {@code sb}.
+   *
+   * @return {@code sb}
+   */
+  public StringBuilder record(StringBuilder sb) {
+    record(sb.length());
+    return sb;
+  }
+
+  @Override
+  public String toString() {
+    return "OutputSizeEstimator(" + name + ": " + estimate.get() + ")";
+  }
+}
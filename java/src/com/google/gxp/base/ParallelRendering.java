@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Renders a run of sibling calls marked with {@code gxp:parallel}. Each call
+ * passed to {@link #fork} is rendered on the context's parallel executor into
+ * a private buffer, and {@link #join} splices the buffers, along with any
+ * static text between the calls, into the output in source order.
+ *
+ * <p>If the context has no parallel executor everything is written straight
+ * to the output as it arrives, exactly as if the calls had not been marked.
+ *
+ * <p>Exceptions are reported deterministically: {@code join} rethrows the
+ * exception of the first failing call in source order, after writing the
+ * output of the calls before it, which is what sequential rendering would
+ * have done. Calls after it that have not started yet are cancelled.
+ *
+ * <p>Instances are created by generated code using {@link
+ * GxpContext#newParallelRendering}, and are used by a single thread.
+ */
+public final class ParallelRendering {
+  private final Appendable out;
+  private final GxpContext gxpContext;
+  private final Executor executor;
+
+  // CharSequences and Future<StringBuilder>s, in source order
+  private final List<Object> parts = Lists.newArrayList();
+
+  ParallelRendering(Appendable out, GxpContext gxpContext, Executor executor) {
+    this.out = Preconditions.checkNotNull(out);
+    this.gxpContext = Preconditions.checkNotNull(gxpContext);
+    this.executor = executor;
+  }
+
+  /**
+   * Starts rendering {@code closure}.
+   */
+  public void fork(final GxpClosure closure) throws IOException {
+    if (executor == null) {
+      closure.write(out, gxpContext);
+      return;
+    }
+    final GxpContext forkedContext = gxpContext.forkForParallelCall();
+    FutureTask<StringBuilder> task = new FutureTask<StringBuilder>(
+        new Callable<StringBuilder>() {
+          public StringBuilder call() throws IOException {
+            OutputSizeEstimator estimator = OutputSizeEstimator.forClass(closure.getClass());
+            StringBuilder sb = estimator.newStringBuilder();
+            closure.write(sb, forkedContext);
+            return estimator.record(sb);
+          }
+        });
+    parts.add(task);
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      // a saturated executor degrades to sequential rendering
+      task.run();
+    }
+  }
+
+  /**
+   * Appends static text that appears between the calls.
+   */
+  public void append(CharSequence text) throws IOException {
+    if (executor == null) {
+      out.append(text);
+    } else {
+      parts.add(text);
+    }
+  }
+
+  /**
+   * Waits for the calls started by {@link #fork} and writes their output,
+   * along with the text passed to {@link #append}, in source order.
+   */
+  public void join() throws IOException {
+    if (executor == null) {
+      return;
+    }
+    int i = 0;
+    try {
+      for (; i < parts.size(); i++) {
+        Object part = parts.get(i);
+        if (part instanceof Future) {
+          out.append(getResult((Future<?>) part));
+        } else {
+          out.append((CharSequence) part);
+        }
+      }
+    } finally {
+      for (; i < parts.size(); i++) {
+        Object part = parts.get(i);
+        if (part instanceof Future) {
+          ((Future<?>) part).cancel(false);
+        }
+      }
+    }
+    gxpContext.afterCall(out);
+  }
+
+  private static CharSequence getResult(Future<?> future) throws IOException {
+    try {
+      return (CharSequence) future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException ioe = new InterruptedIOException(
+          "interrupted while waiting for a parallel call");
+      ioe.initCause(e);
+      throw ioe;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      } else {
+        throw new IOException(cause);
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+/**
+ * The mutable state of a single render, kept apart from the (immutable)
+ * configuration in {@link GxpContext}. A {@code RenderScope} is only ever used
+ * by one thread at a time.
+ */
+final class RenderScope {
+  private static final ThreadLocal<RenderScope> PER_THREAD = new ThreadLocal<RenderScope>() {
+    @Override
+    protected RenderScope initialValue() {
+      return new RenderScope();
+    }
+  };
+
+  private boolean inTopLevelCall = false;
+  private int callerDepth = 0;
+
+  /**
+   * @return a new scope for a call rendered on another thread on behalf of
+   * this one. It shares this scope's top level call, but counts callers
+   * separately.
+   */
+  RenderScope fork() {
+    RenderScope forked = new RenderScope();
+    forked.inTopLevelCall = inTopLevelCall;
+    return forked;
+  }
+
+  /**
+   * @return the scope used by shared contexts on the current thread.
+   */
+  static RenderScope forCurrentThread() {
+    return PER_THREAD.get();
+  }
+
+  /**
+   * @return true if no top level call is in progress, in which case the
+   * caller becomes the top level call.
+   */
+  boolean enterTopLevelCall() {
+    if (inTopLevelCall) {
+      return false;
+    }
+    inTopLevelCall = true;
+    return true;
+  }
+
+  /**
+   * Marks the end of the top level call.
+   */
+  void exitTopLevelCall() {
+    inTopLevelCall = false;
+  }
+
+  /**
+   * Marks the start of a template that calls other templates.
+   */
+  void enterCaller() {
+    callerDepth++;
+  }
+
+  /**
+   * Marks the end of a template that calls other templates.
+   */
+  void exitCaller() {
+    callerDepth--;
+  }
+
+  /**
+   * @return the number of templates that call other templates currently
+   * being rendered. Templates that make no calls aren't counted, as they
+   * can't be the caller {@link GxpContext#afterCall} is asking about.
+   */
+  int getCallerDepth() {
+    return callerDepth;
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.zip.Deflater;
+
+/**
+ * A run of static (already escaped) template output, encoded once into bytes
+ * when the chunk is constructed. Generated code creates these as
+ * {@code static final} fields when compiled with a byte output charset so
+ * that constant markup does not have to be re-encoded on every request.
+ *
+ * <p>Writing a chunk to a {@link ByteSink} copies the pre-encoded bytes
+ * directly. Writing it to any other {@code Appendable} appends the text, so
+ * the same generated code works with character based output.
+ */
+public final class StaticChunk {
+  private final String text;
+  private final Charset charset;
+  private final byte[] bytes;
+
+  // Read-only direct copy of bytes, created on first use by a channel sink.
+  // Racing threads at worst allocate it twice.
+  private volatile ByteBuffer directBuffer = null;
+
+  // bytes compressed for splicing into a gzip stream, created on first use
+  // by a GzipByteSink. Racing threads at worst compress it twice.
+  private volatile Deflated deflated = null;
+
+  // Most recent encoding for a charset other than the one we were compiled
+  // for. Replaced wholesale, so racing threads at worst encode twice.
+  private volatile Encoding alternate = null;
+
+  /**
+   * @param text the (already escaped) text of this chunk.
+   * @param charset the {@code Charset} to pre-encode {@code text} in.
+   */
+  public StaticChunk(String text, Charset charset) {
+    this.text = Preconditions.checkNotNull(text);
+    this.charset = Preconditions.checkNotNull(charset);
+    this.bytes = text.getBytes(charset);
+  }
+
+  /**
+   * Writes this chunk to the specified {@code Appendable}.
+   */
+  public void write(Appendable out) throws IOException {
+    if (out instanceof ByteSink) {
+      ((ByteSink) out).write(this);
+    } else if (out instanceof GxpWriter) {
+      ((GxpWriter) out).write(this);
+    } else {
+      out.append(text);
+    }
+  }
+
+  /**
+   * @return the {@code Charset} this chunk was pre-encoded in.
+   */
+  public Charset getCharset() {
+    return charset;
+  }
+
+  /**
+   * @return the bytes of this chunk encoded in the specified {@code Charset}.
+   * The returned array must not be modified.
+   */
+  byte[] getBytes(Charset target) {
+    if (target.equals(charset)) {
+      return bytes;
+    }
+    Encoding encoding = alternate;
+    if (encoding == null || !encoding.charset.equals(target)) {
+      encoding = new Encoding(target, text.getBytes(target));
+      alternate = encoding;
+    }
+    return encoding.bytes;
+  }
+
+  /**
+   * @return a read-only buffer holding the bytes of this chunk encoded in the
+   * specified {@code Charset}, positioned at the start of the chunk. For the
+   * charset this chunk was compiled for, the buffer is a view of direct memory
+   * shared by every caller.
+   */
+  ByteBuffer getBuffer(Charset target) {
+    if (!target.equals(charset)) {
+      return ByteBuffer.wrap(getBytes(target)).asReadOnlyBuffer();
+    }
+    ByteBuffer buffer = directBuffer;
+    if (buffer == null) {
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes).flip();
+      buffer = direct.asReadOnlyBuffer();
+      directBuffer = buffer;
+    }
+    return buffer.duplicate();
+  }
+
+  /**
+   * @return the bytes of this chunk, encoded in the specified
+   * {@code Charset}, as raw deflate blocks that can be spliced into a deflate
+   * stream at a full flush point. Returns null for charsets other than the
+   * one this chunk was compiled for.
+   */
+  Deflated getDeflated(Charset target) {
+    if (!target.equals(charset)) {
+      return null;
+    }
+    Deflated result = deflated;
+    if (result == null) {
+      result = new Deflated(bytes);
+      deflated = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+
+  /**
+   * A chunk compressed on its own into non-final deflate blocks that end on a
+   * byte boundary, along with the length of the uncompressed bytes.
+   */
+  static final class Deflated {
+    final byte[] bytes;
+    final int length;
+
+    Deflated(byte[] uncompressed) {
+      Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+      try {
+        deflater.setInput(uncompressed);
+        byte[] buffer = new byte[uncompressed.length + 64];
+        int n = 0;
+        while (true) {
+          n += deflater.deflate(buffer, n, buffer.length - n, Deflater.SYNC_FLUSH);
+          if (n < buffer.length) {
+            break;
+          }
+          byte[] bigger = new byte[buffer.length * 2];
+          System.arraycopy(buffer, 0, bigger, 0, n);
+          buffer = bigger;
+        }
+        this.bytes = new byte[n];
+        System.arraycopy(buffer, 0, bytes, 0, n);
+      } finally {
+        deflater.end();
+      }
+      this.length = uncompressed.length;
+    }
+  }
+
+  private static final class Encoding {
+    final Charset charset;
+    final byte[] bytes;
+
+    Encoding(Charset charset, byte[] bytes) {
+      this.charset = charset;
+      this.bytes = bytes;
+    }
+  }
+}
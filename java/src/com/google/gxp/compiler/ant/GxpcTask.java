@@ -41,6 +41,7 @@ import com.google.gxp.compiler.parser.FileSystemEntityResolver;
 import com.google.gxp.compiler.parser.SourceEntityResolver;
 
 import java.io.File;
+import java.nio.charset.Charset;
 import java.util.*;
 
 import org.apache.tools.ant.BuildException;
@@ -76,6 +77,7 @@ public class GxpcTask extends Task implements Configuration {
   private String destdir;
   private String target;
   private boolean dynamic = false;
+  private Charset byteOutputCharset = null;
   private boolean i18nwarn = false;
 
   public GxpcTask(FileSystem fs, FileRef cwd) {
@@ -164,6 +166,7 @@ public class GxpcTask extends Task implements Configuration {
     codeGeneratorFactory = new DefaultCodeGeneratorFactory();
     codeGeneratorFactory.setRuntimeMessageSource(target);
     codeGeneratorFactory.setDynamicModeEnabled(dynamic);
+    codeGeneratorFactory.setByteOutputCharset(byteOutputCharset);
     codeGeneratorFactory.setSourceFiles(getSourceFiles());
     codeGeneratorFactory.setSchemaFiles(getSchemaFiles());
     codeGeneratorFactory.setSourcePaths(sourcePaths);
@@ -214,6 +217,10 @@ public class GxpcTask extends Task implements Configuration {
     this.dynamic = dynamic;
   }
 
+  public void setByteOutputCharset(String byteOutputCharset) {
+    this.byteOutputCharset = Charset.forName(byteOutputCharset);
+  }
+
   public void setI18nwarn(boolean i18nwarn) {
     this.i18nwarn = i18nwarn;
   }
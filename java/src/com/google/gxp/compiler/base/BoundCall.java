@@ -36,18 +36,27 @@ public class BoundCall extends Call {
                    String displayName,
                    Callable callee,
                    Map<String, Attribute> attributes,
-                   List<String> attrBundles) {
+                   List<String> attrBundles,
+                   boolean parallel) {
     super(sourcePosition, displayName, Preconditions.checkNotNull(callee.getSchema()),
-          attributes, attrBundles);
+          attributes, attrBundles, parallel);
     this.callee = Preconditions.checkNotNull(callee);
   }
 
+  public BoundCall(SourcePosition sourcePosition,
+                   String displayName,
+                   Callable callee,
+                   Map<String, Attribute> attributes,
+                   List<String> attrBundles) {
+    this(sourcePosition, displayName, callee, attributes, attrBundles, false);
+  }
+
   public BoundCall(Call fromCall,
                    Callable callee,
                    Map<String, Attribute> attributes) {
     super(fromCall.getSourcePosition(), fromCall.getDisplayName(),
           Preconditions.checkNotNull(callee.getSchema()), attributes,
-          fromCall.getAttrBundles());
+          fromCall.getAttrBundles(), fromCall.isParallel());
     this.callee = Preconditions.checkNotNull(callee);
   }
 
@@ -59,7 +68,7 @@ public class BoundCall extends Call {
     return Objects.equal(getAttributes(), newAttributes)
         ? this
         : new BoundCall(getSourcePosition(), getDisplayName(), callee,
-                        newAttributes, getAttrBundles());
+                        newAttributes, getAttrBundles(), isParallel());
   }
 
   @Override
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.compiler.base;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+/**
+ * A {@code Expression} whose rendered output is cached at runtime. This is
+ * the internal representation of a {@code <gxp:cache>}.
+ */
+public class CacheExpression extends Expression {
+  private final Expression key;
+  private final String region;
+  private final long ttlSeconds;
+  private final Expression content;
+
+  public CacheExpression(Node fromNode, Expression key, String region,
+                         long ttlSeconds, Expression content) {
+    super(fromNode, content.getSchema());
+    this.key = Preconditions.checkNotNull(key);
+    this.region = Preconditions.checkNotNull(region);
+    Preconditions.checkArgument(ttlSeconds >= 0);
+    this.ttlSeconds = ttlSeconds;
+    this.content = Preconditions.checkNotNull(content);
+  }
+
+  /**
+   * @return the expression that the cached output is keyed on.
+   */
+  public Expression getKey() {
+    return key;
+  }
+
+  /**
+   * @return the name of the cache region that the output is stored in.
+   */
+  public String getRegion() {
+    return region;
+  }
+
+  /**
+   * @return how long the output may be cached for, or 0 if it only leaves
+   * the cache when it is evicted.
+   */
+  public long getTtlSeconds() {
+    return ttlSeconds;
+  }
+
+  public Expression getContent() {
+    return content;
+  }
+
+  public CacheExpression withContent(Expression newContent) {
+    return content.equals(newContent)
+        ? this
+        : new CacheExpression(this, key, region, ttlSeconds, newContent);
+  }
+
+  @Override
+  public <T> T acceptVisitor(ExpressionVisitor<T> visitor) {
+    return visitor.visitCacheExpression(this);
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    return this == that
+        || (that instanceof CacheExpression && equals((CacheExpression) that));
+  }
+
+  public boolean equals(CacheExpression that) {
+    return equalsExpression(that)
+        && Objects.equal(getKey(), that.getKey())
+        && Objects.equal(getRegion(), that.getRegion())
+        && getTtlSeconds() == that.getTtlSeconds()
+        && Objects.equal(getContent(), that.getContent());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(
+        expressionHashCode(),
+        getKey(),
+        getRegion(),
+        getTtlSeconds(),
+        getContent());
+  }
+}
@@ -32,15 +32,26 @@ import java.util.*;
 public abstract class Call extends Expression {
   private final ImmutableMap<String, Attribute> attributes;
   private final ImmutableList<String> attrBundles;
+  private final boolean parallel;
 
   public Call(SourcePosition sourcePosition,
               String displayName,
               Schema schema,
               Map<String, Attribute> attributes,
-              List<String> attrBundles) {
+              List<String> attrBundles,
+              boolean parallel) {
     super(sourcePosition, displayName, schema);
     this.attributes = ImmutableMap.copyOf(attributes);
     this.attrBundles = ImmutableList.copyOf(attrBundles);
+    this.parallel = parallel;
+  }
+
+  public Call(SourcePosition sourcePosition,
+              String displayName,
+              Schema schema,
+              Map<String, Attribute> attributes,
+              List<String> attrBundles) {
+    this(sourcePosition, displayName, schema, attributes, attrBundles, false);
   }
 
   public Map<String, Attribute> getAttributes() {
@@ -51,6 +62,14 @@ public abstract class Call extends Expression {
     return attrBundles;
   }
 
+  /**
+   * @return true if the call was marked with {@code gxp:parallel}, so that it
+   * may be rendered concurrently with neighbouring parallel calls.
+   */
+  public boolean isParallel() {
+    return parallel;
+  }
+
   public abstract Call transformParams(ExhaustiveExpressionVisitor visitor);
 
   @Override
@@ -63,13 +82,15 @@ public abstract class Call extends Expression {
   protected boolean equalsCall(Call that) {
     return equalsExpression(that)
         && Objects.equal(getAttributes(), that.getAttributes())
-        && Objects.equal(getAttrBundles(), that.getAttrBundles());
+        && Objects.equal(getAttrBundles(), that.getAttrBundles())
+        && isParallel() == that.isParallel();
   }
 
   protected int callHashCode() {
     return Objects.hashCode(
         expressionHashCode(),
         getAttributes(),
-        getAttrBundles());
+        getAttrBundles(),
+        isParallel());
   }
 }
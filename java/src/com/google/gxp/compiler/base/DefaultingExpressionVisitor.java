@@ -53,6 +53,10 @@ public abstract class DefaultingExpressionVisitor<T>
     return defaultVisitExpression(value);
   }
 
+  public T visitCacheExpression(CacheExpression value) {
+    return defaultVisitExpression(value);
+  }
+
   public T visitCall(Call value) {
     return defaultVisitExpression(value);
   }
@@ -93,6 +97,10 @@ public abstract class DefaultingExpressionVisitor<T>
     return defaultVisitExpression(value);
   }
 
+  public T visitFlushPoint(FlushPoint value) {
+    return defaultVisitExpression(value);
+  }
+
   public T visitIsXmlExpression(IsXmlExpression value) {
     return defaultVisitExpression(value);
   }
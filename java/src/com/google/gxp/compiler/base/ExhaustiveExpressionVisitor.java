@@ -62,6 +62,10 @@ public abstract class ExhaustiveExpressionVisitor
     return postProcess(value);
   }
 
+  public Expression visitFlushPoint(FlushPoint value) {
+    return postProcess(value);
+  }
+
   public Expression visitStringConstant(StringConstant value) {
     return postProcess(value);
   }
@@ -163,6 +167,10 @@ public abstract class ExhaustiveExpressionVisitor
                                  apply(abbr.getContent())));
   }
 
+  public Expression visitCacheExpression(CacheExpression cache) {
+    return postProcess(cache.withContent(apply(cache.getContent())));
+  }
+
   public Expression visitCall(Call call) {
     return postProcess(call.transformParams(this));
   }
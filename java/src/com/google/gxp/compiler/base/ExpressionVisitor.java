@@ -28,6 +28,7 @@ public interface ExpressionVisitor<T> extends Function<Expression, T> {
   T visitAttrBundleParam(AttrBundleParam value);
   T visitAttrBundleReference(AttrBundleReference value);
   T visitBooleanConstant(BooleanConstant value);
+  T visitCacheExpression(CacheExpression value);
   T visitCall(Call value);
   T visitCollapseExpression(CollapseExpression value);
   T visitConcatenation(Concatenation value);
@@ -38,6 +39,7 @@ public interface ExpressionVisitor<T> extends Function<Expression, T> {
   T visitExampleExpression(ExampleExpression value);
   T visitExceptionExpression(ExceptionExpression value);
   T visitExtractedMessage(ExtractedMessage value);
+  T visitFlushPoint(FlushPoint value);
   T visitIsXmlExpression(IsXmlExpression value);
   T visitLoopExpression(LoopExpression value);
   T visitNativeExpression(NativeExpression value);
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.compiler.base;
+
+import com.google.common.base.Objects;
+import com.google.gxp.compiler.schema.Schema;
+
+/**
+ * Internal representation of {@code <gxp:flush>}: a point at which output
+ * rendered so far may be flushed, depending on the {@code FlushPolicy} of
+ * the {@code GxpContext}. Produces no output itself.
+ */
+public class FlushPoint extends Expression {
+  public FlushPoint(Node fromNode, Schema schema) {
+    super(fromNode, schema);
+  }
+
+  @Override
+  public <T> T acceptVisitor(ExpressionVisitor<T> visitor) {
+    return visitor.visitFlushPoint(this);
+  }
+
+  public FlushPoint withSchema(Schema newSchema) {
+    return Objects.equal(getSchema(), newSchema)
+        ? this
+        : new FlushPoint(this, newSchema);
+  }
+
+  @Override
+  public boolean equals(Object that) {
+    return this == that
+        || (that instanceof FlushPoint && equals((FlushPoint) that));
+  }
+
+  public boolean equals(FlushPoint that) {
+    return equalsExpression(that);
+  }
+
+  @Override
+  public int hashCode() {
+    return expressionHashCode();
+  }
+}
@@ -35,6 +35,7 @@ public final class Template extends AbstractRoot<Template> {
   private final Expression content;
   private final Callable callable;
   private final InstanceCallable instanceCallable;
+  private final boolean pure;
 
   public Template(SourcePosition sourcePosition,
                   String displayName,
@@ -47,9 +48,11 @@ public final class Template extends AbstractRoot<Template> {
                   List<ThrowsDeclaration> throwsDeclarations,
                   List<Parameter> parameters,
                   List<FormalTypeParameter> formalTypeParameters,
-                  Expression content) {
+                  Expression content,
+                  boolean pure) {
     super(sourcePosition, displayName, name, schema, javaAnnotations,
           imports, throwsDeclarations, parameters, formalTypeParameters);
+    this.pure = pure;
     this.constructor = Preconditions.checkNotNull(constructor);
     this.allParameters = ImmutableList.copyOf(
         Iterables.concat(constructor.getParameters(), getParameters()));
@@ -66,7 +69,8 @@ public final class Template extends AbstractRoot<Template> {
     this.instanceCallable = new TemplateInstanceCallable(name, schema, params);
   }
 
-  public Template(Node fromNode,
+  public Template(SourcePosition sourcePosition,
+                  String displayName,
                   TemplateName.FullyQualified name,
                   Schema schema,
                   List<JavaAnnotation> javaAnnotations,
@@ -77,10 +81,27 @@ public final class Template extends AbstractRoot<Template> {
                   List<Parameter> parameters,
                   List<FormalTypeParameter> formalTypeParameters,
                   Expression content) {
+    this(sourcePosition, displayName, name, schema, javaAnnotations, constructor,
+         imports, implementsDeclarations, throwsDeclarations, parameters,
+         formalTypeParameters, content, false);
+  }
+
+  public Template(Node fromNode,
+                  TemplateName.FullyQualified name,
+                  Schema schema,
+                  List<JavaAnnotation> javaAnnotations,
+                  Constructor constructor,
+                  List<Import> imports,
+                  List<ImplementsDeclaration> implementsDeclarations,
+                  List<ThrowsDeclaration> throwsDeclarations,
+                  List<Parameter> parameters,
+                  List<FormalTypeParameter> formalTypeParameters,
+                  Expression content,
+                  boolean pure) {
     this(fromNode.getSourcePosition(), fromNode.getDisplayName(),
          name, schema, javaAnnotations, constructor, imports,
          implementsDeclarations, throwsDeclarations, parameters,
-         formalTypeParameters, content);
+         formalTypeParameters, content, pure);
   }
 
   protected Template self() {
@@ -91,7 +112,7 @@ public final class Template extends AbstractRoot<Template> {
     return new Template(this, getName(), getSchema(), getJavaAnnotations(),
                         constructor, getImports(), getImplementsDeclarations(),
                         getThrowsDeclarations(), newParameters,
-                        getFormalTypeParameters(), content);
+                        getFormalTypeParameters(), content, pure);
   }
 
   public Template withContent(Expression newContent) {
@@ -100,7 +121,7 @@ public final class Template extends AbstractRoot<Template> {
         : new Template(this, getName(), getSchema(), getJavaAnnotations(),
                        constructor, getImports(), getImplementsDeclarations(),
                        getThrowsDeclarations(), getParameters(),
-                       getFormalTypeParameters(), newContent);
+                       getFormalTypeParameters(), newContent, pure);
   }
 
   public Template withConstructor(Constructor newConstructor) {
@@ -109,7 +130,7 @@ public final class Template extends AbstractRoot<Template> {
         : new Template(this, getName(), getSchema(), getJavaAnnotations(),
                        newConstructor, getImports(), getImplementsDeclarations(),
                        getThrowsDeclarations(), getParameters(),
-                       getFormalTypeParameters(), content);
+                       getFormalTypeParameters(), content, pure);
   }
 
   public Template withImplementsDeclarations(List<ImplementsDeclaration> newImplDec) {
@@ -118,7 +139,7 @@ public final class Template extends AbstractRoot<Template> {
         : new Template(this, getName(), getSchema(), getJavaAnnotations(),
                        getConstructor(), getImports(), newImplDec,
                        getThrowsDeclarations(), getParameters(),
-                       getFormalTypeParameters(), content);
+                       getFormalTypeParameters(), content, pure);
   }
 
   public <T> T acceptVisitor(RootVisitor<T> visitor) {
@@ -153,6 +174,14 @@ public final class Template extends AbstractRoot<Template> {
     return null;
   }
 
+  /**
+   * @return true if the template was declared pure: its output depends only
+   * on its parameters and the {@code GxpContext}, so it may be memoized.
+   */
+  public boolean isPure() {
+    return pure;
+  }
+
   /**
    * The {@code Callable} exposed by a {@code Template}.
    */
@@ -38,12 +38,23 @@ public class UnboundCall extends Call {
                      TemplateName callee,
                      Map<String, Attribute> attributes,
                      List<String> attrBundles,
-                     Expression content) {
-    super(sourcePosition, displayName, null /* no schema */, attributes, attrBundles);
+                     Expression content,
+                     boolean parallel) {
+    super(sourcePosition, displayName, null /* no schema */, attributes, attrBundles,
+          parallel);
     this.callee = Preconditions.checkNotNull(callee);
     this.content = Preconditions.checkNotNull(content);
   }
 
+  public UnboundCall(SourcePosition sourcePosition,
+                     String displayName,
+                     TemplateName callee,
+                     Map<String, Attribute> attributes,
+                     List<String> attrBundles,
+                     Expression content) {
+    this(sourcePosition, displayName, callee, attributes, attrBundles, content, false);
+  }
+
   public TemplateName getCallee() {
     return callee;
   }
@@ -68,7 +79,7 @@ public class UnboundCall extends Call {
             && Objects.equal(getContent(), newContent))
         ? this
         : new UnboundCall(getSourcePosition(), getDisplayName(), getCallee(),
-                          newAttributes, getAttrBundles(), newContent);
+                          newAttributes, getAttrBundles(), newContent, isParallel());
   }
 
   @Override
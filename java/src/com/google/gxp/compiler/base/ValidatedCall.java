@@ -36,18 +36,27 @@ public class ValidatedCall extends Call {
                        String displayName,
                        Callable callee,
                        Map<String, Attribute> attributes,
-                       List<String> attrBundles) {
+                       List<String> attrBundles,
+                       boolean parallel) {
     super(sourcePosition, displayName, Preconditions.checkNotNull(callee.getSchema()),
-          attributes, attrBundles);
+          attributes, attrBundles, parallel);
     this.callee = Preconditions.checkNotNull(callee);
   }
 
+  public ValidatedCall(SourcePosition sourcePosition,
+                       String displayName,
+                       Callable callee,
+                       Map<String, Attribute> attributes,
+                       List<String> attrBundles) {
+    this(sourcePosition, displayName, callee, attributes, attrBundles, false);
+  }
+
   public ValidatedCall(Call fromCall,
                        Callable callee,
                        Map<String, Attribute> attributes) {
     super(fromCall.getSourcePosition(), fromCall.getDisplayName(),
           Preconditions.checkNotNull(callee.getSchema()), attributes,
-          fromCall.getAttrBundles());
+          fromCall.getAttrBundles(), fromCall.isParallel());
     this.callee = Preconditions.checkNotNull(callee);
   }
 
@@ -55,7 +64,7 @@ public class ValidatedCall extends Call {
     return Objects.equal(getAttributes(), attributes)
         ? this
         : new ValidatedCall(getSourcePosition(), getDisplayName(), callee,
-                            attributes, getAttrBundles());
+                            attributes, getAttrBundles(), isParallel());
   }
 
   @Override
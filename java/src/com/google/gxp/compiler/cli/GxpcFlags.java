@@ -40,6 +40,7 @@ import com.google.gxp.compiler.parser.SourceEntityResolver;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.nio.charset.Charset;
 import java.util.*;
 
 import org.kohsuke.args4j.Argument;
@@ -154,6 +155,9 @@ class GxpcFlags implements Configuration {
     codeGeneratorFactory = new DefaultCodeGeneratorFactory();
     codeGeneratorFactory.setRuntimeMessageSource(commandLine.FLAG_message_source);
     codeGeneratorFactory.setDynamicModeEnabled(commandLine.FLAG_dynamic);
+    codeGeneratorFactory.setByteOutputCharset(
+        (commandLine.FLAG_byte_output_charset == null)
+            ? null : Charset.forName(commandLine.FLAG_byte_output_charset));
     codeGeneratorFactory.setSourceFiles(getSourceFiles());
     codeGeneratorFactory.setSchemaFiles(getSchemaFiles());
     codeGeneratorFactory.setSourcePaths(sourcePaths);
@@ -357,6 +361,11 @@ class GxpcFlags implements Configuration {
             usage = "indicate dynamic mode")
     public boolean FLAG_dynamic = false;
 
+    @Option(name = "--byte_output_charset",
+            usage = "pre-encode static content in this charset so it can be\n"
+                  + "written directly to a com.google.gxp.base.ByteSink")
+    public String FLAG_byte_output_charset = null;
+
     @Option(name = "--output_properties",
             usage = "indicates that gxpc should output a properties file")
     public boolean FLAG_output_properties = false;
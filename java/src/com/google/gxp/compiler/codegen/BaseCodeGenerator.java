@@ -20,6 +20,9 @@ import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.io.CharStreams;
+import com.google.gxp.compiler.base.Call;
+import com.google.gxp.compiler.base.ExhaustiveExpressionVisitor;
+import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.FormalParameter;
 import com.google.gxp.compiler.base.Parameter;
 import com.google.gxp.compiler.base.Root;
@@ -77,4 +80,27 @@ public abstract class BaseCodeGenerator<T extends Tree<Root>> implements CodeGen
   protected static String getConstructorMethodName(Parameter param) {
     return getConstructorMethodName(param.getFormalParameter());
   }
+
+  /**
+   * @return true if {@code expr} calls another template anywhere, including
+   * in the closures it passes to the templates it calls.
+   */
+  protected static boolean containsCall(Expression expr) {
+    CallFinder finder = new CallFinder();
+    finder.apply(expr);
+    return finder.found;
+  }
+
+  /**
+   * A visitor that notes whether it has visited a {@link Call}.
+   */
+  private static class CallFinder extends ExhaustiveExpressionVisitor {
+    private boolean found = false;
+
+    @Override
+    public Expression visitCall(Call call) {
+      found = true;
+      return super.visitCall(call);
+    }
+  }
 }
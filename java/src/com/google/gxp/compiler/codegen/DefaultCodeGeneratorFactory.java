@@ -33,6 +33,7 @@ import com.google.gxp.compiler.scala.DynamicStubScalaCodeGenerator;
 import com.google.gxp.compiler.scala.ScalaCodeGenerator;
 import com.google.gxp.compiler.xmb.XmbCodeGenerator;
 
+import java.nio.charset.Charset;
 import java.util.Collection;
 
 /**
@@ -44,6 +45,7 @@ import java.util.Collection;
 public class DefaultCodeGeneratorFactory implements CodeGeneratorFactory {
   private String runtimeMessageSource = null;
   private boolean dynamicModeEnabled = false;
+  private Charset byteOutputCharset = null;
   private Collection<FileRef> sourceFiles = null;
   private Collection<FileRef> schemaFiles = null;
   private Collection<FileRef> sourcePaths = null;
@@ -79,6 +81,21 @@ public class DefaultCodeGeneratorFactory implements CodeGeneratorFactory {
     this.dynamicModeEnabled = dynamicModeEnabled;
   }
 
+  public Charset getByteOutputCharset() {
+    return byteOutputCharset;
+  }
+
+  /**
+   * Sets the {@code Charset} that static content should be pre-encoded in,
+   * or null if static content should be emitted as plain strings. Currently
+   * only affects Java.
+   *
+   * @see com.google.gxp.base.StaticChunk
+   */
+  public void setByteOutputCharset(Charset byteOutputCharset) {
+    this.byteOutputCharset = byteOutputCharset;
+  }
+
   /**
    * Sets the source files used when compiling this set of GXPs.  Needed
    * when creating runtime stubs.
@@ -135,7 +152,8 @@ public class DefaultCodeGeneratorFactory implements CodeGeneratorFactory {
                   sourceFiles, schemaFiles, sourcePaths, alertPolicy);
             } else {
               return new JavaCodeGenerator(cUnit.getMessageExtractedTree(),
-                                           runtimeMessageSource);
+                                           runtimeMessageSource,
+                                           byteOutputCharset);
             }
           }
 
@@ -23,6 +23,7 @@ import com.google.gxp.compiler.alerts.SourcePosition;
 import com.google.gxp.compiler.base.AbbrExpression;
 import com.google.gxp.compiler.base.BooleanConstant;
 import com.google.gxp.compiler.base.BoundCall;
+import com.google.gxp.compiler.base.CacheExpression;
 import com.google.gxp.compiler.base.Call;
 import com.google.gxp.compiler.base.CallVisitor;
 import com.google.gxp.compiler.base.Concatenation;
@@ -35,6 +36,7 @@ import com.google.gxp.compiler.base.ExceptionExpression;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.ExpressionVisitor;
 import com.google.gxp.compiler.base.ExtractedMessage;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.Interface;
 import com.google.gxp.compiler.base.IsXmlExpression;
 import com.google.gxp.compiler.base.LoopExpression;
@@ -188,6 +190,12 @@ public class CppCodeGenerator extends BaseCppCodeGenerator<MessageExtractedTree>
         return null;
       }
 
+      @Override
+      public Void visitCacheExpression(CacheExpression cache) {
+        // there is no FragmentCache in the C++ runtime
+        return cache.getContent().acceptVisitor(this);
+      }
+
       @Override
       public Void visitCall(Call value) {
         return value.acceptCallVisitor(this);
@@ -246,6 +254,12 @@ public class CppCodeGenerator extends BaseCppCodeGenerator<MessageExtractedTree>
         return null;
       }
 
+      @Override
+      public Void visitFlushPoint(FlushPoint value) {
+        // TODO(harryh): implement
+        return null;
+      }
+
       @Override
       public Void visitExampleExpression(ExampleExpression value) {
         return value.getSubexpression().acceptVisitor(this);
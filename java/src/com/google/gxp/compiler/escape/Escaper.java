@@ -41,6 +41,7 @@ import com.google.gxp.compiler.base.EscapeExpression;
 import com.google.gxp.compiler.base.ExhaustiveExpressionVisitor;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.ExtractedMessage;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.Parameter;
 import com.google.gxp.compiler.base.NativeExpression;
 import com.google.gxp.compiler.base.ObjectConstant;
@@ -330,6 +331,11 @@ public class Escaper implements Function<PlaceholderInsertedTree, EscapedTree> {
         return postProcess(eph.withSchema(schema));
       }
 
+      @Override
+      public Expression visitFlushPoint(FlushPoint flush) {
+        return postProcess(flush.withSchema(schema));
+      }
+
       @Override
       public Expression visitEscapeExpression(EscapeExpression node) {
         return postProcess(new EscapeExpression(schema, node));
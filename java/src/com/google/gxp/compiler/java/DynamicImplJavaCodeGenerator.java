@@ -61,10 +61,14 @@ public class DynamicImplJavaCodeGenerator extends JavaCodeGenerator {
       this.compilationVersion = compilationVersion;
     }
 
+    private TemplateWorker(Appendable appendable, TemplateWorker parent) {
+      super(appendable, parent);
+      this.compilationVersion = parent.compilationVersion;
+    }
+
     @Override
     public TemplateWorker createSubWorker(Appendable newAppendable) {
-      return new TemplateWorker(newAppendable, alertSink, template,
-                                compilationVersion);
+      return new TemplateWorker(newAppendable, this);
     }
 
     @Override
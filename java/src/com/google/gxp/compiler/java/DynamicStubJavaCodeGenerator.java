@@ -276,6 +276,9 @@ public class DynamicStubJavaCodeGenerator extends BaseJavaCodeGenerator<MessageE
      *
      * If there is an error, we throw away whatever output we've seen so far, and write the error
      * to the real output
+     *
+     * The exception is when the context has a flush policy: then output goes straight to the real
+     * output so that it can be flushed, and any error is written after the partial output.
      */
     @Override
     protected void appendWriteMethodBody() {
@@ -290,11 +293,17 @@ public class DynamicStubJavaCodeGenerator extends BaseJavaCodeGenerator<MessageE
 
       appendLine("if (gxp_context.isTopLevelCall()) {");
       appendLine("try {");
+      appendLine("if (gxp_context.getFlushPolicy().isNever()) {");
       formatLine("java.io.StringWriter %s = new java.io.StringWriter();", TEMP_OUT_VAR);
       formatLine(writeLine, TEMP_OUT_VAR);
       formatLine("%s.append(%s.toString());", GXP_OUT_VAR, TEMP_OUT_VAR);
+      appendLine("} else {");
+      formatLine(writeLine, GXP_OUT_VAR);
+      appendLine("}");
       formatLine("} catch (%s gxp$e) {", GXP_COMPILATION_EXCEPTION);
       formatLine("gxp$e.write(%s, gxp_context);", GXP_OUT_VAR);
+      appendLine("} finally {");
+      appendLine("gxp_context.endTopLevelCall();");
       appendLine("}");
       appendLine("} else {");
       formatLine(writeLine, GXP_OUT_VAR);
@@ -19,6 +19,7 @@ package com.google.gxp.compiler.java;
 import static com.google.gxp.compiler.base.OutputLanguage.JAVA;
 
 import com.google.common.base.CharEscapers;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.gxp.compiler.alerts.AlertSink;
@@ -28,6 +29,7 @@ import com.google.gxp.compiler.base.AttrBundleParam;
 import com.google.gxp.compiler.base.AttrBundleReference;
 import com.google.gxp.compiler.base.BooleanConstant;
 import com.google.gxp.compiler.base.BoundCall;
+import com.google.gxp.compiler.base.CacheExpression;
 import com.google.gxp.compiler.base.Call;
 import com.google.gxp.compiler.base.CallVisitor;
 import com.google.gxp.compiler.base.Callable;
@@ -44,6 +46,7 @@ import com.google.gxp.compiler.base.ExhaustiveExpressionVisitor;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.ExpressionVisitor;
 import com.google.gxp.compiler.base.ExtractedMessage;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.FormalParameter;
 import com.google.gxp.compiler.base.Implementable;
 import com.google.gxp.compiler.base.InstanceCallable;
@@ -71,17 +74,22 @@ import com.google.gxp.compiler.schema.ContentFamilyVisitor;
 import com.google.gxp.compiler.schema.Schema;
 import com.google.transconsole.common.messages.Message;
 
+import java.nio.charset.Charset;
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * A {@code CodeGenerator} that generates Java code.
  */
 public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTree> {
+  private final Charset byteOutputCharset;
 
   /**
    * @param tree the MessageExtractedTree to compile.
@@ -90,7 +98,22 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
    * loading message resources at runtime.
    */
   public JavaCodeGenerator(MessageExtractedTree tree, String runtimeMessageSource) {
+    this(tree, runtimeMessageSource, null);
+  }
+
+  /**
+   * @param tree the MessageExtractedTree to compile.
+   * @param runtimeMessageSource the message source to use at runtime, or null
+   * if none was provided. This is a (typically dotted) prefix used when
+   * loading message resources at runtime.
+   * @param byteOutputCharset the {@code Charset} to pre-encode static content
+   * in, or null to emit static content as plain {@code String}s. See
+   * {@link com.google.gxp.base.StaticChunk}.
+   */
+  public JavaCodeGenerator(MessageExtractedTree tree, String runtimeMessageSource,
+                           Charset byteOutputCharset) {
     super(tree, runtimeMessageSource);
+    this.byteOutputCharset = byteOutputCharset;
   }
 
   @Override
@@ -98,7 +121,8 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
                                                 AlertSink alertSink,
                                                 Template template,
                                                 String runtimeMessageSource) {
-    return new TemplateWorker(appendable, alertSink, template, runtimeMessageSource);
+    return new TemplateWorker(appendable, alertSink, template, runtimeMessageSource,
+                              byteOutputCharset);
   }
 
   /**
@@ -106,19 +130,67 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
    * and AlertSink everywhere manually.
    */
   protected static class TemplateWorker extends BaseJavaCodeGenerator.TemplateWorker {
+    private static final String SIZE_ESTIMATOR_PREFIX = "GXP$SIZE_ESTIMATOR$";
+
     private int varCounter = 0;
     private final String runtimeMessageSource;
+    private final Charset byteOutputCharset;
+
+    // static content -> name of the StaticChunk field holding it. Shared with
+    // sub-workers so that all chunks end up as fields of the template class.
+    private final Map<String, String> staticChunks;
+
+    // (type, initializer) -> name of the field holding a constant
+    // GxpAttrBundle. Also shared with sub-workers.
+    private final Map<List<String>, String> staticBundles;
+
+    // names of the OutputSizeEstimator fields, one per escaping call site.
+    // Also shared with sub-workers.
+    private final List<String> sizeEstimators;
 
     protected final Set<Schema> anonymousSchemas = Sets.newTreeSet();
 
+    // The FuturePrefetch local of write(), or null if the template has no
+    // future parameters, and the names of those parameters. Inherited by
+    // sub-workers, whose closures capture the local.
+    private String prefetchVar = null;
+    private List<String> futureParams = Collections.emptyList();
+
+    // future parameters referred to by the native code converted since the
+    // last call to appendAwaits
+    private final Set<String> futuresToAwait = Sets.newLinkedHashSet();
+
     TemplateWorker(Appendable appendable, AlertSink alertSink,
                    Template template, String runtimeMessageSource) {
+      this(appendable, alertSink, template, runtimeMessageSource, null);
+    }
+
+    private TemplateWorker(Appendable appendable, AlertSink alertSink,
+                           Template template, String runtimeMessageSource,
+                           Charset byteOutputCharset) {
       super(appendable, alertSink, template);
       this.runtimeMessageSource = runtimeMessageSource;
+      this.byteOutputCharset = byteOutputCharset;
+      this.staticChunks = new LinkedHashMap<String, String>();
+      this.staticBundles = new LinkedHashMap<List<String>, String>();
+      this.sizeEstimators = Lists.newArrayList();
+    }
+
+    /**
+     * Creates a sub-worker of {@code parent}, which shares the fields it
+     * generates with {@code parent}.
+     */
+    protected TemplateWorker(Appendable appendable, TemplateWorker parent) {
+      super(appendable, parent.alertSink, parent.template);
+      this.runtimeMessageSource = parent.runtimeMessageSource;
+      this.byteOutputCharset = parent.byteOutputCharset;
+      this.staticChunks = parent.staticChunks;
+      this.staticBundles = parent.staticBundles;
+      this.sizeEstimators = parent.sizeEstimators;
     }
 
     public TemplateWorker createSubWorker(Appendable newAppendable) {
-      return new TemplateWorker(newAppendable, alertSink, template, runtimeMessageSource);
+      return new TemplateWorker(newAppendable, this);
     }
 
     /**
@@ -155,6 +227,9 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
       appendGetGxpClosureMethod(true);
       appendInterface();
       appendInstance();
+      appendStaticChunks();
+      appendStaticBundles();
+      appendSizeEstimators();
       appendLine("}");
     }
 
@@ -163,6 +238,68 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
                  getClassName(template.getName()), getBaseClassName());
     }
 
+    /**
+     * Generates the {@code StaticChunk} constants referenced by the write
+     * method and any anonymous closures.
+     */
+    private void appendStaticChunks() {
+      if (staticChunks.isEmpty()) {
+        return;
+      }
+      appendLine();
+      appendLine("private static final java.nio.charset.Charset GXP$CHUNK_CHARSET =");
+      formatLine("    java.nio.charset.Charset.forName(%s);",
+                 JAVA.toStringLiteral(byteOutputCharset.name()));
+      for (Map.Entry<String, String> entry : staticChunks.entrySet()) {
+        formatLine("private static final com.google.gxp.base.StaticChunk %s =",
+                   entry.getValue());
+        formatLine("    new com.google.gxp.base.StaticChunk(%s, GXP$CHUNK_CHARSET);",
+                   JAVA.toStringLiteral(entry.getKey()));
+      }
+    }
+
+    /**
+     * Generates the constant {@code GxpAttrBundle}s referenced by the write
+     * method and any anonymous closures.
+     */
+    private void appendStaticBundles() {
+      for (Map.Entry<List<String>, String> entry : staticBundles.entrySet()) {
+        appendLine();
+        formatLine("private static final %s %s =", entry.getKey().get(0), entry.getValue());
+        appendLine("    " + entry.getKey().get(1) + ";");
+      }
+    }
+
+    /**
+     * Generates the {@code OutputSizeEstimator}s used to presize the buffers
+     * that escaped values are rendered into, one per call site.
+     */
+    private void appendSizeEstimators() {
+      if (sizeEstimators.isEmpty()) {
+        return;
+      }
+      appendLine();
+      for (int i = 0; i < sizeEstimators.size(); i++) {
+        formatLine("private static final com.google.gxp.base.OutputSizeEstimator %s =",
+                   sizeEstimators.get(i));
+        formatLine("    com.google.gxp.base.OutputSizeEstimator.forCallSite(%s.class, %d);",
+                   getClassName(template.getName()), i);
+      }
+    }
+
+    /**
+     * @return an expression that escapes {@code expression} into a new
+     * {@code StringBuilder}, presized by an estimator for this call site (and
+     * records its final size).
+     */
+    private String getEscapingBuilder(Schema schema, String expression) {
+      String estimator = SIZE_ESTIMATOR_PREFIX + sizeEstimators.size();
+      sizeEstimators.add(estimator);
+      return String.format("%s.record(%s.INSTANCE.append(%s.newStringBuilder(), %s, %s))",
+                           estimator, schema.getJavaAppender(), estimator,
+                           GXP_CONTEXT_VAR, expression);
+    }
+
     private void appendNamedMessageDefinitions() {
       template.getContent().acceptVisitor(new DuplicateMessageNameVisitor());
       template.getContent().acceptVisitor(new NamedExtractedMessageVisitor());
@@ -260,12 +397,31 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
     @Override
     protected void appendWriteMethodBody() {
       appendLine("final java.util.Locale gxp_locale = gxp_context.getLocale();");
+      List<String> futures = getFutureParameters();
+      if (!futures.isEmpty() && !template.isPure()) {
+        prefetchVar = createVarName("prefetch");
+        futureParams = futures;
+        formatLine(template.getSourcePosition(),
+                   "final com.google.gxp.base.FuturePrefetch %s = %s.prefetch(%s);",
+                   prefetchVar, GXP_CONTEXT_VAR, COMMA_JOINER.join(futures));
+      }
+      // the context counts the templates that make calls so that it can
+      // tell whether a call was made by the top level template
+      boolean makesCalls = containsCall(template.getContent());
+      if (makesCalls) {
+        formatLine("%s.enterTemplate();", GXP_CONTEXT_VAR);
+        appendLine("try {");
+      }
       List<ThrowsDeclaration> throwsDecls = template.getThrowsDeclarations();
       if (!throwsDecls.isEmpty()) {
         appendLine("try {");
       }
 
-      template.getContent().acceptVisitor(statementVisitor);
+      if (template.isPure()) {
+        appendMemoizedWrite();
+      } else {
+        template.getContent().acceptVisitor(statementVisitor);
+      }
 
       if (!throwsDecls.isEmpty()) {
         String runtimeExceptionVar = createVarName("runtimeException");
@@ -281,6 +437,92 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
         formatLine("throw %s;", runtimeExceptionVar);
         appendLine("}");
       }
+      if (makesCalls) {
+        appendLine("} finally {");
+        formatLine("%s.exitTemplate();", GXP_CONTEXT_VAR);
+        appendLine("}");
+      }
+      prefetchVar = null;
+      futureParams = Collections.emptyList();
+    }
+
+    /**
+     * @return the names of the parameters whose type is one of {@link
+     * JavaUtil#FUTURE_TYPES}.
+     */
+    private List<String> getFutureParameters() {
+      List<String> result = Lists.newArrayList();
+      for (Parameter param : template.getAllParameters()) {
+        String javaType = toJavaType(param.getType());
+        if (javaType != null && JavaUtil.FUTURE_TYPES.contains(javaType.split("<", 2)[0].trim())) {
+          result.add(param.getPrimaryName());
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Notes the future parameters that {@code javaCode}, the code of a native
+     * expression, refers to, so that the statement evaluating it can await
+     * them first.
+     */
+    private void noteFutureReferences(String javaCode) {
+      for (String name : futureParams) {
+        if (refersTo(javaCode, name)) {
+          futuresToAwait.add(name);
+        }
+      }
+    }
+
+    /**
+     * Awaits the future parameters that the statement about to be appended
+     * evaluates. Every statement that evaluates a future awaits it, so a
+     * future that is only used in a branch that isn't taken, or in a loop
+     * that runs zero times, is never waited for (or run). Once a future is
+     * done, awaiting it again is just an {@code isDone} check.
+     *
+     * @return true if anything was appended.
+     */
+    private boolean appendAwaits(SourcePosition sourcePosition) {
+      if (futuresToAwait.isEmpty()) {
+        return false;
+      }
+      for (String name : futuresToAwait) {
+        formatLine(sourcePosition, "%s.await(%s);", prefetchVar, name);
+      }
+      futuresToAwait.clear();
+      return true;
+    }
+
+    private static final Pattern JAVA_LITERAL =
+        Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"|'(?:[^'\\\\]|\\\\.)*'");
+
+    /**
+     * @return true if {@code javaCode} mentions {@code name} as an identifier,
+     * outside of any string or character literal. Abbreviations can't shadow
+     * parameters, so any such mention is of the parameter.
+     */
+    private static boolean refersTo(String javaCode, String name) {
+      String code = JAVA_LITERAL.matcher(javaCode).replaceAll("\"\"");
+      return Pattern.compile("(?<![\\w$.])" + Pattern.quote(name) + "(?![\\w$])")
+          .matcher(code).find();
+    }
+
+    /**
+     * Writes the content of a pure template through a {@code FragmentCache}
+     * region named after the template, keyed on all of its parameters.
+     */
+    private void appendMemoizedWrite() {
+      List<String> params = Lists.newArrayList();
+      for (Parameter param : template.getAllParameters()) {
+        params.add(param.getPrimaryName());
+      }
+      formatLine(template.getSourcePosition(),
+                 "com.google.gxp.base.FragmentCache.forRegion(%s).write(%s, %s, %s, 0L, %s);",
+                 JAVA.toStringLiteral(template.getName().toString()),
+                 GXP_OUT_VAR, GXP_CONTEXT_VAR,
+                 "java.util.Arrays.<Object>asList(" + COMMA_JOINER.join(params) + ")",
+                 toAnonymousClosure(template.getContent()));
     }
 
     protected void writeExpression(SourcePosition sourcePosition, String expr) {
@@ -289,17 +531,52 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
 
     private static final int MAX_JAVA_STRING_LENGTH = 65534;
 
+    // Static runs shorter than this are cheaper to append than to copy as
+    // pre-encoded bytes.
+    private static final int MIN_STATIC_CHUNK_LENGTH = 16;
+
     // TODO(danignatoff): something else does this too. Merge.
     protected void writeString(SourcePosition pos, String s) {
       int length = s.length();
       if (length != 0) {
         int curPos = 0;
         while (length - curPos > MAX_JAVA_STRING_LENGTH) {
-          writeExpression(pos, JAVA.toStringLiteral(
-                              s.substring(curPos, curPos + MAX_JAVA_STRING_LENGTH)));
+          writeStaticContent(pos, s.substring(curPos, curPos + MAX_JAVA_STRING_LENGTH));
           curPos += MAX_JAVA_STRING_LENGTH;
         }
-        writeExpression(pos, JAVA.toStringLiteral(s.substring(curPos, length)));
+        writeStaticContent(pos, s.substring(curPos, length));
+      }
+    }
+
+    /**
+     * Writes a piece of static content no longer than
+     * {@code MAX_JAVA_STRING_LENGTH}, either as a {@code StaticChunk} (when
+     * a byte output charset was specified) or as a {@code String} literal.
+     */
+    private void writeStaticContent(SourcePosition pos, String s) {
+      if (byteOutputCharset == null || s.length() < MIN_STATIC_CHUNK_LENGTH) {
+        writeExpression(pos, JAVA.toStringLiteral(s));
+      } else {
+        String chunkName = staticChunks.get(s);
+        if (chunkName == null) {
+          chunkName = "GXP$CHUNK$" + staticChunks.size();
+          staticChunks.put(s, chunkName);
+        }
+        appendLine(pos, chunkName + ".write(" + GXP_OUT_VAR + ");");
+      }
+    }
+
+    /**
+     * Reports static content that can't be encoded in the byte output
+     * charset, which would otherwise be silently replaced with {@code '?'}.
+     * Static markup never needs this, as the compiler writes all non-ASCII
+     * characters in it as character references, but JavaScript, CSS and
+     * plain text have no escape that is valid everywhere they may appear.
+     */
+    private void checkEncodable(StringConstant value, String s) {
+      if (!byteOutputCharset.newEncoder().canEncode(s)) {
+        alertSink.add(new UnencodableStaticContentError(
+            value, value.getSchema().getCanonicalContentType(), byteOutputCharset));
       }
     }
 
@@ -425,15 +702,27 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
         if (value.getSchema() == null) {
           throw new AssertionError();
         }
-        writeString(value.getSourcePosition(), value.evaluate());
+        String s = value.evaluate();
+        if (byteOutputCharset != null) {
+          checkEncodable(value, s);
+        }
+        writeString(value.getSourcePosition(), s);
+        return null;
+      }
+
+      @Override
+      public Void visitFlushPoint(FlushPoint value) {
+        formatLine(value.getSourcePosition(), "%s.flushPoint(%s);",
+                   GXP_CONTEXT_VAR, GXP_OUT_VAR);
         return null;
       }
 
       @Override
       public Void visitEscapeExpression(EscapeExpression value) {
+        String expr = getEscapableExpression(value.getSubexpression());
+        appendAwaits(value.getSourcePosition());
         formatLine(value.getSourcePosition(), "%s.INSTANCE.append(%s, %s, %s);",
-                   value.getSchema().getJavaAppender(), GXP_OUT_VAR, GXP_CONTEXT_VAR,
-                   getEscapableExpression(value.getSubexpression()));
+                   value.getSchema().getJavaAppender(), GXP_OUT_VAR, GXP_CONTEXT_VAR, expr);
         return null;
       }
 
@@ -450,19 +739,79 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
 
       @Override
       public Void visitConcatenation(Concatenation value) {
-        for (Expression subValue : value.getValues()) {
-          subValue.acceptVisitor(this);
+        List<Expression> values = value.getValues();
+        int i = 0;
+        while (i < values.size()) {
+          int end = getParallelRunEnd(values, i);
+          if (end > i) {
+            writeParallelRun(values.subList(i, end));
+            i = end;
+          } else {
+            values.get(i).acceptVisitor(this);
+            i++;
+          }
         }
         return null;
       }
 
+      /**
+       * @return the end of the run of parallel calls (and static text between
+       * them) starting at {@code values[start]}, or {@code start} if there
+       * isn't a run of at least two parallel calls there.
+       */
+      private int getParallelRunEnd(List<Expression> values, int start) {
+        if (!isParallelCall(values.get(start))) {
+          return start;
+        }
+        int end = start;
+        int callCount = 0;
+        for (int i = start; i < values.size(); i++) {
+          Expression subValue = values.get(i);
+          if (isParallelCall(subValue)) {
+            callCount++;
+            end = i + 1;
+          } else if (!(subValue instanceof StringConstant)) {
+            break;
+          }
+        }
+        return (callCount > 1) ? end : start;
+      }
+
+      private boolean isParallelCall(Expression value) {
+        return (value instanceof Call) && ((Call) value).isParallel();
+      }
+
+      private void writeParallelRun(List<Expression> run) {
+        String parVar = createVarName("par");
+        appendLine("{");
+        formatLine(run.get(0).getSourcePosition(),
+                   "final com.google.gxp.base.ParallelRendering %s = %s.newParallelRendering(%s);",
+                   parVar, GXP_CONTEXT_VAR, GXP_OUT_VAR);
+        for (Expression subValue : run) {
+          if (subValue instanceof StringConstant) {
+            formatLine(subValue.getSourcePosition(), "%s.append(%s);",
+                       parVar, JAVA.toStringLiteral(((StringConstant) subValue).evaluate()));
+          } else {
+            formatLine(subValue.getSourcePosition(), "%s.fork(%s);",
+                       parVar, toAnonymousClosure(subValue));
+          }
+        }
+        formatLine("%s.join();", parVar);
+        appendLine("}");
+      }
+
       @Override
       public Void visitConditional(Conditional value) {
         Iterator<Conditional.Clause> clauses = value.getClauses().iterator();
         if (clauses.hasNext()) {
-          appendIf("if (", clauses.next());
+          appendIf(clauses.next());
+          // else-ifs whose predicates await futures are nested in an else, so
+          // that the futures are only awaited if the predicate is evaluated
+          int nesting = 0;
           while (clauses.hasNext()) {
-            appendIf("} else if (", clauses.next());
+            if (appendElseIf(clauses.next())) {
+              nesting++;
+            }
           }
           Expression elseExpression = value.getElseExpression();
           if (!elseExpression.alwaysEmpty()) {
@@ -470,17 +819,39 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
             elseExpression.acceptVisitor(this);
           }
           appendLine("}");
+          for (int i = 0; i < nesting; i++) {
+            appendLine("}");
+          }
         } else {
           throw new AssertionError("No clauses in Conditional!");
         }
         return null;
       }
 
-      private void appendIf(String prefix, Conditional.Clause clause) {
+      private void appendIf(Conditional.Clause clause) {
+        Expression predicate = clause.getPredicate();
+        String condition = getJavaExpression(predicate);
+        appendAwaits(predicate.getSourcePosition());
+        appendLine(predicate.getSourcePosition(), "if (" + condition + ") {");
+        clause.getExpression().acceptVisitor(this);
+      }
+
+      /**
+       * @return true if the clause had to be nested in an else block.
+       */
+      private boolean appendElseIf(Conditional.Clause clause) {
         Expression predicate = clause.getPredicate();
-        appendLine(predicate.getSourcePosition(),
-                   prefix + getJavaExpression(predicate) + ") {");
+        String condition = getJavaExpression(predicate);
+        boolean nested = !futuresToAwait.isEmpty();
+        if (nested) {
+          appendLine("} else {");
+          appendAwaits(predicate.getSourcePosition());
+          appendLine(predicate.getSourcePosition(), "if (" + condition + ") {");
+        } else {
+          appendLine(predicate.getSourcePosition(), "} else if (" + condition + ") {");
+        }
         clause.getExpression().acceptVisitor(this);
+        return nested;
       }
 
       private void writeConditionalDelim(Expression delimiter,
@@ -512,11 +883,13 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
         if (loop.getIterator() != null && loop.getIterator().canEvaluateAs(JAVA)) {
           String iterVar = createVarName("iter");
           Expression iter = loop.getIterator();
+          String iterExpr = getJavaExpression(iter);
+          appendAwaits(iter.getSourcePosition());
           formatLine(iter.getSourcePosition(),
                      "final java.util.Iterator<? extends %s> %s = %s;",
                      JavaUtil.toReferenceType(toJavaType(loop.getType())),
                      iterVar,
-                     getJavaExpression(iter));
+                     iterExpr);
 
           // the loop itself
           formatLine(loop.getSourcePosition(),
@@ -536,10 +909,12 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
           loop.getSubexpression().acceptVisitor(this);
           appendLine("}");
         } else if (loop.getIterable() != null && loop.getIterable().canEvaluateAs(JAVA)) {
+          String iterableExpr = getJavaExpression(loop.getIterable());
+          appendAwaits(loop.getIterable().getSourcePosition());
           formatLine(loop.getSourcePosition(), "for (final %s %s : %s) {",
                      toJavaType(loop.getType()),
                      JAVA.validateName(alertSink, loop, loop.getVar()),
-                     getJavaExpression(loop.getIterable()));
+                     iterableExpr);
           writeConditionalDelim(delimiter, boolVar);
           if (keyVar != null) {
             formatLine("final int %s = %s++;", keyVar, tmpKeyVar);
@@ -565,16 +940,33 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
       @Override
       public Void visitAbbrExpression(AbbrExpression abbr) {
         appendLine("{");
+        String valueExpr = getJavaExpression(abbr.getValue());
+        appendAwaits(abbr.getSourcePosition());
         formatLine(abbr.getSourcePosition(),
                    "final %s %s = %s;",
                    toJavaType(abbr.getType()),
                    JAVA.validateName(alertSink, abbr, abbr.getName()),
-                   getJavaExpression(abbr.getValue()));
+                   valueExpr);
         abbr.getContent().acceptVisitor(this);
         appendLine("}");
         return null;
       }
 
+      @Override
+      public Void visitCacheExpression(CacheExpression cache) {
+        String keyExpr = getJavaExpression(cache.getKey());
+        String closure = toAnonymousClosure(cache.getContent());
+        appendAwaits(cache.getSourcePosition());
+        formatLine(cache.getSourcePosition(),
+                   "com.google.gxp.base.FragmentCache.forRegion(%s).write(%s, %s, %s, %dL, %s);",
+                   JAVA.toStringLiteral(cache.getRegion()),
+                   GXP_OUT_VAR, GXP_CONTEXT_VAR,
+                   keyExpr,
+                   cache.getTtlSeconds(),
+                   closure);
+        return null;
+      }
+
       @Override
       public Void visitCall(Call value) {
         return value.acceptCallVisitor(this);
@@ -604,10 +996,12 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
 
             appendLine("{");
             if (thisAttr != null) {
+              String instance = thisAttr.getValue().acceptVisitor(toExpressionVisitor);
+              appendAwaits(call.getSourcePosition());
               formatLine(call.getSourcePosition(), "%s %s = %s;",
                          toJavaType(callable.getInstanceType()),
                          instantiatedGxps.peek(),
-                         thisAttr.getValue().acceptVisitor(toExpressionVisitor));
+                         instance);
             }
             return true;
           }
@@ -623,7 +1017,10 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
           sb.append(param);
         }
         sb.append(");");
+        appendAwaits(call.getSourcePosition());
+
         appendLine(call.getSourcePosition(), sb);
+        formatLine("%s.afterCall(%s);", GXP_CONTEXT_VAR, GXP_OUT_VAR);
 
         if (isInstance) {
           instantiatedGxps.pop();
@@ -646,18 +1043,22 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
                    CharEscapers.javaStringUnicodeEscaper().escape(
                        tcMessage.getOriginal().replace("\n", " ")));
 
-        StringBuilder sb = new StringBuilder("GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, ");
-        sb.append("gxp_context.getLocale(), ");
+        // The placeholders are rendered straight into the output, so no
+        // Strings are built for them or for the expanded message. They are
+        // evaluated lazily, in the translation's order; see Message.write.
+        StringBuilder sb = new StringBuilder("GxpTemplate.writeMessage(");
+        sb.append(GXP_OUT_VAR);
+        sb.append(", ");
+        sb.append(GXP_CONTEXT_VAR);
+        sb.append(", GXP$MESSAGE_SOURCE, ");
         sb.append(tcMessage.getId());
         sb.append("L");
         for (Expression param : msg.getParameters()) {
           sb.append(", ");
-          sb.append(getEscapedString(param));
+          sb.append(toAnonymousClosure(param));
         }
         sb.append(")");
-        String getMessage = sb.toString();
-
-        writeExpression(msg.getSourcePosition(), getMessage);
+        appendLine(msg.getSourcePosition(), sb.toString() + ";");
         return null;
       }
     }
@@ -667,13 +1068,7 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
     }
 
     protected final String getEscapedString(Expression value) {
-      StringBuilder sb = new StringBuilder(value.getSchema().getJavaAppender());
-      sb.append(".INSTANCE.append(new java.lang.StringBuilder(), ");
-      sb.append(GXP_CONTEXT_VAR);
-      sb.append(", ");
-      sb.append(getJavaExpression(value));
-      sb.append(").toString()");
-      return sb.toString();
+      return getEscapingBuilder(value.getSchema(), getJavaExpression(value)) + ".toString()";
     }
 
     private String getEscapableExpression(Expression value) {
@@ -709,24 +1104,19 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
 
       @Override
       public String visitNativeExpression(NativeExpression value) {
+        String javaCode = JAVA.validateExpression(alertSink, value);
+        noteFutureReferences(javaCode);
         StringBuilder sb = new StringBuilder();
         sb.append('(');
-        sb.append(JAVA.validateExpression(alertSink, value));
+        sb.append(javaCode);
         sb.append(')');
         return sb.toString();
       }
 
       @Override
       public String visitEscapeExpression(EscapeExpression value) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(value.getSchema().getJavaAppender());
-        sb.append(".INSTANCE.append(new StringBuilder(), ");
-        sb.append(GXP_CONTEXT_VAR);
-        sb.append(", ");
-        sb.append(getEscapableExpression(value.getSubexpression()));
-        sb.append(")");
-
-        return sb.toString();
+        return getEscapingBuilder(value.getSchema(),
+                                  getEscapableExpression(value.getSubexpression()));
       }
 
       @Override
@@ -796,16 +1186,36 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
           return bundle.getSubBundles().get(0);
         }
 
+        // Attributes with constant values at the start of the bundle go into a
+        // bundle that is built once. The rest are added to a copy of it.
+        List<Map.Entry<AttributeValidator, Attribute>> attrs =
+            Lists.newArrayList(bundle.getAttrs().entrySet());
+        int staticCount = 0;
+        while (staticCount < attrs.size() && isStaticAttr(attrs.get(staticCount))) {
+          staticCount++;
+        }
+        String staticBundle = null;
+        if (staticCount > 0) {
+          staticBundle = getStaticBundle(bundle.getSchema(), attrs.subList(0, staticCount));
+          if (staticCount == attrs.size() && bundle.getSubBundles().isEmpty()) {
+            return staticBundle;
+          }
+        }
+
         StringBuilder sb = new StringBuilder("new GxpAttrBundle.Builder<");
         sb.append(bundle.getSchema().getJavaType());
         sb.append(">(");
-        List<String> includeAttrs = Lists.newArrayList();
+        List<String> args = Lists.newArrayList();
+        if (staticBundle != null) {
+          args.add(staticBundle);
+        }
         for (String includeAttr : bundle.getIncludeAttrs()) {
-          includeAttrs.add(JAVA.toStringLiteral(includeAttr));
+          args.add(JAVA.toStringLiteral(includeAttr));
         }
-        COMMA_JOINER.appendTo(sb, includeAttrs);
+        COMMA_JOINER.appendTo(sb, args);
         sb.append(')');
-        for (Map.Entry<AttributeValidator, Attribute> entry : bundle.getAttrs().entrySet()) {
+        for (Map.Entry<AttributeValidator, Attribute> entry
+                 : attrs.subList(staticCount, attrs.size())) {
           AttributeValidator validator = entry.getKey();
           Expression condition = entry.getValue().getCondition();
           Expression value = entry.getValue().getValue();
@@ -831,6 +1241,54 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
         return sb.toString();
       }
 
+      /**
+       * @return whether the attribute is unconditional and has a constant
+       * value, so that its output can be computed now.
+       */
+      private boolean isStaticAttr(Map.Entry<AttributeValidator, Attribute> entry) {
+        Attribute attr = entry.getValue();
+        if (attr.getCondition() != null) {
+          return false;
+        }
+        return entry.getKey().isFlagSet(AttributeValidator.Flag.BOOLEAN)
+            ? attr.getValue() instanceof BooleanConstant
+            : attr.getValue() instanceof StringConstant;
+      }
+
+      /**
+       * @return the name of a static field holding a bundle of the given
+       * (static) attributes, creating the field if necessary.
+       */
+      private String getStaticBundle(Schema schema,
+                                     List<Map.Entry<AttributeValidator, Attribute>> attrs) {
+        String type = "com.google.gxp.base.GxpAttrBundle<" + schema.getJavaType() + ">";
+        StringBuilder sb = new StringBuilder("new com.google.gxp.base.GxpAttrBundle.Builder<");
+        sb.append(schema.getJavaType());
+        sb.append(">()");
+        for (Map.Entry<AttributeValidator, Attribute> entry : attrs) {
+          String name = entry.getKey().getName();
+          Expression value = entry.getValue().getValue();
+          if (entry.getKey().isFlagSet(AttributeValidator.Flag.BOOLEAN)) {
+            if (((BooleanConstant) value).getValue()) {
+              sb.append(String.format(".attr(%s, true)", JAVA.toStringLiteral(name)));
+            }
+          } else {
+            String markup = " " + name + "=\"" + ((StringConstant) value).evaluate() + "\"";
+            sb.append(String.format(".staticAttr(%s, %s, %s)", JAVA.toStringLiteral(name),
+                                    value.acceptVisitor(this), JAVA.toStringLiteral(markup)));
+          }
+        }
+        sb.append(".build()");
+
+        List<String> key = ImmutableList.of(type, sb.toString());
+        String fieldName = staticBundles.get(key);
+        if (fieldName == null) {
+          fieldName = "GXP$BUNDLE$" + staticBundles.size();
+          staticBundles.put(key, fieldName);
+        }
+        return fieldName;
+      }
+
       @Override
       public String visitBooleanConstant(BooleanConstant value) {
         return value.getValue().toString();
@@ -911,7 +1369,9 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
 
       @Override
       public String visitNativeExpression(NativeExpression value) {
-        return JAVA.validateExpression(alertSink, value);
+        String javaCode = JAVA.validateExpression(alertSink, value);
+        noteFutureReferences(javaCode);
+        return javaCode;
       }
 
       @Override
@@ -978,6 +1438,11 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
         return toAnonymousClosure(value);
       }
 
+      @Override
+      public String visitCacheExpression(CacheExpression value) {
+        return toAnonymousClosure(value);
+      }
+
       @Override
       public String visitExtractedMessage(ExtractedMessage msg) {
         return toAnonymousClosure(msg);
@@ -993,6 +1458,8 @@ public class JavaCodeGenerator extends BaseJavaCodeGenerator<MessageExtractedTre
       StringBuilder sb = new StringBuilder();
 
       TemplateWorker subWorker = createSubWorker(sb);
+      subWorker.prefetchVar = prefetchVar;
+      subWorker.futureParams = futureParams;
       subWorker.toAnonymousClosureImpl(value);
       anonymousSchemas.addAll(subWorker.anonymousSchemas);
 
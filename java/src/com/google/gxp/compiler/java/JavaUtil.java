@@ -245,6 +245,18 @@ public class JavaUtil extends OutputLanguageUtil {
     return PRIMITIVE_TYPES.contains(s);
   }
 
+  /**
+   * {@code Future} types, with and without their packages. Template
+   * parameters of these types are awaited by the generated code, and can't
+   * be parameters of pure templates.
+   */
+  public static final Set<String> FUTURE_TYPES = ImmutableSet.of(
+      "Future", "java.util.concurrent.Future",
+      "FutureTask", "java.util.concurrent.FutureTask",
+      "RunnableFuture", "java.util.concurrent.RunnableFuture",
+      "CompletableFuture", "java.util.concurrent.CompletableFuture",
+      "ListenableFuture", "com.google.common.util.concurrent.ListenableFuture");
+
   private static boolean isIdentifier(String s) {
     return s != null
         && !RESERVED_WORDS.contains(s)
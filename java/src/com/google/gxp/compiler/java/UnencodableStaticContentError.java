@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.compiler.java;
+
+import com.google.gxp.compiler.alerts.ErrorAlert;
+import com.google.gxp.compiler.alerts.SourcePosition;
+import com.google.gxp.compiler.base.Node;
+
+import java.nio.charset.Charset;
+
+/**
+ * {@code ErrorAlert} which indicates that static content contains characters
+ * that can't be encoded in the byte output charset.
+ */
+public class UnencodableStaticContentError extends ErrorAlert {
+  public UnencodableStaticContentError(SourcePosition sourcePosition,
+                                       String contentType, Charset charset) {
+    super(sourcePosition, "Static " + contentType + " content contains characters"
+          + " that can't be encoded in the byte output charset, " + charset.name());
+  }
+
+  public UnencodableStaticContentError(Node node, String contentType,
+                                       Charset charset) {
+    this(node.getSourcePosition(), contentType, charset);
+  }
+}
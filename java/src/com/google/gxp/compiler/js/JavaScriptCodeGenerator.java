@@ -34,6 +34,7 @@ import com.google.gxp.compiler.base.AttrBundleParam;
 import com.google.gxp.compiler.base.AttrBundleReference;
 import com.google.gxp.compiler.base.BooleanConstant;
 import com.google.gxp.compiler.base.BoundCall;
+import com.google.gxp.compiler.base.CacheExpression;
 import com.google.gxp.compiler.base.Call;
 import com.google.gxp.compiler.base.Callable;
 import com.google.gxp.compiler.base.CallableVisitor;
@@ -49,6 +50,7 @@ import com.google.gxp.compiler.base.ExceptionExpression;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.ExpressionVisitor;
 import com.google.gxp.compiler.base.ExtractedMessage;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.FormalParameter;
 import com.google.gxp.compiler.base.FormalTypeParameter;
 import com.google.gxp.compiler.base.Implementable;
@@ -560,6 +562,12 @@ public class JavaScriptCodeGenerator extends BracesCodeGenerator<MessageExtracte
         return null;
       }
 
+      @Override
+      public Void visitCacheExpression(CacheExpression cache) {
+        // there is no FragmentCache in the JavaScript runtime
+        return cache.getContent().acceptVisitor(this);
+      }
+
       @Override
       public Void visitConcatenation(Concatenation value) {
         for (Expression subValue : value.getValues()) {
@@ -630,6 +638,12 @@ public class JavaScriptCodeGenerator extends BracesCodeGenerator<MessageExtracte
         return null;
       }
 
+      @Override
+      public Void visitFlushPoint(FlushPoint value) {
+        // there is no FlushPolicy in the JavaScript runtime
+        return null;
+      }
+
       public String toLowerCamelCase(String s) {
         StringBuilder sb = new StringBuilder();
         boolean first = true;
@@ -951,6 +965,11 @@ public class JavaScriptCodeGenerator extends BracesCodeGenerator<MessageExtracte
         return toAnonymousClosure(value);
       }
 
+      @Override
+      public String visitCacheExpression(CacheExpression value) {
+        return toAnonymousClosure(value);
+      }
+
       @Override
       public String visitAttrBundleParam(AttrBundleParam bundle) {
         // optimization where a single bundle is being passed without
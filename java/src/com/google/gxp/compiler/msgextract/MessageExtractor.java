@@ -32,6 +32,7 @@ import com.google.gxp.compiler.base.ExampleExpression;
 import com.google.gxp.compiler.base.ExhaustiveExpressionVisitor;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.ExtractedMessage;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.NoMessage;
 import com.google.gxp.compiler.base.Node;
 import com.google.gxp.compiler.base.OutputElement;
@@ -286,7 +287,10 @@ public class MessageExtractor implements Function<I18nCheckedTree, MessageExtrac
       for (Expression subExpression : ph.getContent().separate()) {
         subExpression =
             subExpression.acceptVisitor(outsideMessageVisitor);
-        if (subExpression.hasStaticString()) {
+        if (subExpression instanceof FlushPoint) {
+          // a message is written all at once, so it can't be flushed part way
+          alertSink.add(new BadNodePlacementError(subExpression, msg));
+        } else if (subExpression.hasStaticString()) {
           String s = Preconditions.checkNotNull(subExpression.getStaticString(alertSink,
                                                                    null));
           sb.append(s.replace("%", "%%"));
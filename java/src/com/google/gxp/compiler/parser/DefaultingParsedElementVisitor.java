@@ -36,6 +36,10 @@ public abstract class DefaultingParsedElementVisitor<T>
     return defaultVisitElement(node);
   }
 
+  public T visitCacheElement(GxpNamespace.GxpElement node) {
+    return defaultVisitElement(node);
+  }
+
   public T visitClauseElement(GxpNamespace.GxpElement node) {
     return defaultVisitElement(node);
   }
@@ -64,6 +68,10 @@ public abstract class DefaultingParsedElementVisitor<T>
     return defaultVisitElement(node);
   }
 
+  public T visitFlushElement(GxpNamespace.GxpElement node) {
+    return defaultVisitElement(node);
+  }
+
   public T visitIfElement(GxpNamespace.GxpElement node) {
     return defaultVisitElement(node);
   }
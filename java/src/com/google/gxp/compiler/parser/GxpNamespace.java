@@ -99,6 +99,12 @@ public class GxpNamespace implements Namespace {
         return visitor.visitAttrElement(element);
       }
     },
+    CACHE {
+      @Override
+      <T> T acceptVisitor(ParsedElementVisitor<T> visitor, GxpElement element) {
+        return visitor.visitCacheElement(element);
+      }
+    },
     CLAUSE {
       @Override
       <T> T acceptVisitor(ParsedElementVisitor<T> visitor, GxpElement element) {
@@ -141,6 +147,12 @@ public class GxpNamespace implements Namespace {
         return visitor.visitEvalElement(element);
       }
     },
+    FLUSH {
+      @Override
+      <T> T acceptVisitor(ParsedElementVisitor<T> visitor, GxpElement element) {
+        return visitor.visitFlushElement(element);
+      }
+    },
     IF {
       @Override
       <T> T acceptVisitor(ParsedElementVisitor<T> visitor, GxpElement element) {
@@ -25,6 +25,7 @@ public interface ParsedElementVisitor<T> {
   // GxpNamespace elements
   T visitAbbrElement(GxpNamespace.GxpElement node);
   T visitAttrElement(GxpNamespace.GxpElement node);
+  T visitCacheElement(GxpNamespace.GxpElement node);
   T visitClauseElement(GxpNamespace.GxpElement node);
   T visitCondElement(GxpNamespace.GxpElement node);
   T visitConstructorElement(GxpNamespace.GxpElement node);
@@ -32,6 +33,7 @@ public interface ParsedElementVisitor<T> {
   T visitElseElement(GxpNamespace.GxpElement node);
   T visitEPHElement(GxpNamespace.GxpElement node);
   T visitEvalElement(GxpNamespace.GxpElement node);
+  T visitFlushElement(GxpNamespace.GxpElement node);
   T visitIfElement(GxpNamespace.GxpElement node);
   T visitImplementsElement(GxpNamespace.GxpElement node);
   T visitImportElement(GxpNamespace.GxpElement node);
@@ -320,18 +320,22 @@ class AttributeMap {
    * or "false" (anything else causes an alert). Returns false if the
    * attribute is not present.
    */
-  public boolean getBooleanValue(String name) {
-    String str = getOptional(name, null);
+  public boolean getBooleanValue(Namespace ns, String name) {
+    String str = getOptional(ns, name, null);
     if (str == null || str.equals("false")) {
       return false;
     } else if (str.equals("true")) {
       return true;
     } else {
-      alertSink.add(new InvalidAttributeValueError(getAttribute(name)));
+      alertSink.add(new InvalidAttributeValueError(getAttribute(ns, name)));
       return false;
     }
   }
 
+  public boolean getBooleanValue(String name) {
+    return getBooleanValue(NullNamespace.INSTANCE, name);
+  }
+
   /**
    * Gets an Expression for the given attribute name.  Will be one of:
    * <ol>
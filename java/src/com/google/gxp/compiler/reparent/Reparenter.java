@@ -31,6 +31,7 @@ import com.google.gxp.compiler.base.AbbrExpression;
 import com.google.gxp.compiler.base.BooleanConstant;
 import com.google.gxp.compiler.base.BooleanType;
 import com.google.gxp.compiler.base.BundleType;
+import com.google.gxp.compiler.base.CacheExpression;
 import com.google.gxp.compiler.base.ClassImport;
 import com.google.gxp.compiler.base.CollapseExpression;
 import com.google.gxp.compiler.base.Conditional;
@@ -40,6 +41,7 @@ import com.google.gxp.compiler.base.ConvertibleToContent;
 import com.google.gxp.compiler.base.CppFileImport;
 import com.google.gxp.compiler.base.CppLibraryImport;
 import com.google.gxp.compiler.base.Expression;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.FormalParameter;
 import com.google.gxp.compiler.base.FormalTypeParameter;
 import com.google.gxp.compiler.base.Implementable;
@@ -114,6 +116,7 @@ import java.util.regex.PatternSyntaxException;
  */
 public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
   private static final String DEFAULT_CONTENT_TYPE = "text/html";
+  private static final String DEFAULT_CACHE_REGION = "default";
 
   private final SchemaFactory schemaFactory;
   private final String className;
@@ -542,6 +545,30 @@ public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
       return null;
     }
 
+    public Void visitCacheElement(GxpNamespace.GxpElement node) {
+      AttributeMap attrMap = nodeParts.getAttributes();
+      Expression key = attrMap.getExprValue("key", null);
+      String region = attrMap.getOptional("region", DEFAULT_CACHE_REGION);
+      long ttlSeconds = 0;
+      String ttl = attrMap.getOptional("ttl", null);
+      if (ttl != null) {
+        try {
+          ttlSeconds = Long.parseLong(ttl);
+        } catch (NumberFormatException e) {
+          ttlSeconds = -1;
+        }
+        if (ttlSeconds < 0) {
+          alertSink.add(new InvalidAttributeValueError(attrMap.getAttribute("ttl")));
+          ttlSeconds = 0;
+        }
+      }
+      Expression content = getCollapsableContent(attrMap);
+      if (key != null) {
+        output.accumulate(new CacheExpression(node, key, region, ttlSeconds, content));
+      }
+      return null;
+    }
+
     public Void visitLoopElement(GxpNamespace.GxpElement node) {
       AttributeMap attrMap = nodeParts.getAttributes();
       Type type = createType(node, attrMap, false, null);
@@ -827,6 +854,7 @@ public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
       List<Parameter> parameters = nodeParts.getParameters();
       List<FormalTypeParameter> formalTypeParameters = nodeParts.getFormalTypeParameters();
       Expression content = getCollapsableContent(attrMap);
+      boolean pure = attrMap.getBooleanValue("pure");
 
       if (contentType != null) {
         output.accumulate(new Template(node,
@@ -839,7 +867,8 @@ public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
                                        throwsDeclarations,
                                        parameters,
                                        formalTypeParameters,
-                                       content));
+                                       content,
+                                       pure));
       }
 
       return null;
@@ -943,6 +972,11 @@ public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
       return null;
     }
 
+    public Void visitFlushElement(GxpNamespace.GxpElement node) {
+      output.accumulate(new FlushPoint(node, null));
+      return null;
+    }
+
     /**
      * Examine the {@code gxp:bundles} attribute and return the list of
      * bundles it specifies.
@@ -964,6 +998,7 @@ public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
       ImmutableMap.Builder<String, Attribute> attrBuilder = ImmutableMap.builder();
       Expression content = new ConvertibleToContent(getCollapsableContent(attrMap));
       List<String> bundles = getBundles(attrMap);
+      boolean parallel = attrMap.getBooleanValue(GxpNamespace.INSTANCE, "parallel");
 
       for (Attribute attr : attrMap.getUnusedAttributes()) {
         if (attr.getNamespace() instanceof NullNamespace) {
@@ -989,7 +1024,8 @@ public class Reparenter implements Function<IfExpandedTree, ReparentedTree> {
                             callee,
                             attrBuilder.build(),
                             bundles,
-                            content));
+                            content,
+                            parallel));
       }
       return null;
     }
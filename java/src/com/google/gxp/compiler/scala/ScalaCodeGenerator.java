@@ -28,6 +28,7 @@ import com.google.gxp.compiler.base.AttrBundleParam;
 import com.google.gxp.compiler.base.AttrBundleReference;
 import com.google.gxp.compiler.base.BooleanConstant;
 import com.google.gxp.compiler.base.BoundCall;
+import com.google.gxp.compiler.base.CacheExpression;
 import com.google.gxp.compiler.base.Call;
 import com.google.gxp.compiler.base.CallVisitor;
 import com.google.gxp.compiler.base.Callable;
@@ -44,6 +45,7 @@ import com.google.gxp.compiler.base.ExhaustiveExpressionVisitor;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.ExpressionVisitor;
 import com.google.gxp.compiler.base.ExtractedMessage;
+import com.google.gxp.compiler.base.FlushPoint;
 import com.google.gxp.compiler.base.FormalParameter;
 import com.google.gxp.compiler.base.Implementable;
 import com.google.gxp.compiler.base.InstanceCallable;
@@ -260,12 +262,23 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
     @Override
     protected void appendWriteMethodBody() {
       appendLine("final java.util.Locale gxp_locale = gxp_context.getLocale();");
+      // the context counts the templates that make calls so that it can
+      // tell whether a call was made by the top level template
+      boolean makesCalls = containsCall(template.getContent());
+      if (makesCalls) {
+        formatLine("%s.enterTemplate();", GXP_CONTEXT_VAR);
+        appendLine("try {");
+      }
       List<ThrowsDeclaration> throwsDecls = template.getThrowsDeclarations();
       if (!throwsDecls.isEmpty()) {
         appendLine("try {");
       }
 
-      template.getContent().acceptVisitor(statementVisitor);
+      if (template.isPure()) {
+        appendMemoizedWrite();
+      } else {
+        template.getContent().acceptVisitor(statementVisitor);
+      }
 
       if (!throwsDecls.isEmpty()) {
         String runtimeExceptionVar = createVarName("runtimeException");
@@ -281,6 +294,28 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
         formatLine("throw %s;", runtimeExceptionVar);
         appendLine("}");
       }
+      if (makesCalls) {
+        appendLine("} finally {");
+        formatLine("%s.exitTemplate();", GXP_CONTEXT_VAR);
+        appendLine("}");
+      }
+    }
+
+    /**
+     * Writes the content of a pure template through a {@code FragmentCache}
+     * region named after the template, keyed on all of its parameters.
+     */
+    private void appendMemoizedWrite() {
+      List<String> params = Lists.newArrayList();
+      for (Parameter param : template.getAllParameters()) {
+        params.add(param.getPrimaryName());
+      }
+      formatLine(template.getSourcePosition(),
+                 "com.google.gxp.base.FragmentCache.forRegion(%s).write(%s, %s, %s, 0L, %s);",
+                 SCALA.toStringLiteral(template.getName().toString()),
+                 GXP_OUT_VAR, GXP_CONTEXT_VAR,
+                 "java.util.Arrays.<Object>asList(" + COMMA_JOINER.join(params) + ")",
+                 toAnonymousClosure(template.getContent()));
     }
 
     protected void writeExpression(SourcePosition sourcePosition, String expr) {
@@ -429,6 +464,13 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
         return null;
       }
 
+      @Override
+      public Void visitFlushPoint(FlushPoint value) {
+        formatLine(value.getSourcePosition(), "%s.flushPoint(%s);",
+                   GXP_CONTEXT_VAR, GXP_OUT_VAR);
+        return null;
+      }
+
       @Override
       public Void visitEscapeExpression(EscapeExpression value) {
         formatLine(value.getSourcePosition(), "%s.INSTANCE.append(%s, %s, %s);",
@@ -450,12 +492,67 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
 
       @Override
       public Void visitConcatenation(Concatenation value) {
-        for (Expression subValue : value.getValues()) {
-          subValue.acceptVisitor(this);
+        List<Expression> values = value.getValues();
+        int i = 0;
+        while (i < values.size()) {
+          int end = getParallelRunEnd(values, i);
+          if (end > i) {
+            writeParallelRun(values.subList(i, end));
+            i = end;
+          } else {
+            values.get(i).acceptVisitor(this);
+            i++;
+          }
         }
         return null;
       }
 
+      /**
+       * @return the end of the run of parallel calls (and static text between
+       * them) starting at {@code values[start]}, or {@code start} if there
+       * isn't a run of at least two parallel calls there.
+       */
+      private int getParallelRunEnd(List<Expression> values, int start) {
+        if (!isParallelCall(values.get(start))) {
+          return start;
+        }
+        int end = start;
+        int callCount = 0;
+        for (int i = start; i < values.size(); i++) {
+          Expression subValue = values.get(i);
+          if (isParallelCall(subValue)) {
+            callCount++;
+            end = i + 1;
+          } else if (!(subValue instanceof StringConstant)) {
+            break;
+          }
+        }
+        return (callCount > 1) ? end : start;
+      }
+
+      private boolean isParallelCall(Expression value) {
+        return (value instanceof Call) && ((Call) value).isParallel();
+      }
+
+      private void writeParallelRun(List<Expression> run) {
+        String parVar = createVarName("par");
+        appendLine("{");
+        formatLine(run.get(0).getSourcePosition(),
+                   "final com.google.gxp.base.ParallelRendering %s = %s.newParallelRendering(%s);",
+                   parVar, GXP_CONTEXT_VAR, GXP_OUT_VAR);
+        for (Expression subValue : run) {
+          if (subValue instanceof StringConstant) {
+            formatLine(subValue.getSourcePosition(), "%s.append(%s);",
+                       parVar, SCALA.toStringLiteral(((StringConstant) subValue).evaluate()));
+          } else {
+            formatLine(subValue.getSourcePosition(), "%s.fork(%s);",
+                       parVar, toAnonymousClosure(subValue));
+          }
+        }
+        formatLine("%s.join();", parVar);
+        appendLine("}");
+      }
+
       @Override
       public Void visitConditional(Conditional value) {
         Iterator<Conditional.Clause> clauses = value.getClauses().iterator();
@@ -575,6 +672,18 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
         return null;
       }
 
+      @Override
+      public Void visitCacheExpression(CacheExpression cache) {
+        formatLine(cache.getSourcePosition(),
+                   "com.google.gxp.base.FragmentCache.forRegion(%s).write(%s, %s, %s, %dL, %s);",
+                   SCALA.toStringLiteral(cache.getRegion()),
+                   GXP_OUT_VAR, GXP_CONTEXT_VAR,
+                   getScalaExpression(cache.getKey()),
+                   cache.getTtlSeconds(),
+                   toAnonymousClosure(cache.getContent()));
+        return null;
+      }
+
       @Override
       public Void visitCall(Call value) {
         return value.acceptCallVisitor(this);
@@ -623,7 +732,9 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
           sb.append(param);
         }
         sb.append(");");
+
         appendLine(call.getSourcePosition(), sb);
+        formatLine("%s.afterCall(%s);", GXP_CONTEXT_VAR, GXP_OUT_VAR);
 
         if (isInstance) {
           instantiatedGxps.pop();
@@ -646,18 +757,22 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
                    CharEscapers.javaStringUnicodeEscaper().escape(
                        tcMessage.getOriginal().replace("\n", " ")));
 
-        StringBuilder sb = new StringBuilder("GxpTemplate.getMessage(GXP$MESSAGE_SOURCE, ");
-        sb.append("gxp_context.getLocale(), ");
+        // The placeholders are rendered straight into the output, so no
+        // Strings are built for them or for the expanded message. They are
+        // evaluated lazily, in the translation's order; see Message.write.
+        StringBuilder sb = new StringBuilder("GxpTemplate.writeMessage(");
+        sb.append(GXP_OUT_VAR);
+        sb.append(", ");
+        sb.append(GXP_CONTEXT_VAR);
+        sb.append(", GXP$MESSAGE_SOURCE, ");
         sb.append(tcMessage.getId());
         sb.append("L");
         for (Expression param : msg.getParameters()) {
           sb.append(", ");
-          sb.append(getEscapedString(param));
+          sb.append(toAnonymousClosure(param));
         }
         sb.append(")");
-        String getMessage = sb.toString();
-
-        writeExpression(msg.getSourcePosition(), getMessage);
+        appendLine(msg.getSourcePosition(), sb.toString() + ";");
         return null;
       }
     }
@@ -978,6 +1093,11 @@ public class ScalaCodeGenerator extends BaseScalaCodeGenerator<MessageExtractedT
         return toAnonymousClosure(value);
       }
 
+      @Override
+      public String visitCacheExpression(CacheExpression value) {
+        return toAnonymousClosure(value);
+      }
+
       @Override
       public String visitExtractedMessage(ExtractedMessage msg) {
         return toAnonymousClosure(msg);
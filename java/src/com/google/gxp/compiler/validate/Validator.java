@@ -30,12 +30,14 @@ import com.google.gxp.compiler.alerts.common.RequiredAttributeHasCondError;
 import com.google.gxp.compiler.alerts.common.UnknownAttributeError;
 import com.google.gxp.compiler.base.AbbrExpression;
 import com.google.gxp.compiler.base.AttrBundleParam;
+import com.google.gxp.compiler.base.BooleanType;
 import com.google.gxp.compiler.base.BoundCall;
 import com.google.gxp.compiler.base.BoundImplementsDeclaration;
 import com.google.gxp.compiler.base.BundleType;
 import com.google.gxp.compiler.base.Call;
 import com.google.gxp.compiler.base.Callable;
 import com.google.gxp.compiler.base.CallVisitor;
+import com.google.gxp.compiler.base.DefaultingTypeVisitor;
 import com.google.gxp.compiler.base.ExhaustiveExpressionVisitor;
 import com.google.gxp.compiler.base.Expression;
 import com.google.gxp.compiler.base.FormalParameter;
@@ -43,18 +45,23 @@ import com.google.gxp.compiler.base.Implementable;
 import com.google.gxp.compiler.base.ImplementsDeclaration;
 import com.google.gxp.compiler.base.ImplementsVisitor;
 import com.google.gxp.compiler.base.Interface;
+import com.google.gxp.compiler.base.NativeType;
 import com.google.gxp.compiler.base.NativeImplementsDeclaration;
 import com.google.gxp.compiler.base.Node;
 import com.google.gxp.compiler.base.ObjectConstant;
 import com.google.gxp.compiler.base.OutputElement;
+import com.google.gxp.compiler.base.OutputLanguage;
 import com.google.gxp.compiler.base.Parameter;
 import com.google.gxp.compiler.base.Root;
 import com.google.gxp.compiler.base.Template;
+import com.google.gxp.compiler.base.Type;
+import com.google.gxp.compiler.base.TypeVisitor;
 import com.google.gxp.compiler.base.UnboundCall;
 import com.google.gxp.compiler.base.UnboundImplementsDeclaration;
 import com.google.gxp.compiler.base.UnexpectedNodeException;
 import com.google.gxp.compiler.base.ValidatedCall;
 import com.google.gxp.compiler.escape.EscapedTree;
+import com.google.gxp.compiler.java.JavaUtil;
 import com.google.gxp.compiler.reparent.Attribute;
 import com.google.gxp.compiler.schema.AttributeValidator;
 
@@ -134,6 +141,92 @@ public class Validator implements Function<EscapedTree, ValidatedTree> {
 
     private final Deque<String> varNames = new ArrayDeque<String>();
 
+    /**
+     * Native types that are known to use identity based {@code equals()}
+     * and so can't be parameters of pure templates.
+     */
+    private static final Set<String> IDENTITY_NATIVE_TYPES = ImmutableSet.of(
+        "Object", "java.lang.Object",
+        "StringBuilder", "java.lang.StringBuilder",
+        "StringBuffer", "java.lang.StringBuffer",
+        "java.util.Iterator", "Iterator",
+        "java.util.Iterable", "Iterable",
+        "scala.concurrent.Future",
+        "Any", "AnyRef");
+
+    /**
+     * Mutable {@code java.util} types, without their package. Their values
+     * can change after they have been used as memoization keys, so they
+     * can't be parameters of pure templates either. (In Scala, the
+     * unqualified names refer to immutable collections.)
+     */
+    private static final Set<String> MUTABLE_JAVA_UTIL_TYPES = ImmutableSet.of(
+        "Collection", "List", "ArrayList", "LinkedList", "Vector", "Stack",
+        "Set", "HashSet", "LinkedHashSet", "SortedSet", "NavigableSet", "TreeSet",
+        "Map", "HashMap", "LinkedHashMap", "SortedMap", "NavigableMap", "TreeMap",
+        "Hashtable", "Queue", "Deque", "ArrayDeque", "PriorityQueue",
+        "Date", "Calendar");
+
+    private static final Set<OutputLanguage> PURE_CHECKED_LANGUAGES =
+        ImmutableSet.of(OutputLanguage.JAVA, OutputLanguage.SCALA);
+
+    /**
+     * Returns whether values of a type can be used as memoization keys.
+     * Closures, bundles and template instances can't; native types are
+     * trusted unless they are arrays, futures, mutable collections or known
+     * identity types.
+     */
+    private static final TypeVisitor<Boolean> HAS_VALUE_SEMANTICS =
+        new DefaultingTypeVisitor<Boolean>() {
+          @Override
+          protected Boolean defaultVisitType(Type type) {
+            return false;
+          }
+
+          @Override
+          public Boolean visitBooleanType(BooleanType type) {
+            return true;
+          }
+
+          @Override
+          public Boolean visitNativeType(NativeType type) {
+            for (OutputLanguage language : PURE_CHECKED_LANGUAGES) {
+              String nativeType = type.getNativeType(language);
+              if (nativeType != null) {
+                nativeType = nativeType.trim();
+                if (nativeType.endsWith("[]")) {
+                  return false;
+                }
+                // ignore any type arguments
+                String rawType = nativeType.split("[<{\\[]", 2)[0].trim();
+                if (!isValueType(language, rawType)) {
+                  return false;
+                }
+              }
+            }
+            return true;
+          }
+        };
+
+    private static boolean isValueType(OutputLanguage language, String rawType) {
+      if (rawType.equals("Array")
+          || IDENTITY_NATIVE_TYPES.contains(rawType)
+          || JavaUtil.FUTURE_TYPES.contains(rawType)) {
+        return false;
+      }
+      if (rawType.startsWith("java.util.")) {
+        return !MUTABLE_JAVA_UTIL_TYPES.contains(rawType.substring("java.util.".length()));
+      }
+      switch (language) {
+        case JAVA:
+          return !MUTABLE_JAVA_UTIL_TYPES.contains(rawType);
+        case SCALA:
+          return !rawType.startsWith("scala.collection.mutable.");
+        default:
+          return true;
+      }
+    }
+
     @Override
     public Template visitTemplate(Template template) {
       // save template so that children have it avaliable
@@ -153,6 +246,9 @@ public class Validator implements Function<EscapedTree, ValidatedTree> {
         if (param.hasConstructorFlag() == true) {
           alertSink.add(new TemplateParamWithHasConstructorError(param));
         }
+        if (template.isPure() && !param.getType().acceptTypeVisitor(HAS_VALUE_SEMANTICS)) {
+          alertSink.add(new PureTemplateParamTypeError(param, param.getPrimaryName()));
+        }
         varNames.push(param.getPrimaryName());
       }
 
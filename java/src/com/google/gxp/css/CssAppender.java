@@ -19,12 +19,12 @@ package com.google.gxp.css;
 import com.google.common.base.CharEscaper;
 import com.google.common.base.CharEscaperBuilder;
 import com.google.common.base.Preconditions;
+import com.google.gxp.base.DigitWriter;
+import com.google.gxp.base.EscapeTable;
 import com.google.gxp.base.GxpContext;
 
 import java.io.IOException;
 import java.net.URI;
-import java.text.NumberFormat;
-import java.util.Locale;
 
 /**
  * Appender class for text/css
@@ -38,22 +38,12 @@ public class CssAppender {
   // Primitives
   //////////////////////////////////////////////////////////////////////////////////////////
 
-  private static final NumberFormat numberFormatter = getNumberFormatter();
-
-  private static NumberFormat getNumberFormatter() {
-    // Always use Locale.US because CSS is not user visible and always uses
-    // a dot (.) to denote the decimal place.
-    NumberFormat formatter = NumberFormat.getNumberInstance(Locale.US);
-    formatter.setGroupingUsed(false);
-    return formatter;
-  }
-
   /**
    * Converts value to a CSS literal and appends to Appendable.
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, int value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -62,7 +52,7 @@ public class CssAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, double value)
       throws IOException {
-    out.append(numberFormatter.format(value));
+    CssNumberFormat.format(out, value);
     return out;
   }
 
@@ -97,6 +87,9 @@ public class CssAppender {
         .addEscape('"', "\\\"")
         .toEscaper();
 
+  private static final EscapeTable CSS_STRING_ESCAPE_TABLE =
+      EscapeTable.of(CSS_STRING_ESCAPER, 0x80);
+
   /**
    * Converts value to a CSS literal and appends to Appendable.
    */
@@ -104,7 +97,7 @@ public class CssAppender {
       throws IOException {
     Preconditions.checkNotNull(value);
     out.append('"');
-    CSS_STRING_ESCAPER.escape(out).append(value);
+    CSS_STRING_ESCAPE_TABLE.escape(out, value);
     out.append('"');
     return out;
   }
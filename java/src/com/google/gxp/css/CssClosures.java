@@ -16,11 +16,9 @@
 
 package com.google.gxp.css;
 
+import com.google.gxp.base.ForwardingGxpClosure;
 import com.google.gxp.base.GxpClosure;
 import com.google.gxp.base.GxpClosures;
-import com.google.gxp.base.GxpContext;
-
-import java.io.IOException;
 
 /**
  * Container for CSS specific GXP Closures
@@ -28,9 +26,7 @@ import java.io.IOException;
 public class CssClosures {
   private CssClosures() {}
 
-  public static final CssClosure EMPTY = new CssClosure() {
-      public void write(Appendable out, GxpContext context) {}
-    };
+  public static final CssClosure EMPTY = wrap(GxpClosures.EMPTY);
 
   /**
    * @return a {@code CssClosure} that renders {@code css} as literal
@@ -66,10 +62,12 @@ public class CssClosures {
    * Wrap a {@code GxpClosure} with a {@code CssClosure}.
    */
   private static CssClosure wrap(final GxpClosure closure) {
-    return new CssClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          closure.write(out, gxpContext);
-        }
-      };
+    return new Wrapper(closure);
+  }
+
+  private static final class Wrapper extends ForwardingGxpClosure implements CssClosure {
+    Wrapper(GxpClosure closure) {
+      super(closure);
+    }
   }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.css;
+
+import com.google.gxp.base.DigitWriter;
+
+import java.io.IOException;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Formats doubles for CSS. The output is the same as that of
+ * {@code NumberFormat.getNumberInstance(Locale.US)} with grouping turned off:
+ * a '.' decimal point, at most {@value #MAX_FRACTION_DIGITS} fraction digits
+ * (rounded half-even), no trailing zeros, and "-0" for negative values that
+ * round to zero.
+ *
+ * <p>Values with magnitude below {@code 2^32} (which covers anything that
+ * shows up in a stylesheet) are rounded exactly using integer arithmetic on
+ * the bits of the double and written straight to the {@code Appendable}.
+ * Anything else, including tiny non-zero values, falls back to a per-thread
+ * {@code NumberFormat}. Either way
+ * this class is safe to use from multiple threads.
+ */
+final class CssNumberFormat {
+  private CssNumberFormat() {}
+
+  private static final int MAX_FRACTION_DIGITS = 3;
+  private static final long SCALE = 1000;
+
+  // Below this the ulp of a double is small enough that rounding the exact
+  // binary value and rounding its shortest decimal representation (which is
+  // what NumberFormat does) always agree.
+  private static final double FAST_PATH_LIMIT = 4294967296.0; // 2^32
+  private static final double SMALLEST_FRACTION = 0.001;
+
+  private static final int EXPONENT_BIAS = 1075; // 1023 + 52
+  private static final long SIGNIFICAND_MASK = (1L << 52) - 1;
+  private static final long IMPLICIT_BIT = 1L << 52;
+
+  private static final ThreadLocal<NumberFormat> FALLBACK = new ThreadLocal<NumberFormat>() {
+    @Override
+    protected NumberFormat initialValue() {
+      // Always use Locale.US because CSS is not user visible and always uses
+      // a dot (.) to denote the decimal place.
+      NumberFormat formatter = NumberFormat.getNumberInstance(Locale.US);
+      formatter.setGroupingUsed(false);
+      formatter.setMaximumFractionDigits(MAX_FRACTION_DIGITS);
+      return formatter;
+    }
+  };
+
+  /**
+   * Appends {@code value}, formatted for CSS, to {@code out}.
+   */
+  static void format(Appendable out, double value) throws IOException {
+    double magnitude = Math.abs(value);
+    if (!(magnitude < FAST_PATH_LIMIT)
+        || (magnitude < SMALLEST_FRACTION && magnitude != 0)) {
+      // NaN, infinite, large, or rounds to the first fraction digit (where
+      // NumberFormat treats the double nearest 0.0005 as an exact tie).
+      out.append(FALLBACK.get().format(value));
+      return;
+    }
+
+    long bits = Double.doubleToRawLongBits(value);
+    boolean negative = bits < 0;
+    int biasedExponent = (int) (bits >>> 52) & 0x7ff;
+    long significand = bits & SIGNIFICAND_MASK;
+    int exponent;
+    if (biasedExponent == 0) {
+      // subnormal (or zero)
+      exponent = 1 - EXPONENT_BIAS;
+    } else {
+      significand |= IMPLICIT_BIT;
+      exponent = biasedExponent - EXPONENT_BIAS;
+    }
+
+    // |value| * SCALE == significand * SCALE * 2^exponent, exactly. The
+    // product fits in a long because significand < 2^53 and SCALE < 2^10.
+    long scaled = significand * SCALE;
+    long rounded;
+    if (exponent >= 0) {
+      rounded = scaled << exponent;
+    } else if (exponent <= -64) {
+      rounded = 0;
+    } else if (exponent == -63) {
+      // scaled < 2^63, so the quotient is 0 and the remainder is scaled
+      rounded = (scaled > (1L << 62)) ? 1 : 0;
+    } else {
+      int shift = -exponent;
+      long quotient = scaled >>> shift;
+      long remainder = scaled & ((1L << shift) - 1);
+      long half = 1L << (shift - 1);
+      if (remainder > half || (remainder == half && (quotient & 1) != 0)) {
+        quotient++;
+      }
+      rounded = quotient;
+    }
+
+    if (negative) {
+      out.append('-');
+    }
+    DigitWriter.writeLong(out, rounded / SCALE);
+    int fraction = (int) (rounded % SCALE);
+    if (fraction != 0) {
+      out.append('.');
+      int divisor = (int) SCALE / 10;
+      while (fraction != 0) {
+        out.append((char) ('0' + fraction / divisor));
+        fraction %= divisor;
+        divisor /= 10;
+      }
+    }
+  }
+}
@@ -80,7 +80,7 @@ public class HtmlAppender extends MarkupAppender<HtmlClosure> {
   public <A extends Appendable> A append(A out, GxpContext gxpContext, PlaintextClosure closure)
       throws IOException {
     Preconditions.checkNotNull(closure);
-    closure.write(getCharEscaper(gxpContext).escape(out), gxpContext);
+    closure.write(getEscapingAppendable(out, gxpContext), gxpContext);
     return out;
   }
 
@@ -88,21 +88,63 @@ public class HtmlAppender extends MarkupAppender<HtmlClosure> {
   // Objects
   //////////////////////////////////////////////////////////////////////
 
+  /**
+   * The overloads {@link #append(Appendable, GxpContext, Object)} can route
+   * a value to, in order of precedence.
+   */
+  private enum Kind {
+    LOCALIZABLE(Localizable.class),
+    PLAINTEXT_CLOSURE(PlaintextClosure.class),
+    CSS_CLOSURE(CssClosure.class),
+    JAVASCRIPT_CLOSURE(JavascriptClosure.class),
+    HTML_CLOSURE(HtmlClosure.class),
+    OTHER(Object.class);
+
+    private final Class<?> type;
+
+    Kind(Class<?> type) {
+      this.type = type;
+    }
+  }
+
+  /**
+   * The {@code Kind} of each class that has been appended, so that the
+   * {@code instanceof} tests are done once per class rather than once per
+   * value.
+   */
+  private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+    @Override
+    protected Kind computeValue(Class<?> type) {
+      for (Kind kind : Kind.values()) {
+        if (kind.type.isAssignableFrom(type)) {
+          return kind;
+        }
+      }
+      throw new AssertionError(type);
+    }
+  };
+
   public <A extends Appendable> A append(A out, GxpContext gxpContext, Object value)
       throws IOException {
     Preconditions.checkNotNull(value);
-    if (value instanceof Localizable) {
-      append(out, gxpContext, (Localizable)value);
-    } else if (value instanceof PlaintextClosure) {
-      append(out, gxpContext, (PlaintextClosure)value);
-    } else if (value instanceof CssClosure) {
-      append(out, gxpContext, (CssClosure)value);
-    } else if (value instanceof JavascriptClosure) {
-      append(out, gxpContext, (JavascriptClosure)value);
-    } else if (value instanceof HtmlClosure) {
-      append(out, gxpContext, (HtmlClosure)value);
-    } else {
-      append(out, gxpContext, value.toString());
+    switch (KINDS.get(value.getClass())) {
+      case LOCALIZABLE:
+        append(out, gxpContext, (Localizable)value);
+        break;
+      case PLAINTEXT_CLOSURE:
+        append(out, gxpContext, (PlaintextClosure)value);
+        break;
+      case CSS_CLOSURE:
+        append(out, gxpContext, (CssClosure)value);
+        break;
+      case JAVASCRIPT_CLOSURE:
+        append(out, gxpContext, (JavascriptClosure)value);
+        break;
+      case HTML_CLOSURE:
+        append(out, gxpContext, (HtmlClosure)value);
+        break;
+      default:
+        append(out, gxpContext, value.toString());
     }
     return out;
   }
@@ -18,9 +18,9 @@ package com.google.gxp.html;
 
 import com.google.common.base.CharEscapers;
 import com.google.common.base.Preconditions;
+import com.google.gxp.base.ForwardingGxpClosure;
 import com.google.gxp.base.GxpClosure;
 import com.google.gxp.base.GxpClosures;
-import com.google.gxp.base.GxpContext;
 import com.google.i18n.Localizable;
 
 import java.io.File;
@@ -34,9 +34,7 @@ import java.nio.charset.Charset;
 public final class HtmlClosures {
   private HtmlClosures() {}
 
-  public static final HtmlClosure EMPTY = new HtmlClosure() {
-      public void write(Appendable out, GxpContext context) {}
-    };
+  public static final HtmlClosure EMPTY = wrap(GxpClosures.EMPTY);
 
   /**
    * Convert an html String into a {@code HtmlClosure} that emits the
@@ -110,10 +108,12 @@ public final class HtmlClosures {
    * Wrap a {@code GxpClosure} with a {@code HtmlClosure}.
    */
   private static HtmlClosure wrap(final GxpClosure closure) {
-    return new HtmlClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          closure.write(out, gxpContext);
-        }
-      };
+    return new Wrapper(closure);
+  }
+
+  private static final class Wrapper extends ForwardingGxpClosure implements HtmlClosure {
+    Wrapper(GxpClosure closure) {
+      super(closure);
+    }
   }
 }
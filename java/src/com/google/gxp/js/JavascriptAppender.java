@@ -16,16 +16,15 @@
 
 package com.google.gxp.js;
 
-import com.google.common.base.CharEscapers;
 import com.google.common.base.Preconditions;
+import com.google.gxp.base.DigitWriter;
+import com.google.gxp.base.EscapeTable;
 import com.google.gxp.base.GxpContext;
 import com.google.i18n.Localizable;
 
 import java.io.IOException;
-import java.io.StringWriter;
 
 import org.json.JSONArray;
-import org.json.JSONException;
 import org.json.JSONObject;
 
 /**
@@ -45,7 +44,7 @@ public class JavascriptAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, byte value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -54,7 +53,7 @@ public class JavascriptAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, short value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -63,7 +62,7 @@ public class JavascriptAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, int value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -72,7 +71,7 @@ public class JavascriptAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, long value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeLong(out, value);
     return out;
   }
 
@@ -81,7 +80,7 @@ public class JavascriptAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, float value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeFloat(out, value);
     return out;
   }
 
@@ -90,7 +89,7 @@ public class JavascriptAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, double value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeDouble(out, value);
     return out;
   }
 
@@ -100,7 +99,7 @@ public class JavascriptAppender {
   public <A extends Appendable> A append(A out, GxpContext gxpContext, char value)
       throws IOException {
     out.append('"');
-    CharEscapers.javascriptEscaper().escape(out).append(value);
+    EscapeTable.JAVASCRIPT.escape(out, value);
     out.append('"');
     return out;
   }
@@ -133,34 +132,24 @@ public class JavascriptAppender {
   //////////////////////////////////////////////////////////////////////////////////////////
 
   /**
-   * Outputs a {@code JSONArray} to out.
+   * Outputs a {@code JSONArray} to out. The array is streamed directly to out
+   * and escaped so that it can be embedded in a {@code <script>} block.
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, JSONArray value)
       throws IOException {
     Preconditions.checkNotNull(value);
-    StringWriter sw = new StringWriter();
-    try {
-      value.write(sw);
-    } catch (JSONException e) {
-      throw new IOException(e);
-    }
-    out.append(sw.toString());
+    JsonWriter.write(out, value);
     return out;
   }
 
   /**
-   * Outputs a {@code JSONObject} to out.
+   * Outputs a {@code JSONObject} to out. The object is streamed directly to
+   * out and escaped so that it can be embedded in a {@code <script>} block.
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, JSONObject value)
       throws IOException {
     Preconditions.checkNotNull(value);
-    StringWriter sw = new StringWriter();
-    try {
-      value.write(sw);
-    } catch (JSONException e) {
-      throw new IOException(e);
-    }
-    out.append(sw.toString());
+    JsonWriter.write(out, value);
     return out;
   }
 
@@ -173,7 +162,7 @@ public class JavascriptAppender {
       out.append("null");
     } else {
       out.append('"');
-      CharEscapers.javascriptEscaper().escape(out).append(value);
+      EscapeTable.JAVASCRIPT.escape(out, value);
       out.append('"');
     }
     return out;
@@ -16,11 +16,9 @@
 
 package com.google.gxp.js;
 
+import com.google.gxp.base.ForwardingGxpClosure;
 import com.google.gxp.base.GxpClosure;
 import com.google.gxp.base.GxpClosures;
-import com.google.gxp.base.GxpContext;
-
-import java.io.IOException;
 
 /**
  * Creates Javascript specific GXP Closures
@@ -28,9 +26,7 @@ import java.io.IOException;
 public final class JavascriptClosures {
   private JavascriptClosures() {}
 
-  public static final JavascriptClosure EMPTY = new JavascriptClosure() {
-      public void write(Appendable out, GxpContext context) {}
-    };
+  public static final JavascriptClosure EMPTY = wrap(GxpClosures.EMPTY);
 
   /**
    * @return a {@code JavascriptClosure} that renders {@code js} as literal
@@ -66,10 +62,12 @@ public final class JavascriptClosures {
    * Wrap a {@code GxpClosure} with a {@code JavascriptClosure}.
    */
   private static JavascriptClosure wrap(final GxpClosure closure) {
-    return new JavascriptClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          closure.write(out, gxpContext);
-        }
-      };
+    return new Wrapper(closure);
+  }
+
+  private static final class Wrapper extends ForwardingGxpClosure implements JavascriptClosure {
+    Wrapper(GxpClosure closure) {
+      super(closure);
+    }
   }
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.js;
+
+import com.google.gxp.base.DigitWriter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+/**
+ * Streams {@code JSONObject}s and {@code JSONArray}s to an {@code Appendable}
+ * one token at a time, so that no intermediate {@code String} holding the
+ * whole serialization is ever built.
+ *
+ * <p>The output is what {@code JSONObject.write} produces, except that it is
+ * also safe to embed in a {@code <script>} block: in addition to the escaping
+ * done by {@code JSONObject.quote} ({@code "</"} as {@code "<\/"} and U+2028
+ * and U+2029 as unicode escapes) {@code "<!--"} is written as
+ * <code>"&#92;u003c!--"</code>. Text supplied by {@code JSONString}s is
+ * filtered the same way.
+ */
+final class JsonWriter {
+  private JsonWriter() {}
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  // These are line terminators in JavaScript string literals (but not JSON).
+  private static final char LINE_SEPARATOR = 0x2028;
+  private static final char PARAGRAPH_SEPARATOR = 0x2029;
+
+  /**
+   * Writes {@code value} to {@code out}.
+   */
+  static void write(Appendable out, JSONObject value) throws IOException {
+    out.append('{');
+    Iterator<?> keys = value.keys();
+    boolean first = true;
+    while (keys.hasNext()) {
+      if (!first) {
+        out.append(',');
+      }
+      first = false;
+      String key = keys.next().toString();
+      writeString(out, key);
+      out.append(':');
+      writeValue(out, value.opt(key));
+    }
+    out.append('}');
+  }
+
+  /**
+   * Writes {@code value} to {@code out}.
+   */
+  static void write(Appendable out, JSONArray value) throws IOException {
+    out.append('[');
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        out.append(',');
+      }
+      writeValue(out, value.opt(i));
+    }
+    out.append(']');
+  }
+
+  /**
+   * Writes an arbitrary JSON value, following the same rules as
+   * {@code JSONObject.valueToString}.
+   */
+  private static void writeValue(Appendable out, Object value) throws IOException {
+    if (value == null || JSONObject.NULL.equals(value)) {
+      out.append("null");
+    } else if (value instanceof JSONObject) {
+      write(out, (JSONObject) value);
+    } else if (value instanceof JSONArray) {
+      write(out, (JSONArray) value);
+    } else if (value instanceof String) {
+      writeString(out, (String) value);
+    } else if (value instanceof Integer || value instanceof Long
+               || value instanceof Short || value instanceof Byte) {
+      DigitWriter.writeLong(out, ((Number) value).longValue());
+    } else if (value instanceof Number) {
+      try {
+        out.append(JSONObject.numberToString((Number) value));
+      } catch (JSONException e) {
+        throw new IOException(e);
+      }
+    } else if (value instanceof Boolean) {
+      out.append(((Boolean) value).booleanValue() ? "true" : "false");
+    } else if (value instanceof JSONString) {
+      writeJsonString(out, (JSONString) value);
+    } else if (value instanceof Map) {
+      write(out, new JSONObject((Map) value));
+    } else if (value instanceof Collection) {
+      write(out, new JSONArray((Collection) value));
+    } else if (value.getClass().isArray()) {
+      try {
+        write(out, new JSONArray(value));
+      } catch (JSONException e) {
+        throw new IOException(e);
+      }
+    } else {
+      writeString(out, value.toString());
+    }
+  }
+
+  private static void writeJsonString(Appendable out, JSONString value) throws IOException {
+    Object json;
+    try {
+      json = value.toJSONString();
+    } catch (Exception e) {
+      throw new IOException(new JSONException(e));
+    }
+    if (!(json instanceof String)) {
+      throw new IOException(new JSONException("Bad value from toJSONString: " + json));
+    }
+    writeRaw(out, (String) json);
+  }
+
+  /**
+   * Writes {@code s} as a quoted JSON string literal.
+   */
+  static void writeString(Appendable out, CharSequence s) throws IOException {
+    out.append('"');
+    int len = s.length();
+    int unescapedStart = 0;
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      String replacement;
+      switch (c) {
+        case '"':
+          replacement = "\\\"";
+          break;
+        case '\\':
+          replacement = "\\\\";
+          break;
+        case '\b':
+          replacement = "\\b";
+          break;
+        case '\t':
+          replacement = "\\t";
+          break;
+        case '\n':
+          replacement = "\\n";
+          break;
+        case '\f':
+          replacement = "\\f";
+          break;
+        case '\r':
+          replacement = "\\r";
+          break;
+        case '<':
+          replacement = scriptUnsafeReplacement(s, i);
+          if (replacement == null) {
+            continue;
+          }
+          break;
+        default:
+          if (c < ' ' || (c >= '\u0080' && c < '\u00a0')
+              || (c >= '\u2000' && c < '\u2100')) {
+            out.append(s, unescapedStart, i);
+            writeUnicodeEscape(out, c);
+            unescapedStart = i + 1;
+          }
+          continue;
+      }
+      out.append(s, unescapedStart, i);
+      out.append(replacement);
+      unescapedStart = i + 1;
+      if (replacement == SLASH_REPLACEMENT) {
+        // the '/' was consumed too
+        unescapedStart++;
+        i++;
+      }
+    }
+    out.append(s, unescapedStart, len);
+    out.append('"');
+  }
+
+  /**
+   * Writes raw JSON text, escaping only the sequences that could end or
+   * confuse an enclosing {@code <script>} block. Those can only appear inside
+   * string literals, where the escaped forms mean the same thing.
+   */
+  static void writeRaw(Appendable out, CharSequence s) throws IOException {
+    int len = s.length();
+    int unescapedStart = 0;
+    for (int i = 0; i < len; i++) {
+      char c = s.charAt(i);
+      if (c == '<') {
+        String replacement = scriptUnsafeReplacement(s, i);
+        if (replacement != null) {
+          out.append(s, unescapedStart, i);
+          out.append(replacement);
+          unescapedStart = i + 1;
+          if (replacement == SLASH_REPLACEMENT) {
+            unescapedStart++;
+            i++;
+          }
+        }
+      } else if (c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR) {
+        out.append(s, unescapedStart, i);
+        writeUnicodeEscape(out, c);
+        unescapedStart = i + 1;
+      }
+    }
+    out.append(s, unescapedStart, len);
+  }
+
+  private static final String SLASH_REPLACEMENT = "<\\/";
+  private static final String COMMENT_REPLACEMENT = "\\u003c";
+
+  /**
+   * Returns the replacement for the {@code '<'} at {@code s[i]}, or null if
+   * it does not start {@code "</"} or {@code "<!--"}. {@link
+   * #SLASH_REPLACEMENT} also replaces the following {@code '/'}.
+   */
+  private static String scriptUnsafeReplacement(CharSequence s, int i) {
+    int len = s.length();
+    if (i + 1 < len) {
+      char next = s.charAt(i + 1);
+      if (next == '/') {
+        return SLASH_REPLACEMENT;
+      }
+      if (next == '!' && i + 3 < len && s.charAt(i + 2) == '-' && s.charAt(i + 3) == '-') {
+        return COMMENT_REPLACEMENT;
+      }
+    }
+    return null;
+  }
+
+  private static void writeUnicodeEscape(Appendable out, char c) throws IOException {
+    out.append('\\');
+    out.append('u');
+    out.append(HEX_DIGITS[(c >> 12) & 0xf]);
+    out.append(HEX_DIGITS[(c >> 8) & 0xf]);
+    out.append(HEX_DIGITS[(c >> 4) & 0xf]);
+    out.append(HEX_DIGITS[c & 0xf]);
+  }
+}
@@ -34,6 +34,6 @@ public class RssAppender extends MarkupAppender<RssClosure> {
   public void append(Appendable out, GxpContext gxpContext, HtmlClosure closure)
       throws IOException {
     Preconditions.checkNotNull(closure);
-    closure.write(getCharEscaper(gxpContext).escape(out), gxpContext);
+    closure.write(getEscapingAppendable(out, gxpContext), gxpContext);
   }
 }
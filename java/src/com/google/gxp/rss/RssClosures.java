@@ -16,11 +16,9 @@
 
 package com.google.gxp.rss;
 
+import com.google.gxp.base.ForwardingGxpClosure;
 import com.google.gxp.base.GxpClosure;
 import com.google.gxp.base.GxpClosures;
-import com.google.gxp.base.GxpContext;
-
-import java.io.IOException;
 
 /**
  * Utility {@code RssClosure}s
@@ -28,9 +26,7 @@ import java.io.IOException;
 public class RssClosures {
   private RssClosures() {}
 
-  public static final RssClosure EMPTY = new RssClosure() {
-      public void write(Appendable out, GxpContext context) {}
-    };
+  public static final RssClosure EMPTY = wrap(GxpClosures.EMPTY);
 
   /**
    * Convert a rss String into a {@code RssClosure} that emits the
@@ -44,10 +40,12 @@ public class RssClosures {
    * Wrap a {@code GxpClosure} with a {@code RssClosure}.
    */
   private static RssClosure wrap(final GxpClosure closure) {
-    return new RssClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          closure.write(out, gxpContext);
-        }
-      };
+    return new Wrapper(closure);
+  }
+
+  private static final class Wrapper extends ForwardingGxpClosure implements RssClosure {
+    Wrapper(GxpClosure closure) {
+      super(closure);
+    }
   }
 }
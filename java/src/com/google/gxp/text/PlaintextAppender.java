@@ -17,6 +17,7 @@
 package com.google.gxp.text;
 
 import com.google.common.base.Preconditions;
+import com.google.gxp.base.DigitWriter;
 import com.google.gxp.base.GxpContext;
 import com.google.i18n.Localizable;
 
@@ -39,7 +40,7 @@ public class PlaintextAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, byte value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -48,7 +49,7 @@ public class PlaintextAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, short value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -57,7 +58,7 @@ public class PlaintextAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, int value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeInt(out, value);
     return out;
   }
 
@@ -66,7 +67,7 @@ public class PlaintextAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, long value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeLong(out, value);
     return out;
   }
 
@@ -75,7 +76,7 @@ public class PlaintextAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, float value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeFloat(out, value);
     return out;
   }
 
@@ -84,7 +85,7 @@ public class PlaintextAppender {
    */
   public <A extends Appendable> A append(A out, GxpContext gxpContext, double value)
       throws IOException {
-    out.append(String.valueOf(value));
+    DigitWriter.writeDouble(out, value);
     return out;
   }
 
@@ -17,22 +17,18 @@
 package com.google.gxp.text;
 
 import com.google.common.base.CharEscapers;
+import com.google.gxp.base.ForwardingGxpClosure;
 import com.google.gxp.base.GxpClosure;
 import com.google.gxp.base.GxpClosures;
-import com.google.gxp.base.GxpContext;
 import com.google.i18n.Localizable;
 
-import java.io.IOException;
-
 /**
  * Utility {@link PlaintextClosure}s
  */
 public class PlaintextClosures {
   private PlaintextClosures() {}
 
-  public static final PlaintextClosure EMPTY = new PlaintextClosure() {
-      public void write(Appendable out, GxpContext context) {}
-    };
+  public static final PlaintextClosure EMPTY = wrap(GxpClosures.EMPTY);
 
   public static PlaintextClosure fromPlaintext(final String text) {
     return wrap(GxpClosures.fromString(text));
@@ -42,14 +38,38 @@ public class PlaintextClosures {
     return wrap(GxpClosures.fromLocalizable(value, CharEscapers.nullEscaper()));
   }
 
+  /**
+   * Renders a sequence of {@link PlaintextClosure} instances by calling
+   * their write methods in order.
+   *
+   * @param closures A list of {@code PlaintextClosure} objects to be rendered
+   * @return A new {@code PlaintextClosure} that renders the list
+   */
+  public static PlaintextClosure concat(final Iterable<? extends PlaintextClosure> closures) {
+    return wrap(GxpClosures.concat(closures));
+  }
+
+  /**
+   * Renders a sequence of {@link PlaintextClosure} instances by calling their
+   * write methods in order. Varargs form of {@link #concat(Iterable)}.
+   *
+   * @param closures a series of closure objects to be rendered in order
+   * @return A new {@code PlaintextClosure} that renders the closures in order
+   */
+  public static PlaintextClosure concat(final PlaintextClosure... closures) {
+    return wrap(GxpClosures.concat(closures));
+  }
+
   /**
    * Wrap a {@code GxpClosure} with a {@code PlaintextClosure}.
    */
   private static PlaintextClosure wrap(final GxpClosure closure) {
-    return new PlaintextClosure() {
-        public void write(Appendable out, GxpContext gxpContext) throws IOException {
-          closure.write(out, gxpContext);
-        }
-      };
+    return new Wrapper(closure);
+  }
+
+  private static final class Wrapper extends ForwardingGxpClosure implements PlaintextClosure {
+    Wrapper(GxpClosure closure) {
+      super(closure);
+    }
   }
 }
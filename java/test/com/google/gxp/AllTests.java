@@ -30,12 +30,29 @@ public class AllTests extends TestCase {
     // Rutime Library Tests
     ////////////////////////////////////////////////////////////////////////////////
 
+    suite.addTestSuite(com.google.gxp.base.ByteSinkTest.class);
+    suite.addTestSuite(com.google.gxp.base.DigitWriterTest.class);
+    suite.addTestSuite(com.google.gxp.base.EscapeTableTest.class);
+    suite.addTestSuite(com.google.gxp.base.FileContentCacheTest.class);
+    suite.addTestSuite(com.google.gxp.base.FlushPolicyTest.class);
+    suite.addTestSuite(com.google.gxp.base.FragmentCacheTest.class);
+    suite.addTestSuite(com.google.gxp.base.GxpAttrBundleTest.class);
+    suite.addTestSuite(com.google.gxp.base.GxpClosuresTest.class);
     suite.addTestSuite(com.google.gxp.base.GxpContextTest.class);
+    suite.addTestSuite(com.google.gxp.base.GxpWriterTest.class);
+    suite.addTestSuite(com.google.gxp.base.GzipByteSinkTest.class);
+    suite.addTestSuite(com.google.gxp.base.MessageTableTest.class);
+    suite.addTestSuite(com.google.gxp.base.MessageTest.class);
+    suite.addTestSuite(com.google.gxp.base.OutputSizeEstimatorTest.class);
+    suite.addTestSuite(com.google.gxp.base.ParallelRenderingTest.class);
     suite.addTestSuite(com.google.gxp.css.ColorTest.class);
     suite.addTestSuite(com.google.gxp.css.CssAppenderTest.class);
+    suite.addTestSuite(com.google.gxp.css.CssNumberFormatTest.class);
+    suite.addTestSuite(com.google.gxp.html.HtmlAppenderTest.class);
     suite.addTestSuite(com.google.gxp.html.HtmlClosuresTest.class);
     suite.addTestSuite(com.google.gxp.js.JavascriptAppenderTest.class);
     suite.addTestSuite(com.google.gxp.js.JavascriptClosuresTest.class);
+    suite.addTestSuite(com.google.gxp.js.JsonWriterTest.class);
     suite.addTestSuite(com.google.gxp.text.PlaintextAppenderTest.class);
     suite.addTestSuite(com.google.gxp.text.PlaintextClosuresTest.class);
 
@@ -75,6 +92,7 @@ public class AllTests extends TestCase {
     suite.addTestSuite(com.google.gxp.compiler.errortests.AnnotateErrorTest.class);
     suite.addTestSuite(com.google.gxp.compiler.errortests.AttributeBundleErrorTest.class);
     suite.addTestSuite(com.google.gxp.compiler.errortests.BasicErrorTest.class);
+    suite.addTestSuite(com.google.gxp.compiler.errortests.ByteOutputErrorTest.class);
     suite.addTestSuite(com.google.gxp.compiler.errortests.CallErrorTest.class);
     suite.addTestSuite(com.google.gxp.compiler.errortests.ConditionalErrorTest.class);
     suite.addTestSuite(com.google.gxp.compiler.errortests.I18nErrorTest.class);
@@ -92,6 +110,7 @@ public class AllTests extends TestCase {
     suite.addTestSuite(com.google.gxp.compiler.functests.JavaCodeTest.class);
     suite.addTestSuite(com.google.gxp.compiler.functests.annotate.JavaCodeTest.class);
     suite.addTestSuite(com.google.gxp.compiler.functests.bundle.JavaCodeTest.class);
+    suite.addTestSuite(com.google.gxp.compiler.functests.bytes.JavaCodeTest.class);
     suite.addTestSuite(com.google.gxp.compiler.functests.call.JavaCodeTest.class);
     suite.addTestSuite(com.google.gxp.compiler.functests.closures.JavaCodeTest.class);
     suite.addTestSuite(com.google.gxp.compiler.functests.i18n.JavaCodeTest.class);
@@ -0,0 +1,327 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link ByteSink} and {@link StaticChunk}.
+ */
+public class ByteSinkTest extends TestCase {
+  private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+  private String getOutput() throws Exception {
+    return new String(stream.toByteArray(), "UTF-8");
+  }
+
+  public void testAppendCharacters() throws Exception {
+    ByteSink out = ByteSink.forOutputStream(stream, Charsets.UTF_8);
+    out.append('<').append("caf\u00e9").append("xx\u20acxx", 2, 3).append('>');
+    out.append(null);
+    out.flush();
+    assertEquals("<caf\u00e9\u20ac>null", getOutput());
+  }
+
+  public void testStaticChunkPreservesOrder() throws Exception {
+    ByteSink out = ByteSink.forOutputStream(stream, Charsets.UTF_8);
+    StaticChunk chunk = new StaticChunk("<p>\u00fcber</p>", Charsets.UTF_8);
+    out.append("a");
+    chunk.write(out);
+    out.append("b");
+    chunk.write(out);
+    out.flush();
+    assertEquals("a<p>\u00fcber</p>b<p>\u00fcber</p>", getOutput());
+  }
+
+  /**
+   * An {@code OutputStream} that writes into {@link #stream} and counts the
+   * calls made to it.
+   */
+  private class CountingOutputStream extends OutputStream {
+    int writes = 0;
+
+    @Override
+    public void write(int b) {
+      writes++;
+      stream.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      writes++;
+      stream.write(b, off, len);
+    }
+  }
+
+  public void testStaticChunksAreBuffered() throws Exception {
+    CountingOutputStream counter = new CountingOutputStream();
+    StringBuilder expected = new StringBuilder();
+    for (Charset charset : new Charset[] { Charsets.UTF_8, Charsets.US_ASCII }) {
+      ByteSink out = ByteSink.forOutputStream(counter, charset);
+      StaticChunk chunk = new StaticChunk("<td>", charset);
+      for (int i = 0; i < 100; i++) {
+        chunk.write(out);
+        out.append("x");
+        expected.append("<td>x");
+      }
+      assertEquals(0, counter.writes);
+      out.flush();
+      assertEquals(1, counter.writes);
+      counter.writes = 0;
+    }
+    assertEquals(expected.toString(), getOutput());
+
+    // chunks larger than the buffer are written straight through, after
+    // what precedes them
+    stream.reset();
+    ByteSink out = ByteSink.forOutputStream(counter, Charsets.UTF_8);
+    String big = Strings.repeat("<br>", 5000);
+    out.append("a");
+    new StaticChunk(big, Charsets.UTF_8).write(out);
+    out.append("b");
+    out.flush();
+    assertEquals(3, counter.writes);
+    assertEquals("a" + big + "b", getOutput());
+  }
+
+  public void testStaticChunkWithOtherCharset() throws Exception {
+    ByteSink out = ByteSink.forOutputStream(stream, Charsets.ISO_8859_1);
+    new StaticChunk("\u00fcber", Charsets.UTF_8).write(out);
+    out.flush();
+    assertEquals("\u00fcber", new String(stream.toByteArray(), "ISO-8859-1"));
+    assertEquals(4, stream.size());
+  }
+
+  public void testStaticChunkToCharacterOutput() throws Exception {
+    StringWriter sw = new StringWriter();
+    StaticChunk chunk = new StaticChunk("<b>\u00fcber</b>", Charsets.UTF_8);
+    chunk.write(sw);
+    assertEquals("<b>\u00fcber</b>", sw.toString());
+    assertEquals("<b>\u00fcber</b>", chunk.toString());
+  }
+
+  public void testSurrogatePairSplitAcrossAppends() throws Exception {
+    ByteSink out = ByteSink.forOutputStream(stream, Charsets.UTF_8);
+    out.append('\uD83D');
+    out.flush();
+    out.append('\uDE00');
+    out.flush();
+    assertEquals("\uD83D\uDE00", getOutput());
+  }
+
+  public void testUnmappableCharactersAreReplaced() throws Exception {
+    ByteSink out = ByteSink.forOutputStream(stream, Charsets.US_ASCII);
+    out.append("a\u00e9b");
+    new StaticChunk("c\u00e9d", Charsets.UTF_8).write(out);
+    out.flush();
+    assertEquals("a?bc?d", getOutput());
+  }
+
+  public void testSingleByteCharsetsMatchEncoder() throws Exception {
+    Random random = new Random(0);
+    for (Charset charset : new Charset[] { Charsets.US_ASCII, Charsets.ISO_8859_1 }) {
+      for (int i = 0; i < 500; i++) {
+        char[] chars = new char[random.nextInt(40)];
+        for (int j = 0; j < chars.length; j++) {
+          switch (random.nextInt(4)) {
+            case 0:
+              chars[j] = (char) (0xD800 + random.nextInt(0x800));
+              break;
+            case 1:
+              chars[j] = (char) random.nextInt(0x180);
+              break;
+            default:
+              chars[j] = (char) random.nextInt(0x10000);
+          }
+        }
+        String s = new String(chars);
+        byte[] expected = s.getBytes(charset.name());
+
+        stream.reset();
+        ByteSink out = ByteSink.forOutputStream(stream, charset);
+        out.append(s, 0, s.length() / 2).append(s.substring(s.length() / 2));
+        out.flush();
+        assertEquals(s, new String(expected, charset.name()),
+                     new String(stream.toByteArray(), charset.name()));
+
+        stream.reset();
+        out = ByteSink.forOutputStream(stream, charset);
+        for (int j = 0; j < chars.length; j++) {
+          out.append(chars[j]);
+        }
+        out.flush();
+        assertEquals(s, new String(expected, charset.name()),
+                     new String(stream.toByteArray(), charset.name()));
+      }
+    }
+  }
+
+  public void testLargeOutput() throws Exception {
+    ByteSink out = ByteSink.forOutputStream(stream, Charsets.UTF_8);
+    String big = Strings.repeat("\u00e9x", 20000);
+    out.append(big);
+    out.flush();
+    assertEquals(big, getOutput());
+  }
+
+  public void testByteBuffer() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    ByteSink out = ByteSink.forByteBuffer(buffer, Charsets.UTF_8);
+    out.append("x");
+    new StaticChunk("<br>", Charsets.UTF_8).write(out);
+    out.flush();
+    buffer.flip();
+    assertEquals("x<br>", Charsets.UTF_8.decode(buffer).toString());
+  }
+
+  public void testByteBufferOverflow() throws Exception {
+    for (Charset charset : new Charset[] { Charsets.UTF_8, Charsets.US_ASCII }) {
+      ByteSink out = ByteSink.forByteBuffer(ByteBuffer.allocate(4), charset);
+      out.append("too long");
+      try {
+        out.flush();
+        fail("IOException expected");
+      } catch (IOException expected) {
+        // expected
+      }
+    }
+  }
+
+  /**
+   * A {@code GatheringByteChannel} that writes into {@link #stream}, at most
+   * {@code maxPerWrite} bytes per call, and records the buffers it is given.
+   */
+  private class RecordingChannel implements GatheringByteChannel {
+    final int maxPerWrite;
+    final List<ByteBuffer> buffers = Lists.newArrayList();
+    int gatheringWrites = 0;
+
+    RecordingChannel(int maxPerWrite) {
+      this.maxPerWrite = maxPerWrite;
+    }
+
+    public long write(ByteBuffer[] srcs, int offset, int length) {
+      gatheringWrites++;
+      long written = 0;
+      for (int i = offset; i < offset + length; i++) {
+        if (!buffers.contains(srcs[i])) {
+          buffers.add(srcs[i]);
+        }
+        written += write(srcs[i], (int) (maxPerWrite - written));
+      }
+      return written;
+    }
+
+    public long write(ByteBuffer[] srcs) {
+      return write(srcs, 0, srcs.length);
+    }
+
+    public int write(ByteBuffer src) {
+      return write(src, maxPerWrite);
+    }
+
+    private int write(ByteBuffer src, int max) {
+      int n = Math.min(max, src.remaining());
+      for (int i = 0; i < n; i++) {
+        stream.write(src.get());
+      }
+      return n;
+    }
+
+    public boolean isOpen() {
+      return true;
+    }
+
+    public void close() {}
+  }
+
+  public void testChannel() throws Exception {
+    RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+    ByteSink out = ByteSink.forChannel(channel, Charsets.UTF_8);
+    StaticChunk chunk = new StaticChunk("<p>\u00fcber</p>", Charsets.UTF_8);
+    out.append("a");
+    chunk.write(out);
+    out.append("caf\u00e9");
+    chunk.write(out);
+    out.flush();
+    assertEquals("a<p>\u00fcber</p>caf\u00e9<p>\u00fcber</p>", getOutput());
+    assertEquals(1, channel.gatheringWrites);
+
+    // the chunk is written from shared, read-only direct memory
+    int chunkBuffers = 0;
+    for (ByteBuffer buffer : channel.buffers) {
+      if (buffer.isDirect() && buffer.isReadOnly()) {
+        chunkBuffers++;
+      }
+    }
+    assertEquals(2, chunkBuffers);
+  }
+
+  public void testChannelPartialWrites() throws Exception {
+    RecordingChannel channel = new RecordingChannel(7);
+    ByteSink out = ByteSink.forChannel(channel, Charsets.UTF_8);
+    StaticChunk chunk = new StaticChunk("<br>", Charsets.UTF_8);
+    StringBuilder expected = new StringBuilder();
+    Random random = new Random(0);
+    // enough chunks to fill the pending list, and text to fill the scratch
+    // buffer, several times over
+    for (int i = 0; i < 1000; i++) {
+      String s = Strings.repeat("\u00e9x", random.nextInt(200));
+      out.append(s);
+      chunk.write(out);
+      expected.append(s).append("<br>");
+    }
+    out.flush();
+    assertEquals(expected.toString(), getOutput());
+  }
+
+  public void testChannelWithOtherCharsetAndPlainChannel() throws Exception {
+    ByteSink out = ByteSink.forChannel(Channels.newChannel(stream), Charsets.ISO_8859_1);
+    out.append("caf\u00e9 ");
+    new StaticChunk("<p>\u00fcber</p>", Charsets.UTF_8).write(out);
+    out.flush();
+    assertEquals("caf\u00e9 <p>\u00fcber</p>",
+                 new String(stream.toByteArray(), "ISO-8859-1"));
+  }
+
+  public void testChannelIsReusableAfterFlush() throws Exception {
+    RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+    ByteSink out = ByteSink.forChannel(channel, Charsets.UTF_8);
+    out.append("one ");
+    out.flush();
+    out.append("two");
+    out.flush();
+    out.flush();
+    assertEquals("one two", getOutput());
+    assertEquals(2, channel.gatheringWrites);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Charsets;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link DigitWriter}. Output must match {@code String.valueOf}
+ * for every kind of {@code Appendable}.
+ */
+public class DigitWriterTest extends TestCase {
+  private static final long[] LONGS = {
+    0, 1, -1, 9, 10, -10, 99, 100, 12345, -12345,
+    Integer.MAX_VALUE, Integer.MIN_VALUE,
+    (long) Integer.MAX_VALUE + 1, (long) Integer.MIN_VALUE - 1,
+    Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1,
+    999999999999999999L, 1000000000000000000L,
+  };
+
+  private static final double[] DOUBLES = {
+    0.0, -0.0, 1.0, -1.5, 0.1, 1e7, 1e-3, 9.999e-4, 123456789.0, 1e21,
+    Double.MAX_VALUE, Double.MIN_VALUE, Double.MIN_NORMAL,
+    Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+  };
+
+  private interface Sink {
+    Appendable get();
+    String getOutput() throws IOException;
+  }
+
+  private final Sink[] sinks = {
+    new Sink() {
+      StringBuilder sb;
+      public Appendable get() {
+        return sb = new StringBuilder();
+      }
+      public String getOutput() {
+        return sb.toString();
+      }
+    },
+    new Sink() {
+      StringWriter sw;
+      public Appendable get() {
+        return sw = new StringWriter();
+      }
+      public String getOutput() {
+        return sw.toString();
+      }
+    },
+    new Sink() {
+      StringBuilder sb;
+      GxpWriter out;
+      public Appendable get() {
+        sb = new StringBuilder();
+        return out = new GxpWriter(sb, 32);
+      }
+      public String getOutput() throws IOException {
+        out.flushBuffer();
+        return sb.toString();
+      }
+    },
+    new Sink() {
+      ByteArrayOutputStream stream;
+      ByteSink out;
+      public Appendable get() {
+        stream = new ByteArrayOutputStream();
+        return out = ByteSink.forOutputStream(stream, Charsets.US_ASCII);
+      }
+      public String getOutput() throws IOException {
+        out.flush();
+        return new String(stream.toByteArray(), "US-ASCII");
+      }
+    },
+  };
+
+  public void testLongs() throws Exception {
+    Random random = new Random(0);
+    for (Sink sink : sinks) {
+      for (long value : LONGS) {
+        assertLong(sink, value);
+      }
+      for (int i = 0; i < 1000; i++) {
+        assertLong(sink, random.nextLong() >> random.nextInt(64));
+      }
+    }
+  }
+
+  private void assertLong(Sink sink, long value) throws IOException {
+    Appendable out = sink.get();
+    // Several values in a row, so that GxpWriter has to flush part way.
+    DigitWriter.writeLong(out, value);
+    out.append(',');
+    DigitWriter.writeLong(out, value);
+    out.append(',');
+    DigitWriter.writeInt(out, (int) value);
+    String s = String.valueOf(value);
+    assertEquals(s + "," + s + "," + (int) value, sink.getOutput());
+  }
+
+  public void testDoubles() throws Exception {
+    Random random = new Random(0);
+    for (Sink sink : sinks) {
+      for (double value : DOUBLES) {
+        assertDouble(sink, value);
+      }
+      for (int i = 0; i < 1000; i++) {
+        assertDouble(sink, Double.longBitsToDouble(random.nextLong()));
+        assertDouble(sink, random.nextDouble() * 1000);
+      }
+    }
+  }
+
+  private void assertDouble(Sink sink, double value) throws IOException {
+    Appendable out = sink.get();
+    DigitWriter.writeDouble(out, value);
+    out.append(',');
+    DigitWriter.writeFloat(out, (float) value);
+    assertEquals(String.valueOf(value) + "," + String.valueOf((float) value),
+                 sink.getOutput());
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.CharEscaper;
+import com.google.common.base.CharEscapers;
+import com.google.gxp.testing.Benchmark;
+
+/**
+ * Compares {@link EscapeTable} against the {@code CharEscaper} Appendable
+ * path it replaces. See {@link Benchmark}.
+ */
+public class EscapeTableBenchmark {
+  private static final int ITERATIONS = 200000;
+
+  private static final String[] INPUTS = {
+    "John Smith",
+    "A typical user comment with no markup in it whatsoever, just words.",
+    "Tom & Jerry <tom@example.com> said \"hi\"",
+    "caf\u00e9 na\u00efve r\u00e9sum\u00e9 \u4e2d\u6587",
+  };
+
+  private static Benchmark.Workload charEscaper(final String input) {
+    final CharEscaper escaper = CharEscapers.htmlEscaper();
+    return new Benchmark.Workload() {
+      public void run(int operations) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < operations; i++) {
+          sb.setLength(0);
+          escaper.escape(sb).append(input);
+        }
+      }
+    };
+  }
+
+  private static Benchmark.Workload escapeTable(final String input) {
+    return new Benchmark.Workload() {
+      public void run(int operations) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < operations; i++) {
+          sb.setLength(0);
+          EscapeTable.HTML.escape(sb, input);
+        }
+      }
+    };
+  }
+
+  public static void main(String[] args) throws Exception {
+    Benchmark benchmark = new Benchmark(70, "input", "CharEscaper", "EscapeTable");
+    for (String input : INPUTS) {
+      benchmark.row(CharEscapers.javaStringEscaper().escape(input), ITERATIONS,
+                    charEscaper(input), escapeTable(input));
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.CharEscaper;
+import com.google.common.base.CharEscapers;
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link EscapeTable}.
+ */
+public class EscapeTableTest extends TestCase {
+  private static final String MIXED =
+      "plain <b class=\"x\">&'</b>\u0000\t\u007f\u00a0\u00e9\u03b1\u2028\u2666\u2667"
+      + "\u4e2d\uD83D\uDE00\\ = \n end";
+
+  private void assertEquivalent(CharEscaper escaper, EscapeTable table) throws Exception {
+    StringBuilder all = new StringBuilder();
+    for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+      String s = String.valueOf((char) c);
+      String expected = escaper.escape(s);
+      assertEquals("char " + c, expected, table.escape(new StringBuilder(), s).toString());
+      assertEquals("char " + c, expected,
+                   table.escape(new StringBuilder(), (char) c).toString());
+      all.append((char) c);
+    }
+
+    String expected = escaper.escape(all.toString());
+    assertEquals(expected, table.escape(new StringBuilder(), all).toString());
+    assertEquals(expected, table.escape(new StringWriter(), all).toString());
+
+    StringBuilder sb = new StringBuilder();
+    table.escape(sb).append(all, 0, 1000).append(all.substring(1000));
+    assertEquals(expected, sb.toString());
+
+    assertEquals(escaper.escape(MIXED), table.escape(new StringBuilder(), MIXED).toString());
+    assertEquals(escaper.escape(MIXED.substring(3, 20)),
+                 table.escape(new StringBuilder(), MIXED, 3, 20).toString());
+  }
+
+  public void testEquivalentToCharEscapers() throws Exception {
+    assertEquivalent(CharEscapers.xmlEscaper(), EscapeTable.XML);
+    assertEquivalent(CharEscapers.htmlEscaper(), EscapeTable.HTML);
+    assertEquivalent(CharEscapers.asciiHtmlEscaper(), EscapeTable.ASCII_HTML);
+    assertEquivalent(CharEscapers.javascriptEscaper(), EscapeTable.JAVASCRIPT);
+  }
+
+  public void testForEscaper() throws Exception {
+    assertSame(EscapeTable.XML, EscapeTable.forEscaper(CharEscapers.xmlEscaper()));
+    assertSame(EscapeTable.HTML, EscapeTable.forEscaper(CharEscapers.htmlEscaper()));
+    assertSame(EscapeTable.ASCII_HTML,
+               EscapeTable.forEscaper(CharEscapers.asciiHtmlEscaper()));
+    assertSame(EscapeTable.JAVASCRIPT,
+               EscapeTable.forEscaper(CharEscapers.javascriptEscaper()));
+    assertNull(EscapeTable.forEscaper(CharEscapers.javaStringEscaper()));
+  }
+
+  /**
+   * An {@code Appendable} that records what it was passed.
+   */
+  private static class RecordingAppendable implements Appendable {
+    final List<Object> calls = Lists.newArrayList();
+
+    public Appendable append(char c) {
+      calls.add(c);
+      return this;
+    }
+
+    public Appendable append(CharSequence csq) {
+      calls.add(csq);
+      return this;
+    }
+
+    public Appendable append(CharSequence csq, int start, int end) {
+      calls.add(csq.subSequence(start, end).toString());
+      return this;
+    }
+  }
+
+  public void testUnescapedInputIsPassedThrough() throws Exception {
+    String s = "nothing to see here";
+    RecordingAppendable out = new RecordingAppendable();
+    EscapeTable.HTML.escape(out, s);
+    assertEquals(1, out.calls.size());
+    assertSame(s, out.calls.get(0));
+  }
+
+  public void testRunsAreAppendedWhole() throws Exception {
+    RecordingAppendable out = new RecordingAppendable();
+    EscapeTable.HTML.escape(out, "ab<cd>>ef");
+    assertEquals(Lists.<Object>newArrayList("ab", "&lt;", "cd", "&gt;", "&gt;", "ef"),
+                 out.calls);
+  }
+
+  public void testForCharsetUnicode() throws Exception {
+    assertSame(EscapeTable.XML, EscapeTable.XML.forCharset(Charsets.UTF_8));
+    assertSame(EscapeTable.HTML, EscapeTable.HTML.forCharset(Charsets.UTF_16));
+    assertSame(EscapeTable.JAVASCRIPT, EscapeTable.JAVASCRIPT.forCharset(Charsets.UTF_8));
+  }
+
+  public void testForCharsetIsCached() throws Exception {
+    EscapeTable ascii = EscapeTable.XML.forCharset(Charsets.US_ASCII);
+    EscapeTable latin1 = EscapeTable.XML.forCharset(Charsets.ISO_8859_1);
+    assertNotSame(ascii, latin1);
+    assertSame(ascii, EscapeTable.XML.forCharset(Charsets.US_ASCII));
+    assertSame(latin1, EscapeTable.XML.forCharset(Charsets.ISO_8859_1));
+    assertSame(ascii, ascii.forCharset(Charsets.US_ASCII));
+    assertSame(latin1, ascii.forCharset(Charsets.ISO_8859_1));
+    assertSame(EscapeTable.XML, ascii.forCharset(Charsets.UTF_8));
+  }
+
+  public void testForCharsetEscapesUnencodable() throws Exception {
+    String s = "caf\u00e9 <\u4e2d> \uD83D\uDE00 \uD800x";
+    EscapeTable ascii = EscapeTable.XML.forCharset(Charsets.US_ASCII);
+    assertEquals("caf&#233; &lt;&#20013;&gt; &#128512; &#65533;x",
+                 ascii.escape(new StringBuilder(), s).toString());
+    assertEquals("&#233;", ascii.escape(new StringBuilder(), '\u00e9').toString());
+    assertEquals("&#65533;", ascii.escape(new StringBuilder(), '\uD83D').toString());
+
+    EscapeTable latin1 = EscapeTable.XML.forCharset(Charsets.ISO_8859_1);
+    assertEquals("caf\u00e9 &lt;&#20013;&gt; &#128512; &#65533;x",
+                 latin1.escape(new StringBuilder(), s).toString());
+
+    EscapeTable js = EscapeTable.JAVASCRIPT.forCharset(Charsets.US_ASCII);
+    assertEquals("\\xe9\\ud83d\\ude00", js.escape(new StringBuilder(),
+                                                  "\u00e9\uD83D\uDE00").toString());
+  }
+
+  private static String randomString(Random random) {
+    char[] chars = new char[random.nextInt(30)];
+    for (int i = 0; i < chars.length; i++) {
+      switch (random.nextInt(4)) {
+        case 0:
+          chars[i] = (char) (0xD800 + random.nextInt(0x800));
+          break;
+        case 1:
+          chars[i] = (char) random.nextInt(0x100);
+          break;
+        default:
+          chars[i] = (char) random.nextInt(0x10000);
+      }
+    }
+    return new String(chars);
+  }
+
+  public void testForCharsetOutputIsEncodable() throws Exception {
+    Charset[] charsets = {
+      Charsets.US_ASCII, Charsets.ISO_8859_1,
+      Charset.forName("windows-1252"), Charset.forName("Shift_JIS"),
+    };
+    EscapeTable[] tables = {
+      EscapeTable.XML, EscapeTable.HTML, EscapeTable.ASCII_HTML, EscapeTable.JAVASCRIPT,
+    };
+    Random random = new Random(0);
+    for (Charset charset : charsets) {
+      CharsetEncoder encoder = charset.newEncoder();
+      for (EscapeTable base : tables) {
+        EscapeTable table = base.forCharset(charset);
+        for (int i = 0; i < 200; i++) {
+          String s = randomString(random);
+          String escaped = table.escape(new StringBuilder(), s).toString();
+          assertTrue(charset + ": " + escaped, encoder.canEncode(escaped));
+          assertEquals(escaped, table.escape(new StringWriter(), s).toString());
+
+          StringBuilder sb = new StringBuilder();
+          GxpWriter out = new GxpWriter(sb, 32);
+          out.appendEscaped(s, table);
+          out.flushBuffer();
+          assertEquals(escaped, sb.toString());
+
+          // Text the charset can encode is escaped just as before.
+          if (encoder.canEncode(s)) {
+            assertEquals(base.escape(new StringBuilder(), s).toString(), escaped);
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link FileContentCache}.
+ */
+public class FileContentCacheTest extends TestCase {
+  private File tmpDir;
+
+  @Override
+  protected void setUp() throws Exception {
+    tmpDir = Files.createTempDir();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    for (File file : tmpDir.listFiles()) {
+      file.delete();
+    }
+    tmpDir.delete();
+  }
+
+  private File createFile(String name, String contents) throws Exception {
+    File file = new File(tmpDir, name);
+    Files.write(contents, file, Charsets.UTF_8);
+    return file;
+  }
+
+  private static String write(FileContentCache cache, File file) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    cache.write(sb, file, Charsets.UTF_8);
+    return sb.toString();
+  }
+
+  public void testHitsAndMisses() throws Exception {
+    FileContentCache cache = new FileContentCache(1000);
+    File a = createFile("a", "caf\u00e9");
+    File b = createFile("b", "bar");
+    assertEquals("caf\u00e9", write(cache, a));
+    assertEquals("caf\u00e9", write(cache, a));
+    assertEquals("bar", write(cache, b));
+    assertEquals("caf\u00e9", write(cache, new File(a.getPath())));
+    assertEquals(2, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(14, cache.getSize());
+  }
+
+  public void testKeyIncludesCharset() throws Exception {
+    FileContentCache cache = new FileContentCache(1000);
+    File file = createFile("a", "caf\u00e9");
+    assertEquals("caf\u00e9", write(cache, file));
+    assertEquals("caf\u00c3\u00a9", cache.get(file, Charsets.ISO_8859_1));
+    assertEquals(2, cache.getMissCount());
+  }
+
+  public void testMalformedInputIsReplaced() throws Exception {
+    FileContentCache cache = new FileContentCache(1000);
+    File file = new File(tmpDir, "a");
+    Files.write(new byte[] { 'a', (byte) 0xff, 'b' }, file);
+    assertEquals("a\ufffdb", write(cache, file));
+  }
+
+  public void testChangedFileIsReread() throws Exception {
+    FileContentCache cache = new FileContentCache(1000);
+    File file = createFile("a", "old");
+    assertEquals("old", write(cache, file));
+
+    // same length, different modification time
+    Files.write("new", file, Charsets.UTF_8);
+    file.setLastModified(file.lastModified() - 10000);
+    assertEquals("new", write(cache, file));
+
+    // different length, same modification time
+    long lastModified = file.lastModified();
+    Files.write("newer", file, Charsets.UTF_8);
+    file.setLastModified(lastModified);
+    assertEquals("newer", write(cache, file));
+    assertEquals("newer", write(cache, file));
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+    assertEquals(10, cache.getSize());
+  }
+
+  public void testEvictsLeastRecentlyUsed() throws Exception {
+    FileContentCache cache = new FileContentCache(20);
+    File a = createFile("a", "aaaa");
+    File b = createFile("b", "bbbb");
+    File c = createFile("c", "cccc");
+    write(cache, a);
+    write(cache, b);
+    write(cache, a);
+    write(cache, c);
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(16, cache.getSize());
+
+    write(cache, a);
+    write(cache, c);
+    assertEquals(3, cache.getHitCount());
+    write(cache, b);
+    assertEquals(3, cache.getHitCount());
+    assertEquals(2, cache.getEvictionCount());
+  }
+
+  public void testLargeFilesAreNotCached() throws Exception {
+    FileContentCache cache = new FileContentCache(10);
+    File file = createFile("a", "too long for the cache");
+    assertEquals("too long for the cache", write(cache, file));
+    assertEquals("too long for the cache", write(cache, file));
+    assertEquals(0, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(0, cache.getSize());
+  }
+
+  public void testEmptyFile() throws Exception {
+    FileContentCache cache = new FileContentCache(10);
+    File file = createFile("a", "");
+    assertEquals("", write(cache, file));
+    assertEquals("", write(cache, file));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  public void testMissingFile() throws Exception {
+    FileContentCache cache = new FileContentCache(10);
+    try {
+      write(cache, new File(tmpDir, "missing"));
+      fail("expected FileNotFoundException");
+    } catch (FileNotFoundException expected) {
+      // expected
+    }
+  }
+
+  public void testClear() throws Exception {
+    FileContentCache cache = new FileContentCache(100);
+    File file = createFile("a", "foo");
+    write(cache, file);
+    cache.clear();
+    assertEquals(0, cache.getSize());
+    write(cache, file);
+    assertEquals(2, cache.getMissCount());
+  }
+
+  public void testFromFileUsesSharedInstance() throws Exception {
+    FileContentCache original = FileContentCache.getInstance();
+    FileContentCache cache = new FileContentCache(100);
+    FileContentCache.setInstance(cache);
+    try {
+      File file = createFile("a", "<b>foo</b>");
+      GxpClosure closure = GxpClosures.fromFile(file, Charsets.UTF_8);
+      GxpContext gxpContext = new GxpContext(Locale.US);
+      for (int i = 0; i < 3; i++) {
+        StringBuilder sb = new StringBuilder();
+        closure.write(sb, gxpContext);
+        assertEquals("<b>foo</b>", sb.toString());
+      }
+      assertEquals(2, cache.getHitCount());
+      assertEquals(1, cache.getMissCount());
+    } finally {
+      FileContentCache.setInstance(original);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link FlushPolicy}.
+ */
+public class FlushPolicyTest extends TestCase {
+  public void testNever() throws Exception {
+    assertTrue(FlushPolicy.NEVER.isNever());
+    assertEquals(0, FlushPolicy.NEVER.getThreshold());
+    assertFalse(FlushPolicy.NEVER.isFlushingAtTopLevelCalls());
+    assertFalse(FlushPolicy.NEVER.isFlushingAtExplicitPoints());
+    assertEquals(FlushPolicy.NEVER, FlushPolicy.builder().build());
+  }
+
+  public void testBuilder() throws Exception {
+    FlushPolicy policy = FlushPolicy.builder()
+        .flushEvery(8192)
+        .flushAtTopLevelCalls()
+        .flushAtExplicitPoints()
+        .build();
+    assertFalse(policy.isNever());
+    assertEquals(8192, policy.getThreshold());
+    assertTrue(policy.isFlushingAtTopLevelCalls());
+    assertTrue(policy.isFlushingAtExplicitPoints());
+
+    assertFalse(FlushPolicy.builder().flushEvery(1).build().isNever());
+    assertFalse(FlushPolicy.builder().flushAtTopLevelCalls().build().isNever());
+    assertFalse(FlushPolicy.builder().flushAtExplicitPoints().build().isNever());
+  }
+
+  public void testFlushEvery_rejectsNonPositive() throws Exception {
+    try {
+      FlushPolicy.builder().flushEvery(0);
+      fail("IllegalArgumentException expected");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  public void testEquals() throws Exception {
+    FlushPolicy a = FlushPolicy.builder().flushEvery(100).flushAtTopLevelCalls().build();
+    FlushPolicy b = FlushPolicy.builder().flushAtTopLevelCalls().flushEvery(100).build();
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    assertFalse(a.equals(FlushPolicy.builder().flushEvery(100).build()));
+    assertFalse(a.equals(FlushPolicy.builder().flushEvery(101).flushAtTopLevelCalls().build()));
+    assertFalse(a.equals(FlushPolicy.NEVER));
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Ticker;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link FragmentCache} and {@link LruFragmentCache}.
+ */
+public class FragmentCacheTest extends TestCase {
+  private static final GxpContext US = new GxpContext(Locale.US);
+
+  private static class FakeTicker extends Ticker {
+    long nanos = 0;
+
+    @Override
+    public long read() {
+      return nanos;
+    }
+  }
+
+  /**
+   * A closure that counts how many times it has been rendered.
+   */
+  private static class CountingClosure implements GxpClosure {
+    int renders = 0;
+
+    public void write(Appendable out, GxpContext gxpContext) throws IOException {
+      renders++;
+      out.append("render ").append(String.valueOf(renders));
+    }
+  }
+
+  private static String write(FragmentCache cache, GxpContext gxpContext, Object key,
+                              long ttlSeconds, GxpClosure content) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    cache.write(sb, gxpContext, key, ttlSeconds, content);
+    return sb.toString();
+  }
+
+  public void testHitsAndMisses() throws Exception {
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    CountingClosure content = new CountingClosure();
+    assertEquals("render 1", write(cache, US, "a", 0, content));
+    assertEquals("render 1", write(cache, US, "a", 0, content));
+    assertEquals("render 2", write(cache, US, "b", 0, content));
+    assertEquals("render 3", write(cache, US, null, 0, content));
+    assertEquals("render 3", write(cache, US, null, 0, content));
+    assertEquals(2, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+  public void testKeyIncludesContext() throws Exception {
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    CountingClosure content = new CountingClosure();
+    assertEquals("render 1", write(cache, US, "a", 0, content));
+    assertEquals("render 2", write(cache, new GxpContext(Locale.UK), "a", 0, content));
+    assertEquals("render 3",
+                 write(cache, GxpContext.builder(Locale.US).forceXmlSyntax().build(),
+                       "a", 0, content));
+    assertEquals("render 4",
+                 write(cache, GxpContext.builder(Locale.US).setCharset(Charsets.UTF_8).build(),
+                       "a", 0, content));
+    assertEquals("render 1", write(cache, new GxpContext(Locale.US), "a", 0, content));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(4, cache.getMissCount());
+  }
+
+  public void testKeyIncludesFragment() throws Exception {
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    assertEquals("render 1", write(cache, US, "a", 0, new CountingClosure()));
+    assertEquals("x", write(cache, US, "a", 0, new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        out.append("x");
+      }
+    }));
+    assertEquals(0, cache.getHitCount());
+  }
+
+  public void testLeastRecentlyUsedIsEvicted() throws Exception {
+    FragmentCache cache = new LruFragmentCache(2, 1, Ticker.systemTicker());
+    CountingClosure content = new CountingClosure();
+    assertEquals("render 1", write(cache, US, "a", 0, content));
+    assertEquals("render 2", write(cache, US, "b", 0, content));
+    // touch "a" so that "b" is the least recently used
+    assertEquals("render 1", write(cache, US, "a", 0, content));
+    assertEquals("render 3", write(cache, US, "c", 0, content));
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals("render 1", write(cache, US, "a", 0, content));
+    assertEquals("render 4", write(cache, US, "b", 0, content));
+    assertEquals(2, cache.getEvictionCount());
+  }
+
+  public void testSizeIsBounded() throws Exception {
+    LruFragmentCache cache = new LruFragmentCache(200);
+    CountingClosure content = new CountingClosure();
+    for (int i = 0; i < 1000; i++) {
+      write(cache, US, i, 0, content);
+    }
+    assertTrue(cache.size() <= 200);
+    assertEquals(1000 - cache.size(), cache.getEvictionCount());
+  }
+
+  public void testTtl() throws Exception {
+    FakeTicker ticker = new FakeTicker();
+    FragmentCache cache = new LruFragmentCache(10, 1, ticker);
+    CountingClosure content = new CountingClosure();
+    assertEquals("render 1", write(cache, US, "a", 5, content));
+    assertEquals("render 2", write(cache, US, "b", 0, content));
+    ticker.nanos = TimeUnit.SECONDS.toNanos(5) - 1;
+    assertEquals("render 1", write(cache, US, "a", 5, content));
+    ticker.nanos = TimeUnit.SECONDS.toNanos(5);
+    assertEquals("render 3", write(cache, US, "a", 5, content));
+    assertEquals(1, cache.getEvictionCount());
+    ticker.nanos = TimeUnit.DAYS.toNanos(365);
+    assertEquals("render 2", write(cache, US, "b", 0, content));
+  }
+
+  public void testClear() throws Exception {
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    CountingClosure content = new CountingClosure();
+    write(cache, US, "a", 0, content);
+    cache.clear();
+    assertEquals("render 2", write(cache, US, "a", 0, content));
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+  public void testRegions() throws Exception {
+    FragmentCache region = FragmentCache.forRegion("FragmentCacheTest.testRegions");
+    assertSame(region, FragmentCache.forRegion("FragmentCacheTest.testRegions"));
+    assertNotSame(region, FragmentCache.forRegion("FragmentCacheTest.other"));
+
+    FragmentCache custom = FragmentCache.newLruCache(1);
+    FragmentCache.setRegion("FragmentCacheTest.testRegions", custom);
+    assertSame(custom, FragmentCache.forRegion("FragmentCacheTest.testRegions"));
+  }
+
+  public void testBadArguments() throws Exception {
+    try {
+      FragmentCache.newLruCache(0);
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // good
+    }
+    try {
+      FragmentCache.setRegion("x", null);
+      fail("expected NullPointerException");
+    } catch (NullPointerException e) {
+      // good
+    }
+  }
+}
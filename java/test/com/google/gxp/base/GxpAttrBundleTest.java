@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.gxp.html.HtmlClosure;
+import com.google.gxp.html.HtmlClosures;
+import com.google.gxp.testing.BaseFunctionalTestCase;
+
+/**
+ * Tests for {@link GxpAttrBundle}.
+ */
+public class GxpAttrBundleTest extends BaseFunctionalTestCase {
+  private static HtmlClosure html(String s) {
+    return HtmlClosures.fromHtml(s);
+  }
+
+  public void testEmpty() throws Exception {
+    new GxpAttrBundle.Builder<HtmlClosure>().build().write(out, gxpContext);
+    assertOutputEquals("");
+  }
+
+  public void testAttrs() throws Exception {
+    GxpAttrBundle<HtmlClosure> bundle = new GxpAttrBundle.Builder<HtmlClosure>()
+        .attr("id", html("a"))
+        .attr("class", html("b"), true)
+        .attr("title", html("c"), false)
+        .attr("checked", true)
+        .attr("disabled", true, false)
+        .attr("selected", false)
+        .build();
+    bundle.write(out, gxpContext);
+    assertOutputEquals(" id=\"a\" class=\"b\" checked");
+    bundle.write(out, xmlGxpContext);
+    assertOutputEquals(" id=\"a\" class=\"b\" checked=\"checked\"");
+  }
+
+  public void testLastValueWinsAndFirstPositionIsKept() throws Exception {
+    GxpAttrBundle.Builder<HtmlClosure> builder = new GxpAttrBundle.Builder<HtmlClosure>()
+        .attr("id", html("a"))
+        .attr("class", html("b"))
+        .attr("checked", true)
+        .attr("selected", true)
+        // not the same String instance as the literal above
+        .attr(new String("id"), html("c"))
+        .attr("checked", true);
+    builder.build().write(out, gxpContext);
+    assertOutputEquals(" id=\"c\" class=\"b\" checked selected");
+
+    // the builder can keep being used after build()
+    builder.attr("class", html("d")).build().write(out, gxpContext);
+    assertOutputEquals(" id=\"c\" class=\"d\" checked selected");
+  }
+
+  public void testAddBundle() throws Exception {
+    GxpAttrBundle<HtmlClosure> inner = new GxpAttrBundle.Builder<HtmlClosure>()
+        .attr("class", html("inner"))
+        .attr("title", html("t"))
+        .attr("checked", true)
+        .build();
+    new GxpAttrBundle.Builder<HtmlClosure>()
+        .attr("id", html("a"))
+        .attr("class", html("outer"))
+        .addBundle(inner)
+        .attr("selected", true)
+        .build()
+        .write(out, gxpContext);
+    assertOutputEquals(" id=\"a\" class=\"inner\" title=\"t\" checked selected");
+  }
+
+  public void testAddBundleWithIncludeAttrs() throws Exception {
+    GxpAttrBundle<HtmlClosure> inner = new GxpAttrBundle.Builder<HtmlClosure>()
+        .attr("class", html("inner"))
+        .attr("title", html("t"))
+        .attr("checked", true)
+        .attr("selected", true)
+        .build();
+    new GxpAttrBundle.Builder<HtmlClosure>("title", new String("selected"))
+        .attr("id", html("a"))
+        .addBundle(inner)
+        .build()
+        .write(out, gxpContext);
+    assertOutputEquals(" id=\"a\" title=\"t\" selected");
+  }
+
+  public void testStaticAttrsUsePrecomputedMarkup() throws Exception {
+    GxpAttrBundle<HtmlClosure> bundle = new GxpAttrBundle.Builder<HtmlClosure>()
+        .staticAttr("class", html("a"), " class=\"precomputed\"")
+        .attr("id", html("b"))
+        .build();
+    bundle.write(out, gxpContext);
+    assertOutputEquals(" class=\"precomputed\" id=\"b\"");
+
+    // a dynamic value replaces the static one
+    new GxpAttrBundle.Builder<HtmlClosure>()
+        .addBundle(bundle)
+        .attr("class", html("c"))
+        .build()
+        .write(out, gxpContext);
+    assertOutputEquals(" class=\"c\" id=\"b\"");
+  }
+
+  public void testBuilderFromBase() throws Exception {
+    GxpAttrBundle<HtmlClosure> base = new GxpAttrBundle.Builder<HtmlClosure>()
+        .staticAttr("class", html("a"), " class=\"a\"")
+        .attr("checked", true)
+        .build();
+    GxpAttrBundle<HtmlClosure> sub = new GxpAttrBundle.Builder<HtmlClosure>()
+        .attr("title", html("t"))
+        .attr("dir", html("ltr"))
+        .build();
+
+    new GxpAttrBundle.Builder<HtmlClosure>(base)
+        .attr("id", html("b"))
+        .addBundle(sub)
+        .build()
+        .write(out, gxpContext);
+    assertOutputEquals(" class=\"a\" id=\"b\" title=\"t\" dir=\"ltr\" checked");
+
+    new GxpAttrBundle.Builder<HtmlClosure>(base, "dir")
+        .addBundle(sub)
+        .build()
+        .write(out, xmlGxpContext);
+    assertOutputEquals(" class=\"a\" dir=\"ltr\" checked=\"checked\"");
+
+    // the base bundle is unchanged
+    base.write(out, gxpContext);
+    assertOutputEquals(" class=\"a\" checked");
+  }
+
+  public void testNulls() throws Exception {
+    try {
+      new GxpAttrBundle.Builder<HtmlClosure>().attr("id", (HtmlClosure) null);
+      fail("expected NullPointerException");
+    } catch (NullPointerException expected) {
+      // expected
+    }
+    try {
+      new GxpAttrBundle.Builder<HtmlClosure>().attr(null, true);
+      fail("expected NullPointerException");
+    } catch (NullPointerException expected) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.CharEscapers;
+import com.google.common.collect.Lists;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link GxpClosures}.
+ */
+public class GxpClosuresTest extends TestCase {
+  private static final GxpContext US = new GxpContext(Locale.US);
+
+  /**
+   * An {@code Appendable} that records what it was passed.
+   */
+  private static class RecordingAppendable implements Appendable {
+    final List<String> calls = Lists.newArrayList();
+
+    public Appendable append(char c) {
+      calls.add(String.valueOf(c));
+      return this;
+    }
+
+    public Appendable append(CharSequence csq) {
+      calls.add(csq.toString());
+      return this;
+    }
+
+    public Appendable append(CharSequence csq, int start, int end) {
+      calls.add(csq.subSequence(start, end).toString());
+      return this;
+    }
+  }
+
+  /**
+   * A closure that counts how many times it has been rendered.
+   */
+  private static class CountingClosure implements GxpClosure {
+    int renders = 0;
+
+    public void write(Appendable out, GxpContext gxpContext) throws IOException {
+      renders++;
+      out.append("[x]");
+    }
+  }
+
+  /**
+   * A closure that forwards to another, as the typed closure wrappers do.
+   */
+  private static class Wrapper extends ForwardingGxpClosure {
+    Wrapper(GxpClosure closure) {
+      super(closure);
+    }
+  }
+
+  private static List<String> render(GxpClosure closure) throws IOException {
+    RecordingAppendable out = new RecordingAppendable();
+    closure.write(out, US);
+    return out.calls;
+  }
+
+  public void testFromStringEscapes() throws Exception {
+    assertEquals(Lists.newArrayList("a &lt; b"),
+                 render(GxpClosures.fromString("a < b", CharEscapers.xmlEscaper())));
+  }
+
+  public void testAdjacentStringsAreMerged() throws Exception {
+    CountingClosure dynamic = new CountingClosure();
+    GxpClosure closure = GxpClosures.concat(
+        GxpClosures.fromString("a"),
+        GxpClosures.fromString("<", CharEscapers.xmlEscaper()),
+        new Wrapper(GxpClosures.fromString("b")),
+        GxpClosures.EMPTY,
+        GxpClosures.fromString(""),
+        dynamic,
+        GxpClosures.concat(GxpClosures.fromString("c"), GxpClosures.fromString("d")),
+        GxpClosures.fromString("e"));
+    assertEquals(Lists.newArrayList("a&lt;b", "[x]", "cde"), render(closure));
+    assertEquals(1, dynamic.renders);
+  }
+
+  public void testNestedConcatenationsAreFlattened() throws Exception {
+    CountingClosure dynamic = new CountingClosure();
+    GxpClosure closure = GxpClosures.EMPTY;
+    for (int i = 0; i < 1000; i++) {
+      closure = new Wrapper(GxpClosures.concat(closure, dynamic));
+    }
+    List<String> calls = render(closure);
+    assertEquals(1000, calls.size());
+    assertEquals(1000, dynamic.renders);
+  }
+
+  public void testTrivialConcatenations() throws Exception {
+    CountingClosure dynamic = new CountingClosure();
+    assertSame(GxpClosures.EMPTY, GxpClosures.concat());
+    assertSame(GxpClosures.EMPTY,
+               GxpClosures.concat(GxpClosures.EMPTY, GxpClosures.fromString("")));
+    assertSame(dynamic, GxpClosures.concat(GxpClosures.EMPTY, dynamic));
+    assertSame(dynamic, GxpClosures.concat(Lists.newArrayList(new Wrapper(dynamic))));
+  }
+
+  public void testConcatRejectsNull() throws Exception {
+    try {
+      GxpClosures.concat(GxpClosures.EMPTY, null);
+      fail("expected NullPointerException");
+    } catch (NullPointerException expected) {
+      // expected
+    }
+  }
+}
@@ -18,7 +18,12 @@ package com.google.gxp.base;
 
 import com.google.common.base.Charsets;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import junit.framework.TestCase;
 
@@ -85,6 +90,21 @@ public class GxpContextTest extends TestCase {
     }
   }
 
+  public void testSetFlushPolicy() throws Exception {
+    assertSame(FlushPolicy.NEVER, GxpContext.builder(Locale.US).build().getFlushPolicy());
+
+    FlushPolicy policy = FlushPolicy.builder().flushEvery(4096).build();
+    GxpContext gc = GxpContext.builder(Locale.US).setFlushPolicy(policy).build();
+    assertSame(policy, gc.getFlushPolicy());
+
+    try {
+      GxpContext.builder(Locale.US).setFlushPolicy(null);
+      fail("NullPointerException expected");
+    } catch (NullPointerException expected) {
+      // expected
+    }
+  }
+
   public void testLegacyConstructor_LocaleOnly() throws Exception {
     GxpContext gc;
 
@@ -105,4 +125,208 @@ public class GxpContextTest extends TestCase {
       // expected
     }
   }
+
+  private static GxpClosure closure(final String... parts) {
+    return new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        for (String part : parts) {
+          out.append(part);
+        }
+      }
+    };
+  }
+
+  public void testIsEmptyOrWhitespace() throws Exception {
+    GxpContext gc = new GxpContext(Locale.US);
+    assertTrue(gc.isEmptyOrWhitespace(null));
+    assertTrue(gc.isEmptyOrWhitespace(closure()));
+    assertTrue(gc.isEmptyOrWhitespace(closure("", " \t", "\r\n ")));
+    assertFalse(gc.isEmptyOrWhitespace(closure("  x  ")));
+    assertFalse(gc.isEmptyOrWhitespace(closure(" ", "", "\u00a0")));
+    assertFalse(gc.isEmptyOrWhitespace(closure(" ", "y")));
+  }
+
+  public void testIsEmptyOrWhitespace_stopsAtFirstNonWhitespace() throws Exception {
+    final int[] appends = new int[1];
+    GxpClosure closure = new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        for (int i = 0; i < 100; i++) {
+          appends[0]++;
+          out.append(' ').append("x", 0, 1);
+        }
+      }
+    };
+    assertFalse(new GxpContext(Locale.US).isEmptyOrWhitespace(closure));
+    assertEquals(1, appends[0]);
+  }
+
+  public void testIsEmptyOrWhitespace_signalSwallowed() throws Exception {
+    GxpClosure closure = new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) {
+        try {
+          out.append("x");
+        } catch (IOException e) {
+          // ignore
+        }
+      }
+    };
+    assertFalse(new GxpContext(Locale.US).isEmptyOrWhitespace(closure));
+  }
+
+  public void testTopLevelCall() throws Exception {
+    GxpContext gc = new GxpContext(Locale.US);
+    assertTrue(gc.isTopLevelCall());
+    assertFalse(gc.isTopLevelCall());
+    assertFalse(gc.isTopLevelCall());
+    gc.endTopLevelCall();
+    assertTrue(gc.isTopLevelCall());
+
+    // each built context has its own render state
+    GxpContext other = GxpContext.builder(Locale.US).build();
+    assertNotSame(gc, other);
+    assertTrue(other.isTopLevelCall());
+  }
+
+  public void testBuildShared() throws Exception {
+    GxpContext gc = GxpContext.builder(Locale.US).setCharset(Charsets.UTF_8).buildShared();
+    assertSame(Locale.US, gc.getLocale());
+    assertSame(Charsets.UTF_8, gc.getCharset());
+    assertFalse(gc.isForcingXmlSyntax());
+
+    assertSame(gc, GxpContext.builder(Locale.US).setCharset(Charsets.UTF_8).buildShared());
+    assertNotSame(gc, GxpContext.builder(Locale.US).buildShared());
+    assertNotSame(gc, GxpContext.builder(Locale.UK).setCharset(Charsets.UTF_8).buildShared());
+    GxpContext xml = GxpContext.builder(Locale.US).setCharset(Charsets.UTF_8)
+        .forceXmlSyntax().buildShared();
+    assertNotSame(gc, xml);
+    assertTrue(xml.isForcingXmlSyntax());
+  }
+
+  public void testBuildShared_renderStateIsPerThread() throws Exception {
+    final GxpContext gc = GxpContext.builder(Locale.GERMANY).buildShared();
+    assertTrue(gc.isTopLevelCall());
+    assertFalse(gc.isTopLevelCall());
+
+    final AtomicBoolean otherThreadTopLevel = new AtomicBoolean();
+    Thread thread = new Thread() {
+      @Override
+      public void run() {
+        otherThreadTopLevel.set(gc.isTopLevelCall());
+        gc.endTopLevelCall();
+      }
+    };
+    thread.start();
+    thread.join();
+    assertTrue(otherThreadTopLevel.get());
+
+    assertFalse(gc.isTopLevelCall());
+    gc.endTopLevelCall();
+    assertTrue(gc.isTopLevelCall());
+    gc.endTopLevelCall();
+  }
+
+  /**
+   * A {@code StringWriter} that counts how often it is flushed.
+   */
+  private static class CountingFlushable extends StringWriter {
+    int flushes = 0;
+
+    @Override
+    public void flush() {
+      flushes++;
+    }
+  }
+
+  public void testFlushPoint() throws Exception {
+    CountingFlushable out = new CountingFlushable();
+    new GxpContext(Locale.US).flushPoint(out);
+    assertEquals(0, out.flushes);
+
+    FlushPolicy policy = FlushPolicy.builder().flushAtExplicitPoints().build();
+    GxpContext gc = GxpContext.builder(Locale.US).setFlushPolicy(policy).build();
+    gc.flushPoint(out);
+    assertEquals(1, out.flushes);
+
+    // not Flushable, so nothing happens
+    gc.flushPoint(new StringBuilder());
+  }
+
+  public void testAfterCall() throws Exception {
+    FlushPolicy policy = FlushPolicy.builder().flushAtTopLevelCalls().build();
+    GxpContext gc = GxpContext.builder(Locale.US).setFlushPolicy(policy).build();
+    CountingFlushable out = new CountingFlushable();
+
+    // the top level template calls a template that makes calls of its own
+    gc.enterTemplate();
+    gc.enterTemplate();
+    gc.afterCall(out);
+    assertEquals(0, out.flushes);
+    gc.exitTemplate();
+    gc.afterCall(out);
+    assertEquals(1, out.flushes);
+    gc.exitTemplate();
+
+    // the policy doesn't flush at calls
+    gc = GxpContext.builder(Locale.US)
+        .setFlushPolicy(FlushPolicy.builder().flushAtExplicitPoints().build())
+        .build();
+    gc.enterTemplate();
+    gc.afterCall(out);
+    gc.exitTemplate();
+    assertEquals(1, out.flushes);
+  }
+
+  public void testFlushThreshold() throws Exception {
+    FlushPolicy policy = FlushPolicy.builder().flushEvery(16).build();
+    GxpContext gc = GxpContext.builder(Locale.US).setFlushPolicy(policy).build();
+    CountingFlushable flushable = new CountingFlushable();
+    GxpWriter out = new GxpWriter(flushable);
+
+    out.append("0123456789");
+    gc.afterCall(out);
+    assertEquals(0, flushable.flushes);
+    gc.flushPoint(out);
+    assertEquals(0, flushable.flushes);
+
+    // buffered characters count
+    out.append("0123456789");
+    gc.afterCall(out);
+    assertEquals(1, flushable.flushes);
+    assertEquals(20, flushable.toString().length());
+
+    // the count starts again after a flush
+    out.append("0123456789");
+    gc.flushPoint(out);
+    assertEquals(1, flushable.flushes);
+    out.append("0123456789");
+    gc.flushPoint(out);
+    assertEquals(2, flushable.flushes);
+
+    // other Appendables can't be measured, so are left alone
+    gc.afterCall(flushable);
+    gc.flushPoint(flushable);
+    assertEquals(2, flushable.flushes);
+  }
+
+  public void testBuildShared_flushPolicy() throws Exception {
+    FlushPolicy policy = FlushPolicy.builder().flushAtTopLevelCalls().build();
+    GxpContext gc = GxpContext.builder(Locale.US).setFlushPolicy(policy).buildShared();
+    assertSame(policy, gc.getFlushPolicy());
+    assertNotSame(gc, GxpContext.builder(Locale.US).buildShared());
+    assertSame(gc, GxpContext.builder(Locale.US)
+        .setFlushPolicy(FlushPolicy.builder().flushAtTopLevelCalls().build())
+        .buildShared());
+  }
+
+  public void testBuildShared_parallelExecutorIsNotCached() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      GxpContext gc = GxpContext.builder(Locale.US).setParallelExecutor(executor).buildShared();
+      assertSame(executor, gc.getParallelExecutor());
+      assertNotSame(gc, GxpContext.builder(Locale.US).setParallelExecutor(executor).buildShared());
+      assertNull(GxpContext.builder(Locale.US).buildShared().getParallelExecutor());
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.CharEscaper;
+import com.google.common.base.CharEscapers;
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.gxp.css.CssAppender;
+import com.google.gxp.html.HtmlAppender;
+import com.google.gxp.js.JavascriptAppender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link GxpWriter}.
+ */
+public class GxpWriterTest extends TestCase {
+  private final GxpContext gxpContext = new GxpContext(Locale.US);
+
+  private static final String MIXED =
+      "plain <b class=\"x\">&'</b>\u0000\t\u007f\u00a0\u00e9\u03b1\u2028\u2666\u2667"
+      + "\u4e2d\uD83D\uDE00\\ = \n end";
+
+  public void testBuffering() throws Exception {
+    StringWriter sw = new StringWriter();
+    GxpWriter out = new GxpWriter(sw, 32);
+    out.append("01234567890123456789").append('a').append("xbc", 1, 3);
+    assertEquals("", sw.toString());
+    out.append("0123456789");
+    assertEquals("01234567890123456789abc", sw.toString());
+    out.flush();
+    assertEquals("01234567890123456789abc0123456789", sw.toString());
+  }
+
+  public void testLargeAppends() throws Exception {
+    String big = Strings.repeat("abcdefg", 1000);
+    StringBuilder sb = new StringBuilder();
+    GxpWriter out = new GxpWriter(sb, 64);
+    out.append('<');
+    out.append(big);
+    out.append(new StringBuilder(big));
+    out.append(big.toCharArray(), 0, big.length());
+    out.append((CharSequence) null);
+    out.flushBuffer();
+    assertEquals("<" + big + big + big + "null", sb.toString());
+  }
+
+  public void testGenericAppendable() throws Exception {
+    final StringBuilder sb = new StringBuilder();
+    Appendable appendable = new Appendable() {
+      public Appendable append(char c) {
+        sb.append(c);
+        return this;
+      }
+
+      public Appendable append(CharSequence csq) {
+        sb.append(csq);
+        return this;
+      }
+
+      public Appendable append(CharSequence csq, int start, int end) {
+        sb.append(csq, start, end);
+        return this;
+      }
+    };
+    GxpWriter out = new GxpWriter(appendable);
+    out.appendHtmlEscaped(MIXED);
+    out.flush();
+    assertEquals(CharEscapers.htmlEscaper().escape(MIXED), sb.toString());
+  }
+
+  private void assertEquivalent(CharEscaper escaper, EscapeTable table) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    GxpWriter out = new GxpWriter(sb, 32);
+    for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+      String s = String.valueOf((char) c);
+      out.appendEscaped(s, table);
+      out.flushBuffer();
+      assertEquals("char " + c, escaper.escape(s), sb.toString());
+      sb.setLength(0);
+
+      out.appendEscaped((char) c, table);
+      out.flushBuffer();
+      assertEquals("char " + c, escaper.escape(s), sb.toString());
+      sb.setLength(0);
+    }
+    out.appendEscaped(MIXED, table);
+    out.flushBuffer();
+    assertEquals(escaper.escape(MIXED), sb.toString());
+  }
+
+  public void testEscaping() throws Exception {
+    assertEquivalent(CharEscapers.xmlEscaper(), EscapeTable.XML);
+    assertEquivalent(CharEscapers.htmlEscaper(), EscapeTable.HTML);
+    assertEquivalent(CharEscapers.asciiHtmlEscaper(), EscapeTable.ASCII_HTML);
+    assertEquivalent(CharEscapers.javascriptEscaper(), EscapeTable.JAVASCRIPT);
+  }
+
+  public void testAppenders() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    GxpWriter out = new GxpWriter(sb);
+
+    HtmlAppender.INSTANCE.append(out, gxpContext, MIXED);
+    HtmlAppender.INSTANCE.append(out, gxpContext, '\u00e9');
+    MarkupAppender.INSTANCE.append(out, gxpContext, MIXED);
+    JavascriptAppender.INSTANCE.append(out, gxpContext, MIXED);
+    JavascriptAppender.INSTANCE.append(out, gxpContext, '<');
+    CssAppender.INSTANCE.append(out, gxpContext, MIXED);
+    out.flush();
+
+    StringBuilder expected = new StringBuilder();
+    HtmlAppender.INSTANCE.append(expected, gxpContext, MIXED);
+    HtmlAppender.INSTANCE.append(expected, gxpContext, '\u00e9');
+    MarkupAppender.INSTANCE.append(expected, gxpContext, MIXED);
+    JavascriptAppender.INSTANCE.append(expected, gxpContext, MIXED);
+    JavascriptAppender.INSTANCE.append(expected, gxpContext, '<');
+    CssAppender.INSTANCE.append(expected, gxpContext, MIXED);
+
+    assertEquals(expected.toString(), sb.toString());
+  }
+
+  public void testStaticChunkToByteSink() throws Exception {
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    GxpWriter out = new GxpWriter(ByteSink.forOutputStream(stream, Charsets.UTF_8));
+    out.append("a");
+    new StaticChunk("<p>\u00fcber</p>", Charsets.UTF_8).write(out);
+    out.appendHtmlEscaped("\u00fc");
+    out.flush();
+    assertEquals("a<p>\u00fcber</p>&uuml;", new String(stream.toByteArray(), "UTF-8"));
+  }
+
+  /**
+   * A {@code StringWriter} that records its contents each time it is flushed.
+   */
+  private static class FlushRecorder extends StringWriter {
+    final List<String> flushes = Lists.newArrayList();
+
+    @Override
+    public void flush() {
+      flushes.add(toString());
+    }
+  }
+
+  public void testFlushThreshold() throws Exception {
+    FlushRecorder recorder = new FlushRecorder();
+    GxpWriter out = new GxpWriter(recorder, 32, FlushPolicy.builder().flushEvery(40).build());
+    out.append(Strings.repeat("a", 30));
+    assertEquals(0, recorder.flushes.size());
+    out.append(Strings.repeat("b", 30));
+    // the a's have been passed on
+    assertEquals(0, recorder.flushes.size());
+    out.append(Strings.repeat("c", 30));
+    // the a's and b's have been passed on
+    assertEquals(ImmutableList.of(recorder.toString()), recorder.flushes);
+    assertEquals(60, recorder.toString().length());
+
+    // large appends that bypass the buffer are counted too
+    out.append(Strings.repeat("d", 100));
+    assertEquals(2, recorder.flushes.size());
+    assertEquals(recorder.toString(), recorder.flushes.get(1));
+
+    out.flush();
+    assertEquals(3, recorder.flushes.size());
+    assertEquals(Strings.repeat("a", 30) + Strings.repeat("b", 30) + Strings.repeat("c", 30)
+                 + Strings.repeat("d", 100),
+                 recorder.toString());
+  }
+
+  public void testFlushThreshold_resetByFlush() throws Exception {
+    FlushRecorder recorder = new FlushRecorder();
+    GxpWriter out = new GxpWriter(recorder, 32, FlushPolicy.builder().flushEvery(48).build());
+    out.append(Strings.repeat("a", 40));
+    out.flush();
+    assertEquals(1, recorder.flushes.size());
+    out.append(Strings.repeat("b", 40));
+    // only 40 characters passed on since the last flush
+    assertEquals(1, recorder.flushes.size());
+  }
+
+  public void testNoFlushThreshold() throws Exception {
+    FlushRecorder recorder = new FlushRecorder();
+    GxpWriter out = new GxpWriter(recorder, 32);
+    out.append(Strings.repeat("a", 1000));
+    out.flushBuffer();
+    assertEquals(0, recorder.flushes.size());
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.gxp.testing.Benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares rendering a page to a {@link GzipByteSink} that splices in
+ * pre-deflated static chunks, against the same sink with splicing turned off
+ * and against a plain sink over a {@code GZIPOutputStream}. Also prints the
+ * compressed size of the page for each. See {@link Benchmark}.
+ */
+public class GzipByteSinkBenchmark {
+  private static final int ITERATIONS = 2000;
+
+  private static final StaticChunk HEADER = new StaticChunk(
+      "<!DOCTYPE html><html><head><title>Results</title>"
+      + Strings.repeat("<link rel=\"stylesheet\" href=\"/static/css/site.css\">"
+                       + "<script src=\"/static/js/site.js\"></script>", 8)
+      + "</head><body><div id=\"header\"><ul class=\"nav\">"
+      + Strings.repeat("<li class=\"nav-item\"><a href=\"/section\">Section</a></li>", 20)
+      + "</ul></div><table class=\"results\">", Charsets.UTF_8);
+  private static final StaticChunk ROW_START =
+      new StaticChunk("<tr class=\"result\"><td class=\"name\">", Charsets.UTF_8);
+  private static final StaticChunk ROW_MIDDLE =
+      new StaticChunk("</td><td class=\"value\">", Charsets.UTF_8);
+  private static final StaticChunk ROW_END =
+      new StaticChunk("</td></tr>", Charsets.UTF_8);
+  private static final StaticChunk FOOTER = new StaticChunk(
+      "</table><div id=\"footer\">"
+      + Strings.repeat("<a class=\"footer-link\" href=\"/about\">About us</a> | ", 20)
+      + "</div></body></html>", Charsets.UTF_8);
+
+  private static final int ROWS = 50;
+
+  private interface Sink {
+    ByteSink open(ByteArrayOutputStream out) throws IOException;
+    void close(ByteSink sink) throws IOException;
+  }
+
+  private static final Sink GZIP_OUTPUT_STREAM = new Sink() {
+    private GZIPOutputStream gzip;
+
+    public ByteSink open(ByteArrayOutputStream out) throws IOException {
+      gzip = new GZIPOutputStream(out);
+      return ByteSink.forOutputStream(gzip, Charsets.UTF_8);
+    }
+
+    public void close(ByteSink sink) throws IOException {
+      sink.flush();
+      gzip.finish();
+    }
+  };
+
+  private static Sink gzipByteSink(final int minPredeflatedLength) {
+    return new Sink() {
+      public ByteSink open(ByteArrayOutputStream out) {
+        return new GzipByteSink(out, Charsets.UTF_8, Deflater.DEFAULT_COMPRESSION,
+                                minPredeflatedLength);
+      }
+
+      public void close(ByteSink sink) throws IOException {
+        ((GzipByteSink) sink).finish();
+      }
+    };
+  }
+
+  private static final Sink NOT_SPLICED = gzipByteSink(Integer.MAX_VALUE);
+  private static final Sink SPLICED = gzipByteSink(GzipByteSink.MIN_PREDEFLATED_LENGTH);
+
+  /**
+   * Renders one page and returns its compressed size.
+   */
+  private static int renderPage(Sink sink, ByteArrayOutputStream bytes, int page)
+      throws IOException {
+    bytes.reset();
+    ByteSink out = sink.open(bytes);
+    HEADER.write(out);
+    for (int i = 0; i < ROWS; i++) {
+      ROW_START.write(out);
+      out.append("Result number ").append(String.valueOf(page + i));
+      ROW_MIDDLE.write(out);
+      out.append(String.valueOf((page * 31 + i) * 7919L));
+      ROW_END.write(out);
+    }
+    FOOTER.write(out);
+    sink.close(out);
+    return bytes.size();
+  }
+
+  private static Benchmark.Workload render(final Sink sink) {
+    return new Benchmark.Workload() {
+      public void run(int operations) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (int i = 0; i < operations; i++) {
+          renderPage(sink, bytes, i);
+        }
+      }
+    };
+  }
+
+  public static void main(String[] args) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    System.out.printf("compressed size: GZIPOutputStream %d, not spliced %d, spliced %d%n",
+                      renderPage(GZIP_OUTPUT_STREAM, bytes, 0),
+                      renderPage(NOT_SPLICED, bytes, 0),
+                      renderPage(SPLICED, bytes, 0));
+    new Benchmark(10, "", "GZIPOutputStream", "not spliced", "spliced")
+        .row("per page", ITERATIONS,
+             render(GZIP_OUTPUT_STREAM), render(NOT_SPLICED), render(SPLICED));
+  }
+}
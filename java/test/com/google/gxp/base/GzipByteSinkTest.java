@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link GzipByteSink}.
+ */
+public class GzipByteSinkTest extends TestCase {
+  private static final StaticChunk SMALL_CHUNK =
+      new StaticChunk("<br>", Charsets.UTF_8);
+  private static final StaticChunk LARGE_CHUNK =
+      new StaticChunk("<div class=\"header\"><ul class=\"nav\">"
+                      + Strings.repeat("<li><a href=\"/x\">Link \u00e9</a></li>", 40)
+                      + "</ul></div>", Charsets.UTF_8);
+
+  private static byte[] gunzip(byte[] compressed) throws Exception {
+    return ByteStreams.toByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed)));
+  }
+
+  /**
+   * Writes the same random mix of text and chunks to a plain sink and a gzip
+   * sink, and checks that the gzip output decompresses to the plain output.
+   */
+  private void assertSameAsPlain(Charset charset, long seed) throws Exception {
+    ByteArrayOutputStream plainBytes = new ByteArrayOutputStream();
+    ByteArrayOutputStream gzipBytes = new ByteArrayOutputStream();
+    ByteSink plain = ByteSink.forOutputStream(plainBytes, charset);
+    GzipByteSink gzip = ByteSink.forGzip(gzipBytes, charset);
+
+    Random random = new Random(seed);
+    for (int i = 0; i < 200; i++) {
+      switch (random.nextInt(5)) {
+        case 0:
+          SMALL_CHUNK.write(plain);
+          SMALL_CHUNK.write(gzip);
+          break;
+        case 1:
+          LARGE_CHUNK.write(plain);
+          LARGE_CHUNK.write(gzip);
+          break;
+        case 2:
+          plain.flush();
+          gzip.flush();
+          break;
+        default:
+          String s = Strings.repeat("caf\u00e9 \u4e2d " + i, random.nextInt(50));
+          plain.append(s);
+          gzip.append(s);
+      }
+    }
+    plain.flush();
+    gzip.finish();
+
+    assertTrue(Arrays.equals(plainBytes.toByteArray(), gunzip(gzipBytes.toByteArray())));
+  }
+
+  public void testDecompressesToSameBytes() throws Exception {
+    for (long seed = 0; seed < 10; seed++) {
+      assertSameAsPlain(Charsets.UTF_8, seed);
+      // the chunks were compiled for UTF-8, so these aren't pre-deflated
+      assertSameAsPlain(Charsets.ISO_8859_1, seed);
+    }
+  }
+
+  public void testEmpty() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GzipByteSink gzip = ByteSink.forGzip(bytes, Charsets.UTF_8);
+    gzip.finish();
+    gzip.finish();
+    assertEquals(0, gunzip(bytes.toByteArray()).length);
+  }
+
+  public void testOnlyChunks() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GzipByteSink gzip = ByteSink.forGzip(bytes, Charsets.UTF_8);
+    LARGE_CHUNK.write(gzip);
+    LARGE_CHUNK.write(gzip);
+    gzip.finish();
+    assertEquals(LARGE_CHUNK.toString() + LARGE_CHUNK.toString(),
+                 new String(gunzip(bytes.toByteArray()), "UTF-8"));
+  }
+
+  public void testLargeChunksAreSpliced() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GzipByteSink gzip = ByteSink.forGzip(bytes, Charsets.UTF_8);
+    gzip.append("<html>");
+    LARGE_CHUNK.write(gzip);
+    gzip.append("</html>");
+    gzip.finish();
+
+    byte[] deflated = LARGE_CHUNK.getDeflated(Charsets.UTF_8).bytes;
+    assertSame(LARGE_CHUNK.getDeflated(Charsets.UTF_8).bytes, deflated);
+    assertTrue(indexOf(bytes.toByteArray(), deflated) >= 0);
+  }
+
+  private static int indexOf(byte[] haystack, byte[] needle) {
+    outer:
+    for (int i = 0; i + needle.length <= haystack.length; i++) {
+      for (int j = 0; j < needle.length; j++) {
+        if (haystack[i + j] != needle[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+
+  public void testWriteAfterFinish() throws Exception {
+    GzipByteSink gzip = ByteSink.forGzip(new ByteArrayOutputStream(), Charsets.UTF_8);
+    gzip.finish();
+    gzip.append("x");
+    try {
+      gzip.flush();
+      fail("expected IllegalStateException");
+    } catch (IllegalStateException expected) {
+      // expected
+    }
+  }
+}
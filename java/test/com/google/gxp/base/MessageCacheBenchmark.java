@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.collect.Maps;
+import com.google.gxp.testing.Benchmark;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures {@link Message#getInstance} under contention, against a
+ * {@code HashMap} guarded by a lock (the simplest correct version of the
+ * cache it replaces). See {@link Benchmark}.
+ */
+public class MessageCacheBenchmark {
+  private static final int ITERATIONS = 1000000;
+  private static final int[] THREAD_COUNTS = { 1, 2, 4, 8 };
+
+  private static final String[] MESSAGES = new String[2000];
+  static {
+    for (int i = 0; i < MESSAGES.length; i++) {
+      MESSAGES[i] = "Message number " + i + " for %1, with %2 more";
+    }
+  }
+
+  private interface Cache {
+    Message get(String msg);
+  }
+
+  private static final Cache SYNCHRONIZED = new Cache() {
+    private final Map<String, Message> cache = Maps.newHashMap();
+
+    public synchronized Message get(String msg) {
+      Message message = cache.get(msg);
+      if (message == null) {
+        message = Message.getInstance(msg);
+        cache.put(msg, message);
+      }
+      return message;
+    }
+  };
+
+  private static final Cache CONCURRENT = new Cache() {
+    public Message get(String msg) {
+      return Message.getInstance(msg);
+    }
+  };
+
+  /**
+   * Splits the lookups evenly between {@code threadCount} threads, so that the
+   * time per operation is the inverse of the throughput.
+   */
+  private static Benchmark.Workload lookUp(final Cache cache, final int threadCount) {
+    return new Benchmark.Workload() {
+      public void run(final int operations) throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+          final int offset = t * 17;
+          threads[t] = new Thread() {
+            @Override
+            public void run() {
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                return;
+              }
+              for (int i = 0; i < operations / threadCount; i++) {
+                cache.get(MESSAGES[(offset + i * 7) % MESSAGES.length]);
+              }
+            }
+          };
+          threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+          thread.join();
+        }
+      }
+    };
+  }
+
+  public static void main(String[] args) throws Exception {
+    Benchmark benchmark = new Benchmark(10, "threads", "synchronized", "Message")
+        .setRounds(3, 5);
+    for (int threadCount : THREAD_COUNTS) {
+      benchmark.row(String.valueOf(threadCount), ITERATIONS * threadCount,
+                    lookUp(SYNCHRONIZED, threadCount), lookUp(CONCURRENT, threadCount));
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.gxp.testing.Benchmark;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Random;
+import java.util.ResourceBundle;
+
+/**
+ * Compares rendering a message-heavy page through {@link MessageTable}
+ * against the per-message {@code ResourceBundle} lookup it replaces. See
+ * {@link Benchmark}.
+ */
+public class MessageTableBenchmark {
+  private static final int ITERATIONS = 20000;
+
+  private static final String SOURCE = MessageTableBenchmark.class.getName() + "$Messages";
+  private static final int MESSAGE_COUNT = 2000;
+  private static final int MESSAGES_PER_PAGE = 100;
+
+  // Message ids, which the compiler generates as 64-bit fingerprints.
+  private static final long[] IDS = new long[MESSAGE_COUNT];
+  static {
+    Random random = new Random(0);
+    for (int i = 0; i < IDS.length; i++) {
+      IDS[i] = random.nextLong();
+    }
+  }
+
+  public static class Messages extends ListResourceBundle {
+    @Override
+    protected Object[][] getContents() {
+      Object[][] contents = new Object[IDS.length][];
+      for (int i = 0; i < IDS.length; i++) {
+        String text = (i % 4 == 0) ? "Message number " + i + " for %1" : "Message number " + i;
+        contents[i] = new Object[] { String.valueOf(IDS[i]), text };
+      }
+      return contents;
+    }
+  }
+
+  private interface Lookup {
+    Message get(String source, Locale locale, long id);
+  }
+
+  private static final Lookup RESOURCE_BUNDLE = new Lookup() {
+    public Message get(String source, Locale locale, long id) {
+      ResourceBundle bundle = ResourceBundle.getBundle(source, locale);
+      return Message.getInstance(bundle.getString(String.valueOf(id)));
+    }
+  };
+
+  private static final Lookup MESSAGE_TABLE = new Lookup() {
+    public Message get(String source, Locale locale, long id) {
+      return GxpTemplate.getRawMessage(source, locale, id);
+    }
+  };
+
+  /**
+   * Renders pages made up of {@code MESSAGES_PER_PAGE} messages each, the way
+   * generated code does.
+   */
+  private static Benchmark.Workload renderPages(final Lookup lookup) {
+    return new Benchmark.Workload() {
+      public void run(int operations) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < operations; i++) {
+          int page = i / MESSAGES_PER_PAGE;
+          if (i % MESSAGES_PER_PAGE == 0) {
+            sb.setLength(0);
+          }
+          long id = IDS[(page * 7 + i * 13) % IDS.length];
+          sb.append(lookup.get(SOURCE, Locale.US, id).toString("user"));
+        }
+      }
+    };
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Benchmark(12, "", "ResourceBundle", "MessageTable")
+        .row("per message", ITERATIONS * MESSAGES_PER_PAGE,
+             renderPages(RESOURCE_BUNDLE), renderPages(MESSAGE_TABLE));
+  }
+}
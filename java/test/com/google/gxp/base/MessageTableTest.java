@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link MessageTable}.
+ */
+public class MessageTableTest extends TestCase {
+  private static final String SOURCE = MessageTableTest.class.getName() + "$Messages";
+
+  public static class Messages extends ListResourceBundle {
+    @Override
+    protected Object[][] getContents() {
+      return new Object[][] {
+        { "1", "one" },
+        { "-9223372036854775808", "min" },
+        { "1234567890123456789", "hello %1" },
+        { "not-an-id", "ignored" },
+        { "007", "not canonical" },
+        { "+5", "not canonical either" },
+      };
+    }
+  }
+
+  public static class Messages_fr extends ListResourceBundle {
+    @Override
+    protected Object[][] getContents() {
+      return new Object[][] {
+        { "1", "un" },
+      };
+    }
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    MessageTable.clearCache();
+  }
+
+  public void testLookup() throws Exception {
+    MessageTable table = MessageTable.forSource(SOURCE, Locale.ENGLISH);
+    assertEquals("one", table.get(1).toString());
+    assertEquals("min", table.get(Long.MIN_VALUE).toString());
+    assertEquals("hello world", table.get(1234567890123456789L).toString("world"));
+    assertNull(table.get(2));
+    assertEquals(3, table.size());
+  }
+
+  public void testNonCanonicalKeysAreSkipped() throws Exception {
+    MessageTable table = MessageTable.forSource(SOURCE, Locale.ENGLISH);
+    assertNull(table.get(7));
+    assertNull(table.get(5));
+    assertEquals("one", MessageTable.getMessage(SOURCE, Locale.ENGLISH, 1).toString());
+  }
+
+  public void testParentBundle() throws Exception {
+    MessageTable table = MessageTable.forSource(SOURCE, Locale.FRENCH);
+    assertEquals("un", table.get(1).toString());
+    assertEquals("min", table.get(Long.MIN_VALUE).toString());
+    assertEquals(3, table.size());
+  }
+
+  public void testMissingMessage() throws Exception {
+    try {
+      MessageTable.getMessage(SOURCE, Locale.ENGLISH, 2);
+      fail("expected MissingResourceException");
+    } catch (MissingResourceException expected) {
+      // expected
+    }
+  }
+
+  public void testMissingSource() throws Exception {
+    try {
+      MessageTable.getMessage(SOURCE + "DoesNotExist", Locale.ENGLISH, 1);
+      fail("expected MissingResourceException");
+    } catch (MissingResourceException expected) {
+      // expected
+    }
+  }
+
+  public void testTablesAreCached() throws Exception {
+    MessageTable english = MessageTable.forSource(SOURCE, Locale.ENGLISH);
+    MessageTable french = MessageTable.forSource(SOURCE, Locale.FRENCH);
+    assertNotSame(english, french);
+    assertSame(english, MessageTable.forSource(SOURCE, Locale.ENGLISH));
+    assertSame(french, MessageTable.forSource(SOURCE, Locale.FRENCH));
+  }
+
+  public void testClearCache() throws Exception {
+    MessageTable table = MessageTable.forSource(SOURCE, Locale.ENGLISH);
+    MessageTable.clearCache();
+    MessageTable reloaded = MessageTable.forSource(SOURCE, Locale.ENGLISH);
+    assertNotSame(table, reloaded);
+    assertEquals("one", reloaded.get(1).toString());
+    assertSame(reloaded, MessageTable.forSource(SOURCE, Locale.ENGLISH));
+  }
+
+  public void testMessagesAreNotShared() throws Exception {
+    Message cached = Message.getInstance("one");
+    assertNotSame(cached, MessageTable.forSource(SOURCE, Locale.ENGLISH).get(1));
+  }
+
+  public void testManyIds() throws Exception {
+    final long[] ids = new long[1000];
+    Random random = new Random(0);
+    for (int i = 0; i < ids.length; i++) {
+      // clustered ids, to get collisions
+      ids[i] = (i % 2 == 0) ? random.nextLong() : ((long) i << 32);
+    }
+    MessageTable table = new MessageTable(new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+          Object[][] contents = new Object[ids.length][];
+          for (int i = 0; i < ids.length; i++) {
+            contents[i] = new Object[] { String.valueOf(ids[i]), "message " + i };
+          }
+          return contents;
+        }
+      });
+    assertEquals(ids.length, table.size());
+    for (int i = 0; i < ids.length; i++) {
+      assertEquals("message " + i, table.get(ids[i]).toString());
+    }
+  }
+
+  public void testGxpTemplateGetMessage() throws Exception {
+    assertEquals("hello world",
+                 GxpTemplate.getMessage(SOURCE, Locale.ENGLISH, 1234567890123456789L, "world"));
+    assertEquals("un", GxpTemplate.getMessage(SOURCE, Locale.FRENCH, 1));
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Ints;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link Message}.
+ */
+public class MessageTest extends TestCase {
+  @Override
+  protected void tearDown() throws Exception {
+    Message.setCacheSize(Message.DEFAULT_CACHE_SIZE);
+  }
+
+  public void testToString() throws Exception {
+    assertEquals("plain", Message.getInstance("plain").toString());
+    assertEquals("100% sure", Message.getInstance("100%% sure").toString());
+    assertEquals("b a %", Message.getInstance("%2 %1 %%").toString("a", "b"));
+    assertEquals("%a%", Message.getInstance("%a%").toString());
+    try {
+      Message.getInstance("%1 and %2").toString("x");
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  private static GxpClosure closure(final String s) {
+    return new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        out.append(s);
+      }
+    };
+  }
+
+  private static String write(String msg, GxpClosure... parameters) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    Message.getInstance(msg).write(sb, new GxpContext(Locale.US), parameters);
+    return sb.toString();
+  }
+
+  public void testWrite() throws Exception {
+    assertEquals("plain", write("plain"));
+    assertEquals("100% sure", write("100%% sure"));
+    assertEquals("b a %", write("%2 %1 %%", closure("a"), closure("b")));
+    assertEquals("<a><a>", write("<%1><%1>", closure("a")));
+    assertEquals("%a%", write("%a%"));
+    assertEquals("x", write("%1", closure("x"), closure("ignored")));
+  }
+
+  public void testWriteRendersRepeatedParametersOnce() throws Exception {
+    final int[] renders = new int[1];
+    GxpClosure counted = new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        renders[0]++;
+        out.append("x");
+      }
+    };
+    assertEquals("x-y-x-x", write("%1-%2-%1-%1", counted, closure("y")));
+    assertEquals(1, renders[0]);
+    assertEquals("y", write("%2", counted, closure("y")));
+    assertEquals(1, renders[0]);
+  }
+
+  public void testWriteMissingParameterWritesNothing() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    try {
+      Message.getInstance("%1 and %2").write(sb, new GxpContext(Locale.US), closure("x"));
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+    assertEquals("", sb.toString());
+  }
+
+  /**
+   * The regular expression based implementation this class used to have.
+   */
+  private static int[] regexParamLocations(String msg) {
+    List<Integer> locs = Lists.newArrayList();
+    Matcher m = Pattern.compile("%[1-9%]").matcher(msg);
+    int start = 0;
+    while (m.find(start)) {
+      locs.add(m.start());
+      start = m.end();
+    }
+    return Ints.toArray(locs);
+  }
+
+  public void testParamLocationsMatchRegex() throws Exception {
+    String alphabet = "%%%1290a ";
+    Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      char[] chars = new char[random.nextInt(12)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+      }
+      String msg = new String(chars);
+      assertEquals(msg, Ints.join(",", regexParamLocations(msg)),
+                   Ints.join(",", Message.calculateParamLocations(msg)));
+    }
+  }
+
+  public void testInstancesAreShared() throws Exception {
+    String msg = "shared message %1";
+    assertSame(Message.getInstance(msg), Message.getInstance(new String(msg)));
+  }
+
+  public void testCacheIsBounded() throws Exception {
+    Message.setCacheSize(100);
+    for (int i = 0; i < 1000; i++) {
+      Message.getInstance("bounded message " + i);
+      assertTrue(Message.getCachedCount() <= 100);
+    }
+    assertEquals("bounded message 5", Message.getInstance("bounded message 5").toString());
+  }
+
+  public void testEvictionKeepsMessagesInUse() throws Exception {
+    Message.setCacheSize(100);
+    Message hot = Message.getInstance("hot message");
+    Message cold = Message.getInstance("cold message");
+    for (int i = 0; i < 1000; i++) {
+      Message.getInstance("other message " + i);
+      assertSame(hot, Message.getInstance("hot message"));
+    }
+    assertNotSame(cold, Message.getInstance("cold message"));
+  }
+
+  public void testSetCacheSizeRejectsNonPositive() throws Exception {
+    try {
+      Message.setCacheSize(0);
+      fail("expected IllegalArgumentException");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  public void testConcurrentUse() throws Exception {
+    Message.setCacheSize(500);
+    final int threadCount = 8;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReference<String> failure = new AtomicReference<String>();
+    Thread[] threads = new Thread[threadCount];
+    for (int t = 0; t < threadCount; t++) {
+      final long seed = t;
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          Random random = new Random(seed);
+          try {
+            start.await();
+            for (int i = 0; i < 20000 && failure.get() == null; i++) {
+              int n = random.nextInt(1000);
+              String expected = "concurrent " + n + " x";
+              String actual = Message.getInstance("concurrent " + n + " %1").toString("x");
+              if (!expected.equals(actual)) {
+                failure.compareAndSet(null, "expected <" + expected + "> but was <"
+                                      + actual + ">");
+              }
+            }
+          } catch (Exception e) {
+            failure.compareAndSet(null, e.toString());
+          }
+        }
+      };
+      threads[t].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertNull(failure.get(), failure.get());
+    assertTrue(Message.getCachedCount() <= 500 + threadCount);
+  }
+}
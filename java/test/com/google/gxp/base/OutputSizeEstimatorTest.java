@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.base;
+
+import com.google.common.base.Strings;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link OutputSizeEstimator}.
+ */
+public class OutputSizeEstimatorTest extends TestCase {
+  // Each test uses its own classes so that estimates don't carry over.
+  private static class First {}
+  private static class Second {}
+  private static class Third {}
+  private static class Fourth {}
+  private static class Fifth {}
+
+  public void testForClass() throws Exception {
+    OutputSizeEstimator estimator = OutputSizeEstimator.forClass(First.class);
+    assertSame(estimator, OutputSizeEstimator.forClass(First.class));
+    assertNotSame(estimator, OutputSizeEstimator.forClass(Second.class));
+    try {
+      OutputSizeEstimator.forClass(null);
+      fail("NullPointerException expected");
+    } catch (NullPointerException expected) {
+      // expected
+    }
+  }
+
+  public void testEstimateDecays() throws Exception {
+    OutputSizeEstimator estimator = OutputSizeEstimator.forClass(Third.class);
+    assertEquals(0, estimator.getEstimate());
+    assertEquals(16, estimator.getCapacity());
+
+    estimator.record(800);
+    assertEquals(800, estimator.getEstimate());
+    assertEquals(1000, estimator.getCapacity());
+    assertEquals(1000, estimator.newStringBuilder().capacity());
+
+    estimator.record(0);
+    assertEquals(700, estimator.getEstimate());
+    for (int i = 0; i < 100; i++) {
+      estimator.record(new StringBuilder(Strings.repeat("x", 2000)));
+    }
+    assertTrue(estimator.getEstimate() > 1990);
+    assertTrue(estimator.getEstimate() <= 2000);
+
+    estimator.record(Integer.MAX_VALUE);
+    assertTrue(estimator.getCapacity() <= 1 << 20);
+
+    try {
+      estimator.record(-1);
+      fail("IllegalArgumentException expected");
+    } catch (IllegalArgumentException expected) {
+      // expected
+    }
+  }
+
+  public void testConcurrentRecording() throws Exception {
+    final OutputSizeEstimator estimator = OutputSizeEstimator.forClass(Fourth.class);
+    final CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[8];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int i = 0; i < 10000; i++) {
+            estimator.record(4096);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(4096, estimator.getEstimate());
+    assertEquals(Integer.valueOf(4096), OutputSizeEstimator.getEstimates().get(
+        Fourth.class.getName()));
+  }
+
+  public void testForCallSite() throws Exception {
+    OutputSizeEstimator site0 = OutputSizeEstimator.forCallSite(Fifth.class, 0);
+    OutputSizeEstimator site1 = OutputSizeEstimator.forCallSite(Fifth.class, 1);
+    assertNotSame(site0, site1);
+    assertNotSame(site0, OutputSizeEstimator.forClass(Fifth.class));
+
+    site0.record(10);
+    site1.record(50000);
+    assertEquals(10, site0.getEstimate());
+    assertEquals(50000, site1.getEstimate());
+    assertEquals(0, OutputSizeEstimator.forClass(Fifth.class).getEstimate());
+    assertEquals(Integer.valueOf(10),
+                 OutputSizeEstimator.getEstimates().get(Fifth.class.getName() + "#0"));
+    assertEquals(Integer.valueOf(50000),
+                 OutputSizeEstimator.getEstimates().get(Fifth.class.getName() + "#1"));
+  }
+
+  private static class BigClosure implements GxpClosure {
+    public void write(Appendable out, GxpContext gxpContext) throws IOException {
+      out.append(Strings.repeat("<p>", 1000));
+    }
+  }
+
+  public void testGetStringLearnsSize() throws Exception {
+    GxpContext gxpContext = new GxpContext(Locale.US);
+    assertEquals(3000, gxpContext.getString(new BigClosure()).length());
+    assertEquals(3000, OutputSizeEstimator.forClass(BigClosure.class).getEstimate());
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.base;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link ParallelRendering}.
+ */
+public class ParallelRenderingTest extends TestCase {
+  private ExecutorService executor;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    executor.shutdownNow();
+    super.tearDown();
+  }
+
+  private static GxpClosure text(final String s) {
+    return new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        out.append(s);
+      }
+    };
+  }
+
+  private static GxpClosure failing(final long delayMillis, final Exception e) {
+    return new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        try {
+          Thread.sleep(delayMillis);
+        } catch (InterruptedException ie) {
+          throw new AssertionError(ie);
+        }
+        if (e instanceof IOException) {
+          throw (IOException) e;
+        }
+        throw (RuntimeException) e;
+      }
+    };
+  }
+
+  private GxpContext parallelContext() {
+    return GxpContext.builder(Locale.US).setParallelExecutor(executor).build();
+  }
+
+  public void testWithoutExecutorWritesImmediately() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    ParallelRendering par = new GxpContext(Locale.US).newParallelRendering(sb);
+    par.fork(text("a"));
+    assertEquals("a", sb.toString());
+    par.append(", ");
+    par.fork(text("b"));
+    assertEquals("a, b", sb.toString());
+    par.join();
+    assertEquals("a, b", sb.toString());
+  }
+
+  public void testSplicesInSourceOrder() throws Exception {
+    final CountDownLatch firstMayFinish = new CountDownLatch(1);
+    StringBuilder sb = new StringBuilder();
+    ParallelRendering par = parallelContext().newParallelRendering(sb);
+    par.fork(new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        try {
+          assertTrue(firstMayFinish.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          throw new AssertionError(e);
+        }
+        out.append("first");
+      }
+    });
+    par.append(" ");
+    par.fork(new GxpClosure() {
+      public void write(Appendable out, GxpContext gxpContext) throws IOException {
+        out.append("second");
+        firstMayFinish.countDown();
+      }
+    });
+    assertEquals("", sb.toString());
+    par.join();
+    assertEquals("first second", sb.toString());
+  }
+
+  public void testForkedCallsSeeContextConfiguration() throws Exception {
+    final List<GxpContext> seen = new CopyOnWriteArrayList<GxpContext>();
+    GxpContext gxpContext = GxpContext.builder(Locale.FRANCE)
+        .forceXmlSyntax()
+        .setParallelExecutor(executor)
+        .setFlushPolicy(FlushPolicy.builder().flushAtTopLevelCalls().build())
+        .build();
+    ParallelRendering par = gxpContext.newParallelRendering(new StringBuilder());
+    par.fork(new GxpClosure() {
+      public void write(Appendable out, GxpContext forked) {
+        seen.add(forked);
+      }
+    });
+    par.join();
+
+    GxpContext forked = seen.get(0);
+    assertNotSame(gxpContext, forked);
+    assertEquals(Locale.FRANCE, forked.getLocale());
+    assertTrue(forked.isForcingXmlSyntax());
+    assertEquals(gxpContext.getCharset(), forked.getCharset());
+    // forked calls never flush, and run nested parallel calls sequentially
+    assertEquals(FlushPolicy.NEVER, forked.getFlushPolicy());
+    assertNull(forked.getParallelExecutor());
+  }
+
+  public void testFirstFailureInSourceOrderWins() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    ParallelRendering par = parallelContext().newParallelRendering(sb);
+    par.fork(text("a"));
+    par.fork(failing(100, new IllegalStateException("b")));
+    par.fork(failing(0, new IOException("c")));
+    try {
+      par.join();
+      fail("expected IllegalStateException");
+    } catch (IllegalStateException e) {
+      assertEquals("b", e.getMessage());
+    }
+    assertEquals("a", sb.toString());
+  }
+
+  public void testCheckedExceptionsAreRethrown() throws Exception {
+    ParallelRendering par = parallelContext().newParallelRendering(new StringBuilder());
+    par.fork(failing(0, new IOException("x")));
+    try {
+      par.join();
+      fail("expected IOException");
+    } catch (IOException e) {
+      assertEquals("x", e.getMessage());
+    }
+  }
+
+  public void testRejectedCallsRunInline() throws Exception {
+    Executor rejecting = new Executor() {
+      public void execute(Runnable command) {
+        throw new RejectedExecutionException();
+      }
+    };
+    StringBuilder sb = new StringBuilder();
+    ParallelRendering par = GxpContext.builder(Locale.US)
+        .setParallelExecutor(rejecting).build().newParallelRendering(sb);
+    par.fork(text("a"));
+    par.append("-");
+    par.fork(text("b"));
+    assertEquals("", sb.toString());
+    par.join();
+    assertEquals("a-b", sb.toString());
+  }
+}
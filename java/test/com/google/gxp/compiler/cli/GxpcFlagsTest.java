@@ -41,6 +41,7 @@ import org.xml.sax.SAXException;
 
 import java.util.*;
 import java.io.*;
+import java.nio.charset.Charset;
 import junit.framework.TestCase;
 
 import static com.google.gxp.testing.MoreAsserts.*;
@@ -297,6 +298,10 @@ public class GxpcFlagsTest extends TestCase {
                           "--dynamic");
     assertMessageSourceEquals("com.google.message.source", config);
     assertDynamicModeEnabledEquals(true, config);
+    assertByteOutputCharsetEquals(null, config);
+
+    config = createConfig("--byte_output_charset", "UTF-8");
+    assertByteOutputCharsetEquals(Charsets.UTF_8, config);
   }
 
   private void assertMessageSourceEquals(String expected,
@@ -313,6 +318,13 @@ public class GxpcFlagsTest extends TestCase {
     assertEquals(expected, codeGenFactory.isDynamicModeEnabled());
   }
 
+  private void assertByteOutputCharsetEquals(Charset expected,
+                                             Configuration config) {
+    DefaultCodeGeneratorFactory codeGenFactory =
+        (DefaultCodeGeneratorFactory) config.getCodeGeneratorFactory();
+    assertEquals(expected, codeGenFactory.getByteOutputCharset());
+  }
+
   public void testGetDependencyFile() throws Exception {
     Configuration config = createConfig();
     assertNull(config.getDependencyFile());
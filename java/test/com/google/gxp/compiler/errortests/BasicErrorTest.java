@@ -17,6 +17,7 @@
 package com.google.gxp.compiler.errortests;
 
 import com.google.gxp.compiler.alerts.common.BadNodePlacementError;
+import com.google.gxp.compiler.alerts.common.InvalidAttributeValueError;
 import com.google.gxp.compiler.alerts.common.MissingAttributeError;
 import com.google.gxp.compiler.alerts.common.NothingToCompileError;
 import com.google.gxp.compiler.alerts.common.StaticValueExpectedError;
@@ -71,6 +72,43 @@ public class BasicErrorTest extends BaseTestCase {
     assertNoUnexpectedAlerts();
   }
 
+  public void testFlushElement_nonEmpty() throws Exception {
+    compile("<gxp:flush>hello</gxp:flush>");
+    assertAlert(new BadNodePlacementError(pos(2, 12), "text",
+                                          "inside <gxp:flush>"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testFlushElement_unknownAttribute() throws Exception {
+    compile("<gxp:flush every='100'/>");
+    assertAlert(new UnknownAttributeError("<gxp:flush>", pos(2, 1),
+                                          "'every' attribute"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testCacheElement_missingKey() throws Exception {
+    compile("<gxp:cache>hello</gxp:cache>");
+    assertAlert(new MissingAttributeError(pos(2, 1), "<gxp:cache>", "key"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testCacheElement_badTtl() throws Exception {
+    compile("<gxp:cache key='1' ttl='soon'>hello</gxp:cache>");
+    assertAlert(new InvalidAttributeValueError(pos(2, 1), "'ttl' attribute"));
+    assertNoUnexpectedAlerts();
+
+    compile("<gxp:cache key='1' ttl='-5'>hello</gxp:cache>");
+    assertAlert(new InvalidAttributeValueError(pos(2, 1), "'ttl' attribute"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testCacheElement_unknownAttribute() throws Exception {
+    compile("<gxp:cache key='1' size='100'>hello</gxp:cache>");
+    assertAlert(new UnknownAttributeError("<gxp:cache>", pos(2, 1),
+                                          "'size' attribute"));
+    assertNoUnexpectedAlerts();
+  }
+
   public void testShortEval_withExprAttr() throws Exception {
     compile("<expr:x expr='x' />");
     assertAlert(new UnknownAttributeError("<expr:x>", pos(2,1), "'expr' attribute"));
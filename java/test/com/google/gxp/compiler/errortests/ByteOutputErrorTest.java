@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.compiler.errortests;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.gxp.compiler.codegen.CodeGeneratorFactory;
+import com.google.gxp.compiler.codegen.DefaultCodeGeneratorFactory;
+import com.google.gxp.compiler.java.UnencodableStaticContentError;
+
+import java.util.*;
+
+/**
+ * Tests of proper error reporting by the GXP compiler when compiling with a
+ * byte output charset.
+ */
+public class ByteOutputErrorTest extends BaseTestCase {
+  private final DefaultCodeGeneratorFactory codeGeneratorFactory;
+  private final List<String> extraHeaders = Lists.newArrayList();
+
+  public ByteOutputErrorTest() {
+    codeGeneratorFactory = new DefaultCodeGeneratorFactory();
+    codeGeneratorFactory.setByteOutputCharset(Charsets.US_ASCII);
+  }
+
+  @Override
+  protected List<String> extraHeaders() {
+    return extraHeaders;
+  }
+
+  @Override
+  protected CodeGeneratorFactory getCodeGeneratorFactory() {
+    return codeGeneratorFactory;
+  }
+
+  public void testMarkup() throws Exception {
+    // written as character references
+    compile("<p>caf&#233; &#20013;</p>");
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testPlaintext() throws Exception {
+    extraHeaders.add("content-type='text/plain'");
+    compile("<gxp:eval expr='1'/>caf&#233;");
+    assertAlert(new UnencodableStaticContentError(pos(2, 21), "text/plain", Charsets.US_ASCII));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testJavaScript() throws Exception {
+    extraHeaders.add("content-type='text/javascript'");
+    compile("<gxp:eval expr='1'/>var s = 'caf&#233;';");
+    assertAlert(new UnencodableStaticContentError(pos(2, 21), "text/javascript",
+                                                  Charsets.US_ASCII));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testEncodable() throws Exception {
+    extraHeaders.add("content-type='text/javascript'");
+    compile("var s = 'cafe';");
+    assertNoUnexpectedAlerts();
+  }
+}
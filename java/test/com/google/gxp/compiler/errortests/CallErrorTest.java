@@ -18,6 +18,7 @@ package com.google.gxp.compiler.errortests;
 
 import com.google.gxp.compiler.alerts.SourcePosition;
 import com.google.gxp.compiler.alerts.common.BadNodePlacementError;
+import com.google.gxp.compiler.alerts.common.InvalidAttributeValueError;
 import com.google.gxp.compiler.alerts.common.InvalidNameError;
 import com.google.gxp.compiler.alerts.common.MissingAttributeError;
 import com.google.gxp.compiler.alerts.common.MultiValueAttributeError;
@@ -57,6 +58,16 @@ public class CallErrorTest extends BaseTestCase {
         + " expr:x='", "'/>", 2, 36);
   }
 
+  public void testCall_invalidParallel() throws Exception {
+    compile("<my:" + getTemplateBaseName() + " gxp:parallel='true'/>",
+            "<my:" + getTemplateBaseName() + " gxp:parallel='false'/>");
+    assertNoUnexpectedAlerts();
+
+    compile("<my:" + getTemplateBaseName() + " gxp:parallel='yes'/>");
+    assertAlert(new InvalidAttributeValueError(pos(2, 1), "'gxp:parallel' attribute"));
+    assertNoUnexpectedAlerts();
+  }
+
   public void testCall_invalidRegex() throws Exception {
     FileRef callee = createFile(
         "callee", "<gxp:param name='s' type='String' regex='foo' />");
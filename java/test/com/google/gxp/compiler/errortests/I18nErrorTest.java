@@ -98,6 +98,22 @@ public class I18nErrorTest extends BaseTestCase {
     assertNoUnexpectedAlerts();
   }
 
+  public void testMsg_flushInsideMsg() throws Exception {
+    compile("<gxp:msg>foo <gxp:flush/> bar</gxp:msg>");
+    assertAlert(new BadNodePlacementError(pos(2, 14), "<gxp:flush>", "inside <gxp:msg>"));
+    assertNoUnexpectedAlerts();
+
+    compile("<gxp:msg>foo <gxp:ph name='x' example='x'/><gxp:flush/><gxp:eph/> bar</gxp:msg>");
+    assertAlert(new BadNodePlacementError(pos(2, 44), "<gxp:flush>", "inside <gxp:msg>"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testMsg_cacheInsideMsg() throws Exception {
+    compile("<gxp:msg>foo <gxp:cache key='1'>x</gxp:cache> bar</gxp:msg>");
+    assertAlert(new BadNodePlacementError(pos(2, 14), "<gxp:cache>", "inside <gxp:msg>"));
+    assertNoUnexpectedAlerts();
+  }
+
   public void testMsg_insideMsg() throws Exception {
     compile("<gxp:msg>foo <b><gxp:msg>bar</gxp:msg></b> baz</gxp:msg>");
     assertAlert(new BadNodePlacementError(pos(2, 17), "<gxp:msg>", "inside <gxp:msg>"));
@@ -41,6 +41,7 @@ import com.google.gxp.compiler.validate.ParamConstructorMismatchError;
 import com.google.gxp.compiler.validate.ParamDefaultMismatchError;
 import com.google.gxp.compiler.validate.ParamNameMismatchError;
 import com.google.gxp.compiler.validate.ParamTypeMismatchError;
+import com.google.gxp.compiler.validate.PureTemplateParamTypeError;
 import com.google.gxp.compiler.validate.SchemaMismatchError;
 import com.google.gxp.compiler.validate.TemplateParamWithHasConstructorError;
 import com.google.gxp.compiler.validate.TemplateParamWithHasDefaultError;
@@ -98,6 +99,93 @@ public class TemplateErrorTest extends BaseTestCase {
     assertNoUnexpectedAlerts();
   }
 
+  public void testTemplate_pureParamTypes() throws Exception {
+    compileNoHeader(
+        "<!DOCTYPE gxp:template SYSTEM \"http://gxp.googlecode.com/svn/trunk/resources/xhtml.ent\">",
+        "",
+        "<gxp:template name='com.google.gxp.compiler.errortests."
+        + "TestTemplate_pureParamTypes'",
+        "               xmlns:gxp='http://google.com/2001/gxp'",
+        "               xmlns:cpp='http://google.com/2001/gxp/code/cpp'",
+        "               xmlns:java='http://google.com/2001/gxp/code/java'",
+        "               xmlns:scala='http://google.com/2001/gxp/code/scala'",
+        "               pure='true'>",
+        "<gxp:param name='a' type='int' />",
+        "<gxp:param name='b' content-type='text/html' />",
+        "<gxp:param name='c' cpp:type='string*' java:type='String[]'",
+        "           scala:type='Array[String]' />",
+        "<gxp:param name='d' type='Object' />",
+        "<gxp:param name='e' gxp:type='boolean' />",
+        "<gxp:param name='f' type='com.google.Color' />",
+        "<gxp:param name='g' cpp:type='list{string}'",
+        "           java:type='java.util.List{String}' scala:type='List[String]' />",
+        "</gxp:template>");
+    assertAlert(new PureTemplateParamTypeError(pos(10,1), "b"));
+    assertAlert(new PureTemplateParamTypeError(pos(11,1), "c"));
+    assertAlert(new PureTemplateParamTypeError(pos(13,1), "d"));
+    // java.util.List is mutable, even if Scala's List isn't
+    assertAlert(new PureTemplateParamTypeError(pos(16,1), "g"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testTemplate_pureParamTypes_futuresAndMutableTypes() throws Exception {
+    compileNoHeader(
+        "<!DOCTYPE gxp:template SYSTEM \"http://gxp.googlecode.com/svn/trunk/resources/xhtml.ent\">",
+        "",
+        "<gxp:template name='com.google.gxp.compiler.errortests."
+        + "TestTemplate_pureParamTypes_futuresAndMutableTypes'",
+        "               xmlns:gxp='http://google.com/2001/gxp'",
+        "               xmlns:cpp='http://google.com/2001/gxp/code/cpp'",
+        "               xmlns:java='http://google.com/2001/gxp/code/java'",
+        "               xmlns:scala='http://google.com/2001/gxp/code/scala'",
+        "               pure='true'>",
+        "<gxp:param name='a' cpp:type='int' scala:type='int'",
+        "           java:type='java.util.concurrent.Future{String}' />",
+        "<gxp:param name='b' cpp:type='int' scala:type='int'",
+        "           java:type='CompletableFuture{String}' />",
+        "<gxp:param name='c' cpp:type='int' java:type='int'",
+        "           scala:type='scala.concurrent.Future[String]' />",
+        "<gxp:param name='d' cpp:type='int' scala:type='int'",
+        "           java:type='Map{String,Integer}' />",
+        "<gxp:param name='e' cpp:type='int' scala:type='int'",
+        "           java:type='java.util.HashSet{String}' />",
+        "<gxp:param name='f' cpp:type='int' scala:type='int'",
+        "           java:type='java.util.Date' />",
+        "<gxp:param name='g' cpp:type='int' java:type='int'",
+        "           scala:type='scala.collection.mutable.Map[String,Int]' />",
+        "<gxp:param name='h' cpp:type='int' java:type='int'",
+        "           scala:type='java.util.List[String]' />",
+        "<gxp:param name='i' cpp:type='int' scala:type='int'",
+        "           java:type='com.google.common.collect.ImmutableList{String}' />",
+        "<gxp:param name='j' cpp:type='int' java:type='int'",
+        "           scala:type='Map[String,Int]' />",
+        "<gxp:param name='k' cpp:type='int' scala:type='int'",
+        "           java:type='java.util.Locale' />",
+        "</gxp:template>");
+    assertAlert(new PureTemplateParamTypeError(pos(9,1), "a"));
+    assertAlert(new PureTemplateParamTypeError(pos(11,1), "b"));
+    assertAlert(new PureTemplateParamTypeError(pos(13,1), "c"));
+    assertAlert(new PureTemplateParamTypeError(pos(15,1), "d"));
+    assertAlert(new PureTemplateParamTypeError(pos(17,1), "e"));
+    assertAlert(new PureTemplateParamTypeError(pos(19,1), "f"));
+    assertAlert(new PureTemplateParamTypeError(pos(21,1), "g"));
+    assertAlert(new PureTemplateParamTypeError(pos(23,1), "h"));
+    assertNoUnexpectedAlerts();
+  }
+
+  public void testTemplate_invalidPure() throws Exception {
+    compileNoHeader(
+        "<!DOCTYPE gxp:template SYSTEM \"http://gxp.googlecode.com/svn/trunk/resources/xhtml.ent\">",
+        "",
+        "<gxp:template name='com.google.gxp.compiler.errortests."
+        + "TestTemplate_invalidPure'",
+        "               xmlns:gxp='http://google.com/2001/gxp'",
+        "               pure='yes'>",
+        "</gxp:template>");
+    assertAlert(new InvalidAttributeValueError(pos(5,27), "'pure' attribute"));
+    assertNoUnexpectedAlerts();
+  }
+
   public void testImport_hasBothClassAndPackage() throws Exception {
     compile("<gxp:import package='com.google.a' class='com.google.a.b' />");
     assertAlert(new ConflictingAttributesError(pos(2,1), "<gxp:import>",
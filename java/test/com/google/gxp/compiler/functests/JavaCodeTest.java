@@ -16,13 +16,26 @@
 
 package com.google.gxp.compiler.functests;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.gxp.base.FragmentCache;
+import com.google.gxp.base.GxpContext;
+import com.google.gxp.base.OutputSizeEstimator;
 import com.google.gxp.css.CssClosures;
 import com.google.gxp.testing.BaseFunctionalTestCase;
 
 import java.io.*;
+import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.gxp.testing.MoreAsserts.*;
 
@@ -170,6 +183,24 @@ public class JavaCodeTest extends BaseFunctionalTestCase {
                        + "<div onclick=\"alert(&quot;foo \\x22 \\x27&quot;);\"></div>");
   }
 
+  public void testSizeEstimatorsPerCallSite() throws Exception {
+    String large = Strings.repeat("x", 5000);
+    SizeEstimatorsGxp.write(out, gxpContext, "a", large);
+    assertOutputEquals("<div onclick=\"alert(&quot;a&quot;);\"></div>\n"
+                       + "<div onclick=\"alert(&quot;" + large + "&quot;);\"></div>");
+
+    // each escaping call site learns its own size
+    String name = SizeEstimatorsGxp.class.getName();
+    Map<String, Integer> estimates = OutputSizeEstimator.getEstimates();
+    assertEquals(Integer.valueOf(3), estimates.get(name + "#0"));
+    assertEquals(Integer.valueOf(5002), estimates.get(name + "#1"));
+
+    // and templates without escaping call sites get no estimators
+    for (Field field : HelloGxp.class.getDeclaredFields()) {
+      assertFalse(field.getName(), field.getType() == OutputSizeEstimator.class);
+    }
+  }
+
   public void testIfBasic() throws Exception {
     IfBasicGxp.write(out, gxpContext, 1);
     assertOutputEquals("That number is less than 5.");
@@ -224,6 +255,240 @@ public class JavaCodeTest extends BaseFunctionalTestCase {
     assertOutputEquals("foo hello bar");
   }
 
+  /**
+   * Counts renders of {@code PureGxp}.
+   */
+  static final AtomicInteger PURE_RENDERS = new AtomicInteger();
+
+  public void testPure() throws Exception {
+    PURE_RENDERS.set(0);
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    FragmentCache.setRegion(PureGxp.class.getName(), cache);
+
+    PureGxp.write(out, gxpContext, "a", 1);
+    assertOutputEquals("<b>a 1</b>\n1");
+    PureGxp.write(out, gxpContext, "a", 1);
+    assertOutputEquals("<b>a 1</b>\n1");
+    PureGxp.write(out, gxpContext, "a", 2);
+    assertOutputEquals("<b>a 2</b>\n2");
+    PureGxp.getGxpClosure("a", 1).write(out, gxpContext);
+    assertOutputEquals("<b>a 1</b>\n1");
+    PureGxp.write(out, new GxpContext(Locale.FRANCE), "a", 1);
+    assertOutputEquals("<b>a 1</b>\n3");
+
+    assertEquals(3, PURE_RENDERS.get());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+  }
+
+  /**
+   * Used by {@code FutureParamGxp} to check that its parameters have been
+   * awaited before they are used.
+   */
+  public static String getIfDone(Future<String> future) {
+    if (!future.isDone()) {
+      return "not done";
+    }
+    try {
+      return future.get();
+    } catch (Exception e) {
+      return e.getClass().getSimpleName();
+    }
+  }
+
+  /**
+   * @return a task that waits for {@code latch} (so that it only completes
+   * promptly if it runs at the same time as the other tasks waiting for it)
+   * and then returns {@code value}.
+   */
+  private static FutureTask<String> newLatchedTask(final CountDownLatch latch,
+                                                   final String value) {
+    return new FutureTask<String>(new java.util.concurrent.Callable<String>() {
+      public String call() throws Exception {
+        latch.countDown();
+        return latch.await(10, TimeUnit.SECONDS) ? value : value + " alone";
+      }
+    });
+  }
+
+  public void testFutureParams_awaitedBeforeUse() throws Exception {
+    FutureParamGxp.write(out, gxpContext,
+                         newLatchedTask(new CountDownLatch(1), "1"),
+                         newLatchedTask(new CountDownLatch(1), "2"));
+    assertOutputEquals("<b>1</b>\n<i>2</i>");
+
+    SettableFuture<String> failed = SettableFuture.create();
+    failed.setException(new IllegalStateException());
+    FutureParamGxp.write(out, gxpContext, failed, newLatchedTask(new CountDownLatch(1), "2"));
+    assertOutputEquals("<b>ExecutionException</b>\n<i>2</i>");
+  }
+
+  public void testFutureParams_startedAtEntry() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      GxpContext prefetchingContext =
+          GxpContext.builder(Locale.US).setParallelExecutor(executor).build();
+      CountDownLatch latch = new CountDownLatch(2);
+      FutureParamGxp.write(out, prefetchingContext,
+                           newLatchedTask(latch, "1"), newLatchedTask(latch, "2"));
+      assertOutputEquals("<b>1</b>\n<i>2</i>");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testFutureParams_timeout() throws Exception {
+    GxpContext timeoutContext =
+        GxpContext.builder(Locale.US).setFutureTimeout(50, TimeUnit.MILLISECONDS).build();
+    SettableFuture<String> never = SettableFuture.create();
+    try {
+      FutureParamGxp.write(out, timeoutContext, newLatchedTask(new CountDownLatch(1), "1"),
+                           never);
+      fail("expected InterruptedIOException");
+    } catch (InterruptedIOException e) {
+      // good
+    }
+    // the first parameter was only needed for the content before the second
+    assertOutputEquals("<b>1</b>\n<i>");
+  }
+
+  public void testFutureParams_notAwaitedUnlessEvaluated() throws Exception {
+    List<String> none = Collections.emptyList();
+    FutureTask<String> task = newLatchedTask(new CountDownLatch(1), "x");
+    ConditionalFutureGxp.write(out, gxpContext, 0, none, task);
+    assertOutputEquals("value\nnone\n");
+    // nothing needed the task, so it wasn't run
+    assertFalse(task.isDone());
+
+    ConditionalFutureGxp.write(out, gxpContext, 1, none, task);
+    assertOutputEquals("value\n<b>x</b>\n");
+
+    ConditionalFutureGxp.write(out, gxpContext, 2, none,
+                               newLatchedTask(new CountDownLatch(1), "x"));
+    assertOutputEquals("value\n<i>non-empty</i>\n");
+
+    ConditionalFutureGxp.write(out, gxpContext, 0, Lists.newArrayList("a", "b"),
+                               newLatchedTask(new CountDownLatch(1), "x"));
+    assertOutputEquals("value\nnone\nax bx");
+  }
+
+  public void testFutureParams_deadlineWithUnusedFuture() throws Exception {
+    GxpContext timeoutContext =
+        GxpContext.builder(Locale.US).setFutureTimeout(50, TimeUnit.MILLISECONDS).build();
+    SettableFuture<String> never = SettableFuture.create();
+    List<String> none = Collections.emptyList();
+    ConditionalFutureGxp.write(out, timeoutContext, 0, none, never);
+    assertOutputEquals("value\nnone\n");
+
+    try {
+      ConditionalFutureGxp.write(out, timeoutContext, 1, none, never);
+      fail("expected InterruptedIOException");
+    } catch (InterruptedIOException e) {
+      // good
+    }
+  }
+
+  /**
+   * Renders a part of {@code ParallelGxp}. Each part waits for the others to
+   * arrive at {@code latch}, so parts only see each other if they are
+   * rendered concurrently. A part with a non-negative {@code failAfterMillis}
+   * throws after sleeping that long.
+   */
+  public static String renderParallelPart(String name, CountDownLatch latch,
+                                          long failAfterMillis) {
+    try {
+      String result = name;
+      if (latch != null) {
+        latch.countDown();
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+          result = name + " alone";
+        }
+      }
+      if (failAfterMillis >= 0) {
+        Thread.sleep(failAfterMillis);
+        throw new IllegalStateException(name);
+      }
+      return result;
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static final String PARALLEL_OUTPUT =
+      "<ul><li>a</li>\n<li>b</li>\n<li>c</li></ul>";
+
+  public void testParallel_sequentialWithoutExecutor() throws Exception {
+    ParallelGxp.write(out, gxpContext, null, -1L, -1L);
+    assertOutputEquals(PARALLEL_OUTPUT);
+  }
+
+  public void testParallel_concurrentWithExecutor() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      GxpContext parallelContext =
+          GxpContext.builder(Locale.US).setParallelExecutor(executor).build();
+      ParallelGxp.write(out, parallelContext, new CountDownLatch(3), -1L, -1L);
+      assertOutputEquals(PARALLEL_OUTPUT);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testParallel_exceptionsInSourceOrder() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      GxpContext parallelContext =
+          GxpContext.builder(Locale.US).setParallelExecutor(executor).build();
+      for (GxpContext context : ImmutableList.of(gxpContext, parallelContext)) {
+        // c fails first, but a comes first in the source
+        try {
+          ParallelGxp.write(out, context, null, 100L, 0L);
+          fail("expected IllegalStateException");
+        } catch (IllegalStateException e) {
+          assertEquals("a", e.getMessage());
+        }
+        out = new StringWriter();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  public void testCache() throws Exception {
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    FragmentCache.setRegion("functests", cache);
+    AtomicInteger renders = new AtomicInteger();
+
+    CacheGxp.write(out, gxpContext, "a", renders);
+    assertOutputEquals("<p><br>1</p>");
+    CacheGxp.write(out, gxpContext, "a", renders);
+    assertOutputEquals("<p><br>1</p>");
+    CacheGxp.write(out, gxpContext, "b", renders);
+    assertOutputEquals("<p><br>2</p>");
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+  public void testCache_keyIncludesContext() throws Exception {
+    FragmentCache cache = FragmentCache.newLruCache(10);
+    FragmentCache.setRegion("functests", cache);
+    AtomicInteger renders = new AtomicInteger();
+
+    CacheGxp.write(out, gxpContext, "a", renders);
+    assertOutputEquals("<p><br>1</p>");
+    CacheGxp.write(out, xmlGxpContext, "a", renders);
+    assertOutputEquals("<p><br />2</p>");
+    CacheGxp.write(out, new GxpContext(Locale.FRANCE), "a", renders);
+    assertOutputEquals("<p><br>3</p>");
+    CacheGxp.write(out, xmlGxpContext, "a", renders);
+    assertOutputEquals("<p><br />2</p>");
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+  }
+
   public void testLoop() throws Exception {
     LoopGxp.write(out, gxpContext, 0);
     assertOutputEquals("<b></b>");
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.compiler.functests.bytes;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.gxp.base.ByteSink;
+import com.google.gxp.base.GxpWriter;
+import com.google.gxp.base.GzipByteSink;
+import com.google.gxp.base.StaticChunk;
+import com.google.gxp.testing.BaseFunctionalTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Functional tests of templates compiled with a byte output charset.
+ */
+public class JavaCodeTest extends BaseFunctionalTestCase {
+  private static final List<String> NAMES = ImmutableList.of("Ann", "Bob & Co");
+
+  private static final String EXPECTED =
+      "<div class=\"greetings\">"
+      + "<p class=\"greeting\">Bonjour, <b title=\"Ann\">Ann</b>!"
+      + " Un caf&eacute; cr&egrave;me ?</p> "
+      + "<p class=\"greeting\">Bonjour, <b title=\"Bob &amp; Co\">Bob &amp; Co</b>!"
+      + " Un caf&eacute; cr&egrave;me ?</p>"
+      + "</div>\n<p class=\"greeting\">Bonjour!</p>";
+
+  public void testCharacterOutput() throws Exception {
+    ByteOutputGxp.write(out, gxpContext, NAMES);
+    assertOutputEquals(EXPECTED);
+  }
+
+  public void testByteSink() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ByteSink sink = ByteSink.forOutputStream(bytes, Charsets.US_ASCII);
+    ByteOutputGxp.write(sink, gxpContext, NAMES);
+    sink.flush();
+    assertEquals(EXPECTED, new String(bytes.toByteArray(), Charsets.US_ASCII));
+  }
+
+  public void testGxpWriterOverByteSink() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GxpWriter writer = new GxpWriter(ByteSink.forOutputStream(bytes, Charsets.US_ASCII));
+    ByteOutputGxp.write(writer, gxpContext, NAMES);
+    writer.flush();
+    assertEquals(EXPECTED, new String(bytes.toByteArray(), Charsets.US_ASCII));
+  }
+
+  public void testGzipByteSink() throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    GzipByteSink sink = ByteSink.forGzip(bytes, Charsets.US_ASCII);
+    ByteOutputGxp.write(sink, gxpContext, NAMES);
+    sink.finish();
+    Reader reader = new InputStreamReader(
+        new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray())), Charsets.US_ASCII);
+    StringBuilder sb = new StringBuilder();
+    for (int c = reader.read(); c != -1; c = reader.read()) {
+      sb.append((char) c);
+    }
+    assertEquals(EXPECTED, sb.toString());
+  }
+
+  public void testStaticChunks() throws Exception {
+    List<String> chunks = Lists.newArrayList();
+    for (Field field : ByteOutputGxp.class.getDeclaredFields()) {
+      if (field.getType() == StaticChunk.class) {
+        assertTrue(Modifier.isStatic(field.getModifiers()));
+        field.setAccessible(true);
+        StaticChunk chunk = (StaticChunk) field.get(null);
+        assertEquals(Charsets.US_ASCII, chunk.getCharset());
+        chunks.add(chunk.toString());
+      }
+    }
+    // one chunk per distinct static run, even though the runs in the loop
+    // are written once per name; short runs (like the end of the title
+    // attribute) are plain string literals
+    assertEquals(ImmutableList.of("<div class=\"greetings\">",
+                                  "<p class=\"greeting\">Bonjour, <b title=\"",
+                                  "</b>! Un caf&eacute; cr&egrave;me ?</p>",
+                                  "</div>\n<p class=\"greeting\">Bonjour!</p>"),
+                 chunks);
+  }
+}
@@ -16,8 +16,17 @@
 
 package com.google.gxp.compiler.functests.call;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.gxp.base.FlushPolicy;
+import com.google.gxp.base.GxpContext;
+import com.google.gxp.base.GxpWriter;
 import com.google.gxp.testing.BaseFunctionalTestCase;
 
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Functional tests related to calling of one gxp from another
  */
@@ -116,4 +125,72 @@ public class JavaCodeTest extends BaseFunctionalTestCase {
     RegexCallerGxp.write(out, gxpContext);
     assertOutputEquals("foo");
   }
+
+  /**
+   * A {@code StringWriter} that records its contents each time it is flushed.
+   */
+  private static class FlushRecorder extends StringWriter {
+    final List<String> flushes = Lists.newArrayList();
+
+    @Override
+    public void flush() {
+      flushes.add(toString());
+    }
+  }
+
+  private static final String FLUSH_OUTPUT =
+      "<p>head</p>\n<i><b>1</b></i>\n<i><b>2</b></i>\n<p>tail</p>";
+
+  private List<String> renderFlushCaller(FlushPolicy policy) throws Exception {
+    GxpContext context = GxpContext.builder(Locale.US).setFlushPolicy(policy).build();
+    FlushRecorder recorder = new FlushRecorder();
+    FlushCallerGxp.write(recorder, context);
+    assertEquals(FLUSH_OUTPUT, recorder.toString());
+    return recorder.flushes;
+  }
+
+  public void testFlush_never() throws Exception {
+    assertEquals(ImmutableList.of(), renderFlushCaller(FlushPolicy.NEVER));
+  }
+
+  public void testFlush_explicitPoints() throws Exception {
+    FlushPolicy policy = FlushPolicy.builder().flushAtExplicitPoints().build();
+    assertEquals(ImmutableList.of("<p>head</p>"), renderFlushCaller(policy));
+  }
+
+  public void testFlush_topLevelCalls() throws Exception {
+    // the calls BasicCallerGxp makes are not top level calls
+    FlushPolicy policy = FlushPolicy.builder().flushAtTopLevelCalls().build();
+    assertEquals(ImmutableList.of("<p>head</p>\n<i><b>1</b></i>",
+                                  "<p>head</p>\n<i><b>1</b></i>\n<i><b>2</b></i>"),
+                 renderFlushCaller(policy));
+  }
+
+  public void testFlush_thresholdAppliedByContext() throws Exception {
+    // the writer has no policy of its own, so the context checks the
+    // threshold after each call, nested ones included
+    FlushPolicy policy = FlushPolicy.builder().flushEvery(20).build();
+    GxpContext context = GxpContext.builder(Locale.US).setFlushPolicy(policy).build();
+    FlushRecorder recorder = new FlushRecorder();
+    GxpWriter writer = new GxpWriter(recorder);
+    FlushCallerGxp.write(writer, context);
+    assertEquals(ImmutableList.of("<p>head</p>\n<i><b>1</b>",
+                                  "<p>head</p>\n<i><b>1</b></i>\n<i><b>2</b></i>"),
+                 recorder.flushes);
+    writer.flushBuffer();
+    assertEquals(FLUSH_OUTPUT, recorder.toString());
+  }
+
+  public void testFlush_sharedContext() throws Exception {
+    FlushPolicy policy = FlushPolicy.builder()
+        .flushAtTopLevelCalls()
+        .flushAtExplicitPoints()
+        .build();
+    GxpContext context = GxpContext.builder(Locale.US).setFlushPolicy(policy).buildShared();
+    for (int i = 0; i < 2; i++) {
+      FlushRecorder recorder = new FlushRecorder();
+      FlushCallerGxp.write(recorder, context);
+      assertEquals(3, recorder.flushes.size());
+    }
+  }
 }
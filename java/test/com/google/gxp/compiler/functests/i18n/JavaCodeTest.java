@@ -16,7 +16,11 @@
 
 package com.google.gxp.compiler.functests.i18n;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.gxp.base.GxpContext;
 import com.google.gxp.testing.BaseFunctionalTestCase;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -145,4 +149,27 @@ public class JavaCodeTest extends BaseFunctionalTestCase {
     assertOutputEquals("<div class=\"foo\"></div>");
     assertNotNull(AttrInsideNamedMsgGxp.NAME);
   }
+
+  /**
+   * Used by {@code TranslatedPlaceholdersGxp} to record the order in which
+   * its placeholders are evaluated.
+   */
+  public static String log(List<String> log, String value) {
+    log.add(value);
+    return value;
+  }
+
+  public void testTranslatedPlaceholders() throws Exception {
+    List<String> log = Lists.newArrayList();
+    TranslatedPlaceholdersGxp.write(out, gxpContext, log);
+    assertOutputEquals("Placeholders a, b and c");
+    assertEquals(ImmutableList.of("a", "b", "c"), log);
+
+    // The translation (see messages_xx) reorders the placeholders, repeats
+    // the second one, and leaves the third one out.
+    log.clear();
+    TranslatedPlaceholdersGxp.write(out, new GxpContext(new Locale("xx")), log);
+    assertOutputEquals("b b a!");
+    assertEquals(ImmutableList.of("b", "a"), log);
+  }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.compiler.functests;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * A made up translation of a functest message, for testing how translations
+ * that reorder, repeat and leave out placeholders are rendered. Message ids
+ * are fingerprints, so the id is found by looking for the original text in
+ * the English bundle the compiler generated.
+ */
+public class messages_xx extends ListResourceBundle {
+  private static final String ORIGINAL = "Placeholders %1, %2 and %3";
+  private static final String TRANSLATION = "%2 %2 %1!";
+
+  @Override
+  protected Object[][] getContents() {
+    ResourceBundle english = ResourceBundle.getBundle(
+        "com.google.gxp.compiler.functests.messages", Locale.ENGLISH);
+    for (String key : english.keySet()) {
+      if (ORIGINAL.equals(english.getString(key))) {
+        return new Object[][] { { key, TRANSLATION } };
+      }
+    }
+    throw new IllegalStateException("no message \"" + ORIGINAL + "\"");
+  }
+}
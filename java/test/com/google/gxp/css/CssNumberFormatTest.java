@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.css;
+
+import com.google.gxp.base.GxpContext;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link CssNumberFormat}. The reference is the
+ * {@code NumberFormat} configuration that {@code CssAppender} used to share
+ * between threads.
+ */
+public class CssNumberFormatTest extends TestCase {
+  private static final double[] EDGE_CASES = {
+    0.0, -0.0, 1.0, -1.0, 0.5, 1.5, 2.5, -0.3, -3.51,
+    0.0005, 0.0015, 0.0025, 1.0005, 2.0005, 0.00049999999999999999, -0.0004,
+    0.0625, 0.1875, -0.3125, 1.0625, 12345.6785, 0.1 + 0.2, 1.0 / 3, 2.0 / 3,
+    1e-300, -1e-300, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL,
+    4294967295.9995, 4294967296.0, -4294967296.0, 4294967296.0005,
+    1e15 + 0.3, 1e20, -1e20, 1e300, Double.MAX_VALUE,
+    Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+  };
+
+  private static NumberFormat createReference() {
+    NumberFormat formatter = NumberFormat.getNumberInstance(Locale.US);
+    formatter.setGroupingUsed(false);
+    return formatter;
+  }
+
+  private static String format(double value) throws Exception {
+    StringBuilder sb = new StringBuilder();
+    CssNumberFormat.format(sb, value);
+    return sb.toString();
+  }
+
+  private static double randomDouble(Random random) {
+    switch (random.nextInt(4)) {
+      case 0:
+        // an exact binary tie at the third decimal place
+        return (random.nextInt(200001) - 100000) / 16.0;
+      case 1:
+        return (random.nextInt(2000001) - 1000000) / 1000.0;
+      case 2:
+        return (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(14) - 4);
+      default:
+        return Double.longBitsToDouble(random.nextLong());
+    }
+  }
+
+  public void testEdgeCases() throws Exception {
+    NumberFormat reference = createReference();
+    for (double value : EDGE_CASES) {
+      assertEquals("value " + value, reference.format(value), format(value));
+    }
+  }
+
+  public void testRandomValues() throws Exception {
+    NumberFormat reference = createReference();
+    Random random = new Random(0);
+    for (int i = 0; i < 200000; i++) {
+      double value = randomDouble(random);
+      assertEquals("value " + value, reference.format(value), format(value));
+    }
+  }
+
+  public void testConcurrentUse() throws Exception {
+    final int threadCount = 8;
+    final int iterations = 20000;
+    final CountDownLatch start = new CountDownLatch(1);
+    final AtomicReference<String> failure = new AtomicReference<String>();
+    final GxpContext gxpContext = new GxpContext(Locale.US);
+
+    Thread[] threads = new Thread[threadCount];
+    for (int t = 0; t < threadCount; t++) {
+      final long seed = t;
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          NumberFormat reference = createReference();
+          Random random = new Random(seed);
+          StringBuilder sb = new StringBuilder();
+          try {
+            start.await();
+            for (int i = 0; i < iterations && failure.get() == null; i++) {
+              double value = randomDouble(random);
+              sb.setLength(0);
+              CssAppender.INSTANCE.append(sb, gxpContext, value);
+              String expected = reference.format(value);
+              if (!expected.equals(sb.toString())) {
+                failure.compareAndSet(null, "value " + value + ": expected <"
+                                      + expected + "> but was <" + sb + ">");
+              }
+            }
+          } catch (Exception e) {
+            failure.compareAndSet(null, e.toString());
+          }
+        }
+      };
+      threads[t].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertNull(failure.get(), failure.get());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.html;
+
+import com.google.gxp.base.GxpContext;
+import com.google.gxp.css.CssClosure;
+import com.google.gxp.js.JavascriptClosure;
+import com.google.gxp.testing.Benchmark;
+import com.google.gxp.testing.TestLocalizable;
+import com.google.gxp.text.PlaintextClosure;
+import com.google.gxp.text.PlaintextClosures;
+import com.google.i18n.Localizable;
+
+import java.util.Locale;
+
+/**
+ * Measures {@link HtmlAppender#append(Appendable, GxpContext, Object)} on a
+ * mix of value types, as produced by {@code gxp:eval}s of type
+ * {@code Object} in list templates, against the {@code instanceof} chain it
+ * used to run for every value. See {@link Benchmark}.
+ */
+public class HtmlAppenderBenchmark {
+  private static final int ITERATIONS = 20000;
+
+  private static final GxpContext GXP_CONTEXT = new GxpContext(Locale.US);
+
+  private static final Object[] VALUES = {
+    "John Smith",
+    42,
+    new TestLocalizable(),
+    HtmlClosures.fromHtml("<b>bold</b>"),
+    PlaintextClosures.fromPlaintext("Tom & Jerry"),
+    3.5,
+    new StringBuilder("builder"),
+    HtmlClosures.fromPlaintext("a < b"),
+  };
+
+  private static final Benchmark.Workload INSTANCEOF_CHAIN = new Benchmark.Workload() {
+    private final HtmlAppender appender = HtmlAppender.INSTANCE;
+
+    public void run(int operations) throws Exception {
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < operations; i++) {
+        Object value = VALUES[i % VALUES.length];
+        if (value == VALUES[0]) {
+          sb.setLength(0);
+        }
+        if (value instanceof Localizable) {
+          appender.append(sb, GXP_CONTEXT, (Localizable) value);
+        } else if (value instanceof PlaintextClosure) {
+          appender.append(sb, GXP_CONTEXT, (PlaintextClosure) value);
+        } else if (value instanceof CssClosure) {
+          appender.append(sb, GXP_CONTEXT, (CssClosure) value);
+        } else if (value instanceof JavascriptClosure) {
+          appender.append(sb, GXP_CONTEXT, (JavascriptClosure) value);
+        } else if (value instanceof HtmlClosure) {
+          appender.append(sb, GXP_CONTEXT, (HtmlClosure) value);
+        } else {
+          appender.append(sb, GXP_CONTEXT, value.toString());
+        }
+      }
+    }
+  };
+
+  private static final Benchmark.Workload CLASS_VALUE = new Benchmark.Workload() {
+    public void run(int operations) throws Exception {
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < operations; i++) {
+        Object value = VALUES[i % VALUES.length];
+        if (value == VALUES[0]) {
+          sb.setLength(0);
+        }
+        HtmlAppender.INSTANCE.append(sb, GXP_CONTEXT, value);
+      }
+    }
+  };
+
+  public static void main(String[] args) throws Exception {
+    new Benchmark(10, "", "instanceof", "ClassValue")
+        .row("per value", ITERATIONS * VALUES.length, INSTANCEOF_CHAIN, CLASS_VALUE);
+  }
+}
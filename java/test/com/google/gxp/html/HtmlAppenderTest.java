@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.html;
+
+import com.google.gxp.base.GxpContext;
+import com.google.gxp.css.CssClosures;
+import com.google.gxp.js.JavascriptClosures;
+import com.google.gxp.testing.BaseFunctionalTestCase;
+import com.google.gxp.testing.TestLocalizable;
+import com.google.gxp.text.PlaintextClosures;
+
+import java.io.IOException;
+
+/**
+ * Tests for {@code HtmlAppender}
+ */
+public class HtmlAppenderTest extends BaseFunctionalTestCase {
+  private void appendObject(Object value) throws IOException {
+    HtmlAppender.INSTANCE.append(out, gxpContext, value);
+  }
+
+  public void testAppendObject() throws Exception {
+    // twice each, so that the cached dispatch is used too
+    for (int i = 0; i < 2; i++) {
+      appendObject(new TestLocalizable());
+      assertOutputEquals("[toString(en_US)]");
+
+      appendObject(PlaintextClosures.fromPlaintext("a < b"));
+      assertOutputEquals("a &lt; b");
+
+      appendObject(CssClosures.fromCss("b { }"));
+      assertOutputEquals("<style type=\"text/css\">\nb { }\n</style>");
+
+      appendObject(JavascriptClosures.fromJavascript("f();"));
+      assertOutputEquals("<script type=\"text/javascript\">\nf();\n</script>");
+
+      appendObject(HtmlClosures.fromHtml("<b>x</b>"));
+      assertOutputEquals("<b>x</b>");
+
+      appendObject(new StringBuilder("x & y"));
+      assertOutputEquals("x &amp; y");
+
+      appendObject(42);
+      assertOutputEquals("42");
+    }
+  }
+
+  private static class LocalizableHtmlClosure extends TestLocalizable implements HtmlClosure {
+    public void write(Appendable out, GxpContext gxpContext) throws IOException {
+      out.append("<closure>");
+    }
+  }
+
+  public void testLocalizableTakesPrecedence() throws Exception {
+    appendObject(new LocalizableHtmlClosure());
+    assertOutputEquals("[toString(en_US)]");
+  }
+
+  public void testAppendNullObject() throws Exception {
+    try {
+      appendObject(null);
+      fail("should have thrown NullPointerException");
+    } catch (NullPointerException e) {
+      // good
+    }
+  }
+}
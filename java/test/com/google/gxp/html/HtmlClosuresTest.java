@@ -16,6 +16,7 @@
 
 package com.google.gxp.html;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.io.Files;
 import com.google.gxp.base.GxpContext;
@@ -178,6 +179,19 @@ public class HtmlClosuresTest extends BaseFunctionalTestCase {
     assertOutputEquals("foobarbaz");
   }
 
+  public void testConcat_nested() throws Exception {
+    HtmlClosure closure = HtmlClosures.EMPTY;
+    for (int i = 0; i < 1000; i++) {
+      closure = HtmlClosures.concat(closure, HtmlClosures.fromPlaintext("<"),
+                                    HtmlClosures.EMPTY);
+    }
+    closure = HtmlClosures.concat(HtmlClosures.fromHtml("<b>"), closure,
+                                  HtmlClosures.fromHtml("</b>"));
+
+    closure.write(out, gxpContext);
+    assertOutputEquals("<b>" + Strings.repeat("&lt;", 1000) + "</b>");
+  }
+
   public void testConcat_throwsIOException() throws Exception {
     final HtmlClosure IOExceptionThrower = new HtmlClosure() {
         public void write(Appendable out, GxpContext gxpContext) throws IOException {
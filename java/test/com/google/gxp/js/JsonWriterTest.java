@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.gxp.js;
+
+import com.google.gxp.base.GxpWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for {@link JsonWriter}.
+ */
+public class JsonWriterTest extends TestCase {
+  private static String write(JSONObject value) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    JsonWriter.write(sb, value);
+    return sb.toString();
+  }
+
+  private static String write(JSONArray value) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    JsonWriter.write(sb, value);
+    return sb.toString();
+  }
+
+  public void testMatchesJsonObjectWrite() throws Exception {
+    JSONObject json = new JSONObject();
+    json.put("int", 1);
+    json.put("long", 12345678901L);
+    json.put("double", 2.5);
+    json.put("wholeDouble", 3.0);
+    json.put("bool", false);
+    json.put("null", JSONObject.NULL);
+    json.put("string", "foo \"bar\" \\ baz\n\t\u0001\u0085\u2028\u2029 </script>");
+    json.put("list", Arrays.asList(1, "two", 3.5));
+    json.put("map", Collections.singletonMap("k", "v"));
+    json.put("array", new JSONArray().put(new JSONObject().put("a", "b")).put(7));
+    assertEquals(json.toString(), write(json));
+  }
+
+  public void testRandomStrings() throws Exception {
+    Random random = new Random(0);
+    for (int i = 0; i < 2000; i++) {
+      char[] chars = new char[random.nextInt(20)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = (random.nextInt(4) == 0)
+            ? "<!/-\"\\".charAt(random.nextInt(6))
+            : (char) random.nextInt(0x2200);
+      }
+      String s = new String(chars);
+      JSONArray json = new JSONArray().put(s);
+      String expected = json.toString().replace("<!--", "\\u003c!--");
+      assertEquals(expected, write(json));
+    }
+  }
+
+  public void testScriptUnsafeSequences() throws Exception {
+    JSONArray json = new JSONArray();
+    json.put("</script><!-- x --> <!- <");
+    json.put("\u2028\u2029");
+    assertEquals("[\"<\\/script>\\u003c!-- x --> <!- <\",\"\\u2028\\u2029\"]",
+                 write(json));
+
+    JSONObject object = new JSONObject();
+    object.put("</key", "<!--");
+    assertEquals("{\"<\\/key\":\"\\u003c!--\"}", write(object));
+  }
+
+  public void testJsonString() throws Exception {
+    JSONString raw = new JSONString() {
+      public String toJSONString() {
+        return "{\"a\":\"</script>\",\"b\":\"<!--\u2028\"}";
+      }
+    };
+    JSONArray json = new JSONArray().put(raw);
+    assertEquals("[{\"a\":\"<\\/script>\",\"b\":\"\\u003c!--\\u2028\"}]", write(json));
+  }
+
+  public void testNonFiniteNumber() throws Exception {
+    JSONArray json = new JSONArray();
+    json.put(Double.valueOf(Double.NaN));
+    try {
+      write(json);
+      fail("expected IOException");
+    } catch (IOException e) {
+      // good
+    }
+  }
+
+  public void testOtherAppendables() throws Exception {
+    JSONObject json = new JSONObject();
+    json.put("k", new JSONArray().put("x</y").put(42).put(1.25));
+    String expected = write(json);
+
+    StringWriter sw = new StringWriter();
+    JsonWriter.write(sw, json);
+    assertEquals(expected, sw.toString());
+
+    StringBuilder sb = new StringBuilder();
+    GxpWriter out = new GxpWriter(sb, 32);
+    JsonWriter.write(out, json);
+    out.flushBuffer();
+    assertEquals(expected, sb.toString());
+  }
+}
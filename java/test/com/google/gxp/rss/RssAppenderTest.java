@@ -16,10 +16,14 @@
 
 package com.google.gxp.rss;
 
+import com.google.common.base.Charsets;
+import com.google.gxp.base.GxpContext;
 import com.google.gxp.html.HtmlClosure;
 import com.google.gxp.html.HtmlClosures;
 import com.google.gxp.testing.BaseFunctionalTestCase;
 
+import java.util.Locale;
+
 /**
  * Tests for {@code RssAppender}
  */
@@ -36,4 +40,21 @@ public class RssAppenderTest extends BaseFunctionalTestCase {
       // good
     }
   }
+
+  public void testUnencodableCharacters() throws Exception {
+    HtmlClosure closure = HtmlClosures.fromHtml("caf\u00e9 & \u4e2d\u6587");
+    RssAppender.INSTANCE.append(out, gxpContext, closure);
+    assertOutputEquals("caf&#233; &amp; &#20013;&#25991;");
+
+    GxpContext latin1 = GxpContext.builder(Locale.US).setCharset(Charsets.ISO_8859_1).build();
+    RssAppender.INSTANCE.append(out, latin1, closure);
+    assertOutputEquals("caf\u00e9 &amp; &#20013;&#25991;");
+
+    GxpContext utf8 = GxpContext.builder(Locale.US).setCharset(Charsets.UTF_8).build();
+    RssAppender.INSTANCE.append(out, utf8, closure);
+    assertOutputEquals("caf\u00e9 &amp; \u4e2d\u6587");
+
+    RssAppender.INSTANCE.append(out, gxpContext, "\u00e9");
+    assertOutputEquals("&#233;");
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2008 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.gxp.testing;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+
+/**
+ * Harness for the hand-run benchmarks in the test tree. A benchmark is a
+ * {@code main} that compares a few implementations ("columns") on a few
+ * inputs ("rows"), and prints the best time per operation of each. None of
+ * them are part of the test suite.
+ */
+public final class Benchmark {
+  /**
+   * A piece of work to time.
+   */
+  public interface Workload {
+    /**
+     * Performs {@code operations} operations.
+     */
+    void run(int operations) throws Exception;
+  }
+
+  private static final int DEFAULT_WARMUP_ROUNDS = 5;
+  private static final int DEFAULT_ROUNDS = 10;
+
+  private final int labelWidth;
+  private final String labelHeader;
+  private final String[] columns;
+  private int warmupRounds = DEFAULT_WARMUP_ROUNDS;
+  private int rounds = DEFAULT_ROUNDS;
+  private boolean headerPrinted = false;
+
+  /**
+   * @param labelWidth the width of the first column, which holds the label
+   * of each row.
+   * @param labelHeader the heading of the first column.
+   * @param columns the headings of the timed columns.
+   */
+  public Benchmark(int labelWidth, String labelHeader, String... columns) {
+    this.labelWidth = labelWidth;
+    this.labelHeader = Preconditions.checkNotNull(labelHeader);
+    this.columns = columns.clone();
+  }
+
+  /**
+   * Sets the number of untimed rounds run before, and of timed rounds
+   * run after, the JIT has had a chance to settle. The defaults are
+   * {@value #DEFAULT_WARMUP_ROUNDS} and {@value #DEFAULT_ROUNDS}.
+   */
+  public Benchmark setRounds(int warmupRounds, int rounds) {
+    Preconditions.checkArgument(warmupRounds >= 0 && rounds > 0);
+    this.warmupRounds = warmupRounds;
+    this.rounds = rounds;
+    return this;
+  }
+
+  /**
+   * Times each workload, running {@code operations} operations per round,
+   * and prints a row with the best time per operation of each.
+   *
+   * @param workloads one workload per column.
+   */
+  public void row(String label, int operations, Workload... workloads) throws Exception {
+    Preconditions.checkArgument(workloads.length == columns.length);
+    if (!headerPrinted) {
+      System.out.print(pad(labelHeader));
+      for (String column : columns) {
+        System.out.printf(" %" + columnWidth(column) + "s", column);
+      }
+      System.out.println();
+      headerPrinted = true;
+    }
+    System.out.print(pad(label));
+    for (int i = 0; i < workloads.length; i++) {
+      double nanos = (double) best(workloads[i], operations) / operations;
+      System.out.printf(" %" + (columnWidth(columns[i]) - 3) + ".1f ns", nanos);
+    }
+    System.out.println();
+  }
+
+  private long best(Workload workload, int operations) throws Exception {
+    for (int i = 0; i < warmupRounds; i++) {
+      time(workload, operations);
+    }
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < rounds; i++) {
+      best = Math.min(best, time(workload, operations));
+    }
+    return best;
+  }
+
+  private static long time(Workload workload, int operations) throws Exception {
+    long start = System.nanoTime();
+    workload.run(operations);
+    return System.nanoTime() - start;
+  }
+
+  private String pad(String label) {
+    return Strings.padEnd(label, labelWidth, ' ');
+  }
+
+  private static int columnWidth(String column) {
+    return Math.max(column.length(), 12);
+  }
+}
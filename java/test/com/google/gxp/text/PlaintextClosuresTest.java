@@ -20,6 +20,7 @@ import com.google.gxp.testing.BaseFunctionalTestCase;
 import com.google.gxp.testing.TestLocalizable;
 import com.google.i18n.Localizable;
 
+import java.util.Collections;
 import java.util.Locale;
 
 /**
@@ -59,4 +60,16 @@ public class PlaintextClosuresTest extends BaseFunctionalTestCase {
       // good
     }
   }
+
+  public void testConcat() throws Exception {
+    PlaintextClosure inner = PlaintextClosures.concat(PlaintextClosures.fromPlaintext("b"),
+                                                      PlaintextClosures.EMPTY);
+    PlaintextClosures.concat(PlaintextClosures.fromPlaintext("a < "), inner,
+                             PlaintextClosures.fromPlaintext("c"))
+        .write(out, gxpContext);
+    assertOutputEquals("a < bc");
+
+    PlaintextClosures.concat(Collections.<PlaintextClosure>emptyList()).write(out, gxpContext);
+    assertOutputEquals("");
+  }
 }